@@ -0,0 +1,406 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangTypeDef;
+import org.onosproject.yang.compiler.tool.YangMetaDataCodec;
+import org.onosproject.yang.compiler.tool.YangMetaDataReader;
+import org.onosproject.yang.compiler.tool.YangNodeInfo;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.model.SchemaContext;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.model.YangModuleId;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.AppModuleInfo;
+import org.onosproject.yang.runtime.DefaultAnnotation;
+import org.onosproject.yang.runtime.DefaultAppModuleInfo;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.onosproject.yang.runtime.impl.DefaultYangModelRegistry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.getYangNodes;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processModuleId;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processYangModel;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.runtime.DefaultModelRegistrationParam.builder;
+import static org.onosproject.yang.runtime.RuntimeHelper.getInterfaceClassName;
+import static org.onosproject.yang.runtime.SerializerHelper.addDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.exitDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.initializeDataNode;
+
+/**
+ * Represents the YANG models the benchmarks run on: the models of the
+ * runtime tests, registered once per benchmark JVM, and the synthetic data
+ * trees built on them.
+ * <p>
+ * The synthetic trees are instances of the networks container of the
+ * yrt-ietf-network module. A tree of the given width has that many entries
+ * in each of its lists, down to the given depth: the networks at depth 1,
+ * the nodes of each network at depth 2 and the supporting nodes of each node
+ * at depth 3.
+ */
+public final class BenchmarkModels {
+
+    /**
+     * Namespace of the yrt-ietf-network module.
+     */
+    public static final String NETWORK_NS =
+            "urn:ietf:params:xml:ns:yang:yrt-ietf-network";
+
+    /**
+     * Maximum depth of the synthetic trees.
+     */
+    public static final int MAX_DEPTH = 3;
+
+    private static final String META_DIR = "yang/resources/";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String NETCONF_NS =
+            "urn:ietf:params:xml:ns:netconf:base:1.0";
+    private static final String XMNLS_NC = "xmlns:xc";
+
+    private static final String NETWORKS = "networks";
+    private static final String NETWORK = "network";
+    private static final String NETWORK_ID = "network-id";
+    private static final String NODE = "node";
+    private static final String NODE_ID = "node-id";
+    private static final String SUPPORTING_NODE = "supporting-node";
+    private static final String NETWORK_REF = "network-ref";
+    private static final String NODE_REF = "node-ref";
+
+    private static DefaultYangModelRegistry registry;
+
+    // No instantiation.
+    private BenchmarkModels() {
+    }
+
+    /**
+     * Returns the bytes of the given metadata file of the models, as the
+     * YANG compiler packaged it.
+     *
+     * @param file name of the metadata file
+     * @return metadata bytes
+     * @throws IOException when fails to read the metadata
+     */
+    public static byte[] metaData(String file) throws IOException {
+        try (InputStream in = BenchmarkModels.class.getClassLoader()
+                .getResourceAsStream(META_DIR + file)) {
+            if (in == null) {
+                throw new IOException("no " + file + " in class path");
+            }
+            return toBytes(in);
+        }
+    }
+
+    /**
+     * Returns the java serialized metadata of the models, which the YANG
+     * compiler packages instead of the compact metadata for the models the
+     * compact format does not support.
+     *
+     * @return metadata bytes
+     * @throws IOException when fails to write the metadata
+     */
+    public static byte[] serializedMetaData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        YangMetaDataCodec.write(model(), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the remaining bytes of the input stream, which is not closed.
+     *
+     * @param in input stream
+     * @return bytes of the stream
+     * @throws IOException when fails to read the stream
+     */
+    public static byte[] toBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buf = new byte[BUFFER_SIZE];
+        int n;
+        while ((n = in.read(buf)) != -1) {
+            out.write(buf, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Returns the YANG model read from the compact metadata of the models,
+     * as the runtime reads it.
+     *
+     * @return YANG model
+     * @throws IOException when fails to read the metadata
+     */
+    public static YangModel model() throws IOException {
+        return YangMetaDataReader.read(new ByteArrayInputStream(
+                metaData(YANG_META_DATA_BIN)));
+    }
+
+    /**
+     * Returns the registry of the models, which is created and registered
+     * with the models when first asked for.
+     *
+     * @return YANG model registry
+     * @throws IOException when fails to read the metadata
+     */
+    public static synchronized DefaultYangModelRegistry registry()
+            throws IOException {
+        if (registry == null) {
+            Map<YangModuleId, AppModuleInfo> infos = appModuleInfos();
+            YangModel model = registrationModel(model());
+            ModelRegistrationParam.Builder b = builder().setYangModel(model);
+            for (Map.Entry<YangModuleId, AppModuleInfo> e : infos.entrySet()) {
+                b.addAppModuleInfo(e.getKey(), e.getValue());
+            }
+            DefaultYangModelRegistry reg = new DefaultYangModelRegistry();
+            reg.registerModel(b.build());
+            registry = reg;
+        }
+        return registry;
+    }
+
+    /*
+     * Returns the model to register, made of the modules of the given
+     * model.
+     */
+    private static YangModel registrationModel(YangModel model) {
+        List<YangNodeInfo> infos = new ArrayList<>();
+        for (YangNode node : getYangNodes(model)) {
+            infos.add(new YangNodeInfo(node, false));
+        }
+        return processYangModel("", infos, model.getYangModelId(), true);
+    }
+
+    /*
+     * Returns the generated interface of each module as its module class.
+     * The java names of the modules are only known once they are linked
+     * and translated, so the modules are registered in a scratch registry
+     * first, as the applications do with the generated classes at hand.
+     */
+    private static Map<YangModuleId, AppModuleInfo> appModuleInfos()
+            throws IOException {
+        YangModel model = registrationModel(model());
+        new DefaultYangModelRegistry().registerModel(
+                builder().setYangModel(model).build());
+        Map<YangModuleId, AppModuleInfo> infos = new HashMap<>();
+        ClassLoader loader = BenchmarkModels.class.getClassLoader();
+        for (YangNode node : getYangNodes(model)) {
+            if (node.getJavaClassNameOrBuiltInType() == null) {
+                // Deviation modules are not translated.
+                continue;
+            }
+            try {
+                Class<?> cls = loader.loadClass(getInterfaceClassName(node));
+                infos.put(processModuleId(node),
+                          new DefaultAppModuleInfo(cls, null));
+            } catch (ClassNotFoundException e) {
+                // Modules without generated interfaces are schema only.
+            }
+        }
+        return infos;
+    }
+
+    /**
+     * Returns the serializer context of the registry of the models.
+     *
+     * @return YANG serializer context
+     * @throws IOException when fails to read the metadata
+     */
+    public static YangSerializerContext serializerContext() throws IOException {
+        DefaultYangModelRegistry reg = registry();
+        List<Annotation> annotations = Collections.singletonList(
+                new DefaultAnnotation(XMNLS_NC, NETCONF_NS));
+        return new YangSerializerContext() {
+            @Override
+            public SchemaContext getContext() {
+                return reg;
+            }
+
+            @Override
+            public List<Annotation> getProtocolAnnotations() {
+                return annotations;
+            }
+        };
+    }
+
+    /**
+     * Returns the typedef of the given name in the given module of the
+     * models.
+     *
+     * @param module  module name
+     * @param typedef typedef name
+     * @return typedef
+     * @throws IOException when fails to read the metadata
+     */
+    public static YangTypeDef typeDef(String module, String typedef)
+            throws IOException {
+        for (YangNode node : getYangNodes(registry().getModels()
+                                                  .iterator().next())) {
+            if (!node.getName().equals(module)) {
+                continue;
+            }
+            for (YangNode child = node.getChild(); child != null;
+                 child = child.getNextSibling()) {
+                if (child instanceof YangTypeDef &&
+                        child.getName().equals(typedef)) {
+                    return (YangTypeDef) child;
+                }
+            }
+        }
+        throw new IllegalArgumentException("no typedef " + module + ":" +
+                                                   typedef);
+    }
+
+    /**
+     * Returns the root data node of a synthetic networks tree.
+     *
+     * @param context YANG serializer context
+     * @param width   number of entries of each list
+     * @param depth   number of list levels, from 1 to 3
+     * @return root data node
+     */
+    public static DataNode networks(YangSerializerContext context, int width,
+                                    int depth) {
+        checkDepth(depth);
+        DataNode.Builder b = initializeDataNode(context);
+        b = addDataNode(b, NETWORKS, NETWORK_NS, null, SINGLE_INSTANCE_NODE);
+        for (int i = 0; i < width; i++) {
+            b = addListEntry(b, NETWORK, NETWORK_ID, networkId(i));
+            for (int j = 0; depth > 1 && j < width; j++) {
+                b = addListEntry(b, NODE, NODE_ID, nodeId(i, j));
+                for (int k = 0; depth > 2 && k < width; k++) {
+                    b = addDataNode(b, SUPPORTING_NODE, NETWORK_NS, null,
+                                    MULTI_INSTANCE_NODE);
+                    b = addLeaf(b, NETWORK_REF, networkId(k));
+                    b = addLeaf(b, NODE_REF, nodeId(k, j));
+                    b = exitDataNode(b);
+                }
+                b = exitDataNode(b);
+            }
+            b = exitDataNode(b);
+        }
+        b = exitDataNode(b);
+        return b.build();
+    }
+
+    /**
+     * Returns the resource identifiers of the list entries of a synthetic
+     * networks tree, from the first level down to the given depth.
+     *
+     * @param width number of entries of each list
+     * @param depth number of list levels, from 1 to 3
+     * @return resource identifiers
+     */
+    public static List<ResourceId> resourceIds(int width, int depth) {
+        checkDepth(depth);
+        List<ResourceId> ids = new ArrayList<>();
+        for (int i = 0; i < width; i++) {
+            ids.add(networkBuilder(i).build());
+            for (int j = 0; depth > 1 && j < width; j++) {
+                ids.add(nodeBuilder(i, j).build());
+                for (int k = 0; depth > 2 && k < width; k++) {
+                    ids.add(supportingNodeBuilder(i, j, k).build());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Returns the resource identifier builder of a network entry.
+     *
+     * @param i index of the network
+     * @return resource identifier builder
+     */
+    public static ResourceId.Builder networkBuilder(int i) {
+        return ResourceId.builder()
+                .addBranchPointSchema("/", null)
+                .addBranchPointSchema(NETWORKS, NETWORK_NS)
+                .addBranchPointSchema(NETWORK, NETWORK_NS)
+                .addKeyLeaf(NETWORK_ID, NETWORK_NS, networkId(i));
+    }
+
+    /**
+     * Returns the resource identifier builder of a node entry.
+     *
+     * @param i index of the network
+     * @param j index of the node
+     * @return resource identifier builder
+     */
+    public static ResourceId.Builder nodeBuilder(int i, int j) {
+        return networkBuilder(i)
+                .addBranchPointSchema(NODE, NETWORK_NS)
+                .addKeyLeaf(NODE_ID, NETWORK_NS, nodeId(i, j));
+    }
+
+    /**
+     * Returns the resource identifier builder of a supporting node entry.
+     *
+     * @param i index of the network
+     * @param j index of the node
+     * @param k index of the supporting node
+     * @return resource identifier builder
+     */
+    public static ResourceId.Builder supportingNodeBuilder(int i, int j,
+                                                           int k) {
+        return nodeBuilder(i, j)
+                .addBranchPointSchema(SUPPORTING_NODE, NETWORK_NS)
+                .addKeyLeaf(NETWORK_REF, NETWORK_NS, networkId(k))
+                .addKeyLeaf(NODE_REF, NETWORK_NS, nodeId(k, j));
+    }
+
+    private static DataNode.Builder addListEntry(DataNode.Builder b,
+                                                 String list, String key,
+                                                 String value) {
+        b = addDataNode(b, list, NETWORK_NS, null, MULTI_INSTANCE_NODE);
+        return addLeaf(b, key, value);
+    }
+
+    private static DataNode.Builder addLeaf(DataNode.Builder b, String name,
+                                            String value) {
+        b = addDataNode(b, name, NETWORK_NS, value,
+                        SINGLE_INSTANCE_LEAF_VALUE_NODE);
+        return exitDataNode(b);
+    }
+
+    private static String networkId(int i) {
+        return "urn:network:" + i;
+    }
+
+    private static String nodeId(int i, int j) {
+        return "urn:network:" + i + ":node:" + j;
+    }
+
+    private static void checkDepth(int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalArgumentException("depth not in 1.." + MAX_DEPTH);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.networks;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializerContext;
+
+/**
+ * Measures the heap retained by the synthetic data trees, in bytes per data
+ * node, as walked by the object graph layout of JOL. The schema identifiers
+ * shared with the registry are counted once per tree.
+ * <p>
+ * Run with the shaded jar on the class path:
+ * <pre>
+ *     java -cp benchmarks/target/benchmarks.jar \
+ *         org.onosproject.yang.benchmarks.DataNodeFootprint [width] [depth]
+ * </pre>
+ */
+public final class DataNodeFootprint {
+
+    private static final int DEFAULT_WIDTH = 32;
+
+    // No instantiation.
+    private DataNodeFootprint() {
+    }
+
+    /**
+     * Prints the footprint of the synthetic data trees of the given width,
+     * for each depth up to the given one.
+     *
+     * @param args width and depth of the trees
+     * @throws IOException when fails to read the metadata
+     */
+    public static void main(String[] args) throws IOException {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) :
+                DEFAULT_WIDTH;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) :
+                BenchmarkModels.MAX_DEPTH;
+        YangSerializerContext context = serializerContext();
+        System.out.println("width depth nodes bytes bytes/node");
+        for (int d = 1; d <= depth; d++) {
+            DataNode root = networks(context, width, d);
+            long nodes = count(root);
+            long bytes = GraphLayout.parseInstance(root).totalSize();
+            System.out.printf("%5d %5d %7d %9d %10.1f%n", width, d, nodes,
+                              bytes, (double) bytes / nodes);
+        }
+    }
+
+    private static long count(DataNode node) {
+        long count = 1;
+        if (node instanceof InnerNode) {
+            for (DataNode child : ((InnerNode) node).childNodes().values()) {
+                count += count(child);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.runtime.DataNodeChange;
+import org.onosproject.yang.runtime.DataNodeDiff;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.NETWORK_NS;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.networks;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializerContext;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+
+/**
+ * Benchmarks the diff of the synthetic data trees against a version which
+ * has one more leaf in its deepest last node, either built from them
+ * through the copy builders, which share the untouched subtrees, or built
+ * separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiffBenchmark {
+
+    private static final ResourceId ROOT_ID = ResourceId.builder()
+            .addBranchPointSchema("/", null).build();
+
+    @Param({"4", "16"})
+    public int width;
+
+    private InnerNode source;
+    private InnerNode shared;
+    private InnerNode separate;
+
+    @Setup
+    public void setUp() throws IOException {
+        YangSerializerContext context = serializerContext();
+        source = (InnerNode) networks(context, width,
+                                      BenchmarkModels.MAX_DEPTH);
+        shared = addLeaf(source);
+        separate = addLeaf((InnerNode) networks(context, width,
+                                                BenchmarkModels.MAX_DEPTH));
+    }
+
+    /**
+     * Diffs the tree against the version sharing its untouched subtrees.
+     *
+     * @return list of changes
+     */
+    @Benchmark
+    public List<DataNodeChange> diffShared() {
+        return DataNodeDiff.diff(ROOT_ID, source, shared);
+    }
+
+    /**
+     * Diffs the tree against the version built separately.
+     *
+     * @return list of changes
+     */
+    @Benchmark
+    public List<DataNodeChange> diffSeparate() {
+        return DataNodeDiff.diff(ROOT_ID, source, separate);
+    }
+
+    private static InnerNode addLeaf(InnerNode node) {
+        InnerNode last = null;
+        for (DataNode child : node.childNodes().values()) {
+            if (child instanceof InnerNode) {
+                last = (InnerNode) child;
+            }
+        }
+        InnerNode.Builder builder = node.copyBuilder();
+        if (last != null) {
+            builder.addNode(addLeaf(last));
+        } else {
+            builder.addNode(LeafNode.builder("benchmark", NETWORK_NS)
+                                    .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                                    .value("diff")
+                                    .build());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.tool.YangMetaDataCodec;
+import org.onosproject.yang.compiler.tool.YangMetaDataReader;
+import org.onosproject.yang.model.YangModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.metaData;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializedMetaData;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
+
+/**
+ * Benchmarks the loading of the metadata of the models, written by the
+ * YANG compiler in the compact format and, for the models the compact
+ * format does not support, by java serialization.
+ * The allocations are compared when run with the GC profiler, "-prof gc",
+ * and the heap retained by the models with {@link MetaDataFootprint}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetaDataBenchmark {
+
+    private static final String COMPACT = "compact";
+
+    @Param({"compact", "serialization"})
+    public String format;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        bytes = COMPACT.equals(format) ? metaData(YANG_META_DATA_BIN) :
+                serializedMetaData();
+    }
+
+    /**
+     * Reads the YANG model from the metadata bytes.
+     *
+     * @return YANG model
+     * @throws IOException when fails to read the metadata
+     */
+    @Benchmark
+    public YangModel read() throws IOException {
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+        return COMPACT.equals(format) ? YangMetaDataReader.read(in) :
+                YangMetaDataCodec.read(in);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.tool.YangMetaDataCodec;
+import org.onosproject.yang.compiler.tool.YangMetaDataReader;
+import org.onosproject.yang.model.YangModel;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.metaData;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializedMetaData;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
+
+/**
+ * Measures the size of the metadata of the models, in the compact format
+ * and as java serialized, and the heap retained by the models read from
+ * them, as walked by the object graph layout of JOL.
+ * <p>
+ * Run with the shaded jar on the class path:
+ * <pre>
+ *     java -cp benchmarks/target/benchmarks.jar \
+ *         org.onosproject.yang.benchmarks.MetaDataFootprint
+ * </pre>
+ */
+public final class MetaDataFootprint {
+
+    // No instantiation.
+    private MetaDataFootprint() {
+    }
+
+    /**
+     * Prints the size of the metadata files and of the models read from
+     * them.
+     *
+     * @param args not used
+     * @throws IOException when fails to read the metadata
+     */
+    public static void main(String[] args) throws IOException {
+        byte[] compact = metaData(YANG_META_DATA_BIN);
+        byte[] ser = serializedMetaData();
+        YangModel compactModel = YangMetaDataReader.read(
+                new ByteArrayInputStream(compact));
+        YangModel serModel = YangMetaDataCodec.read(
+                new ByteArrayInputStream(ser));
+        System.out.println("format        file bytes heap bytes objects");
+        print("compact", compact, GraphLayout.parseInstance(compactModel));
+        print("serialization", ser, GraphLayout.parseInstance(serModel));
+    }
+
+    private static void print(String format, byte[] bytes,
+                              GraphLayout layout) {
+        System.out.printf("%-13s %10d %10d %7d%n", format, bytes.length,
+                          layout.totalSize(), layout.totalCount());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DefaultResourceData;
+import org.onosproject.yang.model.ModelObjectData;
+import org.onosproject.yang.model.ResourceData;
+import org.onosproject.yang.runtime.impl.DefaultModelConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.networks;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.registry;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializerContext;
+
+/**
+ * Benchmarks the conversion of the synthetic data trees to the generated
+ * model objects and back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelConverterBenchmark {
+
+    @Param({"4", "16"})
+    public int width;
+
+    @Param({"2", "3"})
+    public int depth;
+
+    private DefaultModelConverter converter;
+    private ResourceData resourceData;
+    private ModelObjectData modelData;
+
+    @Setup
+    public void setUp() throws IOException {
+        converter = new DefaultModelConverter(registry());
+        resourceData = DefaultResourceData.builder()
+                .addDataNode(networks(serializerContext(), width, depth))
+                .build();
+        modelData = createModel();
+    }
+
+    /**
+     * Converts the data tree to model objects.
+     *
+     * @return model object data
+     */
+    @Benchmark
+    public ModelObjectData createModel() {
+        return converter.createModel(resourceData);
+    }
+
+    /**
+     * Converts the model objects of the data tree to data nodes.
+     *
+     * @return resource data
+     */
+    @Benchmark
+    public ResourceData createDataNode() {
+        return converter.createDataNode(modelData);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DefaultResourceData;
+import org.onosproject.yang.model.InnerModelObject;
+import org.onosproject.yang.model.ModelObjectData;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.onosproject.yang.runtime.impl.DefaultModelConverter;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.io.IOException;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.networks;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.registry;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializerContext;
+
+/**
+ * Measures the heap retained by the model objects converted from the
+ * synthetic data trees, in bytes per generated model object, as walked by
+ * the object graph layout of JOL.
+ * <p>
+ * Run with the shaded jar on the class path:
+ * <pre>
+ *     java -cp benchmarks/target/benchmarks.jar \
+ *         org.onosproject.yang.benchmarks.ModelObjectFootprint [width] [depth]
+ * </pre>
+ */
+public final class ModelObjectFootprint {
+
+    private static final int DEFAULT_WIDTH = 32;
+
+    // No instantiation.
+    private ModelObjectFootprint() {
+    }
+
+    /**
+     * Prints the footprint of the model objects of the synthetic data trees
+     * of the given width, for each depth up to the given one.
+     *
+     * @param args width and depth of the trees
+     * @throws IOException when fails to read the metadata
+     */
+    public static void main(String[] args) throws IOException {
+        int width = args.length > 0 ? Integer.parseInt(args[0]) :
+                DEFAULT_WIDTH;
+        int depth = args.length > 1 ? Integer.parseInt(args[1]) :
+                BenchmarkModels.MAX_DEPTH;
+        YangSerializerContext context = serializerContext();
+        DefaultModelConverter converter = new DefaultModelConverter(registry());
+        System.out.println("width depth objects bytes bytes/object");
+        for (int d = 1; d <= depth; d++) {
+            ModelObjectData data = converter.createModel(
+                    DefaultResourceData.builder()
+                            .addDataNode(networks(context, width, d))
+                            .build());
+            GraphLayout layout = GraphLayout.parseInstance(data.modelObjects());
+            long objects = 0;
+            for (Class<?> c : layout.getClasses()) {
+                if (InnerModelObject.class.isAssignableFrom(c)) {
+                    objects += layout.getClassCounts().count(c);
+                }
+            }
+            long bytes = layout.totalSize();
+            System.out.printf("%5d %5d %7d %9d %12.1f%n", width, d, objects,
+                              bytes, (double) bytes / objects);
+        }
+    }
+}
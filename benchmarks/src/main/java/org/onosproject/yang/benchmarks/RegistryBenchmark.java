@@ -0,0 +1,120 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.model.NodeKey;
+import org.onosproject.yang.model.SchemaContext;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.runtime.impl.DefaultYangModelRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.NETWORK_NS;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.registry;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.supportingNodeBuilder;
+import static org.onosproject.yang.runtime.SerializerHelper.getChildSchemaContext;
+
+/**
+ * Benchmarks the lookups of the schema nodes in the model registry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegistryBenchmark {
+
+    private static final String MODULE = "yrt-ietf-network";
+    private static final String ROOT = "/";
+
+    private DefaultYangModelRegistry registry;
+    private SchemaId networks;
+    private List<SchemaId> supportingNodePath;
+
+    @Setup
+    public void setUp() throws IOException {
+        registry = registry();
+        networks = new SchemaId("networks", NETWORK_NS);
+        supportingNodePath = new ArrayList<>();
+        for (NodeKey key : supportingNodeBuilder(1, 2, 3).build().nodeKeys()) {
+            if (!ROOT.equals(key.schemaId().name())) {
+                supportingNodePath.add(key.schemaId());
+            }
+        }
+    }
+
+    /**
+     * Looks up a top level container by its schema identifier.
+     *
+     * @return schema context
+     */
+    @Benchmark
+    public SchemaContext childContext() {
+        return registry.getChildContext(networks);
+    }
+
+    /**
+     * Looks up the schema context of the deepest list entry of the
+     * synthetic data trees, walking the schema identifiers of its resource
+     * identifier from the registry down.
+     *
+     * @return schema context
+     */
+    @Benchmark
+    public SchemaContext schemaContext() {
+        SchemaContext context = registry;
+        for (SchemaId id : supportingNodePath) {
+            context = getChildSchemaContext(context, id.name(),
+                                            id.namespace());
+        }
+        return context;
+    }
+
+    /**
+     * Looks up a module by its name.
+     *
+     * @return schema node
+     */
+    @Benchmark
+    public YangSchemaNode schemaName() {
+        return registry.getForSchemaName(MODULE);
+    }
+
+    /**
+     * Looks up a module by its namespace.
+     *
+     * @return schema node
+     */
+    @Benchmark
+    public YangSchemaNode nameSpace() {
+        return registry.getForNameSpace(NETWORK_NS, false);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.ResourceId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.resourceIds;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.supportingNodeBuilder;
+
+/**
+ * Benchmarks the building, the hashing and the lookup of the resource
+ * identifiers of the list entries of the synthetic data trees.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceIdBenchmark {
+
+    @Param({"4", "16"})
+    public int width;
+
+    private List<ResourceId> ids;
+    private List<ResourceId> copies;
+    private Map<ResourceId, Integer> index;
+
+    @Setup
+    public void setUp() {
+        ids = resourceIds(width, BenchmarkModels.MAX_DEPTH);
+        copies = resourceIds(width, BenchmarkModels.MAX_DEPTH);
+        index = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            index.put(ids.get(i), i);
+        }
+    }
+
+    /**
+     * Builds the identifier of a supporting node, the deepest list entry.
+     *
+     * @return resource identifier
+     */
+    @Benchmark
+    public ResourceId build() {
+        return supportingNodeBuilder(1, 2, 3).build();
+    }
+
+    /**
+     * Hashes the identifiers of all the list entries.
+     *
+     * @param bh black hole
+     */
+    @Benchmark
+    public void hash(Blackhole bh) {
+        for (ResourceId id : copies) {
+            bh.consume(id.hashCode());
+        }
+    }
+
+    /**
+     * Looks up equal copies of the identifiers of all the list entries in a
+     * hash map.
+     *
+     * @param bh black hole
+     */
+    @Benchmark
+    public void lookup(Blackhole bh) {
+        for (ResourceId id : copies) {
+            bh.consume(index.get(id));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DefaultResourceData;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.runtime.CompositeData;
+import org.onosproject.yang.runtime.DefaultCompositeData;
+import org.onosproject.yang.runtime.DefaultCompositeStream;
+import org.onosproject.yang.runtime.YangSerializer;
+import org.onosproject.yang.runtime.YangSerializerContext;
+import org.onosproject.yang.serializers.json.JsonSerializer;
+import org.onosproject.yang.serializers.xml.XmlSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.networks;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializerContext;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.toBytes;
+
+/**
+ * Benchmarks the encoding and the decoding of the synthetic data trees by
+ * the JSON and the XML serializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializerBenchmark {
+
+    private static final String JSON = "JSON";
+
+    @Param({"JSON", "XML"})
+    public String format;
+
+    @Param({"4", "16"})
+    public int width;
+
+    @Param({"2", "3"})
+    public int depth;
+
+    private YangSerializerContext context;
+    private YangSerializer serializer;
+    private CompositeData data;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        context = serializerContext();
+        serializer = JSON.equals(format) ? new JsonSerializer() :
+                new XmlSerializer();
+        // The networks container is encoded, as the JSON encoder does not
+        // take the root node.
+        InnerNode root = (InnerNode) networks(context, width, depth);
+        data = DefaultCompositeData.builder()
+                .resourceData(DefaultResourceData.builder()
+                                      .addDataNode(root.childNodes().values()
+                                                           .iterator().next())
+                                      .build())
+                .build();
+        encoded = encode();
+    }
+
+    /**
+     * Encodes the data tree and reads the encoded stream.
+     *
+     * @return encoded bytes
+     * @throws IOException when fails to read the encoded stream
+     */
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return toBytes(serializer.encode(data, context).resourceData());
+    }
+
+    /**
+     * Decodes the encoded data tree.
+     *
+     * @return decoded composite data
+     */
+    @Benchmark
+    public CompositeData decode() {
+        return serializer.decode(new DefaultCompositeStream(
+                null, new ByteArrayInputStream(encoded)), context);
+    }
+}
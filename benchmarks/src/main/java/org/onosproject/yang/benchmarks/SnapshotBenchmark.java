@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.NodeKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.networks;
+import static org.onosproject.yang.benchmarks.BenchmarkModels.serializerContext;
+
+/**
+ * Benchmarks the creation of a new version of the synthetic data trees
+ * through the copy builders, which replaces the deepest last node and
+ * shares the rest of the tree with the original version.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"4", "16", "64"})
+    public int width;
+
+    private InnerNode root;
+    private List<NodeKey> path;
+
+    @Setup
+    public void setUp() throws IOException {
+        root = (InnerNode) networks(serializerContext(), width,
+                                    BenchmarkModels.MAX_DEPTH);
+        path = new ArrayList<>();
+        InnerNode node = root;
+        while (node != null) {
+            InnerNode last = null;
+            for (DataNode child : node.childNodes().values()) {
+                if (child instanceof InnerNode) {
+                    last = (InnerNode) child;
+                }
+            }
+            if (last != null) {
+                path.add(last.key());
+            }
+            node = last;
+        }
+    }
+
+    /**
+     * Replaces the deepest last node of the tree.
+     *
+     * @return new version of the tree
+     */
+    @Benchmark
+    public DataNode update() {
+        return update(root, 0);
+    }
+
+    private InnerNode update(InnerNode node, int depth) {
+        InnerNode.Builder builder = node.copyBuilder();
+        if (depth < path.size()) {
+            InnerNode child = (InnerNode) node.childNodes()
+                    .get(path.get(depth));
+            builder.addNode(update(child, depth + 1));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.onosproject.yang.benchmarks;
+
+import org.onosproject.yang.compiler.datamodel.YangType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.onosproject.yang.benchmarks.BenchmarkModels.typeDef;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.ObjectProvider.getObject;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UNION;
+
+/**
+ * Benchmarks the conversion of the values of the union typed leaves to the
+ * objects of their member types.
+ * <p>
+ * The te-tp-id union of the yrt-ietf-te-topology module has a numeric
+ * member before its address members, so an address is only converted after
+ * the numeric member failed to take it. The ip-address and host unions of
+ * the yrt-ietf-inet-types module have string based members only, and the
+ * host union nests the ip-address one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnionBenchmark {
+
+    private static final String TE_MODULE = "yrt-ietf-te-topology";
+    private static final String INET_MODULE = "yrt-ietf-inet-types";
+    private static final String TE_TP_ID = "te-tp-id";
+
+    @Param({"te-tp-id", "ip-address", "host"})
+    public String union;
+
+    @Param({"42", "10.0.0.1", "2001:db8::1", "example.com"})
+    public String value;
+
+    private YangType<?> type;
+
+    @Setup
+    public void setUp() throws IOException {
+        String module = union.equals(TE_TP_ID) ? TE_MODULE : INET_MODULE;
+        type = typeDef(module, union).getTypeList().get(0);
+    }
+
+    /**
+     * Converts the value to the object of its member type.
+     *
+     * @return object of the value
+     */
+    @Benchmark
+    public Object getUnionObject() {
+        return getObject(type, value, UNION);
+    }
+}
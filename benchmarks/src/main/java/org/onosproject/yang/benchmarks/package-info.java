@@ -14,10 +14,14 @@
  * limitations under the License.
  */
 
-package org.onosproject.yang.serializers.xml;
-
 /**
- * Represents a single instance node and multi instance node handler.
+ * JMH benchmarks of the hot paths of the YANG runtime and serializers, run
+ * on the YANG models of the runtime tests and on synthetic data trees of
+ * configurable width and depth.
+ * <p>
+ * The benchmarks are packaged in an executable jar:
+ * <pre>
+ *     java -jar benchmarks/target/benchmarks.jar [regexp] [-p width=...]
+ * </pre>
  */
-public class XmlSerializerNodeHandler extends XmlSerializerHandler {
-}
+package org.onosproject.yang.benchmarks;
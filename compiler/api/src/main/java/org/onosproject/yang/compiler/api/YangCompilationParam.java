@@ -61,4 +61,33 @@ public interface YangCompilationParam {
      * @return model identifier
      */
     String getModelId();
+
+    /**
+     * Returns true if a model binding class is to be generated for every
+     * module, which lets the YANG runtime convert model objects without
+     * reflection.
+     *
+     * @return true if model binding classes are to be generated
+     */
+    boolean isGenerateBinding();
+
+    /**
+     * Returns the path of the file which keeps the state of the previous
+     * compilation. When it is specified, only the YANG files which changed,
+     * or whose imported or included modules changed, since the previous
+     * compilation are compiled again.
+     *
+     * @return path of the build state file; null if all the YANG files are
+     * to be compiled
+     */
+    Path getBuildStateFile();
+
+    /**
+     * Returns the directory of the module cache, which keeps the parsed
+     * YANG files across compilations. A YANG file whose content is found
+     * in the cache is not parsed again.
+     *
+     * @return module cache directory; null if YANG files are always parsed
+     */
+    Path getModuleCacheDir();
 }
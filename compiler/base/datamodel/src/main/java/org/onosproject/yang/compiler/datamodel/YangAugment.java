@@ -91,6 +91,12 @@ public abstract class YangAugment
 
     private static final long serialVersionUID = 806201602L;
 
+    /*
+     * Guards the schema maps of the augmented nodes, which are updated by
+     * the augments of the modules being translated concurrently.
+     */
+    private static final Object AUGMENTED_NODE_LOCK = new Object();
+
     /**
      * Description of augment.
      */
@@ -186,8 +192,10 @@ public abstract class YangAugment
                 ctxInfo1.setContextSwitchedNode(
                         ctxInfo.getContextSwitchedNode());
             }
-            getAugmentedNode().addToChildSchemaMap(schemaNodeIdentifier,
-                                                   ctxInfo1);
+            synchronized (AUGMENTED_NODE_LOCK) {
+                getAugmentedNode().addToChildSchemaMap(schemaNodeIdentifier,
+                                                       ctxInfo1);
+            }
         }
     }
 
@@ -345,6 +353,7 @@ public abstract class YangAugment
     @Override
     public void setListOfLeaf(List<YangLeaf> leafsList) {
         listOfLeaf = leafsList;
+        leavesChanged();
     }
 
     /**
@@ -355,6 +364,7 @@ public abstract class YangAugment
     @Override
     public void addLeaf(YangLeaf leaf) {
         listOfLeaf.add(leaf);
+        leavesChanged();
     }
 
     /**
@@ -365,6 +375,7 @@ public abstract class YangAugment
     @Override
     public void removeLeaf(YangLeaf leaf) {
         listOfLeaf.remove(leaf);
+        leavesChanged();
     }
 
     /**
@@ -385,6 +396,7 @@ public abstract class YangAugment
     @Override
     public void setListOfLeafList(List<YangLeafList> listOfLeafList) {
         this.listOfLeafList = listOfLeafList;
+        leavesChanged();
     }
 
     /**
@@ -395,6 +407,7 @@ public abstract class YangAugment
     @Override
     public void addLeafList(YangLeafList leafList) {
         listOfLeafList.add(leafList);
+        leavesChanged();
     }
 
     /**
@@ -405,6 +418,7 @@ public abstract class YangAugment
     @Override
     public void removeLeafList(YangLeafList leafList) {
         listOfLeafList.remove(leafList);
+        leavesChanged();
     }
 
     @Override
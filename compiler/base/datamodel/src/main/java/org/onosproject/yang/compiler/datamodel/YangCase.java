@@ -257,6 +257,7 @@ public abstract class YangCase
     @Override
     public void setListOfLeaf(List<YangLeaf> leafsList) {
         listOfLeaf = leafsList;
+        leavesChanged();
     }
 
     /**
@@ -267,6 +268,7 @@ public abstract class YangCase
     @Override
     public void addLeaf(YangLeaf leaf) {
         listOfLeaf.add(leaf);
+        leavesChanged();
     }
 
     /**
@@ -277,6 +279,7 @@ public abstract class YangCase
     @Override
     public void removeLeaf(YangLeaf leaf) {
         listOfLeaf.remove(leaf);
+        leavesChanged();
     }
 
     /**
@@ -297,6 +300,7 @@ public abstract class YangCase
     @Override
     public void setListOfLeafList(List<YangLeafList> listOfLeafList) {
         this.listOfLeafList = listOfLeafList;
+        leavesChanged();
     }
 
     /**
@@ -307,6 +311,7 @@ public abstract class YangCase
     @Override
     public void addLeafList(YangLeafList leafList) {
         listOfLeafList.add(leafList);
+        leavesChanged();
     }
 
     /**
@@ -317,6 +322,7 @@ public abstract class YangCase
     @Override
     public void removeLeafList(YangLeafList leafList) {
         listOfLeafList.remove(leafList);
+        leavesChanged();
     }
 
     /**
@@ -282,6 +282,7 @@ public abstract class YangContainer
     @Override
     public void setListOfLeaf(List<YangLeaf> leafsList) {
         listOfLeaf = leafsList;
+        leavesChanged();
     }
 
     /**
@@ -292,6 +293,7 @@ public abstract class YangContainer
     @Override
     public void addLeaf(YangLeaf leaf) {
         listOfLeaf.add(leaf);
+        leavesChanged();
     }
 
     /**
@@ -302,6 +304,7 @@ public abstract class YangContainer
     @Override
     public void removeLeaf(YangLeaf leaf) {
         listOfLeaf.remove(leaf);
+        leavesChanged();
     }
 
     /**
@@ -322,6 +325,7 @@ public abstract class YangContainer
     @Override
     public void setListOfLeafList(List<YangLeafList> listOfLeafList) {
         this.listOfLeafList = listOfLeafList;
+        leavesChanged();
     }
 
     /**
@@ -332,6 +336,7 @@ public abstract class YangContainer
     @Override
     public void addLeafList(YangLeafList leafList) {
         listOfLeafList.add(leafList);
+        leavesChanged();
     }
 
     /**
@@ -342,6 +347,7 @@ public abstract class YangContainer
     @Override
     public void removeLeafList(YangLeafList leafList) {
         listOfLeafList.remove(leafList);
+        leavesChanged();
     }
 
     /**
@@ -25,6 +25,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.onosproject.yang.compiler.datamodel.YangNodeType.DEVIATION_NODE;
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_NON_DATA_NODE;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.detectCollidingChildUtil;
 import static org.onosproject.yang.compiler.datamodel.utils.YangConstructType.DEVIATION_DATA;
@@ -77,6 +78,14 @@ public class YangDeviation extends YangNode implements Parsable, YangDesc,
      */
     private ResolvableStatus resolvableStatus;
 
+    /**
+     * Creates a YANG deviation object.
+     */
+    @SuppressWarnings("unused")
+    private YangDeviation() {
+        this(DEVIATION_NODE, null);
+    }
+
     /**
      * Creates a specific type of node.
      *
@@ -194,6 +194,7 @@ public abstract class YangGrouping
     @Override
     public void setListOfLeaf(List<YangLeaf> leafsList) {
         listOfLeaf = leafsList;
+        leavesChanged();
     }
 
     /**
@@ -204,6 +205,7 @@ public abstract class YangGrouping
     @Override
     public void addLeaf(YangLeaf leaf) {
         listOfLeaf.add(leaf);
+        leavesChanged();
     }
 
     /**
@@ -214,6 +216,7 @@ public abstract class YangGrouping
     @Override
     public void removeLeaf(YangLeaf leaf) {
         listOfLeaf.remove(leaf);
+        leavesChanged();
     }
 
     /**
@@ -234,6 +237,7 @@ public abstract class YangGrouping
     @Override
     public void setListOfLeafList(List<YangLeafList> listOfLeafList) {
         this.listOfLeafList = listOfLeafList;
+        leavesChanged();
     }
 
     /**
@@ -244,6 +248,7 @@ public abstract class YangGrouping
     @Override
     public void addLeafList(YangLeafList leafList) {
         listOfLeafList.add(leafList);
+        leavesChanged();
     }
 
     /**
@@ -254,6 +259,7 @@ public abstract class YangGrouping
     @Override
     public void removeLeafList(YangLeafList leafList) {
         listOfLeafList.remove(leafList);
+        leavesChanged();
     }
 
     /**
@@ -295,6 +295,8 @@ public class YangIdentityRef
     @Override
     public YangNode clone(YangUses yangUses, boolean isDeviation, boolean
             isAnydata) throws CloneNotSupportedException {
-        return (YangNode) super.clone();
+        YangNode clnNode = (YangNode) super.clone();
+        clnNode.clearCloneLinks();
+        return clnNode;
     }
 }
@@ -187,11 +187,13 @@ public abstract class YangInput
     @Override
     public void setListOfLeaf(List<YangLeaf> leafsList) {
         listOfLeaf = leafsList;
+        leavesChanged();
     }
 
     @Override
     public void addLeaf(YangLeaf leaf) {
         listOfLeaf.add(leaf);
+        leavesChanged();
     }
 
     /**
@@ -202,6 +204,7 @@ public abstract class YangInput
     @Override
     public void removeLeaf(YangLeaf leaf) {
         listOfLeaf.remove(leaf);
+        leavesChanged();
     }
 
     @Override
@@ -212,11 +215,13 @@ public abstract class YangInput
     @Override
     public void setListOfLeafList(List<YangLeafList> listOfLeafList) {
         this.listOfLeafList = listOfLeafList;
+        leavesChanged();
     }
 
     @Override
     public void addLeafList(YangLeafList leafList) {
         listOfLeafList.add(leafList);
+        leavesChanged();
     }
 
     /**
@@ -227,6 +232,7 @@ public abstract class YangInput
     @Override
     public void removeLeafList(YangLeafList leafList) {
         listOfLeafList.remove(leafList);
+        leavesChanged();
     }
 
     @Override
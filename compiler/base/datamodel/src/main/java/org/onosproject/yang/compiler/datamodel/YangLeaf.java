@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.onosproject.yang.compiler.datamodel.YangStatusType.CURRENT;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getLeafTypeByDataType;
@@ -121,6 +122,16 @@ public abstract class YangLeaf extends DefaultLocationInfo
      */
     private YangType<?> dataType;
 
+    /**
+     * Validator of the values of the leaf, compiled from the data type.
+     */
+    private transient volatile YangValueValidator valueValidator;
+
+    /**
+     * Interned schema identifier of the leaf, shared by the data nodes.
+     */
+    private transient volatile SchemaId schemaId;
+
     /**
      * Default value in string, needs to be converted to the target object,
      * based on the type.
@@ -358,6 +369,23 @@ public abstract class YangLeaf extends DefaultLocationInfo
      */
     public void setDataType(YangType<?> dataType) {
         this.dataType = dataType;
+        valueValidator = null;
+    }
+
+    /**
+     * Returns the validator of the values of the leaf, compiling it from the
+     * data type on first use. It is to be used once the data model is
+     * linked.
+     *
+     * @return value validator
+     */
+    public YangValueValidator getValueValidator() {
+        YangValueValidator validator = valueValidator;
+        if (validator == null) {
+            validator = YangValueValidator.of(dataType);
+            valueValidator = validator;
+        }
+        return validator;
     }
 
     /**
@@ -383,6 +411,7 @@ public abstract class YangLeaf extends DefaultLocationInfo
             throws CloneNotSupportedException {
         YangLeaf cl = (YangLeaf) super.clone();
         cl.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        cl.valueValidator = null;
         return cl;
     }
 
@@ -396,6 +425,7 @@ public abstract class YangLeaf extends DefaultLocationInfo
     public YangLeaf cloneForDeviation()
             throws CloneNotSupportedException {
         YangLeaf cl = (YangLeaf) super.clone();
+        cl.valueValidator = null;
         return cl;
     }
 
@@ -587,6 +617,9 @@ public abstract class YangLeaf extends DefaultLocationInfo
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
+        if (containedIn instanceof YangNode) {
+            ((YangNode) containedIn).leavesChanged();
+        }
     }
 
     @Override
@@ -652,9 +685,15 @@ public abstract class YangLeaf extends DefaultLocationInfo
 
     @Override
     public SchemaId getSchemaId() {
-        SchemaId schemaId = new SchemaId(getName(), getNameSpace()
-                .getModuleNamespace());
-        return schemaId;
+        String name = getName();
+        String namespace = getNameSpace().getModuleNamespace();
+        SchemaId id = schemaId;
+        if (id == null || !id.name().equals(name) ||
+                !Objects.equals(id.namespace(), namespace)) {
+            id = SchemaId.intern(name, namespace);
+            schemaId = id;
+        }
+        return id;
     }
 
 
@@ -31,6 +31,7 @@ import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.onosproject.yang.compiler.datamodel.YangStatusType.CURRENT;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getLeafTypeByDataType;
@@ -145,6 +146,16 @@ public abstract class YangLeafList extends DefaultLocationInfo
      */
     private YangType<?> dataType;
 
+    /**
+     * Validator of the values of the leaf-list, compiled from the data type.
+     */
+    private transient volatile YangValueValidator valueValidator;
+
+    /**
+     * Interned schema identifier of the leaf-list, shared by the data nodes.
+     */
+    private transient volatile SchemaId schemaId;
+
     /**
      * YANG Node in which the leaf is contained.
      */
@@ -376,6 +387,23 @@ public abstract class YangLeafList extends DefaultLocationInfo
      */
     public void setDataType(YangType<?> dataType) {
         this.dataType = dataType;
+        valueValidator = null;
+    }
+
+    /**
+     * Returns the validator of the values of the leaf-list, compiling it
+     * from the data type on first use. It is to be used once the data model
+     * is linked.
+     *
+     * @return value validator
+     */
+    public YangValueValidator getValueValidator() {
+        YangValueValidator validator = valueValidator;
+        if (validator == null) {
+            validator = YangValueValidator.of(dataType);
+            valueValidator = validator;
+        }
+        return validator;
     }
 
     /**
@@ -401,6 +429,7 @@ public abstract class YangLeafList extends DefaultLocationInfo
             throws CloneNotSupportedException {
         YangLeafList cll = (YangLeafList) super.clone();
         cll.yangSchemaNodeIdentifier = yangSchemaNodeIdentifier.clone();
+        cll.valueValidator = null;
         return cll;
     }
 
@@ -414,6 +443,7 @@ public abstract class YangLeafList extends DefaultLocationInfo
     public YangLeafList cloneForDeviation()
             throws CloneNotSupportedException {
         YangLeafList cll = (YangLeafList) super.clone();
+        cll.valueValidator = null;
         return cll;
     }
 
@@ -582,6 +612,9 @@ public abstract class YangLeafList extends DefaultLocationInfo
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
+        if (containedIn instanceof YangNode) {
+            ((YangNode) containedIn).leavesChanged();
+        }
     }
 
     @Override
@@ -628,9 +661,15 @@ public abstract class YangLeafList extends DefaultLocationInfo
 
     @Override
     public SchemaId getSchemaId() {
-        SchemaId schemaId = new SchemaId(
-                this.getName(), this.getNameSpace().getModuleNamespace());
-        return schemaId;
+        String name = getName();
+        String namespace = getNameSpace().getModuleNamespace();
+        SchemaId id = schemaId;
+        if (id == null || !id.name().equals(name) ||
+                !Objects.equals(id.namespace(), namespace)) {
+            id = SchemaId.intern(name, namespace);
+            schemaId = id;
+        }
+        return id;
     }
 
     @Override
@@ -467,6 +467,7 @@ public abstract class YangModule
     @Override
     public void setListOfLeaf(List<YangLeaf> leafsList) {
         listOfLeaf = leafsList;
+        leavesChanged();
     }
 
     /**
@@ -477,6 +478,7 @@ public abstract class YangModule
     @Override
     public void addLeaf(YangLeaf leaf) {
         listOfLeaf.add(leaf);
+        leavesChanged();
     }
 
     /**
@@ -487,6 +489,7 @@ public abstract class YangModule
     @Override
     public void removeLeaf(YangLeaf leaf) {
         getListOfLeaf().remove(leaf);
+        leavesChanged();
     }
 
     /**
@@ -502,6 +505,7 @@ public abstract class YangModule
     @Override
     public void setListOfLeafList(List<YangLeafList> listOfLeafList) {
         this.listOfLeafList = listOfLeafList;
+        leavesChanged();
     }
 
 
@@ -513,6 +517,7 @@ public abstract class YangModule
     @Override
     public void addLeafList(YangLeafList leafList) {
         listOfLeafList.add(leafList);
+        leavesChanged();
     }
 
     /**
@@ -523,6 +528,7 @@ public abstract class YangModule
     @Override
     public void removeLeafList(YangLeafList leafList) {
         getListOfLeafList().remove(leafList);
+        leavesChanged();
     }
 
     @Override
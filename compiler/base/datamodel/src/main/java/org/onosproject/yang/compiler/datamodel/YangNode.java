@@ -23,10 +23,15 @@ import org.onosproject.yang.model.SchemaContext;
 import org.onosproject.yang.model.SchemaId;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 import static org.onosproject.yang.compiler.datamodel.TraversalType.CHILD;
 import static org.onosproject.yang.compiler.datamodel.TraversalType.PARENT;
 import static org.onosproject.yang.compiler.datamodel.TraversalType.SIBLING;
@@ -136,9 +141,32 @@ public abstract class YangNode
      */
     private YangNode referredSchemaNode;
 
+    /**
+     * Indexes of the children, leaves and leaf-lists by name, built on
+     * first lookup.
+     */
+    private transient volatile NameIndex<List<YangNode>> childIndex;
+    private transient volatile NameIndex<YangLeaf> leafIndex;
+    private transient volatile NameIndex<YangLeafList> leafListIndex;
+
     private static final String E_NONDATA =
             "Method called for other then data node";
 
+    /*
+     * Versions of the children and of the leaves and leaf-lists of the
+     * node, incremented whenever a child is linked to or unlinked from the
+     * node or renamed, and whenever a leaf or leaf-list of the node is
+     * added, removed or renamed. An index is used only as long as the
+     * version is the one it was built for.
+     */
+    private transient volatile int childVersion;
+    private transient volatile int leavesVersion;
+
+    /*
+     * Lookups among fewer entries are done by walking the entries.
+     */
+    private static final int INDEX_THRESHOLD = 8;
+
     /**
      * Returns the priority of the node.
      *
@@ -245,7 +273,9 @@ public abstract class YangNode
      * @param parent node
      */
     public void setParent(YangNode parent) {
+        childrenChanged(this.parent);
         this.parent = parent;
+        childrenChanged(parent);
     }
 
     /**
@@ -264,6 +294,7 @@ public abstract class YangNode
      */
     public void setChild(YangNode child) {
         this.child = child;
+        childVersion++;
     }
 
     /**
@@ -282,6 +313,10 @@ public abstract class YangNode
      */
     public void setNextSibling(YangNode sibling) {
         nextSibling = sibling;
+        childrenChanged(parent);
+        if (sibling != null && sibling.parent != parent) {
+            childrenChanged(sibling.parent);
+        }
     }
 
     /**
@@ -300,6 +335,10 @@ public abstract class YangNode
      */
     public void setPreviousSibling(YangNode previousSibling) {
         this.previousSibling = previousSibling;
+        childrenChanged(parent);
+        if (previousSibling != null && previousSibling.parent != parent) {
+            childrenChanged(previousSibling.parent);
+        }
     }
 
     /**
@@ -381,6 +420,145 @@ public abstract class YangNode
         }
     }
 
+    /**
+     * Returns the children of the node with the given name, in the order of
+     * the children. Nodes with many children look the name up in an index
+     * of their children, which is built on first lookup and rebuilt once
+     * a child has been linked, unlinked or renamed.
+     *
+     * @param name name of the children
+     * @return children with the given name; empty list if there is none
+     */
+    public List<YangNode> getChildren(String name) {
+        NameIndex<List<YangNode>> index = childIndex;
+        int version = childVersion;
+        if (index == null || index.version != version) {
+            int count = 0;
+            for (YangNode node = child; node != null;
+                 node = node.getNextSibling()) {
+                count++;
+            }
+            if (count < INDEX_THRESHOLD) {
+                List<YangNode> nodes = emptyList();
+                for (YangNode node = child; node != null;
+                     node = node.getNextSibling()) {
+                    if (node.getName().equals(name)) {
+                        nodes = addNode(nodes, node);
+                    }
+                }
+                return nodes;
+            }
+            Map<String, List<YangNode>> map = new HashMap<>();
+            for (YangNode node = child; node != null;
+                 node = node.getNextSibling()) {
+                List<YangNode> nodes = map.get(node.getName());
+                map.put(node.getName(), addNode(
+                        nodes == null ? emptyList() : nodes, node));
+            }
+            index = new NameIndex<>(version, map);
+            childIndex = index;
+        }
+        List<YangNode> nodes = index.map.get(name);
+        return nodes == null ? emptyList() : nodes;
+    }
+
+    /**
+     * Returns the list of nodes with the node added, avoiding a list
+     * allocation for the first node.
+     *
+     * @param nodes list of nodes
+     * @param node  node to add
+     * @return list of nodes with the node added
+     */
+    private static List<YangNode> addNode(List<YangNode> nodes, YangNode node) {
+        if (nodes.isEmpty()) {
+            return singletonList(node);
+        }
+        if (nodes.size() == 1) {
+            nodes = new ArrayList<>(nodes);
+        }
+        nodes.add(node);
+        return nodes;
+    }
+
+    /**
+     * Returns the leaf of the node with the given name. Nodes with many
+     * leaves look the name up in an index of their leaves, which is
+     * rebuilt once a leaf has been added, removed or renamed.
+     *
+     * @param name name of the leaf
+     * @return leaf with the given name; null if there is none or the node
+     * is not a leaves holder
+     */
+    public YangLeaf getLeaf(String name) {
+        if (!(this instanceof YangLeavesHolder)) {
+            return null;
+        }
+        List<YangLeaf> leaves = ((YangLeavesHolder) this).getListOfLeaf();
+        if (leaves == null || leaves.isEmpty()) {
+            return null;
+        }
+        if (leaves.size() < INDEX_THRESHOLD) {
+            for (YangLeaf leaf : leaves) {
+                if (leaf.getName().equals(name)) {
+                    return leaf;
+                }
+            }
+            return null;
+        }
+        NameIndex<YangLeaf> index = leafIndex;
+        int version = leavesVersion;
+        if (index == null || index.version != version) {
+            Map<String, YangLeaf> map = new HashMap<>();
+            for (YangLeaf leaf : leaves) {
+                map.putIfAbsent(leaf.getName(), leaf);
+            }
+            index = new NameIndex<>(version, map);
+            leafIndex = index;
+        }
+        return index.map.get(name);
+    }
+
+    /**
+     * Returns the leaf-list of the node with the given name. Nodes with
+     * many leaf-lists look the name up in an index of their leaf-lists,
+     * which is rebuilt once a leaf-list has been added, removed or
+     * renamed.
+     *
+     * @param name name of the leaf-list
+     * @return leaf-list with the given name; null if there is none or the
+     * node is not a leaves holder
+     */
+    public YangLeafList getLeafList(String name) {
+        if (!(this instanceof YangLeavesHolder)) {
+            return null;
+        }
+        List<YangLeafList> leafLists = ((YangLeavesHolder) this)
+                .getListOfLeafList();
+        if (leafLists == null || leafLists.isEmpty()) {
+            return null;
+        }
+        if (leafLists.size() < INDEX_THRESHOLD) {
+            for (YangLeafList leafList : leafLists) {
+                if (leafList.getName().equals(name)) {
+                    return leafList;
+                }
+            }
+            return null;
+        }
+        NameIndex<YangLeafList> index = leafListIndex;
+        int version = leavesVersion;
+        if (index == null || index.version != version) {
+            Map<String, YangLeafList> map = new HashMap<>();
+            for (YangLeafList leafList : leafLists) {
+                map.putIfAbsent(leafList.getName(), leafList);
+            }
+            index = new NameIndex<>(version, map);
+            leafListIndex = index;
+        }
+        return index.map.get(name);
+    }
+
     /**
      * Processes addition of schema node child to parent map.
      *
@@ -454,6 +632,7 @@ public abstract class YangNode
     public YangNode clone(YangUses yangUses, boolean isDeviation, boolean
             isAnydata) throws CloneNotSupportedException {
         YangNode clonedNode = (YangNode) super.clone();
+        clonedNode.clearCloneLinks();
         if (isAnydata) {
             Map<YangSchemaNodeIdentifier, YangSchemaNodeContextInfo> map =
                     ysnContextInfoMap;
@@ -475,10 +654,6 @@ public abstract class YangNode
             }
         }
 
-        clonedNode.setParent(null);
-        clonedNode.setChild(null);
-        clonedNode.setNextSibling(null);
-        clonedNode.setPreviousSibling(null);
         if (!isDeviation && !isAnydata) {
             clonedNode.yangSchemaNodeIdentifier =
                     clonedNode.yangSchemaNodeIdentifier.clone();
@@ -910,6 +1085,7 @@ public abstract class YangNode
             this.yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         this.yangSchemaNodeIdentifier = id;
+        childrenChanged(parent);
     }
 
     @Override
@@ -927,6 +1103,7 @@ public abstract class YangNode
             yangSchemaNodeIdentifier = new YangSchemaNodeIdentifier();
         }
         yangSchemaNodeIdentifier.setName(name);
+        childrenChanged(parent);
     }
 
     @Override
@@ -1053,7 +1230,7 @@ public abstract class YangNode
                 ((YangLeavesHolder) this).setLeafParentContext();
             }
             // setting the schema Id
-            schemaId = new SchemaId(getName(), getNameSpace()
+            schemaId = SchemaId.intern(getName(), getNameSpace()
                     .getModuleNamespace());
         } else if (this instanceof YangCase || this instanceof YangAugment) {
             ((YangLeavesHolder) this).setLeafParentContext();
@@ -1091,4 +1268,59 @@ public abstract class YangNode
             yangLeafList.setParentContext(context);
         }
     }
+
+    /**
+     * Clears the links and indexes of a shallow clone of a node. The links
+     * still point into the tree of the cloned node, which may be shared by
+     * other compilations, so they are cleared without recording a change
+     * of the children of those nodes. It is to be called on the clone
+     * before anything else is done with it.
+     */
+    void clearCloneLinks() {
+        childIndex = null;
+        leafIndex = null;
+        leafListIndex = null;
+        parent = null;
+        child = null;
+        nextSibling = null;
+        previousSibling = null;
+    }
+
+    /**
+     * Records that the leaves or leaf-lists of the node have changed. It is
+     * to be called whenever a leaf or leaf-list is added to or removed from
+     * the lists of a leaves holder, the lists are set, or a leaf or
+     * leaf-list of the holder is renamed.
+     */
+    public void leavesChanged() {
+        leavesVersion++;
+    }
+
+    /**
+     * Records that the children of the given node have changed.
+     *
+     * @param node node whose children have changed; may be null
+     */
+    private static void childrenChanged(YangNode node) {
+        if (node != null) {
+            node.childVersion++;
+        }
+    }
+
+    /**
+     * Represents an index of entries by name, with the version of the
+     * indexed children or leaves it was built for.
+     *
+     * @param <T> type of the indexed entries
+     */
+    private static final class NameIndex<T> {
+
+        private final int version;
+        private final Map<String, T> map;
+
+        private NameIndex(int version, Map<String, T> map) {
+            this.version = version;
+            this.map = map;
+        }
+    }
 }
@@ -82,6 +82,14 @@ public class YangPatternRestriction extends DefaultLocationInfo
      */
     private String description;
 
+    /**
+     * Creates a YANG pattern restriction object.
+     */
+    @SuppressWarnings("unused")
+    private YangPatternRestriction() {
+        pattern = null;
+    }
+
     /**
      * Creates a YANG pattern restriction object.
      *
@@ -97,6 +97,13 @@ public class YangRangeRestriction<T extends YangBuiltInDataTypeInfo<T>>
      * Creates YANG range restriction object.
      */
 
+    /**
+     * Creates a YANG range restriction object.
+     */
+    @SuppressWarnings("unused")
+    private YangRangeRestriction() {
+    }
+
     /**
      * Creates YANG range restriction object with range value.
      *
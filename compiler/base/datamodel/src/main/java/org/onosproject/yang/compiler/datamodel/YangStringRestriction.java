@@ -225,6 +225,7 @@ public class YangStringRestriction extends DefaultLocationInfo
 
     /**
      * Validates if the given value is correct as per the pattern restriction.
+     * The value has to match all the patterns.
      *
      * @param valueInString value
      * @return true if the value is confirming to pattern restriction; false
@@ -237,13 +238,11 @@ public class YangStringRestriction extends DefaultLocationInfo
         }
 
         ListIterator<YangPatternRestriction> it = patternResList.listIterator();
-        boolean isMatched = false;
         while (it.hasNext()) {
-            if (valueInString.matches(it.next().getPattern())) {
-                isMatched = true;
-                break;
+            if (!valueInString.matches(it.next().getPattern())) {
+                return false;
             }
         }
-        return isMatched;
+        return true;
     }
 }
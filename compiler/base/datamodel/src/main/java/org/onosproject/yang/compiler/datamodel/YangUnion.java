@@ -19,6 +19,7 @@ package org.onosproject.yang.compiler.datamodel;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
 import org.onosproject.yang.compiler.datamodel.utils.Parsable;
 import org.onosproject.yang.compiler.datamodel.utils.YangConstructType;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.UnionTypeDispatcher;
 import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 
 import java.util.LinkedList;
@@ -65,6 +66,9 @@ public abstract class YangUnion
     // Current child union number.
     private transient int childUnionNumber;
 
+    // Dispatcher of the values to the member types.
+    private transient volatile UnionTypeDispatcher typeDispatcher;
+
     /**
      * Creates a YANG union node.
      */
@@ -143,7 +147,24 @@ public abstract class YangUnion
 
             default:
                 typeList.add(yangType);
+                typeDispatcher = null;
+        }
+    }
+
+    /**
+     * Returns the dispatcher of the values to the member types, compiling
+     * it from the member types on first use. It is to be used once the data
+     * model is linked.
+     *
+     * @return union type dispatcher
+     */
+    public UnionTypeDispatcher getTypeDispatcher() {
+        UnionTypeDispatcher dispatcher = typeDispatcher;
+        if (dispatcher == null) {
+            dispatcher = UnionTypeDispatcher.of(this);
+            typeDispatcher = dispatcher;
         }
+        return dispatcher;
     }
 
     @Override
@@ -577,10 +577,7 @@ public abstract class YangUses
     public YangNode clone(YangUses node, boolean isDeviation, boolean
             isAnydata) throws CloneNotSupportedException {
         YangNode clnNode = (YangNode) super.clone();
-        clnNode.setParent(null);
-        clnNode.setChild(null);
-        clnNode.setNextSibling(null);
-        clnNode.setPreviousSibling(null);
+        clnNode.clearCloneLinks();
         return clnNode;
     }
 
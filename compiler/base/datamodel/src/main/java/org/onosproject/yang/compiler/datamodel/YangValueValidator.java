@@ -0,0 +1,519 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.datamodel;
+
+import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.compiler.datamodel.utils.FractionDigits;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangUint64;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.onosproject.yang.compiler.datamodel.BuiltInTypeObjectFactory.getDataObjectFromString;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.FALSE;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.TRUE;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils.isDecimal;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils.isOfRangeRestrictedType;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils.parseLong;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.BINARY;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.BITS;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.DECIMAL64;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.STRING;
+
+/**
+ * Represents the validator of the values of a leaf or leaf-list, compiled
+ * from its data type once the data model is linked.
+ * <p>
+ * It checks a value as YangType#isValidValue does, with the restrictions
+ * of the type prepared up front: the range and length intervals are kept
+ * in sorted arrays which are binary searched, the patterns, including the
+ * ones inherited from typedefs, are compiled and a value has to match all
+ * of them, and the names of the enums and bits are kept in hash sets. The checks
+ * scan the lexical values instead of parsing them into exceptions, so
+ * that the member types of a union are tried without throwing. A
+ * validator is immutable, so it can be shared by the threads decoding
+ * data.
+ */
+public final class YangValueValidator {
+
+    private static final String SPACE = " ";
+    private static final Pattern BIT_SEPARATOR =
+            Pattern.compile(SPACE, Pattern.LITERAL);
+    private static final String MIN_KEYWORD = "min";
+    private static final String MAX_KEYWORD = "max";
+    private static final long UINT8_MAX = 255;
+    private static final long UINT16_MAX = 65535;
+    private static final long UINT32_MAX = 4294967295L;
+    private static final Check NO_CHECK = value -> true;
+
+    private final Check check;
+    private final YangDataTypes dataType;
+
+    /**
+     * Creates an instance of value validator.
+     *
+     * @param check    compiled check of the values
+     * @param dataType data type reported for the invalid values
+     */
+    private YangValueValidator(Check check, YangDataTypes dataType) {
+        this.check = check;
+        this.dataType = dataType;
+    }
+
+    /**
+     * Returns the validator compiled from the given data type.
+     *
+     * @param type data type
+     * @return value validator
+     * @throws DataTypeException if a pattern of the type is not a valid
+     *                           regular expression
+     */
+    public static YangValueValidator of(YangType<?> type) {
+        YangDataTypes dataType = type.getDataType();
+        if (dataType == DERIVED) {
+            dataType = ((YangDerivedInfo<?>) type.getDataTypeExtendedInfo())
+                    .getEffectiveBuiltInType();
+        }
+        return new YangValueValidator(compile(type), dataType);
+    }
+
+    /**
+     * Validates the input data value against the permissible value for the
+     * type as per the YANG file.
+     *
+     * @param value input data value
+     * @throws DataModelException a violation of data model rules
+     */
+    public void validate(String value) throws DataModelException {
+        if (!check.isValid(value)) {
+            throw new DataTypeException("YANG file error : Input value \"" +
+                                                value + "\" is not a valid " +
+                                                dataType);
+        }
+    }
+
+    private static Check compile(YangType<?> type) {
+        YangDataTypes dataType = type.getDataType();
+        Object info = type.getDataTypeExtendedInfo();
+        switch (dataType) {
+            case INT8:
+            case INT16:
+            case INT32:
+            case INT64:
+            case UINT8:
+            case UINT16:
+            case UINT32:
+            case UINT64:
+                return rangeCheck((YangRangeRestriction<?>) info, dataType);
+            case DECIMAL64:
+                return decimal64Check((YangDecimal64<?>) info);
+            case STRING:
+                if (info == null) {
+                    return NO_CHECK;
+                }
+                return stringCheck((YangStringRestriction) info);
+            case BOOLEAN:
+                return value -> TRUE.equals(value) || FALSE.equals(value);
+            case ENUMERATION:
+                return enumCheck((YangEnumeration) info);
+            case BITS:
+                return bitsCheck((YangBits) info);
+            case BINARY:
+                return binaryCheck((YangRangeRestriction<?>) info);
+            case LEAFREF:
+            case IDENTITYREF:
+            case INSTANCE_IDENTIFIER:
+                return NO_CHECK;
+            case EMPTY:
+                // In case of xml empty value can come as null but in case of
+                // json and all it will come as ""
+                return value -> value == null || value.isEmpty();
+            case UNION:
+                return unionCheck((YangUnion) info);
+            case DERIVED:
+                return derivedCheck((YangDerivedInfo<?>) info);
+            default:
+                // Unsupported data type, which takes no value.
+                return value -> false;
+        }
+    }
+
+    private static Check derivedCheck(YangDerivedInfo<?> derivedInfo) {
+        YangDataTypes dataType = derivedInfo.getEffectiveBuiltInType();
+        Object info = derivedInfo.getResolvedExtendedInfo();
+        if (isOfRangeRestrictedType(dataType)) {
+            return rangeCheck((YangRangeRestriction<?>) info, dataType);
+        }
+        if (dataType == STRING) {
+            if (info instanceof YangStringRestriction) {
+                return stringCheck((YangStringRestriction) info);
+            }
+            return NO_CHECK;
+        }
+        if (dataType == BITS) {
+            return bitsCheck((YangBits) getBaseType(derivedInfo)
+                    .getDataTypeExtendedInfo());
+        }
+        if (dataType == BINARY) {
+            return binaryCheck((YangRangeRestriction<?>) info);
+        }
+        if (dataType == DECIMAL64) {
+            return decimal64Check((YangDecimal64<?>) getBaseType(derivedInfo)
+                    .getDataTypeExtendedInfo());
+        }
+        return NO_CHECK;
+    }
+
+    /*
+     * Returns the built-in type the typedef chain of the derived type ends
+     * with.
+     */
+    private static YangType<?> getBaseType(YangDerivedInfo<?> derivedInfo) {
+        YangType<?> type = derivedInfo.getReferredTypeDef().getTypeList()
+                .iterator().next();
+        while (type.getDataType() == DERIVED) {
+            type = ((YangDerivedInfo<?>) type.getDataTypeExtendedInfo())
+                    .getReferredTypeDef().getTypeList().iterator().next();
+        }
+        return type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Check rangeCheck(YangRangeRestriction<?> range,
+                                    YangDataTypes dataType) {
+        if (range == null) {
+            return value -> isIntegerOf(value, dataType);
+        }
+        List<YangRangeInterval<?>> intervals =
+                (List<YangRangeInterval<?>>) (List<?>)
+                        range.getAscendingRangeIntervals();
+        if (intervals == null || intervals.isEmpty()) {
+            // The restriction misses its default interval, so that it
+            // takes no value.
+            return value -> false;
+        }
+        YangDataTypes valueType =
+                intervals.get(0).getStartValue().getYangType();
+        Comparable<Object>[] starts = new Comparable[intervals.size()];
+        Comparable<Object>[] ends = new Comparable[intervals.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = (Comparable<Object>) intervals.get(i).getStartValue();
+            ends[i] = (Comparable<Object>) intervals.get(i).getEndValue();
+        }
+        return value -> {
+            if (!isIntegerOf(value, valueType)) {
+                return false;
+            }
+            Object val = getDataObjectFromString(value, valueType);
+            int i = floor(starts, val);
+            return i >= 0 && ends[i].compareTo(val) >= 0;
+        };
+    }
+
+    /*
+     * Returns true if the given value is a number of the given integer
+     * type, or one of the keywords the built-in type objects read as its
+     * bounds.
+     */
+    private static boolean isIntegerOf(String value, YangDataTypes dataType) {
+        if (MIN_KEYWORD.equals(value) || MAX_KEYWORD.equals(value)) {
+            return true;
+        }
+        switch (dataType) {
+            case INT8:
+                return parseLong(value, Byte.MIN_VALUE, Byte.MAX_VALUE) != null;
+            case INT16:
+                return parseLong(value, Short.MIN_VALUE,
+                                 Short.MAX_VALUE) != null;
+            case INT32:
+                return parseLong(value, Integer.MIN_VALUE,
+                                 Integer.MAX_VALUE) != null;
+            case INT64:
+                return parseLong(value, Long.MIN_VALUE, Long.MAX_VALUE) != null;
+            case UINT8:
+                return parseLong(value, 0, UINT8_MAX) != null;
+            case UINT16:
+                return parseLong(value, 0, UINT16_MAX) != null;
+            case UINT32:
+                return parseLong(value, 0, UINT32_MAX) != null;
+            case UINT64:
+                if (!YangDataTypeUtils.isInteger(value)) {
+                    return false;
+                }
+                BigInteger number = new BigInteger(value);
+                return number.signum() >= 0 && number.bitLength() <= Long.SIZE;
+            default:
+                return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Check decimal64Check(YangDecimal64<?> decimal64) {
+        int fractionDigit = decimal64.getFractionDigit();
+        YangRangeRestriction<?> range = (YangRangeRestriction<?>) decimal64
+                .getRangeRestrictedExtendedInfo();
+        if (range == null) {
+            return value -> {
+                BigDecimal val = decimal64Value(value);
+                return val != null && FractionDigits
+                        .isValueInDecimal64Range(val, fractionDigit);
+            };
+        }
+        List<YangRangeInterval<?>> intervals =
+                (List<YangRangeInterval<?>>) (List<?>)
+                        range.getAscendingRangeIntervals();
+        BigDecimal[] starts = new BigDecimal[intervals.size()];
+        BigDecimal[] ends = new BigDecimal[intervals.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = ((YangDecimal64<?>) intervals.get(i).getStartValue())
+                    .getValue();
+            ends[i] = ((YangDecimal64<?>) intervals.get(i).getEndValue())
+                    .getValue();
+        }
+        return value -> {
+            BigDecimal val = decimal64Value(value);
+            if (val == null) {
+                return false;
+            }
+            int i = floor(starts, val);
+            return i >= 0 && ends[i].compareTo(val) >= 0;
+        };
+    }
+
+    /*
+     * Returns the decimal number of the given value as YangDecimal64 reads
+     * it; null if it is not a decimal number. The bounds of the type are
+     * checked by the caller.
+     */
+    private static BigDecimal decimal64Value(String value) {
+        if (MIN_KEYWORD.equals(value) || MAX_KEYWORD.equals(value)) {
+            return new YangDecimal64<>(value).getValue();
+        }
+        return isDecimal(value) ? new BigDecimal(value) : null;
+    }
+
+    private static Check stringCheck(YangStringRestriction restriction) {
+        LengthCheck length = LengthCheck.of(restriction.getLengthRestriction());
+        List<YangPatternRestriction> patternList =
+                restriction.getPatternResList();
+        if (patternList == null || patternList.isEmpty()) {
+            return value -> value != null && length.isValid(value.length());
+        }
+        Pattern[] patterns = new Pattern[patternList.size()];
+        int i = 0;
+        for (YangPatternRestriction pattern : patternList) {
+            try {
+                patterns[i++] = Pattern.compile(pattern.getPattern());
+            } catch (PatternSyntaxException e) {
+                throw new DataTypeException("YANG file error : Pattern \"" +
+                                                    pattern.getPattern() +
+                                                    "\" is not valid: " +
+                                                    e.getDescription());
+            }
+        }
+        return value -> value != null && length.isValid(value.length()) &&
+                matches(value, patterns);
+    }
+
+    /*
+     * Returns true if the given value matches all the patterns, as the
+     * pattern restrictions of a type and of its typedefs are combined.
+     */
+    private static boolean matches(String value, Pattern[] patterns) {
+        for (Pattern pattern : patterns) {
+            if (!pattern.matcher(value).matches()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Check enumCheck(YangEnumeration enumeration) {
+        Set<String> names = new HashSet<>();
+        for (YangEnum yangEnum : enumeration.getEnumSet()) {
+            names.add(yangEnum.getNamedValue());
+        }
+        return names::contains;
+    }
+
+    private static Check bitsCheck(YangBits bits) {
+        Set<String> names = new HashSet<>(bits.getBitNameMap().keySet());
+        return value -> {
+            if (value == null) {
+                return false;
+            }
+            for (String name : BIT_SEPARATOR.split(value.trim())) {
+                if (!names.contains(name)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    private static Check binaryCheck(YangRangeRestriction<?> restriction) {
+        LengthCheck length = LengthCheck.of(restriction);
+        return value -> {
+            if (!isBase64(value)) {
+                return false;
+            }
+            YangBinary binary = new YangBinary(value);
+            // After decoding binary, its length should not be zero
+            return binary.getBinaryData().length != 0 &&
+                    length.isValid(binary.toString().length());
+        };
+    }
+
+    /*
+     * Returns true if the given value is decoded by the basic base64
+     * decoder without an error.
+     */
+    private static boolean isBase64(String value) {
+        if (value == null) {
+            return false;
+        }
+        int end = value.length();
+        int padding = 0;
+        while (padding < 2 && end > 0 && value.charAt(end - 1) == '=') {
+            end--;
+            padding++;
+        }
+        for (int i = 0; i < end; i++) {
+            char c = value.charAt(i);
+            if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' ||
+                    c >= '0' && c <= '9' || c == '+' || c == '/')) {
+                return false;
+            }
+        }
+        // A padded unit ends with two or three characters.
+        int last = end % 4;
+        return padding == 0 ? last != 1 : last + padding == 4;
+    }
+
+    private static Check unionCheck(YangUnion union) {
+        List<YangType<?>> types = union.getTypeList();
+        Check[] checks = new Check[types.size()];
+        for (int i = 0; i < checks.length; i++) {
+            checks[i] = compile(types.get(i));
+        }
+        return value -> {
+            for (Check member : checks) {
+                if (member.isValid(value)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /*
+     * Returns the index of the last interval starting at or before the
+     * given value; -1 if the value is before the first interval.
+     */
+    private static <T extends Comparable<? super V>, V> int floor(T[] starts,
+                                                                 V value) {
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid].compareTo(value) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    /**
+     * Represents the compiled check of a value.
+     */
+    @FunctionalInterface
+    private interface Check {
+
+        /**
+         * Returns whether the given value is valid, without throwing an
+         * exception for the invalid ones.
+         *
+         * @param value input data value
+         * @return true, if the value is valid, false otherwise
+         */
+        boolean isValid(String value);
+    }
+
+    /**
+     * Represents the compiled length restriction of a string or binary.
+     * The "max" bound, which is beyond the length of any value, is kept as
+     * the largest long.
+     */
+    private static final class LengthCheck {
+
+        private static final LengthCheck ANY =
+                new LengthCheck(new Long[0], new long[0]);
+
+        private final Long[] mins;
+        private final long[] maxs;
+
+        private LengthCheck(Long[] mins, long[] maxs) {
+            this.mins = mins;
+            this.maxs = maxs;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static LengthCheck of(YangRangeRestriction<?> restriction) {
+            if (restriction == null ||
+                    restriction.getAscendingRangeIntervals() == null ||
+                    restriction.getAscendingRangeIntervals().isEmpty()) {
+                // Length restriction is optional
+                return ANY;
+            }
+            List<YangRangeInterval<?>> intervals =
+                    (List<YangRangeInterval<?>>) (List<?>)
+                            restriction.getAscendingRangeIntervals();
+            Long[] mins = new Long[intervals.size()];
+            long[] maxs = new long[intervals.size()];
+            for (int i = 0; i < mins.length; i++) {
+                mins[i] = toLong(intervals.get(i).getStartValue());
+                maxs[i] = toLong(intervals.get(i).getEndValue());
+            }
+            return new LengthCheck(mins, maxs);
+        }
+
+        private static long toLong(Object bound) {
+            BigInteger value = ((YangUint64) bound).getValue();
+            return value.bitLength() < Long.SIZE ?
+                    value.longValue() : Long.MAX_VALUE;
+        }
+
+        private boolean isValid(long length) {
+            if (mins.length == 0) {
+                return true;
+            }
+            int i = floor(mins, length);
+            return i >= 0 && length <= maxs[i];
+        }
+    }
+}
@@ -70,9 +70,7 @@ import org.onosproject.yang.model.SchemaContext;
 import org.onosproject.yang.model.SchemaId;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -103,6 +101,8 @@ import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.Yang
 import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.EMPTY;
 import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.ENUMERATION;
 import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UNION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
 import static org.onosproject.yang.model.LeafType.BIG_DECIMAL;
 import static org.onosproject.yang.model.LeafType.BIG_INTEGER;
 import static org.onosproject.yang.model.LeafType.BOOLEAN;
@@ -121,7 +121,6 @@ public final class DataModelUtils {
     public static final String FALSE = "false";
     public static final String TYPEDEF = "Typedef";
     public static final String IDENTITY = "Identity";
-    private static final String SLASH = File.separator;
     public static final String FMT_NOT_REG =
             "Requested %s module is not registered.";
     public static final String FMT_NOT_EXIST =
@@ -370,13 +369,18 @@ public final class DataModelUtils {
     }
 
     /**
-     * Returns referred node in a given set.
+     * Returns referred node in a given set. The node is looked up in the
+     * name index of a YANG node set.
      *
      * @param yangNodeSet YANG node set
      * @param refNodeName name of the node which is referred
      * @return referred node's reference
      */
     public static YangNode findReferredNode(Set<YangNode> yangNodeSet, String refNodeName) {
+        if (yangNodeSet instanceof YangNodeSet) {
+            return ((YangNodeSet) yangNodeSet).getNode(refNodeName);
+        }
+
         /*
          * Run through the YANG files to see which YANG file matches the
          * referred node name.
@@ -883,51 +887,30 @@ public final class DataModelUtils {
     }
 
     /**
-     * Parses jar file and returns list of serialized file names.
+     * Returns the given jar file if it holds the serialized data model of
+     * its YANG files, in the compact or java serialized metadata. The data
+     * model is read from the jar entry itself, so it is not extracted.
      *
      * @param jarFile   jar file to be parsed
-     * @param directory directory where to search
-     * @return list of serialized files
+     * @param directory directory for extracted files; not used as nothing
+     *                  is extracted
+     * @return jar file; null if the jar file has no serialized data model
      * @throws IOException when fails to do IO operations
      */
     public static File parseDepSchemaPath(String jarFile, String directory)
             throws IOException {
-        JarFile jar = new JarFile(jarFile);
-        Enumeration<?> enumEntries = jar.entries();
-        File serializedFile = null;
-        while (enumEntries.hasMoreElements()) {
-            JarEntry file = (JarEntry) enumEntries.nextElement();
-            if (file.getName().endsWith(".ser")) {
-
-                if (file.getName().contains(SLASH)) {
-                    String[] strArray = file.getName().split(SLASH);
-                    String tempPath = "";
-                    for (int i = 0; i < strArray.length - 1; i++) {
-                        tempPath = SLASH + tempPath + SLASH + strArray[i];
-                    }
-                    File dir = new File(directory + tempPath);
-                    dir.mkdirs();
-                }
-                serializedFile = new File(directory + SLASH + file.getName());
-                if (file.isDirectory()) {
-                    serializedFile.mkdirs();
-                    continue;
+        try (JarFile jar = new JarFile(jarFile)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() &&
+                        (entry.getName().endsWith(YANG_META_DATA) ||
+                                entry.getName().endsWith(YANG_META_DATA_BIN))) {
+                    return new File(jarFile);
                 }
-                InputStream inputStream = jar.getInputStream(file);
-
-                FileOutputStream fileOutputStream = new FileOutputStream(serializedFile);
-                while (inputStream.available() > 0) {
-                    fileOutputStream.write(inputStream.read());
-                }
-                fileOutputStream.close();
-                inputStream.close();
-                //As of now only one metadata files will be there so if we
-                // found one then we should break the loop.
-                break;
             }
         }
-        jar.close();
-        return serializedFile;
+        return null;
     }
 
     /**
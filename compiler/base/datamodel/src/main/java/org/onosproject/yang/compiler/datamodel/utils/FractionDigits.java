@@ -93,7 +93,12 @@ public final class FractionDigits extends DefaultLocationInfo {
         }
     }
 
-    private static ArrayList<Range> decimal64ValueRange = null;
+    /*
+     * Created once when the class is initialized, as it is shared by YANG
+     * files parsed concurrently.
+     */
+    private static final ArrayList<Range> DECIMAL64_VALUE_RANGE =
+            createDecimal64ValueRange();
 
     /**
      * Creates a fraction-digits instance.
@@ -107,28 +112,35 @@ public final class FractionDigits extends DefaultLocationInfo {
      * @return decimal64 value range by fraction-digits as index
      */
     public static ArrayList<Range> getDecimal64ValueRange() {
-        if (decimal64ValueRange == null) {
-            decimal64ValueRange = new ArrayList<>();
-            decimal64ValueRange.add(new Range(-922337203685477580.8, 922337203685477580.7)); // fraction-digit: 1
-            decimal64ValueRange.add(new Range(-92233720368547758.08, 92233720368547758.07)); // fraction-digit: 2
-            decimal64ValueRange.add(new Range(-9223372036854775.808, 9223372036854775.807)); // fraction-digit: 3
-            decimal64ValueRange.add(new Range(-922337203685477.5808, 922337203685477.5807)); // fraction-digit: 4
-            decimal64ValueRange.add(new Range(-92233720368547.75808, 92233720368547.75807)); // fraction-digit: 5
-            decimal64ValueRange.add(new Range(-9223372036854.775808, 9223372036854.775807)); // fraction-digit: 6
-            decimal64ValueRange.add(new Range(-922337203685.4775808, 922337203685.4775807)); // fraction-digit: 7
-            decimal64ValueRange.add(new Range(-92233720368.54775808, 92233720368.54775807)); // fraction-digit: 8
-            decimal64ValueRange.add(new Range(-9223372036.854775808, 9223372036.854775807)); // fraction-digit: 9
-            decimal64ValueRange.add(new Range(-922337203.6854775808, 922337203.6854775807)); // fraction-digit: 10
-            decimal64ValueRange.add(new Range(-92233720.36854775808, 92233720.36854775807)); // fraction-digit: 11
-            decimal64ValueRange.add(new Range(-9223372.036854775808, 9223372.036854775807)); // fraction-digit: 12
-            decimal64ValueRange.add(new Range(-922337.2036854775808, 922337.2036854775807)); // fraction-digit: 13
-            decimal64ValueRange.add(new Range(-92233.72036854775808, 92233.72036854775807)); // fraction-digit: 14
-            decimal64ValueRange.add(new Range(-9223.372036854775808, 9223.372036854775807)); // fraction-digit: 15
-            decimal64ValueRange.add(new Range(-922.3372036854775808, 922.3372036854775807)); // fraction-digit: 16
-            decimal64ValueRange.add(new Range(-92.23372036854775808, 92.23372036854775807)); // fraction-digit: 17
-            decimal64ValueRange.add(new Range(-9.223372036854775808, 9.223372036854775807)); // fraction-digit: 18
-        }
-        return decimal64ValueRange;
+        return DECIMAL64_VALUE_RANGE;
+    }
+
+    /**
+     * Creates decimal64 value range based on fraction-digits.
+     *
+     * @return decimal64 value range by fraction-digits as index
+     */
+    private static ArrayList<Range> createDecimal64ValueRange() {
+        ArrayList<Range> range = new ArrayList<>();
+        range.add(new Range(-922337203685477580.8, 922337203685477580.7)); // fraction-digit: 1
+        range.add(new Range(-92233720368547758.08, 92233720368547758.07)); // fraction-digit: 2
+        range.add(new Range(-9223372036854775.808, 9223372036854775.807)); // fraction-digit: 3
+        range.add(new Range(-922337203685477.5808, 922337203685477.5807)); // fraction-digit: 4
+        range.add(new Range(-92233720368547.75808, 92233720368547.75807)); // fraction-digit: 5
+        range.add(new Range(-9223372036854.775808, 9223372036854.775807)); // fraction-digit: 6
+        range.add(new Range(-922337203685.4775808, 922337203685.4775807)); // fraction-digit: 7
+        range.add(new Range(-92233720368.54775808, 92233720368.54775807)); // fraction-digit: 8
+        range.add(new Range(-9223372036.854775808, 9223372036.854775807)); // fraction-digit: 9
+        range.add(new Range(-922337203.6854775808, 922337203.6854775807)); // fraction-digit: 10
+        range.add(new Range(-92233720.36854775808, 92233720.36854775807)); // fraction-digit: 11
+        range.add(new Range(-9223372.036854775808, 9223372.036854775807)); // fraction-digit: 12
+        range.add(new Range(-922337.2036854775808, 922337.2036854775807)); // fraction-digit: 13
+        range.add(new Range(-92233.72036854775808, 92233.72036854775807)); // fraction-digit: 14
+        range.add(new Range(-9223.372036854775808, 9223.372036854775807)); // fraction-digit: 15
+        range.add(new Range(-922.3372036854775808, 922.3372036854775807)); // fraction-digit: 16
+        range.add(new Range(-92.23372036854775808, 92.23372036854775807)); // fraction-digit: 17
+        range.add(new Range(-9.223372036854775808, 9.223372036854775807)); // fraction-digit: 18
+        return range;
     }
 
     /**
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.datamodel.utils;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the set of the YANG nodes of a compilation, which keeps an
+ * index of the nodes by name for the lookup of the referred nodes. The
+ * index is built on first lookup and dropped whenever the set changes.
+ */
+public class YangNodeSet extends AbstractSet<YangNode> {
+
+    private final Set<YangNode> nodes = new HashSet<>();
+    private volatile Map<String, YangNode> index;
+
+    @Override
+    public boolean add(YangNode node) {
+        if (!nodes.add(node)) {
+            return false;
+        }
+        index = null;
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object node) {
+        if (!nodes.remove(node)) {
+            return false;
+        }
+        index = null;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        nodes.clear();
+        index = null;
+    }
+
+    @Override
+    public boolean contains(Object node) {
+        return nodes.contains(node);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public Iterator<YangNode> iterator() {
+        Iterator<YangNode> it = nodes.iterator();
+        return new Iterator<YangNode>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public YangNode next() {
+                return it.next();
+            }
+
+            @Override
+            public void remove() {
+                it.remove();
+                index = null;
+            }
+        };
+    }
+
+    /**
+     * Returns the node of the set with the given name.
+     *
+     * @param name name of the node
+     * @return node with the given name; null if there is none
+     */
+    public YangNode getNode(String name) {
+        Map<String, YangNode> map = index;
+        if (map == null) {
+            map = new HashMap<>();
+            for (YangNode node : nodes) {
+                map.putIfAbsent(node.getName(), node);
+            }
+            index = map;
+        }
+        return map.get(name);
+    }
+}
@@ -23,7 +23,6 @@ import org.onosproject.yang.compiler.datamodel.YangUnion;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Iterator;
 
 public final class ObjectProvider {
 
@@ -117,16 +116,7 @@ public final class ObjectProvider {
      * @return object of data type containing the value
      */
     private static Object parseUnionTypeInfo(YangType type, String leafValue) {
-        Iterator<YangType<?>> it = ((YangUnion) type.getDataTypeExtendedInfo())
-                .getTypeList().listIterator();
-        while (it.hasNext()) {
-            YangType t = it.next();
-            try {
-                return getObject(t, leafValue, t.getDataType());
-            } catch (IllegalArgumentException e) {
-                continue;
-            }
-        }
-        throw new IllegalArgumentException("Invalid value of data");
+        return ((YangUnion) type.getDataTypeExtendedInfo())
+                .getTypeDispatcher().getObject(leafValue);
     }
 }
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.datamodel.utils.builtindatatype;
+
+import org.onosproject.yang.compiler.datamodel.YangDerivedInfo;
+import org.onosproject.yang.compiler.datamodel.YangLeafRef;
+import org.onosproject.yang.compiler.datamodel.YangType;
+import org.onosproject.yang.compiler.datamodel.YangUnion;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils.isDecimal;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils.isInteger;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypeUtils.parseLong;
+
+/**
+ * Represents the dispatcher of the values of a union to its member types,
+ * compiled once from the member types of the union.
+ * <p>
+ * A value is converted by the first member type it is a lexical value of,
+ * as ObjectProvider does, but the lexical value is classified without
+ * parsing it into an exception: the numbers are scanned, the booleans
+ * compared, and a member of a string based type takes any value, so the
+ * member types after it are never tried. The member types of the nested
+ * unions, typedefs and leafrefs are flattened into the dispatcher.
+ */
+public final class UnionTypeDispatcher {
+
+    private static final String E_INVALID = "Invalid value of data";
+    private static final String TRUE = "true";
+    private static final String FALSE = "false";
+
+    /*
+     * Returned by a member which the value is not a lexical value of.
+     */
+    private static final Object NO_MATCH = new Object();
+
+    private final Member[] members;
+
+    /**
+     * Creates an instance of union type dispatcher.
+     *
+     * @param members member types of the union
+     */
+    private UnionTypeDispatcher(Member[] members) {
+        this.members = members;
+    }
+
+    /**
+     * Returns the dispatcher compiled from the member types of the given
+     * union.
+     *
+     * @param union YANG union
+     * @return union type dispatcher
+     */
+    public static UnionTypeDispatcher of(YangUnion union) {
+        List<Member> members = new ArrayList<>();
+        addUnionMembers(union, members);
+        return new UnionTypeDispatcher(members.toArray(new Member[0]));
+    }
+
+    /**
+     * Returns the object of the first member type the given value is a
+     * lexical value of.
+     *
+     * @param value value in string
+     * @return object of the value
+     * @throws IllegalArgumentException if the value is of none of the
+     *                                  member types
+     */
+    public Object getObject(String value) throws IllegalArgumentException {
+        for (Member member : members) {
+            Object object = member.parse(value);
+            if (object != NO_MATCH) {
+                return object;
+            }
+        }
+        throw new IllegalArgumentException(E_INVALID);
+    }
+
+    /*
+     * Adds the members of the union, returning false if a member takes any
+     * value, so that the types after it are never tried.
+     */
+    private static boolean addUnionMembers(YangUnion union,
+                                           List<Member> members) {
+        for (YangType<?> type : union.getTypeList()) {
+            if (!addMembers(type, type.getDataType(), members)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Adds the members converting the values of the given type as
+     * ObjectProvider#getObject does, returning false if a member takes any
+     * value.
+     */
+    private static boolean addMembers(YangType<?> type, YangDataTypes dataType,
+                                      List<Member> members) {
+        switch (dataType) {
+            case INT8:
+                members.add(v -> {
+                    Long l = parseLong(v, Byte.MIN_VALUE, Byte.MAX_VALUE);
+                    return l == null ? NO_MATCH : l.byteValue();
+                });
+                return true;
+            case UINT8:
+            case INT16:
+                members.add(v -> {
+                    Long l = parseLong(v, Short.MIN_VALUE, Short.MAX_VALUE);
+                    return l == null ? NO_MATCH : l.shortValue();
+                });
+                return true;
+            case UINT16:
+            case INT32:
+                members.add(v -> {
+                    Long l = parseLong(v, Integer.MIN_VALUE, Integer.MAX_VALUE);
+                    return l == null ? NO_MATCH : l.intValue();
+                });
+                return true;
+            case UINT32:
+            case INT64:
+                members.add(v -> {
+                    Long l = parseLong(v, Long.MIN_VALUE, Long.MAX_VALUE);
+                    return l == null ? NO_MATCH : l;
+                });
+                return true;
+            case UINT64:
+                members.add(v -> isInteger(v) ? new BigInteger(v) : NO_MATCH);
+                return true;
+            case DECIMAL64:
+                members.add(UnionTypeDispatcher::parseDecimal);
+                return true;
+            case EMPTY:
+                members.add(v -> {
+                    if (v == null || v.isEmpty()) {
+                        return null;
+                    }
+                    return parseBoolean(v);
+                });
+                return true;
+            case BOOLEAN:
+                members.add(UnionTypeDispatcher::parseBoolean);
+                return true;
+            case BINARY:
+            case BITS:
+            case IDENTITYREF:
+            case ENUMERATION:
+            case STRING:
+            case INSTANCE_IDENTIFIER:
+                members.add(v -> v);
+                return false;
+            case LEAFREF:
+                YangType<?> refType = ((YangLeafRef<?>) type
+                        .getDataTypeExtendedInfo()).getEffectiveDataType();
+                return addMembers(refType, refType.getDataType(), members);
+            case DERIVED:
+                // referred typedef's list of type will always has only one type
+                YangDerivedInfo<?> info = (YangDerivedInfo<?>) type
+                        .getDataTypeExtendedInfo();
+                return addMembers(info.getReferredTypeDef().getTypeList().get(0),
+                                  info.getEffectiveBuiltInType(), members);
+            case UNION:
+                return addUnionMembers(getUnion(type), members);
+            default:
+                // Not supported by the object provider, so never matched.
+                return true;
+        }
+    }
+
+    /*
+     * Returns the union of the given type, following the typedefs a
+     * derived union type refers to.
+     */
+    private static YangUnion getUnion(YangType<?> type) {
+        Object info = type.getDataTypeExtendedInfo();
+        while (info instanceof YangDerivedInfo) {
+            info = ((YangDerivedInfo<?>) info).getReferredTypeDef()
+                    .getTypeList().get(0).getDataTypeExtendedInfo();
+        }
+        return (YangUnion) info;
+    }
+
+    private static Object parseBoolean(String value) {
+        if (TRUE.equals(value) || FALSE.equals(value)) {
+            return Boolean.parseBoolean(value);
+        }
+        return NO_MATCH;
+    }
+
+    /*
+     * Returns the decimal number of the given value as BigDecimal(String)
+     * reads it; NO_MATCH if it is not such a number.
+     */
+    private static Object parseDecimal(String value) {
+        return isDecimal(value) ? new BigDecimal(value) : NO_MATCH;
+    }
+
+    /**
+     * Represents the conversion of the values of a member type.
+     */
+    @FunctionalInterface
+    private interface Member {
+
+        /**
+         * Returns the object of the given value.
+         *
+         * @param value value in string
+         * @return object of the value; NO_MATCH if the value is not a
+         * lexical value of the member type
+         */
+        Object parse(String value);
+    }
+}
@@ -52,4 +52,130 @@ public final class YangDataTypeUtils {
                 || dataType == UINT32
                 || dataType == UINT64;
     }
+
+    /**
+     * Returns the value of the given decimal number if it is in the given
+     * bounds, as Long#parseLong reads it, without throwing an exception.
+     *
+     * @param value value in string
+     * @param min   minimum value
+     * @param max   maximum value
+     * @return number; null if the value is not such a number
+     */
+    public static Long parseLong(String value, long min, long max) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        int i = 0;
+        boolean negative = false;
+        char first = value.charAt(0);
+        if (first == '-' || first == '+') {
+            if (value.length() == 1) {
+                return null;
+            }
+            negative = first == '-';
+            i = 1;
+        }
+        // Accumulates negatively, as the negative range is the larger one.
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multMin = limit / 10;
+        long result = 0;
+        for (; i < value.length(); i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0 || result < multMin) {
+                return null;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return null;
+            }
+            result -= digit;
+        }
+        long number = negative ? result : -result;
+        return number < min || number > max ? null : number;
+    }
+
+    /**
+     * Returns whether the given value is a decimal integer, as
+     * BigInteger(String) reads it.
+     *
+     * @param value value in string
+     * @return true, if the value is a decimal integer, false otherwise
+     */
+    public static boolean isInteger(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        int i = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        if (i == value.length()) {
+            return false;
+        }
+        for (; i < value.length(); i++) {
+            if (Character.digit(value.charAt(i), 10) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the given value is a decimal number, as
+     * BigDecimal(String) reads it without throwing an exception.
+     *
+     * @param value value in string
+     * @return true, if the value is a decimal number, false otherwise
+     */
+    public static boolean isDecimal(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        int i = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+        int digits = 0;
+        int fraction = 0;
+        boolean point = false;
+        for (; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (Character.isDigit(c)) {
+                digits++;
+                if (point) {
+                    fraction++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return false;
+        }
+        if (i == value.length()) {
+            return true;
+        }
+        char c = value.charAt(i);
+        if (c != 'e' && c != 'E') {
+            return false;
+        }
+        i++;
+        boolean negative = false;
+        if (i < value.length() &&
+                (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+            negative = value.charAt(i) == '-';
+            i++;
+        }
+        if (i == value.length()) {
+            return false;
+        }
+        long exponent = 0;
+        for (; i < value.length(); i++) {
+            int digit = Character.digit(value.charAt(i), 10);
+            if (digit < 0) {
+                return false;
+            }
+            // Beyond the int scale of a big decimal, so the value is too.
+            exponent = Math.min(exponent * 10 + digit, Long.MAX_VALUE / 20);
+        }
+        long scale = fraction - (negative ? -exponent : exponent);
+        return scale >= Integer.MIN_VALUE && scale <= Integer.MAX_VALUE;
+    }
 }
@@ -58,6 +58,14 @@ public class YangInt16 extends DefaultLocationInfo
      */
     private final short value;
 
+    /**
+     * Creates a YANG's int16 object.
+     */
+    @SuppressWarnings("unused")
+    private YangInt16() {
+        value = 0;
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
@@ -58,6 +58,14 @@ public class YangInt32 extends DefaultLocationInfo
      */
     private final int value;
 
+    /**
+     * Creates a YANG's int32 object.
+     */
+    @SuppressWarnings("unused")
+    private YangInt32() {
+        value = 0;
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
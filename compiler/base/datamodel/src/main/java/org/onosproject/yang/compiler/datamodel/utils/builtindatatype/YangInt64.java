@@ -59,6 +59,14 @@ public class YangInt64 extends DefaultLocationInfo
      */
     private final long value;
 
+    /**
+     * Creates a YANG's int64 object.
+     */
+    @SuppressWarnings("unused")
+    private YangInt64() {
+        value = 0;
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
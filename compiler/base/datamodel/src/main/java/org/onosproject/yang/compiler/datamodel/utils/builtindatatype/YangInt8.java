@@ -55,6 +55,14 @@ public class YangInt8 extends DefaultLocationInfo
      */
     private final byte value;
 
+    /**
+     * Creates a YANG's int8 object.
+     */
+    @SuppressWarnings("unused")
+    private YangInt8() {
+        value = 0;
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
@@ -55,6 +55,13 @@ public class YangUint16 extends DefaultLocationInfo
      */
     private int value;
 
+    /**
+     * Creates a YANG's uint16 object.
+     */
+    @SuppressWarnings("unused")
+    private YangUint16() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
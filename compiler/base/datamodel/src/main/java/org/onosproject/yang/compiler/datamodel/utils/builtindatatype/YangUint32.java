@@ -48,6 +48,13 @@ public class YangUint32 extends DefaultLocationInfo
      */
     private long value;
 
+    /**
+     * Creates a YANG's uint32 object.
+     */
+    @SuppressWarnings("unused")
+    private YangUint32() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
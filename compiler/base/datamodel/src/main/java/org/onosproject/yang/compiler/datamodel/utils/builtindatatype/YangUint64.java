@@ -56,6 +56,13 @@ public class YangUint64 extends DefaultLocationInfo
      */
     private BigInteger value;
 
+    /**
+     * Creates a YANG's uint64 object.
+     */
+    @SuppressWarnings("unused")
+    private YangUint64() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
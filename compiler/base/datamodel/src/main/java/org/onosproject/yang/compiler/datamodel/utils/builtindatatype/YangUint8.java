@@ -55,6 +55,13 @@ public class YangUint8 extends DefaultLocationInfo
      */
     private short value;
 
+    /**
+     * Creates a YANG's uint8 object.
+     */
+    @SuppressWarnings("unused")
+    private YangUint8() {
+    }
+
     /**
      * Creates an object with the value initialized with value represented in
      * string.
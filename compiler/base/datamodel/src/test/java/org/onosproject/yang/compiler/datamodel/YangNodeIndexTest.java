@@ -0,0 +1,196 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.datamodel;
+
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.compiler.datamodel.javadatamodel.YangJavaContainer;
+import org.onosproject.yang.compiler.datamodel.javadatamodel.YangJavaLeaf;
+import org.onosproject.yang.compiler.datamodel.javadatamodel.YangJavaLeafList;
+import org.onosproject.yang.compiler.datamodel.utils.YangNodeSet;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.findReferredNode;
+
+/**
+ * Unit test cases for the name lookup of the children and leaves of a
+ * YANG node.
+ */
+public class YangNodeIndexTest {
+
+    private static final int COUNT = 20;
+
+    /**
+     * Checks the children of a node are found by name, also once a child
+     * is added after the first lookup.
+     *
+     * @throws DataModelException when fails to add a child
+     */
+    @Test
+    public void processChildLookup() throws DataModelException {
+        YangNode parent = container("parent");
+        for (int i = 0; i < COUNT; i++) {
+            parent.addChild(container("c" + i));
+        }
+        assertThat(parent.getChildren("c7").get(0).getName(), is("c7"));
+        assertThat(parent.getChildren("c" + COUNT).isEmpty(), is(true));
+
+        parent.addChild(container("c" + COUNT));
+        parent.addChild(container("c3"));
+        assertThat(parent.getChildren("c" + COUNT).size(), is(1));
+        assertThat(parent.getChildren("c3").size(), is(2));
+        assertThat(parent.getChildren("c3").get(0).getNextSibling()
+                           .getName(), is("c4"));
+    }
+
+    /**
+     * Checks the children of a node are found by name once a child is
+     * renamed or moved to another tree after the first lookup.
+     *
+     * @throws DataModelException when fails to add a child
+     */
+    @Test
+    public void processChildChange() throws DataModelException {
+        YangNode parent = container("parent");
+        YangNode other = container("other");
+        for (int i = 0; i < COUNT; i++) {
+            parent.addChild(container("c" + i));
+            other.addChild(container("o" + i));
+        }
+        YangNode child = parent.getChildren("c5").get(0);
+        assertThat(other.getChildren("o5").size(), is(1));
+
+        child.setName("renamed");
+        assertThat(parent.getChildren("c5").isEmpty(), is(true));
+        assertThat(parent.getChildren("renamed").get(0), is(child));
+
+        YangNode moved = other.getChildren("o5").get(0);
+        moved.getPreviousSibling().setNextSibling(moved.getNextSibling());
+        moved.getNextSibling().setPreviousSibling(moved.getPreviousSibling());
+        moved.setNextSibling(null);
+        moved.setPreviousSibling(null);
+        moved.setParent(null);
+        parent.addChild(moved);
+        assertThat(other.getChildren("o5").isEmpty(), is(true));
+        assertThat(parent.getChildren("o5").get(0), is(moved));
+    }
+
+    /**
+     * Checks the leaves and leaf-lists of a node are found by name, also
+     * once a leaf is added after the first lookup.
+     */
+    @Test
+    public void processLeafLookup() {
+        YangContainer parent = container("parent");
+        for (int i = 0; i < COUNT; i++) {
+            parent.addLeaf(leaf("l" + i));
+            parent.addLeafList(leafList("ll" + i));
+        }
+        assertThat(parent.getLeaf("l9").getName(), is("l9"));
+        assertThat(parent.getLeafList("ll9").getName(), is("ll9"));
+        assertThat(parent.getLeaf("ll9"), nullValue());
+        assertThat(parent.getLeafList("l" + COUNT), nullValue());
+
+        parent.addLeaf(leaf("l" + COUNT));
+        assertThat(parent.getLeaf("l" + COUNT).getName(), is("l" + COUNT));
+    }
+
+    /**
+     * Checks the leaves and leaf-lists of a node are found by name once a
+     * leaf is removed and another added, keeping the number of leaves, or
+     * once a leaf or leaf-list is renamed, after the first lookup.
+     */
+    @Test
+    public void processLeafChange() {
+        YangContainer parent = container("parent");
+        for (int i = 0; i < COUNT; i++) {
+            YangLeaf leaf = leaf("l" + i);
+            leaf.setContainedIn(parent);
+            parent.addLeaf(leaf);
+            YangLeafList leafList = leafList("ll" + i);
+            leafList.setContainedIn(parent);
+            parent.addLeafList(leafList);
+        }
+        YangLeaf removed = parent.getLeaf("l5");
+        YangLeafList removedList = parent.getLeafList("ll5");
+
+        parent.removeLeaf(removed);
+        parent.addLeaf(leaf("added"));
+        parent.removeLeafList(removedList);
+        parent.addLeafList(leafList("addedList"));
+        assertThat(parent.getLeaf("l5"), nullValue());
+        assertThat(parent.getLeaf("added").getName(), is("added"));
+        assertThat(parent.getLeafList("ll5"), nullValue());
+        assertThat(parent.getLeafList("addedList").getName(),
+                   is("addedList"));
+
+        YangLeaf leaf = parent.getLeaf("l7");
+        leaf.setName("renamed");
+        YangLeafList leafList = parent.getLeafList("ll7");
+        leafList.setName("renamedList");
+        assertThat(parent.getLeaf("l7"), nullValue());
+        assertThat(parent.getLeaf("renamed"), is(leaf));
+        assertThat(parent.getLeafList("ll7"), nullValue());
+        assertThat(parent.getLeafList("renamedList"), is(leafList));
+    }
+
+    /**
+     * Checks the referred node is found in a node set, also once a node is
+     * added to or removed from the set after the first lookup.
+     */
+    @Test
+    public void processReferredNodeLookup() {
+        Set<YangNode> nodes = new YangNodeSet();
+        Set<YangNode> plain = new HashSet<>();
+        for (int i = 0; i < COUNT; i++) {
+            nodes.add(container("m" + i));
+        }
+        plain.addAll(nodes);
+        assertThat(findReferredNode(nodes, "m5").getName(), is("m5"));
+        assertThat(findReferredNode(plain, "m5").getName(), is("m5"));
+        assertThat(findReferredNode(nodes, "m" + COUNT), nullValue());
+
+        nodes.add(container("m" + COUNT));
+        assertThat(findReferredNode(nodes, "m" + COUNT).getName(),
+                   is("m" + COUNT));
+        nodes.remove(findReferredNode(nodes, "m5"));
+        assertThat(findReferredNode(nodes, "m5"), nullValue());
+    }
+
+    private static YangContainer container(String name) {
+        YangContainer node = new YangJavaContainer();
+        node.setName(name);
+        return node;
+    }
+
+    private static YangLeaf leaf(String name) {
+        YangLeaf leaf = new YangJavaLeaf();
+        leaf.setName(name);
+        return leaf;
+    }
+
+    private static YangLeafList leafList(String name) {
+        YangLeafList leafList = new YangJavaLeafList();
+        leafList.setName(name);
+        return leafList;
+    }
+}
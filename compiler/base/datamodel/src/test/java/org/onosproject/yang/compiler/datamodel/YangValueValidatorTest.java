@@ -0,0 +1,304 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.datamodel;
+
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.compiler.datamodel.javadatamodel.YangJavaTypeDef;
+import org.onosproject.yang.compiler.datamodel.javadatamodel.YangJavaUnion;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.DataTypeException;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangBuiltInDataTypeInfo;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
+import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangUint64;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.onosproject.yang.compiler.datamodel.BuiltInTypeObjectFactory.getDataObjectFromString;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.BINARY;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.BITS;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.BOOLEAN;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.DECIMAL64;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.DERIVED;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.INT8;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.STRING;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UINT64;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UNION;
+
+/**
+ * Unit tests for the compiled validator of the leaf values, which has to
+ * agree with the validation of the data type.
+ */
+public class YangValueValidatorTest {
+
+    /**
+     * Checks the values of an integer type restricted to several ranges.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processRangeValidation() throws DataModelException {
+        YangRangeRestriction<?> range = new YangRangeRestriction<>("1..10 | 20..30");
+        addInterval(range, INT8, "1", "10");
+        addInterval(range, INT8, "20", "30");
+        YangType<YangRangeRestriction<?>> type = new YangType<>();
+        type.setDataType(INT8);
+        type.setDataTypeExtendedInfo(range);
+
+        for (String value : new String[]{"1", "5", "10", "20", "30"}) {
+            checkValidation(type, value, true);
+        }
+        for (String value : new String[]{"-1", "0", "11", "19", "31", "128",
+                "", " ", "ten"}) {
+            checkValidation(type, value, false);
+        }
+    }
+
+    /**
+     * Checks the values of a string type restricted by length and by
+     * patterns, which a value has to match all of.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processStringValidation() throws DataModelException {
+        YangRangeRestriction<?> length = new YangRangeRestriction<>("2..8");
+        addInterval(length, UINT64, "2", "8");
+        YangStringRestriction restriction = new YangStringRestriction();
+        restriction.setLengthRestriction((YangRangeRestriction<YangUint64>) length);
+        restriction.addPaternRes(new YangPatternRestriction("[a-z0-9]+"));
+        restriction.addPaternRes(new YangPatternRestriction("[a-z].*"));
+        YangType<YangStringRestriction> type = new YangType<>();
+        type.setDataType(STRING);
+        type.setDataTypeExtendedInfo(restriction);
+
+        for (String value : new String[]{"ab", "abcdefgh", "a1"}) {
+            checkValidation(type, value, true);
+        }
+        for (String value : new String[]{"a", "abcdefghi", "42", "a-", "AB",
+                ""}) {
+            checkValidation(type, value, false);
+        }
+    }
+
+    /**
+     * Checks the values of a type derived from a typedef, which have to
+     * match the pattern of the type and the pattern of the typedef.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processInheritedPatternValidation() throws DataModelException {
+        YangStringRestriction restriction = new YangStringRestriction();
+        restriction.addPaternRes(new YangPatternRestriction("[a-z0-9]+"));
+        YangType<YangStringRestriction> string = new YangType<>();
+        string.setDataType(STRING);
+        string.setDataTypeExtendedInfo(restriction);
+        YangTypeDef typeDef = new YangJavaTypeDef();
+        typeDef.setDataType(string);
+        YangDerivedInfo<YangStringRestriction> derivedInfo =
+                new YangDerivedInfo<>();
+        derivedInfo.setReferredTypeDef(typeDef);
+        derivedInfo.addPatternRes(new YangPatternRestriction("[a-z].*"));
+        derivedInfo.resolve();
+        YangType<YangDerivedInfo<?>> type = new YangType<>();
+        type.setDataType(DERIVED);
+        type.setDataTypeExtendedInfo(derivedInfo);
+
+        for (String value : new String[]{"a", "a1"}) {
+            checkValidation(type, value, true);
+        }
+        for (String value : new String[]{"1a", "a-", ""}) {
+            checkValidation(type, value, false);
+        }
+    }
+
+    /**
+     * Checks that a pattern which is not a valid regular expression is
+     * reported when the validator is compiled.
+     */
+    @Test(expected = DataTypeException.class)
+    public void processInvalidPattern() {
+        YangStringRestriction restriction = new YangStringRestriction();
+        restriction.addPaternRes(new YangPatternRestriction("[a-z"));
+        YangType<YangStringRestriction> type = new YangType<>();
+        type.setDataType(STRING);
+        type.setDataTypeExtendedInfo(restriction);
+
+        YangValueValidator.of(type);
+    }
+
+    /**
+     * Checks that a string length restricted up to "max" accepts the long
+     * values.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processMaxLengthValidation() throws DataModelException {
+        YangRangeRestriction<?> length = new YangRangeRestriction<>("2..max");
+        addInterval(length, UINT64, "2", YangUint64.MAX_VALUE.toString());
+        YangStringRestriction restriction = new YangStringRestriction();
+        restriction.setLengthRestriction((YangRangeRestriction<YangUint64>) length);
+        YangType<YangStringRestriction> type = new YangType<>();
+        type.setDataType(STRING);
+        type.setDataTypeExtendedInfo(restriction);
+
+        YangValueValidator validator = YangValueValidator.of(type);
+        assertThat(isValid(validator, "ab"), is(true));
+        assertThat(isValid(validator, "a"), is(false));
+    }
+
+    /**
+     * Checks the values of the bits and boolean types.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processNameValidation() throws DataModelException {
+        YangBits bits = new YangBits();
+        for (String name : new String[]{"read", "write", "execute"}) {
+            YangBit bit = new YangBit();
+            bit.setBitName(name);
+            bit.setPosition(bits.getBitNameMap().size());
+            bits.addBitInfo(bit);
+        }
+        YangType<YangBits> type = new YangType<>();
+        type.setDataType(BITS);
+        type.setDataTypeExtendedInfo(bits);
+
+        for (String value : new String[]{"read", "read write", " execute "}) {
+            checkValidation(type, value, true);
+        }
+        for (String value : new String[]{"", "delete", "read  write",
+                "read delete"}) {
+            checkValidation(type, value, false);
+        }
+
+        YangType<?> bool = new YangType<>();
+        bool.setDataType(BOOLEAN);
+        checkValidation(bool, "true", true);
+        checkValidation(bool, "false", true);
+        checkValidation(bool, "TRUE", false);
+    }
+
+    /**
+     * Checks the values of a union, which has to be valid for one of its
+     * member types including their restrictions.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processUnionValidation() throws DataModelException {
+        YangRangeRestriction<?> range = new YangRangeRestriction<>("1..10");
+        addInterval(range, INT8, "1", "10");
+        YangType<YangRangeRestriction<?>> int8 = new YangType<>();
+        int8.setDataType(INT8);
+        int8.setDataTypeExtendedInfo(range);
+        YangStringRestriction restriction = new YangStringRestriction();
+        restriction.addPaternRes(new YangPatternRestriction("[a-z]+"));
+        YangType<YangStringRestriction> string = new YangType<>();
+        string.setDataType(STRING);
+        string.setDataTypeExtendedInfo(restriction);
+        YangType<?> bool = new YangType<>();
+        bool.setDataType(BOOLEAN);
+        YangUnion union = new YangJavaUnion();
+        union.addType(int8);
+        union.addType(string);
+        union.addType(bool);
+        YangType<YangUnion> type = new YangType<>();
+        type.setDataType(UNION);
+        type.setDataTypeExtendedInfo(union);
+
+        for (String value : new String[]{"1", "+10", "abc", "true"}) {
+            checkValidation(type, value, true);
+        }
+        for (String value : new String[]{"0", "11", "-", "TRUE", "a1", ""}) {
+            checkValidation(type, value, false);
+        }
+    }
+
+    /**
+     * Checks the values of the binary and decimal64 types.
+     *
+     * @throws DataModelException when fails to build the type
+     */
+    @Test
+    public void processBinaryAndDecimalValidation()
+            throws DataModelException {
+        YangType<?> binary = new YangType<>();
+        binary.setDataType(BINARY);
+        for (String value : new String[]{"AQ==", "AQI=", "AQID", "AQ"}) {
+            checkValidation(binary, value, true);
+        }
+        for (String value : new String[]{"", "A", "AQ=", "AQID=", "A===",
+                "AQ-D"}) {
+            checkValidation(binary, value, false);
+        }
+
+        YangDecimal64<?> decimal64 = new YangDecimal64<>();
+        decimal64.setFractionDigit(2);
+        YangType<YangDecimal64<?>> type = new YangType<>();
+        type.setDataType(DECIMAL64);
+        type.setDataTypeExtendedInfo(decimal64);
+        for (String value : new String[]{"1.25", "-3", ".5", "1e3"}) {
+            checkValidation(type, value, true);
+        }
+        for (String value : new String[]{"", ".", "1.2.3", "1e", "1e400",
+                "1e99999999999", "abc"}) {
+            checkValidation(type, value, false);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void addInterval(YangRangeRestriction range,
+                                    YangDataTypes dataType, String start,
+                                    String end) throws DataModelException {
+        YangRangeInterval interval = new YangRangeInterval<>();
+        YangBuiltInDataTypeInfo<?> startValue =
+                getDataObjectFromString(start, dataType);
+        YangBuiltInDataTypeInfo<?> endValue =
+                getDataObjectFromString(end, dataType);
+        interval.setStartValue(startValue);
+        interval.setEndValue(endValue);
+        range.addRangeRestrictionInterval(interval);
+    }
+
+    private static void checkValidation(YangType<?> type, String value,
+                                        boolean valid) {
+        YangValueValidator validator = YangValueValidator.of(type);
+        assertThat(value, isValid(validator, value), is(valid));
+        assertThat(value, isValid(type, value), is(valid));
+    }
+
+    private static boolean isValid(YangValueValidator validator, String value) {
+        try {
+            validator.validate(value);
+            return true;
+        } catch (DataModelException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean isValid(YangType<?> type, String value) {
+        try {
+            type.isValidValue(value);
+            return true;
+        } catch (DataModelException | RuntimeException e) {
+            return false;
+        }
+    }
+}
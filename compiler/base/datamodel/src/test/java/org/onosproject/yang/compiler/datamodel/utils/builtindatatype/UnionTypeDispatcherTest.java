@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.datamodel.utils.builtindatatype;
+
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.YangType;
+import org.onosproject.yang.compiler.datamodel.YangUnion;
+import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.compiler.datamodel.javadatamodel.YangJavaUnion;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.ObjectProvider.getObject;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.BOOLEAN;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.DECIMAL64;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.INT8;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.STRING;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UINT32;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UINT64;
+import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.UNION;
+
+/**
+ * Unit tests for the dispatcher of the union values to the member types.
+ */
+public class UnionTypeDispatcherTest {
+
+    /**
+     * Checks that a value is converted by the first member type it is a
+     * lexical value of.
+     *
+     * @throws DataModelException when fails to build the union
+     */
+    @Test
+    public void processMemberDispatch() throws DataModelException {
+        YangType<?> type = unionOf(INT8, UINT32, BOOLEAN, DECIMAL64, STRING);
+
+        assertThat(getObject(type, "-128", UNION), is((Object) (byte) -128));
+        assertThat(getObject(type, "+5", UNION), is((Object) (byte) 5));
+        assertThat(getObject(type, "128", UNION), is((Object) 128L));
+        assertThat(getObject(type, "-9223372036854775808", UNION),
+                   is((Object) Long.MIN_VALUE));
+        assertThat(getObject(type, "true", UNION), is((Object) true));
+        assertThat(getObject(type, "1.5", UNION),
+                   is((Object) new BigDecimal("1.5")));
+        assertThat(getObject(type, "-2.5E+3", UNION),
+                   is((Object) new BigDecimal("-2.5E+3")));
+        assertThat(getObject(type, "9223372036854775808", UNION),
+                   is((Object) new BigDecimal("9223372036854775808")));
+        assertThat(getObject(type, "1.5.", UNION), is((Object) "1.5."));
+        assertThat(getObject(type, "-", UNION), is((Object) "-"));
+        assertThat(getObject(type, "", UNION), is((Object) ""));
+        assertThat(getObject(type, "192.168.1.1", UNION),
+                   is((Object) "192.168.1.1"));
+    }
+
+    /**
+     * Checks the values of a nested union and of a union without string
+     * based member types.
+     *
+     * @throws DataModelException when fails to build the union
+     */
+    @Test
+    public void processNestedUnion() throws DataModelException {
+        YangType<YangUnion> type = unionOf(UINT64);
+        ((YangUnion) type.getDataTypeExtendedInfo())
+                .addType(unionOf(BOOLEAN, INT8));
+
+        assertThat(getObject(type, "false", UNION), is((Object) false));
+        assertThat(getObject(type, "18446744073709551615", UNION),
+                   is((Object) new BigInteger("18446744073709551615")));
+        assertThat(getObject(type, "-1", UNION),
+                   is((Object) new BigInteger("-1")));
+        for (String value : new String[]{"", "abc", "1.5", "+", "TRUE"}) {
+            try {
+                getObject(type, value, UNION);
+                throw new AssertionError("no exception for " + value);
+            } catch (IllegalArgumentException e) {
+                assertThat(e.getMessage(), is("Invalid value of data"));
+            }
+        }
+    }
+
+    private static YangType<YangUnion> unionOf(YangDataTypes... dataTypes)
+            throws DataModelException {
+        YangUnion union = new YangJavaUnion();
+        for (YangDataTypes dataType : dataTypes) {
+            YangType<?> member = new YangType<>();
+            member.setDataType(dataType);
+            union.addType(member);
+        }
+        YangType<YangUnion> type = new YangType<>();
+        type.setDataType(UNION);
+        type.setDataTypeExtendedInfo(union);
+        return type;
+    }
+}
@@ -16,17 +16,23 @@
 
 package org.onosproject.yang.compiler.linker.impl;
 
+import org.onosproject.yang.compiler.datamodel.ResolvableType;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangReferenceResolver;
 import org.onosproject.yang.compiler.datamodel.YangSubModule;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.compiler.datamodel.utils.YangNodeSet;
 import org.onosproject.yang.compiler.linker.YangLinker;
 import org.onosproject.yang.compiler.linker.exceptions.LinkerException;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 
 import static java.util.Collections.sort;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_AUGMENT;
@@ -39,20 +45,67 @@ import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_IF_FEA
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_LEAFREF;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_USES;
 import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_USES_AUGMENT;
+import static org.onosproject.yang.compiler.linker.impl.YangLinkerUtils.detectCircularDependency;
 import static org.onosproject.yang.compiler.linker.impl.YangLinkerUtils.updateFilePriority;
 import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
 
 /**
  * Representation of entity which provides linking service of YANG files.
+ * <p>
+ * The inter-file linking resolves the YANG files level by level of their
+ * import/include graph, starting from the files which are imported or
+ * included by the others. The files of a level neither import nor include
+ * each other, so the linking passes which only update the file being
+ * resolved are run concurrently for the files of a level, on the executor
+ * of the linker. The passes which also update the imported files, such as
+ * augment, base and deviation, are run one file at a time.
  */
 public class YangLinkerManager
         implements YangLinker {
 
+    /*
+     * Inter-file linking passes, in the order they are run for a file.
+     */
+    private static final ResolvableType[] INTER_FILE_LINKING = {
+            YANG_IF_FEATURE, YANG_USES, YANG_USES_AUGMENT, YANG_AUGMENT,
+            YANG_DERIVED_DATA_TYPE, YANG_BASE, YANG_IDENTITYREF, YANG_LEAFREF,
+            YANG_COMPILER_ANNOTATION, YANG_DEVIATION};
+
+    /*
+     * Inter-file linking passes which only update the file being resolved.
+     */
+    private static final Set<ResolvableType> CONCURRENT_LINKING = EnumSet.of(
+            YANG_IF_FEATURE, YANG_USES, YANG_USES_AUGMENT,
+            YANG_DERIVED_DATA_TYPE, YANG_IDENTITYREF);
+
     /*
      * Set of all the YANG nodes, corresponding to the YANG files parsed by
      * parser.
      */
-    private Set<YangNode> yangNodeSet = new HashSet<>();
+    private Set<YangNode> yangNodeSet = new YangNodeSet();
+
+    /*
+     * Executor for the concurrent inter-file linking passes.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates an instance of YANG linker manager, which links the YANG
+     * files in the calling thread.
+     */
+    public YangLinkerManager() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates an instance of YANG linker manager, which runs the concurrent
+     * inter-file linking passes on the given executor.
+     *
+     * @param executor executor for inter-file linking
+     */
+    public YangLinkerManager(Executor executor) {
+        this.executor = executor;
+    }
 
     /**
      * Returns set of YANG node.
@@ -87,11 +140,12 @@ public class YangLinkerManager
         // Add reference to include list.
         addRefToYangFilesIncludeList(yangNodeSet);
 
+        // Check for circular import/include.
+        detectCircularDependency(yangNodeSet);
+
         // Update the priority for all the files.
         updateFilePriority(yangNodeSet);
 
-        // TODO check for circular import/include.
-
         // Carry out inter-file linking.
         processInterFileLinking(yangNodeSet);
 
@@ -181,38 +235,108 @@ public class YangLinkerManager
         List<YangNode> yangNodeSortedList = new LinkedList<>();
         yangNodeSortedList.addAll(yangNodeSet);
         sort(yangNodeSortedList);
-        for (YangNode yangNode : yangNodeSortedList) {
-            try {
-                YangReferenceResolver resolver = ((YangReferenceResolver)
-                        yangNode);
-                resolver.resolveInterFileLinking(YANG_IF_FEATURE);
-                resolver.resolveInterFileLinking(YANG_USES);
-                resolver.resolveInterFileLinking(YANG_USES_AUGMENT);
-                resolver.resolveInterFileLinking(YANG_AUGMENT);
-                resolver.resolveInterFileLinking(YANG_DERIVED_DATA_TYPE);
-                resolver.resolveInterFileLinking(YANG_BASE);
-                resolver.resolveInterFileLinking(YANG_IDENTITYREF);
-                resolver.resolveInterFileLinking(YANG_LEAFREF);
-                resolver.resolveInterFileLinking(YANG_COMPILER_ANNOTATION);
-                resolver.resolveInterFileLinking(YANG_DEVIATION);
-            } catch (DataModelException e) {
-                String errorInfo = "Error in file: " + yangNode.getName() + " in " +
-                        yangNode.getFileName() + " at " +
-                        "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
-                        + e.getLocalizedMessage();
-                throw new LinkerException(errorInfo);
-                // TODO add file path in exception message in util manager.
-            } catch (LinkerException e) {
-                String errorInfo = "Error in file: " + yangNode.getName() + " in " +
-                        yangNode.getFileName() + " at " +
-                        "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
-                        + e.getLocalizedMessage();
-                throw new LinkerException(errorInfo);
-                // TODO add file path in exception message in util manager.
+        for (List<YangNode> level : getLinkingLevels(yangNodeSortedList)) {
+            for (ResolvableType type : INTER_FILE_LINKING) {
+                if (level.size() > 1 && CONCURRENT_LINKING.contains(type)) {
+                    resolveConcurrently(level, type);
+                } else {
+                    for (YangNode yangNode : level) {
+                        resolveInterFileLinking(yangNode, type);
+                    }
+                }
             }
         }
     }
 
+    /**
+     * Returns the levels of the import/include graph from the nodes sorted
+     * by priority. Nodes of a level have the same priority.
+     *
+     * @param sortedNodes nodes sorted by priority
+     * @return levels of nodes
+     */
+    private static List<List<YangNode>> getLinkingLevels(
+            List<YangNode> sortedNodes) {
+        List<List<YangNode>> levels = new ArrayList<>();
+        List<YangNode> level = null;
+        int priority = 0;
+        for (YangNode yangNode : sortedNodes) {
+            if (level == null || yangNode.getPriority() != priority) {
+                level = new ArrayList<>();
+                levels.add(level);
+                priority = yangNode.getPriority();
+            }
+            level.add(yangNode);
+        }
+        return levels;
+    }
+
+    /**
+     * Resolves the inter file linking of given type for the nodes of a
+     * level on the executor, and waits for all of them.
+     *
+     * @param level nodes of a level
+     * @param type  resolvable type
+     * @throws LinkerException a violation in linker execution
+     */
+    private void resolveConcurrently(List<YangNode> level, ResolvableType type)
+            throws LinkerException {
+        List<FutureTask<Void>> tasks = new ArrayList<>();
+        for (YangNode yangNode : level) {
+            FutureTask<Void> task = new FutureTask<>(
+                    () -> resolveInterFileLinking(yangNode, type), null);
+            tasks.add(task);
+            executor.execute(task);
+        }
+        try {
+            for (FutureTask<Void> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new LinkerException("Interrupted while linking YANG files");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw (Error) cause;
+        } finally {
+            for (FutureTask<Void> task : tasks) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Resolves the inter file linking of given type for the node.
+     *
+     * @param yangNode YANG node
+     * @param type     resolvable type
+     * @throws LinkerException a violation in linker execution
+     */
+    private static void resolveInterFileLinking(YangNode yangNode,
+                                                ResolvableType type)
+            throws LinkerException {
+        try {
+            ((YangReferenceResolver) yangNode).resolveInterFileLinking(type);
+        } catch (DataModelException e) {
+            String errorInfo = "Error in file: " + yangNode.getName() + " in " +
+                    yangNode.getFileName() + " at " +
+                    "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
+                    + e.getLocalizedMessage();
+            throw new LinkerException(errorInfo);
+            // TODO add file path in exception message in util manager.
+        } catch (LinkerException e) {
+            String errorInfo = "Error in file: " + yangNode.getName() + " in " +
+                    yangNode.getFileName() + " at " +
+                    "line: " + e.getLineNumber() + " at position: " + e.getCharPositionInLine() + NEW_LINE
+                    + e.getLocalizedMessage();
+            throw new LinkerException(errorInfo);
+            // TODO add file path in exception message in util manager.
+        }
+    }
+
     /**
      * Processes unique linking, which takes place after all linking.
      *
@@ -49,6 +49,7 @@ import org.onosproject.yang.compiler.linker.exceptions.LinkerException;
 import org.onosproject.yang.compiler.translator.exception.TranslatorException;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -104,6 +105,10 @@ public final class YangLinkerUtils {
     private static final String TGT_LEAF_ERR =
             "YANG file error: There is no leaf/leaf-list in YANG node as " +
                     "mentioned in the path predicate of the leafref path ";
+    private static final String CIRCULAR_DEP_ERR =
+            "YANG file error: There is a circular chain of imports/includes " +
+                    "between the YANG files ";
+    private static final String ARROW = " -> ";
     private static final String LEAF_REF_LIST_ERR =
             "YANG file error: Path predicates are only applicable for YANG " +
                     "list. The leafref path has path predicate for non-list " +
@@ -342,6 +347,7 @@ public final class YangLinkerUtils {
                     augment.addChild(javaCase);
                 }
                 augment.getListOfLeaf().clear();
+                augment.leavesChanged();
             }
             if (augment.getListOfLeafList() != null) {
                 for (YangLeafList leafList : augment.getListOfLeafList()) {
@@ -351,6 +357,7 @@ public final class YangLinkerUtils {
                     augment.addChild(javaCase);
                 }
                 augment.getListOfLeafList().clear();
+                augment.leavesChanged();
             }
         } catch (DataModelException e) {
             throw new TranslatorException(
@@ -600,6 +607,80 @@ public final class YangLinkerUtils {
         }
     }
 
+    /**
+     * Detects circular chains of imports and includes between the YANG
+     * files, which are not allowed.
+     *
+     * @param yangNodeSet set of YANG files info
+     * @throws LinkerException if there is a circular chain of imports or
+     *                         includes
+     */
+    public static void detectCircularDependency(Set<YangNode> yangNodeSet) {
+        Map<YangNode, Boolean> visited = new IdentityHashMap<>();
+        List<YangNode> path = new ArrayList<>();
+        for (YangNode yangNode : yangNodeSet) {
+            detectCircularDependency(yangNode, visited, path);
+        }
+    }
+
+    /**
+     * Detects circular chains of imports and includes from the node, by
+     * depth first traversal of its imported and included nodes.
+     *
+     * @param yangNode YANG node information
+     * @param visited  visited nodes, mapped to true while they are in the
+     *                 current path
+     * @param path     current path of imports and includes
+     * @throws LinkerException if there is a circular chain of imports or
+     *                         includes
+     */
+    private static void detectCircularDependency(YangNode yangNode,
+                                                 Map<YangNode, Boolean> visited,
+                                                 List<YangNode> path) {
+        if (yangNode == null) {
+            return;
+        }
+        Boolean inPath = visited.get(yangNode);
+        if (inPath != null) {
+            if (inPath) {
+                throw new LinkerException(getCircularDepErrMsg(yangNode, path));
+            }
+            return;
+        }
+        visited.put(yangNode, true);
+        path.add(yangNode);
+        if (yangNode instanceof YangReferenceResolver) {
+            YangReferenceResolver resolver = (YangReferenceResolver) yangNode;
+            for (YangImport yangImport : resolver.getImportList()) {
+                detectCircularDependency(yangImport.getImportedNode(),
+                                         visited, path);
+            }
+            for (YangInclude yangInclude : resolver.getIncludeList()) {
+                detectCircularDependency(yangInclude.getIncludedNode(),
+                                         visited, path);
+            }
+        }
+        path.remove(path.size() - 1);
+        visited.put(yangNode, false);
+    }
+
+    /**
+     * Returns the error message for the circular chain which ends at the
+     * given node.
+     *
+     * @param yangNode YANG node which closes the chain
+     * @param path     current path of imports and includes
+     * @return error message
+     */
+    private static String getCircularDepErrMsg(YangNode yangNode,
+                                               List<YangNode> path) {
+        StringBuilder msg = new StringBuilder(CIRCULAR_DEP_ERR);
+        for (int i = path.indexOf(yangNode); i < path.size(); i++) {
+            msg.append(path.get(i).getName()).append(ARROW);
+        }
+        return msg.append(yangNode.getName()).toString();
+    }
+
     /**
      * Updates the priority for all the input files.
      *
@@ -905,6 +986,9 @@ public final class YangLinkerUtils {
     private static YangLeaf getLeaf(YangNodeIdentifier name,
                                     YangLeavesHolder holder) {
 
+        if (holder instanceof YangNode) {
+            return ((YangNode) holder).getLeaf(name.getName());
+        }
         List<YangLeaf> listOfLeaf = holder.getListOfLeaf();
         if (listOfLeaf != null) {
             for (YangLeaf yangLeaf : listOfLeaf) {
@@ -927,6 +1011,9 @@ public final class YangLinkerUtils {
     private static YangLeafList getLeafList(YangNodeIdentifier name,
                                             YangLeavesHolder holder) {
 
+        if (holder instanceof YangNode) {
+            return ((YangNode) holder).getLeafList(name.getName());
+        }
         List<YangLeafList> listOfLeafList = holder.getListOfLeafList();
         if (listOfLeafList != null) {
             for (YangLeafList yangLeafList : listOfLeafList) {
@@ -1003,7 +1090,7 @@ public final class YangLinkerUtils {
 
         atomics.remove(atomics.size() - 1);
         for (YangAtomicPath atomicPath : atomics) {
-            node = getNode(node.getChild(), atomicPath.getNodeIdentifier());
+            node = getNode(node, atomicPath.getNodeIdentifier());
             if (node == null) {
                 throw getDataModelExc(INVALID_PATH_PRE, leafRef);
             }
@@ -1015,20 +1102,14 @@ public final class YangLinkerUtils {
      * Returns the node from the parent node by matching it with the atomic
      * name. If no child node matches the name then it returns null.
      *
-     * @param curNode    current node
+     * @param parent     parent node
      * @param identifier atomic name
      * @return node to be traversed
      */
-    private static YangNode getNode(YangNode curNode,
+    private static YangNode getNode(YangNode parent,
                                     YangNodeIdentifier identifier) {
-        YangNode node = curNode;
-        while (node != null) {
-            if (node.getName().equals(identifier.getName())) {
-                return node;
-            }
-            node = node.getNextSibling();
-        }
-        return null;
+        List<YangNode> nodes = parent.getChildren(identifier.getName());
+        return nodes.isEmpty() ? null : nodes.get(0);
     }
 
     /**
@@ -248,16 +248,7 @@ public class YangXpathLinker<T> {
                             .getLineNumber(), targetNode.getCharPosition(),
                     targetNode.getFileName()));
         }
-        YangLeavesHolder holder = (YangLeavesHolder) targetNode;
-        List<YangLeaf> leaves = holder.getListOfLeaf();
-        if (leaves != null && !leaves.isEmpty()) {
-            for (YangLeaf leaf : leaves) {
-                if (leaf.getName().equals(leafName)) {
-                    return leaf;
-                }
-            }
-        }
-        return null;
+        return targetNode.getLeaf(leafName);
     }
 
     /**
@@ -274,16 +265,7 @@ public class YangXpathLinker<T> {
                             .getLineNumber(), targetNode.getCharPosition(),
                     targetNode.getFileName()));
         }
-        YangLeavesHolder holder = (YangLeavesHolder) targetNode;
-        List<YangLeafList> leavesList = holder.getListOfLeafList();
-        if (leavesList != null && !leavesList.isEmpty()) {
-            for (YangLeafList leafList : leavesList) {
-                if (leafList.getName().equals(name)) {
-                    return leafList;
-                }
-            }
-        }
-        return null;
+        return targetNode.getLeafList(name);
     }
 
     /**
@@ -703,14 +685,7 @@ public class YangXpathLinker<T> {
      * @return true if child node found
      */
     private boolean verifyChildNode(YangNode node, String name) {
-        node = node.getChild();
-        while (node != null) {
-            if (node.getName().equals(name)) {
-                return true;
-            }
-            node = node.getNextSibling();
-        }
-        return false;
+        return !node.getChildren(name).isEmpty();
     }
 
 
@@ -836,6 +811,17 @@ public class YangXpathLinker<T> {
             }
         }
 
+        String name = curNodeId.getName();
+        if (node != null && linkingType != XpathLinkingTypes.DEVIATION_LINKING &&
+                !name.equalsIgnoreCase(INPUT) && !name.equalsIgnoreCase(OUTPUT)) {
+            for (YangNode child : node.getChildren(name)) {
+                if (!(child instanceof YangUses)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
         if (node != null) {
             node = node.getChild();
         }
@@ -875,23 +861,9 @@ public class YangXpathLinker<T> {
      */
     private YangNode searchTargetLeaf(YangNode node,
                                       YangNodeIdentifier curNodeId) {
-        YangLeavesHolder holder = (YangLeavesHolder) node;
-        List<YangLeafList> leavesList = holder.getListOfLeafList();
-        if (leavesList != null && !leavesList.isEmpty()) {
-            for (YangLeafList leafList : leavesList) {
-                if (leafList.getName().equals(curNodeId.getName())) {
-                    return node;
-                }
-            }
-        }
-
-        List<YangLeaf> leaves = holder.getListOfLeaf();
-        if (leaves != null && !leaves.isEmpty()) {
-            for (YangLeaf leaf : leaves) {
-                if (leaf.getName().equals(curNodeId.getName())) {
-                    return node;
-                }
-            }
+        String name = curNodeId.getName();
+        if (node.getLeafList(name) != null || node.getLeaf(name) != null) {
+            return node;
         }
         return null;
     }
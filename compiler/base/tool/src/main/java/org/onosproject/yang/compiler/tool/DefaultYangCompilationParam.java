@@ -36,6 +36,9 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
     private Path codeGenDir;
     private Path metaDataPath;
     private String modelId;
+    private boolean generateBinding;
+    private Path buildStateFile;
+    private Path moduleCacheDir;
 
     /**
      * Creates an instance of YANG compilation parameter.
@@ -45,14 +48,21 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
      * @param metaPath metadata path
      * @param id       model id
      * @param path     generated code directory path
+     * @param binding  true if model binding classes are to be generated
+     * @param state    build state file path
+     * @param cache    module cache directory path
      */
     private DefaultYangCompilationParam(Set<Path> files, Set<Path>
-            schemas, Path metaPath, String id, Path path) {
+            schemas, Path metaPath, String id, Path path, boolean binding,
+                                        Path state, Path cache) {
         yangFiles = unmodifiableSet(files);
         dependentSchemas = unmodifiableSet(schemas);
         modelId = id;
         codeGenDir = path;
         metaDataPath = metaPath;
+        generateBinding = binding;
+        buildStateFile = state;
+        moduleCacheDir = cache;
     }
 
     @Override
@@ -80,10 +90,26 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
         return modelId;
     }
 
+    @Override
+    public boolean isGenerateBinding() {
+        return generateBinding;
+    }
+
+    @Override
+    public Path getBuildStateFile() {
+        return buildStateFile;
+    }
+
+    @Override
+    public Path getModuleCacheDir() {
+        return moduleCacheDir;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(yangFiles, dependentSchemas, codeGenDir,
-                            metaDataPath, modelId);
+                            metaDataPath, modelId, generateBinding,
+                            buildStateFile, moduleCacheDir);
     }
 
     @Override
@@ -99,7 +125,10 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
                 dependentSchemas.containsAll(that.dependentSchemas) &&
                 Objects.equals(codeGenDir, that.codeGenDir) &&
                 Objects.equals(metaDataPath, that.metaDataPath) &&
-                Objects.equals(modelId, that.modelId);
+                Objects.equals(modelId, that.modelId) &&
+                generateBinding == that.generateBinding &&
+                Objects.equals(buildStateFile, that.buildStateFile) &&
+                Objects.equals(moduleCacheDir, that.moduleCacheDir);
     }
 
     @Override
@@ -110,6 +139,9 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
                 .add("codeGenDir", codeGenDir)
                 .add("metaDataPath", metaDataPath)
                 .add("modelId", modelId)
+                .add("generateBinding", generateBinding)
+                .add("buildStateFile", buildStateFile)
+                .add("moduleCacheDir", moduleCacheDir)
                 .toString();
     }
 
@@ -131,6 +163,9 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
         private Path codeGenDir;
         private Path metaDataPath;
         private String modelId;
+        private boolean generateBinding;
+        private Path buildStateFile;
+        private Path moduleCacheDir;
 
         /**
          * Creates an instance of YANG compilation parameter builder.
@@ -197,6 +232,41 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
             return this;
         }
 
+        /**
+         * Sets whether model binding classes are to be generated.
+         *
+         * @param binding true if model binding classes are to be generated
+         * @return updated builder
+         */
+        public Builder setGenerateBinding(boolean binding) {
+            generateBinding = binding;
+            return this;
+        }
+
+        /**
+         * Sets the build state file, which enables the incremental
+         * compilation of the YANG files.
+         *
+         * @param path build state file path
+         * @return updated builder with build state file path
+         */
+        public Builder setBuildStateFile(Path path) {
+            buildStateFile = path;
+            return this;
+        }
+
+        /**
+         * Sets the module cache directory, which keeps the parsed YANG
+         * files across compilations.
+         *
+         * @param path module cache directory path
+         * @return updated builder with module cache directory path
+         */
+        public Builder setModuleCacheDir(Path path) {
+            moduleCacheDir = path;
+            return this;
+        }
+
         /**
          * Builds a YangCompilationParam.
          *
@@ -205,7 +275,8 @@ public final class DefaultYangCompilationParam implements YangCompilationParam {
         public DefaultYangCompilationParam build() {
             return new DefaultYangCompilationParam(
                     yangFiles, dependentSchemas, metaDataPath, modelId,
-                    codeGenDir);
+                    codeGenDir, generateBinding, buildStateFile,
+                    moduleCacheDir);
         }
     }
 }
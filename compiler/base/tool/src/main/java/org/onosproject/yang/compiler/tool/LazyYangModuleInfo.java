@@ -0,0 +1,82 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.model.YangModuleId;
+
+import java.io.File;
+
+/**
+ * Represents extended info for YANG module, whose schema is read from the
+ * metadata of its model when it is first asked for.
+ */
+public final class LazyYangModuleInfo extends YangModuleExtendedInfo {
+
+    private final transient String nameSpace;
+    private final transient YangMetaDataLoader loader;
+
+    /**
+     * Creates an instance of lazy YANG module extended information.
+     *
+     * @param id        module id
+     * @param yangSrc   YANG resource path
+     * @param metadata  meta data resource path
+     * @param interJar  flag indicating if module is from inter-jar
+     * @param nameSpace namespace of the module; null for a submodule
+     * @param loader    loader of the schemas of the model
+     */
+    LazyYangModuleInfo(YangModuleId id, File yangSrc, File metadata,
+                       boolean interJar, String nameSpace,
+                       YangMetaDataLoader loader) {
+        super(id, yangSrc, metadata, interJar);
+        interJar(interJar);
+        this.nameSpace = nameSpace;
+        this.loader = loader;
+    }
+
+    /**
+     * Returns the namespace of the module, without reading its schema.
+     *
+     * @return namespace of the module; null for a submodule
+     */
+    public String getNameSpace() {
+        return nameSpace;
+    }
+
+    /**
+     * Returns true if the schemas of the model were read.
+     *
+     * @return true if the schemas were read, false otherwise
+     */
+    public boolean isLoaded() {
+        return loader.isLoaded();
+    }
+
+    /**
+     * Returns schema info for module. The schemas of all the modules of
+     * the model are read on first call.
+     *
+     * @return schema info for module
+     */
+    @Override
+    public YangNode getSchema() {
+        loader.load();
+        return super.getSchema();
+    }
+}
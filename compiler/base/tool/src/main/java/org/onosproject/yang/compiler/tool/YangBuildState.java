@@ -0,0 +1,518 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.compiler.api.YangCompilationParam;
+import org.onosproject.yang.compiler.datamodel.YangIdentity;
+import org.onosproject.yang.compiler.datamodel.YangImport;
+import org.onosproject.yang.compiler.datamodel.YangInclude;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangNodeIdentifier;
+import org.onosproject.yang.compiler.datamodel.YangReferenceResolver;
+import org.onosproject.yang.compiler.datamodel.YangSubModule;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the state of a compilation of YANG files, which is kept
+ * between compilations to compile only the YANG files which changed.
+ * <p>
+ * For every YANG file the state keeps the hash of its content, the module
+ * it defines and the modules it depends on. A file has to be compiled
+ * again when its content changed, when a module it imports or includes has
+ * to be compiled again, or when a module whose generated code depends on
+ * it, such as a module deriving identities from its identities, has to be
+ * compiled again. All files are compiled again when the environment of the
+ * compilation, that is the dependent schemas and the compilation
+ * parameters, changed.
+ */
+final class YangBuildState {
+
+    private static final int MAGIC = 0x59425354;
+    private static final int VERSION = 1;
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final String DIGEST = "SHA-256";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String environment;
+    private final Map<String, String> hashes = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Creates an instance of build state.
+     *
+     * @param environment hash of the environment of the compilation
+     */
+    private YangBuildState(String environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Returns the build state of the current compilation, with the hashes
+     * of the given YANG files and of the environment of the compilation.
+     *
+     * @param param YANG compilation parameters
+     * @param files YANG file paths
+     * @return build state of the current compilation
+     * @throws IOException when fails to read the files
+     */
+    static YangBuildState create(YangCompilationParam param,
+                                 Collection<String> files)
+            throws IOException {
+        MessageDigest env = newDigest();
+        update(env, String.valueOf(param.getModelId()));
+        update(env, String.valueOf(param.getCodeGenDir()));
+        update(env, String.valueOf(param.getMetadataGenDir()));
+        update(env, String.valueOf(param.isGenerateBinding()));
+        update(env, getCompilerVersion());
+        for (Path schema : param.getDependentSchemas()) {
+            update(env, hash(schema));
+        }
+        YangBuildState state = new YangBuildState(toHex(env.digest()));
+        for (String file : files) {
+            state.hashes.put(file, hash(Paths.get(file)));
+        }
+        return state;
+    }
+
+    /**
+     * Returns the build state of the previous compilation read from the
+     * given file. The state is empty when there is no previous state, or
+     * when it was written by another compiler version.
+     *
+     * @param file build state file
+     * @return build state of the previous compilation
+     */
+    static YangBuildState read(Path file) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(file), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                return new YangBuildState(null);
+            }
+            YangBuildState state = new YangBuildState(in.readUTF());
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String fileName = in.readUTF();
+                Entry entry = new Entry(in.readUTF(), in.readUTF(),
+                                        in.readUTF(), in.readUTF());
+                readNames(in, entry.dependencies);
+                readNames(in, entry.dependents);
+                state.hashes.put(fileName, entry.hash);
+                state.entries.put(fileName, entry);
+            }
+            return state;
+        } catch (IOException e) {
+            return new YangBuildState(null);
+        }
+    }
+
+    /**
+     * Writes the build state to the given file.
+     *
+     * @param file build state file
+     * @throws IOException when fails to write the file
+     */
+    void write(Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file),
+                                         BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(environment);
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> e : entries.entrySet()) {
+                Entry entry = e.getValue();
+                out.writeUTF(e.getKey());
+                out.writeUTF(entry.hash);
+                out.writeUTF(entry.module);
+                out.writeUTF(entry.serFile);
+                out.writeUTF(entry.packagePath);
+                writeNames(out, entry.dependencies);
+                writeNames(out, entry.dependents);
+            }
+        }
+    }
+
+    /**
+     * Deletes the given build state file, so that the next compilation
+     * compiles all the files.
+     *
+     * @param file build state file
+     * @throws IOException when fails to delete the file
+     */
+    static void delete(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Returns true if this state of a previous compilation was made in the
+     * same environment as the given state.
+     *
+     * @param current build state of the current compilation
+     * @return true if the environment is unchanged
+     */
+    boolean isSameEnvironment(YangBuildState current) {
+        return environment != null && environment.equals(current.environment);
+    }
+
+    /**
+     * Returns the YANG files of the previous compilation.
+     *
+     * @return YANG file paths
+     */
+    Set<String> getFiles() {
+        return entries.keySet();
+    }
+
+    /**
+     * Returns true if the given YANG file is a file of this compilation.
+     *
+     * @param file YANG file path
+     * @return true if the file is part of this compilation
+     */
+    boolean hasFile(String file) {
+        return hashes.containsKey(file);
+    }
+
+    /**
+     * Returns the entry of the given YANG file.
+     *
+     * @param file YANG file path
+     * @return entry of the file; null if there is none
+     */
+    Entry getEntry(String file) {
+        return entries.get(file);
+    }
+
+    /**
+     * Returns the YANG files of the current compilation which are to be
+     * compiled again, given this state of the previous compilation.
+     *
+     * @param current build state of the current compilation
+     * @param parsed  entries of the files of the current compilation which
+     *                are parsed already
+     * @return YANG file paths
+     */
+    Set<String> getFilesToCompile(YangBuildState current,
+                                  Map<String, Entry> parsed) {
+        if (!isSameEnvironment(current)) {
+            return new HashSet<>(current.hashes.keySet());
+        }
+        Set<String> files = new HashSet<>();
+        Set<String> modules = new HashSet<>();
+        Set<String> forced = new HashSet<>();
+
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (!current.hashes.containsKey(e.getKey())) {
+                modules.add(e.getValue().module);
+                forced.addAll(e.getValue().dependents);
+            }
+        }
+        for (Map.Entry<String, String> e : current.hashes.entrySet()) {
+            Entry entry = entries.get(e.getKey());
+            if (entry == null || !entry.hash.equals(e.getValue())) {
+                addFile(e.getKey(), files, modules, forced, parsed);
+            }
+        }
+
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (String file : current.hashes.keySet()) {
+                if (files.contains(file)) {
+                    continue;
+                }
+                Entry entry = entries.get(file);
+                if (forced.contains(entry.module) ||
+                        !disjoint(entry.dependencies, modules)) {
+                    addFile(file, files, modules, forced, parsed);
+                    added = true;
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Adds the file to the files to be compiled, along with its modules and
+     * the modules which depend on it in the previous and current
+     * compilation.
+     *
+     * @param file    YANG file path
+     * @param files   files to be compiled
+     * @param modules modules to be compiled
+     * @param forced  modules to be compiled because of their dependents
+     * @param parsed  entries of the files parsed already
+     */
+    private void addFile(String file, Set<String> files, Set<String> modules,
+                         Set<String> forced, Map<String, Entry> parsed) {
+        files.add(file);
+        for (Entry entry : new Entry[]{entries.get(file), parsed.get(file)}) {
+            if (entry != null) {
+                modules.add(entry.module);
+                forced.addAll(entry.dependents);
+            }
+        }
+    }
+
+    /**
+     * Adds the entry of a compiled YANG file to the state.
+     *
+     * @param file  YANG file path
+     * @param entry entry of the file
+     */
+    void addEntry(String file, Entry entry) {
+        entries.put(file, entry);
+    }
+
+    /**
+     * Returns the hash of the content of the given YANG file.
+     *
+     * @param file YANG file path
+     * @return hash of the file
+     */
+    String getHash(String file) {
+        return hashes.get(file);
+    }
+
+    /**
+     * Returns the entry for the given YANG data model tree.
+     *
+     * @param hash        hash of the YANG file
+     * @param node        YANG data model tree
+     * @param serFile     name of the metadata file of the module
+     * @param packagePath path of the package of the generated code
+     * @return entry of the YANG file
+     */
+    static Entry createEntry(String hash, YangNode node, String serFile,
+                             String packagePath) {
+        Entry entry = new Entry(hash, node.getName(), serFile,
+                                packagePath == null ? "" : packagePath);
+        Map<String, String> prefixes = new HashMap<>();
+        if (node instanceof YangReferenceResolver) {
+            YangReferenceResolver resolver = (YangReferenceResolver) node;
+            if (resolver.getImportList() != null) {
+                for (YangImport imp : resolver.getImportList()) {
+                    entry.dependencies.add(imp.getModuleName());
+                    prefixes.put(imp.getPrefixId(), imp.getModuleName());
+                }
+            }
+            if (resolver.getIncludeList() != null) {
+                for (YangInclude inc : resolver.getIncludeList()) {
+                    entry.dependencies.add(inc.getSubModuleName());
+                }
+            }
+        }
+        if (node instanceof YangSubModule &&
+                ((YangSubModule) node).getBelongsTo() != null) {
+            entry.dependencies.add(((YangSubModule) node).getBelongsTo()
+                                           .getBelongsToModuleName());
+        }
+
+        /*
+         * The generated code of a base identity lists the identities which
+         * are derived from it, so the module of a base identity depends on
+         * the modules deriving from it.
+         */
+        for (YangNode child = node.getChild(); child != null;
+             child = child.getNextSibling()) {
+            if (child instanceof YangIdentity &&
+                    ((YangIdentity) child).getBaseNode() != null) {
+                YangNodeIdentifier base = ((YangIdentity) child)
+                        .getBaseNode().getBaseIdentifier();
+                String module = base == null ? null :
+                        prefixes.get(base.getPrefix());
+                if (module != null) {
+                    entry.dependents.add(module);
+                }
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Represents the state of a compiled YANG file.
+     */
+    static final class Entry {
+
+        private final String hash;
+        private final String module;
+        private final String serFile;
+        private final String packagePath;
+        private final Set<String> dependencies = new LinkedHashSet<>();
+        private final Set<String> dependents = new LinkedHashSet<>();
+
+        private Entry(String hash, String module, String serFile,
+                      String packagePath) {
+            this.hash = hash;
+            this.module = module;
+            this.serFile = serFile;
+            this.packagePath = packagePath;
+        }
+
+        /**
+         * Returns the name of the metadata file of the module.
+         *
+         * @return metadata file name
+         */
+        String getSerFile() {
+            return serFile;
+        }
+
+        /**
+         * Returns the path of the package of the generated code, relative
+         * to the code generation directory.
+         *
+         * @return package path; empty if no code was generated
+         */
+        String getPackagePath() {
+            return packagePath;
+        }
+    }
+
+    private static boolean disjoint(Set<String> a, Set<String> b) {
+        for (String name : a) {
+            if (b.contains(name)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void readNames(DataInputStream in, Set<String> names)
+            throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+        }
+    }
+
+    private static void writeNames(DataOutputStream out, Set<String> names)
+            throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    /**
+     * Returns the version of the compiler, made of the location and
+     * modification time of its code and of its implementation version.
+     *
+     * @return compiler version
+     */
+    static String getCompilerVersion() {
+        StringBuilder version = new StringBuilder();
+        CodeSource source = YangBuildState.class.getProtectionDomain()
+                .getCodeSource();
+        if (source != null && source.getLocation() != null) {
+            version.append(source.getLocation());
+            try {
+                version.append('@').append(Files.getLastModifiedTime(
+                        Paths.get(source.getLocation().toURI())).toMillis());
+            } catch (IOException | URISyntaxException |
+                    IllegalArgumentException e) {
+                // Location is not a file, its name is the version.
+            }
+        }
+        version.append('/').append(YangBuildState.class.getPackage()
+                                           .getImplementationVersion());
+        return version.toString();
+    }
+
+    /**
+     * Returns the hash of the given value.
+     *
+     * @param value value
+     * @return hash of the value
+     */
+    static String digest(String value) {
+        MessageDigest digest = newDigest();
+        update(digest, value);
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            digest.update((byte) (c >> 8));
+            digest.update((byte) c);
+        }
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Returns the hash of the content of the given file.
+     *
+     * @param file file path
+     * @return hash of the file; empty if the file does not exist
+     * @throws IOException when fails to read the file
+     */
+    static String hash(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buf = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                digest.update(buf, 0, n);
+            }
+        } catch (NoSuchFileException e) {
+            return "";
+        }
+        return toHex(digest.digest());
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[2 * i] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[2 * i + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+}
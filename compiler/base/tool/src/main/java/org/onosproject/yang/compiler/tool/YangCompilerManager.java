@@ -21,6 +21,7 @@ import org.onosproject.yang.compiler.api.YangCompiledOutput;
 import org.onosproject.yang.compiler.api.YangCompilerException;
 import org.onosproject.yang.compiler.api.YangCompilerService;
 import org.onosproject.yang.compiler.datamodel.YangDeviationHolder;
+import org.onosproject.yang.compiler.datamodel.YangNamespace;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangReferenceResolver;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
@@ -30,7 +31,9 @@ import org.onosproject.yang.compiler.linker.impl.YangLinkerManager;
 import org.onosproject.yang.compiler.parser.YangUtilsParser;
 import org.onosproject.yang.compiler.parser.exceptions.ParserException;
 import org.onosproject.yang.compiler.parser.impl.YangUtilsParserManager;
+import org.onosproject.yang.compiler.translator.tojava.JavaFileInfoContainer;
 import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
+import org.onosproject.yang.compiler.utils.io.impl.FragmentStore;
 import org.onosproject.yang.model.DefaultYangModel;
 import org.onosproject.yang.model.DefaultYangModuleId;
 import org.onosproject.yang.model.YangModel;
@@ -38,26 +41,37 @@ import org.onosproject.yang.model.YangModule;
 import org.onosproject.yang.model.YangModuleId;
 import org.slf4j.Logger;
 
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import static java.nio.file.Files.copy;
+import static java.nio.file.Files.deleteIfExists;
 import static java.nio.file.Paths.get;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Collections.sort;
@@ -66,12 +80,15 @@ import static org.onosproject.yang.compiler.datamodel.ResolvableType.YANG_IDENTI
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
 import static org.onosproject.yang.compiler.linker.impl.YangLinkerUtils.resolveGroupingInDefinationScope;
 import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.generateJavaCode;
+import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.generateModelBinding;
 import static org.onosproject.yang.compiler.translator.tojava.JavaCodeGeneratorUtil.translatorErrorHandler;
 import static org.onosproject.yang.compiler.utils.UtilConstants.NEW_LINE;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
 import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getJavaFiles;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.createDirectories;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
 import static org.slf4j.LoggerFactory.getLogger;
 
 /**
@@ -81,7 +98,7 @@ public class YangCompilerManager implements YangCompilerService {
 
     private static final Logger log = getLogger(YangCompilerManager.class);
     private final YangUtilsParser yangUtilsParser = new YangUtilsParserManager();
-    private final YangLinker yangLinker = new YangLinkerManager();
+    private final YangLinker yangLinker;
     private final Set<YangNode> yangNodeSet = new HashSet<>();
 
     // YANG file information set.
@@ -90,11 +107,57 @@ public class YangCompilerManager implements YangCompilerService {
     private Set<Path> genJavaPath = new LinkedHashSet<>();
     private YangModel model;
     private static final String SLASH = File.separator;
+    private static final String JAR = ".jar";
+    private static final String YANG_FILE_EXTENSION = ".yang";
+    private final Executor executor;
+    private final Executor translator;
+    private YangModuleCache moduleCache;
+
+    /**
+     * Creates an instance of YANG compiler manager, which parses, links and
+     * translates the YANG files in the calling thread.
+     */
+    public YangCompilerManager() {
+        this(Runnable::run);
+    }
+
+    /**
+     * Creates an instance of YANG compiler manager, which parses and links
+     * the YANG files on the given executor. The files are parsed
+     * independently of each other, and linked level by level of their
+     * import/include graph, so this is done in parallel on a multi-threaded
+     * executor. The files are translated in the calling thread.
+     *
+     * @param executor executor for parsing and linking the YANG files
+     */
+    public YangCompilerManager(Executor executor) {
+        this(executor, Runnable::run);
+    }
+
+    /**
+     * Creates an instance of YANG compiler manager, which parses and links
+     * the YANG files on the given executor, and translates them to java on
+     * the given translator executor. The files are translated level by
+     * level of their import/include graph, like they are linked, so the
+     * generated code is the same as when translated in the calling thread.
+     *
+     * @param executor   executor for parsing and linking the YANG files
+     * @param translator executor for translating the YANG files to java
+     */
+    public YangCompilerManager(Executor executor, Executor translator) {
+        this.executor = executor;
+        this.translator = translator;
+        yangLinker = new YangLinkerManager(executor);
+    }
 
     @Override
     public YangCompiledOutput compileYangFiles(YangCompilationParam param)
             throws IOException, YangCompilerException {
-        synchronized (YangCompilerManager.class) {
+        /*
+         * The compilation state is kept per instance, so that compilations
+         * by different instances may run concurrently.
+         */
+        synchronized (this) {
             processYangFiles(param);
             return new DefaultYangCompiledOutput(model, genJavaPath);
         }
@@ -129,6 +192,25 @@ public class YangCompilerManager implements YangCompilerService {
         return b.addModelId(modelId).build();
     }
 
+    /**
+     * Returns YANG model of given compact metadata file, whose modules are
+     * created from the module index of the metadata, as by
+     * {@link #processYangModel(String, List, String, boolean)}. The file is
+     * mapped in memory and the schemas of the modules are read from it
+     * when the schema of one of them is first asked for.
+     *
+     * @param path     path for metadata file
+     * @param metaData compact metadata file
+     * @param fromUt   if method is called from unit test
+     * @return YANG model
+     * @throws IOException when fails to read the metadata file
+     */
+    public static YangModel processLazyYangModel(
+            String path, Path metaData, boolean fromUt) throws IOException {
+        return YangMetaDataReader.readIndex(
+                metaData, new YangMetaDataLoader(path, !fromUt));
+    }
+
     /**
      * Returns the file name from provided absolute path.
      *
@@ -146,7 +228,7 @@ public class YangCompilerManager implements YangCompilerService {
      * @param serFileName path of resource directory
      * @param node        YangNode
      */
-    private static void serializeModuleMetaData(String serFileName, YangNode node) {
+    static void serializeModuleMetaData(String serFileName, YangNode node) {
         try (FileOutputStream outStream = new FileOutputStream(serFileName);
              ObjectOutputStream objOutStream = new ObjectOutputStream(outStream)) {
             objOutStream.writeObject(node);
@@ -202,65 +284,263 @@ public class YangCompilerManager implements YangCompilerService {
      */
     private void processYangFiles(YangCompilationParam param) throws IOException {
         YangPluginConfig config = new YangPluginConfig();
-        synchronized (YangCompilerManager.class) {
-            try {
-                String codeGenDir = param.getCodeGenDir() + SLASH;
-                String resourceGenDir = param.getMetadataGenDir() + SLASH;
-                config.setCodeGenDir(codeGenDir);
-                config.resourceGenDir(resourceGenDir);
-                yangFileInfoSet = createYangFileInfoSet(param.getYangFiles());
-
-                // Check if there are any file to translate, if not return.
-                if (yangFileInfoSet.isEmpty()) {
-                    // No files to translate
-                    return;
-                }
+        try {
+            String codeGenDir = param.getCodeGenDir() + SLASH;
+            String resourceGenDir = param.getMetadataGenDir() + SLASH;
+            config.setCodeGenDir(codeGenDir);
+            config.resourceGenDir(resourceGenDir);
+            config.setGenerateBinding(param.isGenerateBinding());
+            yangFileInfoSet = createYangFileInfoSet(param.getYangFiles());
+
+            // Check if there are any file to translate, if not return.
+            if (yangFileInfoSet.isEmpty()) {
+                // No files to translate
+                return;
+            }
 
-                //Create resource directory.
-                createDirectories(resourceGenDir);
+            //Create resource directory.
+            createDirectories(resourceGenDir);
 
-                // Resolve inter jar dependency.
-                addSchemaToFileSet(dependentSchema(param.getDependentSchemas()));
+            // Resolve inter jar dependency.
+            addSchemaToFileSet(dependentSchema(param.getDependentSchemas()));
 
+            moduleCache = YangModuleCache.create(param.getModuleCacheDir());
+            Path stateFile = param.getBuildStateFile();
+            YangBuildState prevState = null;
+            YangBuildState state = null;
+            Set<YangNode> unchanged = new HashSet<>();
+            if (stateFile == null) {
                 // Carry out the parsing for all the YANG files.
                 parseYangFileInfoSet();
+            } else {
+                state = YangBuildState.create(param, getYangFileNames());
+                prevState = YangBuildState.read(stateFile);
+                YangBuildState.delete(stateFile);
+                if (!parseChangedYangFiles(prevState, state, unchanged,
+                                           codeGenDir, resourceGenDir)) {
+                    // Nothing changed, the previous output is kept.
+                    model = deSerializeDataModel(
+                            metaDataFile(resourceGenDir));
+                    processGeneratedCode(codeGenDir);
+                    writeBuildState(stateFile, prevState, state, unchanged);
+                    return;
+                }
+            }
 
-                createYangNodeSet();
-
-                // Serialize data model.
-                processSerialization(resourceGenDir, param.getModelId());
-
-                // Resolve dependencies using linker.
-                resolveDependenciesUsingLinker();
-
-                // Perform translation to JAVA.
-                translateToJava(config);
-
-                //add to generated java code map
-                processGeneratedCode(codeGenDir);
-
-                //add YANG files to JAR
-                processCopyYangFile(resourceGenDir);
-            } catch (IOException | ParserException e) {
-                //TODO: provide unified framework for exceptions
-                YangCompilerException exception =
-                        new YangCompilerException(e.getMessage(), e);
-                exception.setYangFile(get(
-                        curYangFileInfo.getYangFileName()));
-
-                if (curYangFileInfo != null &&
-                        curYangFileInfo.getRootNode() != null) {
-                    try {
-                        translatorErrorHandler(curYangFileInfo.getRootNode(),
-                                               config);
-                    } catch (IOException ex) {
-                        e.printStackTrace();
-                        throw ex;
-                    }
+            if (moduleCache != null) {
+                moduleCache.trim();
+            }
+            createYangNodeSet();
+
+            // Serialize data model.
+            processSerialization(resourceGenDir, param.getModelId());
+
+            // Resolve dependencies using linker.
+            resolveDependenciesUsingLinker();
+
+            // Perform translation to JAVA.
+            for (YangNode node : unchanged) {
+                node.setToTranslate(false);
+            }
+            translateToJava(config);
+
+            //add to generated java code map
+            processGeneratedCode(codeGenDir);
+
+            //add YANG files to JAR
+            processCopyYangFile(resourceGenDir);
+
+            if (stateFile != null) {
+                writeBuildState(stateFile, prevState, state, unchanged);
+            }
+        } catch (IOException | ParserException e) {
+            //TODO: provide unified framework for exceptions
+            YangCompilerException exception =
+                    new YangCompilerException(e.getMessage(), e);
+            exception.setYangFile(get(
+                    curYangFileInfo.getYangFileName()));
+
+            if (curYangFileInfo != null &&
+                    curYangFileInfo.getRootNode() != null) {
+                try {
+                    translatorErrorHandler(curYangFileInfo.getRootNode(),
+                                           config);
+                } catch (IOException ex) {
+                    e.printStackTrace();
+                    throw ex;
                 }
-                throw exception;
+            }
+            throw exception;
+        }
+    }
+
+    /**
+     * Returns the names of the YANG files to be compiled.
+     *
+     * @return YANG file names
+     */
+    private List<String> getYangFileNames() {
+        List<String> names = new ArrayList<>();
+        for (YangFileInfo info : yangFileInfoSet) {
+            if (info.isForTranslator()) {
+                names.add(info.getYangFileName());
             }
         }
+        return names;
+    }
+
+    /**
+     * Parses the YANG files which are to be compiled again since the
+     * previous compilation, and loads the data model trees of the other
+     * files from their metadata of the previous compilation. The code
+     * generated for the other files in the previous compilation is kept,
+     * so they are not translated again; the code generated for the files
+     * compiled again or removed is deleted.
+     *
+     * @param prevState      build state of the previous compilation
+     * @param state          build state of the current compilation
+     * @param unchanged      set filled with the data model trees loaded
+     *                       from the metadata
+     * @param codeGenDir     code generation directory
+     * @param resourceGenDir metadata generation directory
+     * @return false if no file changed since the previous compilation;
+     * true otherwise
+     * @throws IOException when fails to do IO operations
+     */
+    private boolean parseChangedYangFiles(YangBuildState prevState,
+                                          YangBuildState state,
+                                          Set<YangNode> unchanged,
+                                          String codeGenDir,
+                                          String resourceGenDir)
+            throws IOException {
+        Map<String, YangBuildState.Entry> parsed = new HashMap<>();
+        Set<String> files = prevState.getFilesToCompile(state, parsed);
+        boolean removed = false;
+        for (String file : prevState.getFiles()) {
+            removed |= !state.hasFile(file);
+        }
+        if (files.isEmpty() && !removed &&
+                new File(metaDataFile(resourceGenDir)).exists()) {
+            return false;
+        }
+
+        /*
+         * A parsed file may define a module which other files import, so
+         * the files to compile are computed again until no more file is
+         * to be parsed.
+         */
+        List<YangFileInfo> toParse;
+        do {
+            toParse = new ArrayList<>();
+            for (YangFileInfo info : yangFileInfoSet) {
+                if (info.isForTranslator() && info.getRootNode() == null &&
+                        files.contains(info.getYangFileName())) {
+                    toParse.add(info);
+                }
+            }
+            parseYangFiles(toParse);
+            for (YangFileInfo info : toParse) {
+                String name = info.getYangFileName();
+                parsed.put(name, YangBuildState.createEntry(
+                        state.getHash(name), info.getRootNode(), null, null));
+            }
+            files = prevState.getFilesToCompile(state, parsed);
+        } while (!toParse.isEmpty());
+
+        /*
+         * A file whose metadata or generated code of the previous
+         * compilation is missing is compiled again.
+         */
+        List<YangFileInfo> unreadable = new ArrayList<>();
+        for (YangFileInfo info : yangFileInfoSet) {
+            if (info.isForTranslator() && info.getRootNode() == null) {
+                String name = info.getYangFileName();
+                YangBuildState.Entry entry = prevState.getEntry(name);
+                String pkg = entry.getPackagePath();
+                YangNode node = null;
+                if (pkg.isEmpty() || new File(codeGenDir + pkg).isDirectory()) {
+                    node = readModuleMetaData(resourceGenDir +
+                                                      entry.getSerFile());
+                }
+                if (node == null) {
+                    unreadable.add(info);
+                    files.add(name);
+                } else {
+                    info.setRootNode(node);
+                    unchanged.add(node);
+                }
+            }
+        }
+        parseYangFiles(unreadable);
+
+        for (String file : prevState.getFiles()) {
+            if (!state.hasFile(file) || files.contains(file)) {
+                YangBuildState.Entry entry = prevState.getEntry(file);
+                if (!entry.getPackagePath().isEmpty()) {
+                    deleteDirectory(codeGenDir + entry.getPackagePath());
+                }
+                if (!state.hasFile(file)) {
+                    deleteIfExists(get(resourceGenDir + entry.getSerFile()));
+                    deleteIfExists(get(resourceGenDir + getFileName(file)));
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the YANG data model tree read from the metadata file of a
+     * module.
+     *
+     * @param serFile metadata file of the module
+     * @return YANG data model tree; null if the file cannot be read
+     */
+    private static YangNode readModuleMetaData(String serFile) {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new BufferedInputStream(new FileInputStream(serFile)))) {
+            return (YangNode) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.info("Failed to read YANG module metadata " + serFile);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the build state of the current compilation.
+     *
+     * @param stateFile build state file
+     * @param prevState build state of the previous compilation
+     * @param state     build state of the current compilation
+     * @param unchanged data model trees loaded from the metadata
+     * @throws IOException when fails to write the build state
+     */
+    private void writeBuildState(Path stateFile, YangBuildState prevState,
+                                 YangBuildState state,
+                                 Set<YangNode> unchanged)
+            throws IOException {
+        for (YangFileInfo info : yangFileInfoSet) {
+            if (!info.isForTranslator()) {
+                continue;
+            }
+            String name = info.getYangFileName();
+            YangNode node = info.getRootNode();
+            if (node == null) {
+                state.addEntry(name, prevState.getEntry(name));
+                continue;
+            }
+            String pkg = null;
+            if (unchanged.contains(node)) {
+                pkg = prevState.getEntry(name).getPackagePath();
+            } else if (node instanceof JavaFileInfoContainer) {
+                pkg = ((JavaFileInfoContainer) node).getJavaFileInfo()
+                        .getPackageFilePath();
+            }
+            YangModuleId id = processModuleId(node);
+            state.addEntry(name, YangBuildState.createEntry(
+                    state.getHash(name), node,
+                    id.moduleName() + id.revision() + ".ser", pkg));
+        }
+        state.write(stateFile);
     }
 
     /**
@@ -344,41 +624,139 @@ public class YangCompilerManager implements YangCompilerService {
 
     /**
      * Parses all the provided YANG files and generates YANG data model tree.
+     * The files are parsed on the executor of the manager.
      *
      * @throws IOException a violation in IO
      */
     public void parseYangFileInfoSet()
             throws IOException {
+        List<YangFileInfo> fileInfos = new ArrayList<>();
         for (YangFileInfo yangFileInfo : yangFileInfoSet) {
-            curYangFileInfo = yangFileInfo;
             if (yangFileInfo.isForTranslator()) {
-                try {
-                    YangNode yangNode = yangUtilsParser.getDataModel(
-                            yangFileInfo.getYangFileName());
-                    yangFileInfo.setRootNode(yangNode);
-                    resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
-                    try {
-                        ((YangReferenceResolver) yangNode)
-                                .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
-                        ((YangReferenceResolver) yangNode)
-                                .resolveSelfFileLinking(YANG_IDENTITYREF);
-                    } catch (DataModelException e) {
-                        printLog(e.getFileName(), e.getLineNumber(), e
-                                .getCharPositionInLine(), e.getMessage(), e
-                                         .getLocalizedMessage());
-                    }
-                } catch (ParserException e) {
-                    printLog(e.getFileName(), e.getLineNumber(), e
-                            .getCharPositionInLine(), e.getMessage(), e
-                                     .getLocalizedMessage());
-                    throw e;
-                }
+                fileInfos.add(yangFileInfo);
+            }
+        }
+        parseYangFiles(fileInfos);
+    }
+
+    /**
+     * Parses the given YANG files on the executor of the manager.
+     *
+     * @param fileInfos YANG file infos
+     * @throws IOException a violation in IO
+     */
+    private void parseYangFiles(List<YangFileInfo> fileInfos)
+            throws IOException {
+        List<FutureTask<YangNode>> tasks = new ArrayList<>();
+        for (YangFileInfo yangFileInfo : fileInfos) {
+            FutureTask<YangNode> task = new FutureTask<>(
+                    () -> parseYangFile(yangFileInfo));
+            tasks.add(task);
+            executor.execute(task);
+        }
+        try {
+            for (int i = 0; i < tasks.size(); i++) {
+                curYangFileInfo = fileInfos.get(i);
+                getParsedNode(tasks.get(i));
+            }
+        } finally {
+            for (FutureTask<YangNode> task : tasks) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Parses the YANG file and resolves its self file linking. The data
+     * model tree is taken from the module cache when the cache has the
+     * tree of the same file content.
+     *
+     * @param yangFileInfo YANG file info
+     * @return YANG data model tree
+     * @throws IOException a violation in IO
+     */
+    private YangNode parseYangFile(YangFileInfo yangFileInfo)
+            throws IOException {
+        String fileName = yangFileInfo.getYangFileName();
+        YangModuleCache cache = moduleCache;
+        String key = cache == null ? null :
+                cache.getKey(Paths.get(fileName));
+        if (key != null) {
+            YangNode cached = cache.get(key, fileName);
+            if (cached != null) {
+                yangFileInfo.setRootNode(cached);
+                return cached;
+            }
+        }
+        YangNode yangNode = yangUtilsParser.getDataModel(fileName);
+        yangFileInfo.setRootNode(yangNode);
+        resolveGroupingInDefinationScope((YangReferenceResolver) yangNode);
+        try {
+            ((YangReferenceResolver) yangNode)
+                    .resolveSelfFileLinking(YANG_DERIVED_DATA_TYPE);
+            ((YangReferenceResolver) yangNode)
+                    .resolveSelfFileLinking(YANG_IDENTITYREF);
+        } catch (DataModelException e) {
+            printLog(e.getFileName(), e.getLineNumber(), e
+                    .getCharPositionInLine(), e.getMessage(), e
+                             .getLocalizedMessage());
+            return yangNode;
+        }
+        if (key != null) {
+            cache.put(key, fileName, yangNode);
+        }
+        return yangNode;
+    }
+
+    /**
+     * Returns the YANG data model tree parsed by the given task, waiting for
+     * the task to complete.
+     *
+     * @param task parse task
+     * @return YANG data model tree
+     * @throws IOException a violation in IO
+     */
+    private YangNode getParsedNode(FutureTask<YangNode> task)
+            throws IOException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing YANG files", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ParserException) {
+                ParserException pe = (ParserException) cause;
+                printLog(pe.getFileName(), pe.getLineNumber(), pe
+                        .getCharPositionInLine(), pe.getMessage(), pe
+                                 .getLocalizedMessage());
+                throw pe;
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
             }
+            throw new IOException(cause);
         }
     }
 
     /**
      * Translates to java code corresponding to the YANG schema.
+     * <p>
+     * The YANG files are translated level by level of their import/include
+     * graph. Once linked, the translation of a file only reads the files it
+     * imports or includes, which belong to the previous levels, so the
+     * files of a level are translated concurrently on the translator
+     * executor. The module and its sub-modules share the same java package,
+     * so the files of a level belonging to the same module are translated
+     * one after the other. The generated files are kept in a fragment store
+     * of the code generation directory, which is closed once translated,
+     * so that a failed translation does not leave its files to the next.
      *
      * @param pluginConfig YANG plugin config
      * @throws IOException when fails to generate java code file the current node
@@ -388,10 +766,94 @@ public class YangCompilerManager implements YangCompilerService {
         List<YangNode> yangNodeSortedList = new LinkedList<>();
         yangNodeSortedList.addAll(yangNodeSet);
         sort(yangNodeSortedList);
-        for (YangNode node : yangNodeSortedList) {
-            if (node.isToTranslate() && !((YangDeviationHolder) node)
-                    .isModuleForDeviation()) {
-                generateJavaCode(node, pluginConfig);
+        Map<String, List<YangNode>> level = new LinkedHashMap<>();
+        int priority = 0;
+        FragmentStore store = FragmentStore.open(pluginConfig.getCodeGenDir());
+        try {
+            for (YangNode node : yangNodeSortedList) {
+                if (!node.isToTranslate() || ((YangDeviationHolder) node)
+                        .isModuleForDeviation()) {
+                    continue;
+                }
+                if (node.getPriority() != priority) {
+                    translateLevel(level, pluginConfig);
+                    level.clear();
+                    priority = node.getPriority();
+                }
+                level.computeIfAbsent(((YangNamespace) node).getModuleName(),
+                                      k -> new ArrayList<>()).add(node);
+            }
+            translateLevel(level, pluginConfig);
+        } finally {
+            store.close();
+        }
+    }
+
+    /**
+     * Translates the YANG files of a level, grouped by the module they
+     * belong to, on the translator executor and waits for all of them.
+     *
+     * @param level        YANG files of a level per module name
+     * @param pluginConfig YANG plugin config
+     * @throws IOException when fails to generate java code
+     */
+    private void translateLevel(Map<String, List<YangNode>> level,
+                                YangPluginConfig pluginConfig)
+            throws IOException {
+        if (level.size() == 1) {
+            translateNodes(level.values().iterator().next(), pluginConfig);
+            return;
+        }
+        List<FutureTask<Void>> tasks = new ArrayList<>();
+        for (List<YangNode> nodes : level.values()) {
+            FutureTask<Void> task = new FutureTask<>(() -> {
+                translateNodes(nodes, pluginConfig);
+                return null;
+            });
+            tasks.add(task);
+            translator.execute(task);
+        }
+        try {
+            for (FutureTask<Void> task : tasks) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while translating YANG files",
+                                  e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            for (FutureTask<Void> task : tasks) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Translates the given YANG files one after the other.
+     *
+     * @param nodes        YANG files
+     * @param pluginConfig YANG plugin config
+     * @throws IOException when fails to generate java code
+     */
+    private static void translateNodes(List<YangNode> nodes,
+                                       YangPluginConfig pluginConfig)
+            throws IOException {
+        for (YangNode node : nodes) {
+            generateJavaCode(node, pluginConfig);
+            if (pluginConfig.isGenerateBinding()) {
+                generateModelBinding(node, pluginConfig);
             }
         }
     }
@@ -419,7 +881,10 @@ public class YangCompilerManager implements YangCompilerService {
     }
 
     /**
-     * Process serialization of datamodel.
+     * Process serialization of datamodel. The model is written in the
+     * compact metadata format, or by java serialization when it holds
+     * objects the compact format does not support, so that the resource
+     * directory holds one of the two metadata files.
      *
      * @param path path of resource directory
      * @param id   model id
@@ -429,11 +894,37 @@ public class YangCompilerManager implements YangCompilerService {
         List<YangNodeInfo> nodeInfo = new ArrayList<>();
         setNodeInfo(yangFileInfoSet, nodeInfo);
         model = processYangModel(path, nodeInfo, id, false);
-        String serFileName = path + YANG_META_DATA;
-        try (FileOutputStream fileOutputStream = new FileOutputStream(serFileName);
-             ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream)) {
-            objectOutputStream.writeObject(model);
+        Path binFile = Paths.get(path + YANG_META_DATA_BIN);
+        Path serFile = Paths.get(path + YANG_META_DATA);
+        try (OutputStream out = Files.newOutputStream(binFile)) {
+            YangMetaDataWriter.write(model, out);
+            deleteIfExists(serFile);
+            return;
+        } catch (NotSerializableException e) {
+            log.warn("YANG metadata is java serialized, as the compact " +
+                             "format does not support " +
+                             e.getLocalizedMessage());
+        }
+        deleteIfExists(binFile);
+        try (OutputStream out = Files.newOutputStream(serFile)) {
+            YangMetaDataCodec.write(model, out);
+        }
+    }
+
+    /**
+     * Returns the metadata file of the resource directory, which is the
+     * compact metadata file unless only the java serialized one exists.
+     *
+     * @param path path of resource directory
+     * @return metadata file name
+     */
+    private static String metaDataFile(String path) {
+        String serFile = path + YANG_META_DATA;
+        if (new File(serFile).exists() &&
+                !new File(path + YANG_META_DATA_BIN).exists()) {
+            return serFile;
         }
+        return path + YANG_META_DATA_BIN;
     }
 
     private void setNodeInfo(Set<YangFileInfo> yangFileInfoSet,
@@ -536,7 +1027,10 @@ public class YangCompilerManager implements YangCompilerService {
     }
 
     /**
-     * Returns de-serializes YANG data-model.
+     * Returns de-serializes YANG data-model. Given a jar file, the data-model
+     * is read from the metadata entry of the jar. A metadata file is read in
+     * the compact format when it is named so, and as java serialized
+     * otherwise.
      *
      * @param info serialized File Info
      * @return de-serializes YANG data-model
@@ -545,11 +1039,20 @@ public class YangCompilerManager implements YangCompilerService {
     public static YangModel deSerializeDataModel(String info)
             throws IOException {
         YangModel model;
-        try (FileInputStream fileInputStream = new FileInputStream(info);
-             ObjectInputStream objectInputStream =
-                new ObjectInputStream(fileInputStream)) {
-            model = ((YangModel) objectInputStream.readObject());
-        } catch (IOException | ClassNotFoundException e) {
+        try {
+            if (info.endsWith(JAR)) {
+                try (JarFile jar = new JarFile(info)) {
+                    model = readMetaData(jar);
+                }
+                if (model == null) {
+                    throw new IOException("no YANG metadata in jar");
+                }
+            } else if (info.endsWith(YANG_META_DATA_BIN)) {
+                model = YangMetaDataReader.read(Paths.get(info));
+            } else {
+                model = YangMetaDataCodec.read(Paths.get(info));
+            }
+        } catch (IOException e) {
             throw new IOException(info + " failed to fetch nodes due to " + e
                     .getLocalizedMessage(), e);
         }
@@ -587,7 +1090,8 @@ public class YangCompilerManager implements YangCompilerService {
     }
 
     /**
-     * Parses jar file and returns YANG model.
+     * Parses jar file and returns YANG model. The YANG files of the jar are
+     * extracted to the resources directory of given directory.
      *
      * @param jarFile   jar file to be parsed
      * @param directory directory where to search
@@ -596,41 +1100,152 @@ public class YangCompilerManager implements YangCompilerService {
      */
     public static YangModel parseJarFile(String jarFile, String directory)
             throws IOException {
+        return parseJarFile(jarFile, directory, true);
+    }
 
-        YangModel model = null;
+    /**
+     * Parses jar file and returns YANG model. The model is read from the
+     * metadata entry of the jar, without extracting it. The YANG files of
+     * the jar are extracted to the resources directory of given directory
+     * when asked to; a file already extracted from the same entry is kept.
+     *
+     * @param jarFile          jar file to be parsed
+     * @param directory        directory where to search
+     * @param extractYangFiles true if the YANG files are extracted
+     * @return YANG model; null if the jar has no YANG model
+     * @throws IOException when fails to do IO operations
+     */
+    public static YangModel parseJarFile(String jarFile, String directory,
+                                         boolean extractYangFiles)
+            throws IOException {
         try (JarFile jar = new JarFile(jarFile)) {
-            Enumeration<?> enumEntries = jar.entries();
-
-            File dir = new File(directory + SLASH + YANG_RESOURCES);
-            if (!dir.exists()) {
-                dir.mkdirs();
-            }
-
-            while (enumEntries.hasMoreElements()) {
-                JarEntry file = (JarEntry) enumEntries.nextElement();
-                if (file.getName().endsWith(YANG_META_DATA) ||
-                    file.getName().endsWith(".yang")) {
-                    String name = getFileName(file.getName());
-                    File serializedFile = new File(directory + SLASH +
-                                                  YANG_RESOURCES + SLASH + name);
-                    if (file.isDirectory()) {
-                        serializedFile.mkdirs();
-                        continue;
-                    }
-                    try (InputStream inputStream = jar.getInputStream(file);
-                         FileOutputStream fileOutputStream =
-                                 new FileOutputStream(serializedFile)) {
-
-                        while (inputStream.available() > 0) {
-                            fileOutputStream.write(inputStream.read());
-                        }
-                        if (serializedFile.getName().endsWith(YANG_META_DATA)) {
-                            model = deSerializeDataModel(serializedFile.toString());
-                        }
+            if (extractYangFiles) {
+                extractYangFiles(jar, directory);
+            }
+            return readMetaData(jar);
+        }
+    }
+
+    /**
+     * Extracts the YANG files of given jar file to the resources directory
+     * of given directory; a file already extracted from the same entry is
+     * kept.
+     *
+     * @param jarFile   jar file
+     * @param directory directory where to extract
+     * @throws IOException when fails to do IO operations
+     */
+    public static void extractYangFiles(String jarFile, String directory)
+            throws IOException {
+        try (JarFile jar = new JarFile(jarFile)) {
+            extractYangFiles(jar, directory);
+        }
+    }
+
+    /**
+     * Extracts the compact metadata of given jar file to the resources
+     * directory of given directory; a file already extracted from the same
+     * entry is kept.
+     *
+     * @param jarFile   jar file
+     * @param directory directory where to extract
+     * @return extracted metadata file; null if the jar has no compact
+     * metadata
+     * @throws IOException when fails to do IO operations
+     */
+    public static Path extractMetaData(String jarFile, String directory)
+            throws IOException {
+        try (JarFile jar = new JarFile(jarFile)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                if (!entry.isDirectory() &&
+                        entry.getName().endsWith(YANG_META_DATA_BIN)) {
+                    File dir = new File(directory + SLASH + YANG_RESOURCES);
+                    if (!dir.exists()) {
+                        dir.mkdirs();
                     }
+                    extractYangFile(jar, entry, dir);
+                    return new File(dir, YANG_META_DATA_BIN).toPath();
                 }
             }
         }
-        return model;
+        return null;
+    }
+
+    private static void extractYangFiles(JarFile jar, String directory)
+            throws IOException {
+        File dir = new File(directory + SLASH + YANG_RESOURCES);
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (!entry.isDirectory() &&
+                    entry.getName().endsWith(YANG_FILE_EXTENSION)) {
+                extractYangFile(jar, entry, dir);
+            }
+        }
+    }
+
+    /**
+     * Returns the YANG model read from the metadata entry of given jar, in
+     * the compact format, or java serialized for the jars without compact
+     * metadata.
+     *
+     * @param jar jar file
+     * @return YANG model; null if the jar has no metadata entry
+     * @throws IOException when fails to read the model
+     */
+    private static YangModel readMetaData(JarFile jar) throws IOException {
+        JarEntry serEntry = null;
+        Enumeration<JarEntry> entries = jar.entries();
+        while (entries.hasMoreElements()) {
+            JarEntry entry = entries.nextElement();
+            if (entry.isDirectory()) {
+                continue;
+            }
+            if (entry.getName().endsWith(YANG_META_DATA_BIN)) {
+                try (InputStream in = jar.getInputStream(entry)) {
+                    return YangMetaDataReader.read(in);
+                }
+            }
+            if (entry.getName().endsWith(YANG_META_DATA)) {
+                serEntry = entry;
+            }
+        }
+        if (serEntry == null) {
+            return null;
+        }
+        try (InputStream in = jar.getInputStream(serEntry)) {
+            return YangMetaDataCodec.read(in);
+        }
+    }
+
+    /**
+     * Extracts the YANG or metadata file of given jar entry to given
+     * directory, unless it was already extracted from an entry of the same
+     * size and time.
+     *
+     * @param jar   jar file
+     * @param entry jar entry of the file
+     * @param dir   directory
+     * @throws IOException when fails to extract the file
+     */
+    private static void extractYangFile(JarFile jar, JarEntry entry, File dir)
+            throws IOException {
+        File file = new File(dir, getFileName(entry.getName()));
+        long time = entry.getTime();
+        if (time != -1 && file.lastModified() == time &&
+                file.length() == entry.getSize()) {
+            return;
+        }
+        try (InputStream in = jar.getInputStream(entry)) {
+            copy(in, file.toPath(), REPLACE_EXISTING);
+        }
+        if (time != -1) {
+            file.setLastModified(time);
+        }
     }
 }
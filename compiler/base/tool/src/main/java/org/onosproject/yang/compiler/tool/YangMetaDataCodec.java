@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.model.YangModel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Represents the codec of the java serialized YANG model metadata, which is
+ * packaged in the application jar instead of the compact metadata when the
+ * model holds objects the compact format does not support, and which is
+ * read from the jars built before the compact format.
+ * <p>
+ * Equal strings of the model, such as names, namespaces, prefixes and file
+ * names, are written once in the stream and referred to by handle
+ * afterwards, so that they are shared again when the metadata is read.
+ */
+public final class YangMetaDataCodec {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    // No instantiation.
+    private YangMetaDataCodec() {
+    }
+
+    /**
+     * Writes the YANG model to the output stream by java serialization.
+     * The output stream is flushed but not closed.
+     *
+     * @param model YANG model
+     * @param out   output stream
+     * @throws IOException when fails to write the model
+     */
+    public static void write(YangModel model, OutputStream out)
+            throws IOException {
+        ObjectOutputStream objOut = new StringTableOutputStream(
+                new BufferedOutputStream(out, BUFFER_SIZE));
+        objOut.writeObject(model);
+        objOut.flush();
+    }
+
+    /**
+     * Reads the YANG model from the input stream, written by java
+     * serialization.
+     *
+     * @param in input stream
+     * @return YANG model
+     * @throws IOException when fails to read the model
+     */
+    public static YangModel read(InputStream in) throws IOException {
+        try {
+            return (YangModel) new ObjectInputStream(
+                    new BufferedInputStream(in, BUFFER_SIZE)).readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the YANG model from the metadata file, written by java
+     * serialization.
+     *
+     * @param file metadata file
+     * @return YANG model
+     * @throws IOException when fails to read the model
+     */
+    public static YangModel read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Represents an object output stream which replaces every string by
+     * the first equal string written, so that it is written only once.
+     */
+    private static final class StringTableOutputStream
+            extends ObjectOutputStream {
+
+        private final Map<String, String> strings = new HashMap<>();
+
+        private StringTableOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            if (obj instanceof String) {
+                String str = (String) obj;
+                String prev = strings.putIfAbsent(str, str);
+                return prev == null ? str : prev;
+            }
+            return obj;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.model.ModelException;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.model.YangModuleId;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.serializeModuleMetaData;
+
+/**
+ * Represents the loader of the schemas of the modules of a YANG model,
+ * which reads the whole model from its mapped compact metadata when the
+ * schema of one of the modules is first asked for. The model is read as a
+ * whole, as its objects refer to each other across modules.
+ */
+final class YangMetaDataLoader {
+
+    private static final String SER = ".ser";
+
+    private final String path;
+    private final boolean serialize;
+    private final List<LazyYangModuleInfo> modules = new ArrayList<>();
+    private ByteBuffer metaData;
+
+    /**
+     * Creates a loader of the schemas of a YANG model.
+     *
+     * @param path      path of the YANG files and of the metadata of the
+     *                  modules
+     * @param serialize true if the metadata of each module is written once
+     *                  its schema is read
+     */
+    YangMetaDataLoader(String path, boolean serialize) {
+        this.path = path;
+        this.serialize = serialize;
+    }
+
+    /**
+     * Adds a module of the model, whose YANG file and metadata are in the
+     * path of the loader.
+     *
+     * @param id        module id
+     * @param fileName  YANG file name
+     * @param nameSpace namespace of the module; null for a submodule
+     * @param interJar  flag indicating if module is from inter-jar
+     * @return YANG module extended info
+     */
+    LazyYangModuleInfo addModule(YangModuleId id, String fileName,
+                                 String nameSpace, boolean interJar) {
+        LazyYangModuleInfo module = new LazyYangModuleInfo(
+                id, new File(path + fileName), new File(serFile(id)),
+                interJar, nameSpace, this);
+        modules.add(module);
+        return module;
+    }
+
+    /**
+     * Sets the mapped metadata the schemas are read from.
+     *
+     * @param metaData mapped metadata
+     */
+    synchronized void metaData(ByteBuffer metaData) {
+        this.metaData = metaData;
+    }
+
+    /**
+     * Returns true if the schemas of the model were read.
+     *
+     * @return true if the schemas were read, false otherwise
+     */
+    synchronized boolean isLoaded() {
+        return metaData == null;
+    }
+
+    /**
+     * Reads the schemas of the modules of the model, unless they were
+     * read, and releases the mapped metadata.
+     *
+     * @throws ModelException when fails to read the metadata
+     */
+    synchronized void load() {
+        if (metaData == null) {
+            return;
+        }
+        YangModel model;
+        try {
+            model = YangMetaDataReader.read(metaData);
+        } catch (IOException e) {
+            throw new ModelException("Failed to read YANG metadata: " +
+                                             e.getLocalizedMessage(), e);
+        }
+        for (LazyYangModuleInfo module : modules) {
+            YangModuleExtendedInfo info = (YangModuleExtendedInfo) model
+                    .getYangModule(module.getYangModuleId());
+            if (info == null) {
+                throw new ModelException("No module " +
+                                                 module.getYangModuleId() +
+                                                 " in YANG metadata");
+            }
+            YangNode schema = info.getSchema();
+            module.setSchema(schema);
+            if (serialize) {
+                serializeModuleMetaData(serFile(module.getYangModuleId()),
+                                        schema);
+            }
+        }
+        metaData = null;
+    }
+
+    private String serFile(YangModuleId id) {
+        return path + id.moduleName() + id.revision() + SER;
+    }
+}
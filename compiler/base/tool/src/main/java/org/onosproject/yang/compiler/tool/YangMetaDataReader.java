@@ -0,0 +1,714 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.model.DefaultYangModel;
+import org.onosproject.yang.model.DefaultYangModuleId;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.model.YangModuleId;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.ARRAY;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.COLLECTION;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.ENUM;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.MAGIC;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.MAP;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.OBJECT;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.VALUE;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.VERSION;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.serialClasses;
+import static org.onosproject.yang.compiler.tool.YangMetaDataWriter.serialFields;
+
+/**
+ * Represents the reader of the YANG model metadata in the compact format,
+ * written by {@link YangMetaDataWriter}.
+ * <p>
+ * The class table of the metadata is checked against the classes of the
+ * reader: every serializable class of the hierarchy of a written class
+ * must have the same serial version and the same fields, by name and type,
+ * or the metadata is rejected, as java serialization rejects a stream of
+ * an incompatible class. The objects of the model are created by the no-arg
+ * constructor of their class, which sets their transient fields, and their
+ * serialized fields are then set from the field array; the custom read
+ * methods of the classes are not called. The namespaces of the model and
+ * its schema identifiers are interned, so that they are shared with the
+ * other models and with the data nodes.
+ * <p>
+ * A metadata file is mapped in memory rather than read. Its model may be
+ * read lazily: the modules are then created from the module index of the
+ * metadata, and the schemas of all of them are read from the mapping when
+ * the schema of one of them is first asked for.
+ */
+public final class YangMetaDataReader {
+
+    private static final ClassLoader LOADER =
+            YangMetaDataReader.class.getClassLoader();
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ByteBuffer buf;
+    private String[] strings;
+    private ClassEntry[] classes;
+    private Object[] objects;
+    private final List<Object> hashed = new ArrayList<>();
+    private final List<int[]> hashedRefs = new ArrayList<>();
+
+    // Readers are created for one model.
+    private YangMetaDataReader(ByteBuffer buf) {
+        this.buf = buf;
+    }
+
+    /**
+     * Reads the YANG model from the input stream, in the compact metadata
+     * format.
+     *
+     * @param in input stream
+     * @return YANG model
+     * @throws IOException when fails to read the model
+     */
+    public static YangModel read(InputStream in) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(BUFFER_SIZE);
+        byte[] chunk = new byte[BUFFER_SIZE];
+        int n;
+        while ((n = in.read(chunk)) != -1) {
+            bytes.write(chunk, 0, n);
+        }
+        return read(ByteBuffer.wrap(bytes.toByteArray()));
+    }
+
+    /**
+     * Reads the YANG model from the metadata file, in the compact metadata
+     * format.
+     *
+     * @param file metadata file
+     * @return YANG model
+     * @throws IOException when fails to read the model
+     */
+    public static YangModel read(Path file) throws IOException {
+        return read(map(file));
+    }
+
+    /**
+     * Reads the YANG model from the buffer, in the compact metadata format.
+     * The position of the buffer is not changed.
+     *
+     * @param buf buffer
+     * @return YANG model
+     * @throws IOException when fails to read the model
+     */
+    static YangModel read(ByteBuffer buf) throws IOException {
+        return new YangMetaDataReader(buf.duplicate()).decode();
+    }
+
+    /**
+     * Returns the YANG model of the metadata file, whose modules are created
+     * from the module index of the metadata. The schemas of the modules are
+     * read from the mapping of the file by the given loader, on first use.
+     *
+     * @param file   metadata file
+     * @param loader loader of the schemas of the modules
+     * @return YANG model
+     * @throws IOException when fails to read the module index
+     */
+    static YangModel readIndex(Path file, YangMetaDataLoader loader)
+            throws IOException {
+        ByteBuffer buf = map(file);
+        YangMetaDataReader reader = new YangMetaDataReader(buf.duplicate());
+        try {
+            reader.readHeader();
+            String modelId = reader.readString();
+            int count = reader.readCount();
+            YangModel.Builder b = DefaultYangModel.builder();
+            for (int i = 0; i < count; i++) {
+                YangModuleId id = new DefaultYangModuleId(
+                        reader.readString(), reader.readString());
+                String namespace = reader.readString();
+                String fileName = reader.readString();
+                boolean interJar = reader.buf.get() != 0;
+                b.addModule(id, loader.addModule(id, fileName, namespace,
+                                                 interJar));
+            }
+            loader.metaData(buf);
+            return b.addModelId(modelId).build();
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed YANG metadata: " + e, e);
+        }
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            return channel.map(READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private YangModel decode() throws IOException {
+        try {
+            readHeader();
+            skipIndex();
+            readStrings();
+            readClasses();
+            readObjects();
+            Object model = readRef();
+            if (!(model instanceof YangModel)) {
+                throw new IOException("No YANG model in metadata");
+            }
+            return (YangModel) model;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IOException("Malformed YANG metadata: " + e, e);
+        }
+    }
+
+    private void readHeader() throws IOException {
+        if (readInt() != MAGIC) {
+            throw new IOException("Unknown YANG metadata format");
+        }
+        int version = readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported YANG metadata format " +
+                                          "version " + version);
+        }
+    }
+
+    private void skipIndex() throws IOException {
+        readString();
+        int count = readCount();
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < 4; j++) {
+                readString();
+            }
+            buf.get();
+        }
+    }
+
+    /**
+     * Returns a string of the module index, written with its length plus
+     * one, zero for null.
+     *
+     * @return string
+     * @throws IOException when the string is past the end of the metadata
+     */
+    private String readString() throws IOException {
+        int length = readCount();
+        return length == 0 ? null : readUtf(length - 1);
+    }
+
+    private String readUtf(int length) {
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void readStrings() throws IOException {
+        strings = new String[readCount()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readUtf(readVarInt());
+        }
+        int interned = readCount();
+        for (int i = 0; i < interned; i++) {
+            int index = readVarInt();
+            strings[index] = strings[index].intern();
+        }
+    }
+
+    private void readClasses() throws IOException,
+            ReflectiveOperationException {
+        classes = new ClassEntry[readCount()];
+        for (int i = 0; i < classes.length; i++) {
+            Class<?> cls = loadClass(strings[readVarInt()]);
+            ClassEntry entry = new ClassEntry(cls, buf.get());
+            switch (entry.kind) {
+                case OBJECT:
+                    readFields(entry);
+                    break;
+                case ENUM:
+                    check(cls.isEnum(), cls);
+                    break;
+                case ARRAY:
+                    check(cls.isArray(), cls);
+                    break;
+                case COLLECTION:
+                    check(Collection.class.isAssignableFrom(cls), cls);
+                    break;
+                case MAP:
+                    check(Map.class.isAssignableFrom(cls), cls);
+                    break;
+                case VALUE:
+                    break;
+                default:
+                    throw new IOException("Unknown class kind " + entry.kind);
+            }
+            classes[i] = entry;
+        }
+    }
+
+    /**
+     * Reads the serializable classes of the hierarchy of a written class,
+     * with their serial version and fields, and checks them against the
+     * classes of the reader.
+     *
+     * @param entry class entry
+     * @throws IOException                  when the classes do not match
+     * @throws ReflectiveOperationException when a class is not found
+     */
+    private void readFields(ClassEntry entry) throws IOException,
+            ReflectiveOperationException {
+        Class<?> cls = entry.cls;
+        check(Serializable.class.isAssignableFrom(cls) && !cls.isEnum(), cls);
+        List<Class<?>> serial = serialClasses(cls);
+        int count = readCount();
+        if (count != serial.size()) {
+            throw mismatch(cls, count + " serializable classes");
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c : serial) {
+            String name = strings[readVarInt()];
+            if (!name.equals(c.getName())) {
+                throw mismatch(cls, "serializable class " + name);
+            }
+            long uid = readLong();
+            if (uid != ObjectStreamClass.lookup(c).getSerialVersionUID()) {
+                throw mismatch(c, "serialVersionUID " + uid);
+            }
+            List<Field> declared = serialFields(c);
+            if (readCount() != declared.size()) {
+                throw mismatch(c, "number of fields");
+            }
+            for (Field field : declared) {
+                String fieldName = strings[readVarInt()];
+                String type = strings[readVarInt()];
+                if (!fieldName.equals(field.getName()) ||
+                        !type.equals(field.getType().getName())) {
+                    throw mismatch(c, "field " + type + " " + fieldName);
+                }
+                fields.add(field);
+            }
+        }
+        entry.fields = fields.toArray(new Field[0]);
+        entry.types = new byte[entry.fields.length];
+        for (int i = 0; i < entry.fields.length; i++) {
+            entry.types[i] = typeCode(entry.fields[i].getType());
+        }
+        entry.constructor = cls.getDeclaredConstructor();
+        entry.constructor.setAccessible(true);
+    }
+
+    private static IOException mismatch(Class<?> cls, String written) {
+        return new IOException("YANG metadata does not match class " +
+                                       cls.getName() + ": " + written);
+    }
+
+    private static Class<?> loadClass(String name)
+            throws ClassNotFoundException {
+        return Class.forName(name, false, LOADER);
+    }
+
+    private static void check(boolean valid, Class<?> cls)
+            throws IOException {
+        if (!valid) {
+            throw new IOException("Unexpected class " + cls.getName());
+        }
+    }
+
+    private static byte typeCode(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return 'L';
+        }
+        if (type == boolean.class) {
+            return 'Z';
+        }
+        if (type == long.class) {
+            return 'J';
+        }
+        return (byte) Character.toUpperCase(type.getName().charAt(0));
+    }
+
+    /**
+     * Reads the node array, creating every object, then their fields and
+     * elements. The hashed collections and maps are filled last, in the
+     * reverse order of the node array, so that their elements are filled
+     * before them.
+     *
+     * @throws IOException                  when fails to read the objects
+     * @throws ReflectiveOperationException when fails to create an object
+     */
+    private void readObjects() throws IOException,
+            ReflectiveOperationException {
+        objects = new Object[readCount()];
+        ClassEntry[] objClasses = new ClassEntry[objects.length];
+        int[] sizes = new int[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            ClassEntry entry = classes[readVarInt()];
+            objClasses[i] = entry;
+            if (entry.kind == COLLECTION || entry.kind == MAP) {
+                sizes[i] = readCount();
+            }
+            objects[i] = create(entry, sizes[i]);
+        }
+        for (int i = 0; i < objects.length; i++) {
+            fill(objects[i], objClasses[i], sizes[i]);
+        }
+        for (int i = hashed.size() - 1; i >= 0; i--) {
+            Object obj = hashed.get(i);
+            int[] refs = hashedRefs.get(i);
+            if (obj instanceof Map) {
+                Map<Object, Object> map = cast(obj);
+                for (int j = 0; j < refs.length; j += 2) {
+                    map.put(ref(refs[j]), ref(refs[j + 1]));
+                }
+            } else {
+                Collection<Object> collection = cast(obj);
+                for (int ref : refs) {
+                    collection.add(ref(ref));
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object obj) {
+        return (T) obj;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Object create(ClassEntry entry, int size) throws IOException,
+            ReflectiveOperationException {
+        switch (entry.kind) {
+            case OBJECT:
+                return entry.constructor.newInstance();
+            case ENUM:
+                return Enum.valueOf((Class) entry.cls, strings[readVarInt()]);
+            case ARRAY:
+                return Array.newInstance(entry.cls.getComponentType(),
+                                         readCount());
+            case COLLECTION:
+                return newCollection(entry.cls, size);
+            case MAP:
+                return newMap(entry.cls, size);
+            default:
+                return readValue(entry.cls);
+        }
+    }
+
+    private static Collection<Object> newCollection(Class<?> cls, int size)
+            throws IOException {
+        if (cls == ArrayList.class) {
+            return new ArrayList<>(size);
+        }
+        if (cls == LinkedList.class) {
+            return new LinkedList<>();
+        }
+        if (cls == Stack.class) {
+            return new Stack<>();
+        }
+        if (cls == Vector.class) {
+            return new Vector<>(size);
+        }
+        if (cls == ArrayDeque.class) {
+            return new ArrayDeque<>(size);
+        }
+        if (cls == HashSet.class) {
+            return new HashSet<>(capacity(size));
+        }
+        if (cls == LinkedHashSet.class) {
+            return new LinkedHashSet<>(capacity(size));
+        }
+        if (cls == TreeSet.class) {
+            return new TreeSet<>();
+        }
+        throw new IOException("Unsupported collection " + cls.getName());
+    }
+
+    private static Map<Object, Object> newMap(Class<?> cls, int size)
+            throws IOException {
+        if (cls == HashMap.class) {
+            return new HashMap<>(capacity(size));
+        }
+        if (cls == LinkedHashMap.class) {
+            return new LinkedHashMap<>(capacity(size));
+        }
+        if (cls == TreeMap.class) {
+            return new TreeMap<>();
+        }
+        throw new IOException("Unsupported map " + cls.getName());
+    }
+
+    private static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private Object readValue(Class<?> cls) throws IOException {
+        if (cls == Boolean.class) {
+            return buf.get() != 0;
+        }
+        if (cls == Character.class) {
+            return (char) readVarInt();
+        }
+        if (cls == Byte.class) {
+            return (byte) readVarLong();
+        }
+        if (cls == Short.class) {
+            return (short) readVarLong();
+        }
+        if (cls == Integer.class) {
+            return (int) readVarLong();
+        }
+        if (cls == Long.class) {
+            return readVarLong();
+        }
+        if (cls == Float.class) {
+            return Float.intBitsToFloat(readInt());
+        }
+        if (cls == Double.class) {
+            return Double.longBitsToDouble(readLong());
+        }
+        if (cls == BigInteger.class) {
+            return new BigInteger(strings[readVarInt()]);
+        }
+        if (cls == BigDecimal.class) {
+            return new BigDecimal(strings[readVarInt()]);
+        }
+        if (cls == Date.class) {
+            return new Date(readVarLong());
+        }
+        if (cls == File.class) {
+            return new File(strings[readVarInt()]);
+        }
+        if (cls == SchemaId.class) {
+            String name = (String) readRef();
+            return SchemaId.intern(name, (String) readRef());
+        }
+        if (cls == BitSet.class) {
+            long[] words = new long[readCount()];
+            for (int i = 0; i < words.length; i++) {
+                words[i] = readLong();
+            }
+            return BitSet.valueOf(words);
+        }
+        if (cls.isArray() && cls.getComponentType().isPrimitive()) {
+            return readPrimitiveArray(cls.getComponentType());
+        }
+        throw new IOException("Unsupported value " + cls.getName());
+    }
+
+    private Object readPrimitiveArray(Class<?> type) throws IOException {
+        int length = readCount();
+        if (type == byte.class) {
+            byte[] array = new byte[length];
+            buf.get(array);
+            return array;
+        }
+        Object array = Array.newInstance(type, length);
+        byte code = typeCode(type);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, readPrimitive(code));
+        }
+        return array;
+    }
+
+    private Object readPrimitive(byte code) {
+        switch (code) {
+            case 'Z':
+                return buf.get() != 0;
+            case 'B':
+                return (byte) readVarLong();
+            case 'C':
+                return (char) readVarInt();
+            case 'S':
+                return (short) readVarLong();
+            case 'I':
+                return (int) readVarLong();
+            case 'J':
+                return readVarLong();
+            case 'F':
+                return Float.intBitsToFloat(readInt());
+            case 'D':
+                return Double.longBitsToDouble(readLong());
+            default:
+                throw new IllegalStateException("Unknown type " + code);
+        }
+    }
+
+    private void fill(Object obj, ClassEntry entry, int size)
+            throws IllegalAccessException {
+        switch (entry.kind) {
+            case OBJECT:
+                for (int i = 0; i < entry.fields.length; i++) {
+                    byte code = entry.types[i];
+                    Object value = code == 'L' ? readRef() :
+                            readPrimitive(code);
+                    entry.fields[i].set(obj, value);
+                }
+                break;
+            case ARRAY:
+                Object[] array = (Object[]) obj;
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readRef();
+                }
+                break;
+            case COLLECTION:
+                if (obj instanceof List || obj instanceof ArrayDeque) {
+                    Collection<Object> collection = cast(obj);
+                    for (int i = 0; i < size; i++) {
+                        collection.add(readRef());
+                    }
+                } else {
+                    defer(obj, size);
+                }
+                break;
+            case MAP:
+                defer(obj, size * 2);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Reads the references of the elements of a hashed collection or map,
+     * which is filled once every object is filled, as the hash codes of
+     * its elements may depend on their fields.
+     *
+     * @param obj   collection or map
+     * @param count number of references
+     */
+    private void defer(Object obj, int count) {
+        int[] refs = new int[count];
+        for (int i = 0; i < count; i++) {
+            refs[i] = readVarInt();
+        }
+        hashed.add(obj);
+        hashedRefs.add(refs);
+    }
+
+    private Object readRef() {
+        return ref(readVarInt());
+    }
+
+    /**
+     * Returns the value of a reference: null for zero, the string of an
+     * odd reference or the object of an even reference.
+     *
+     * @param ref reference
+     * @return value
+     */
+    private Object ref(int ref) {
+        if (ref == 0) {
+            return null;
+        }
+        if ((ref & 1) != 0) {
+            return strings[ref >>> 1];
+        }
+        return objects[(ref >>> 1) - 1];
+    }
+
+    /**
+     * Returns the count of the items which follow, which are at least one
+     * byte each.
+     *
+     * @return count
+     * @throws IOException when the count is past the end of the metadata
+     */
+    private int readCount() throws IOException {
+        int count = readVarInt();
+        if (count < 0 || count > buf.remaining()) {
+            throw new IOException("Malformed YANG metadata: count " + count);
+        }
+        return count;
+    }
+
+    private int readInt() {
+        return buf.getInt();
+    }
+
+    private long readLong() {
+        return buf.getLong();
+    }
+
+    private int readVarInt() {
+        int v = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get();
+            v |= (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return v;
+    }
+
+    private long readVarLong() {
+        long v = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buf.get();
+            v |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return v >>> 1 ^ -(v & 1);
+    }
+
+    /**
+     * Represents the entry of a class in the class table.
+     */
+    private static final class ClassEntry {
+
+        private final Class<?> cls;
+        private final byte kind;
+        private Field[] fields;
+        private byte[] types;
+        private Constructor<?> constructor;
+
+        private ClassEntry(Class<?> cls, byte kind) {
+            this.cls = cls;
+            this.kind = kind;
+        }
+    }
+}
@@ -0,0 +1,719 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.compiler.datamodel.YangModule;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.model.YangModuleId;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.Externalizable;
+import java.io.File;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.Stack;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.Vector;
+
+/**
+ * Represents the writer of the YANG model metadata in the compact format,
+ * which the compiler packages in the application jar instead of the java
+ * serialized metadata, unless the model holds objects the format does not
+ * support.
+ * <p>
+ * The compact format is made of a header, a magic number and a format
+ * version, followed by:
+ * <ul>
+ * <li>the module index, with the model identifier and, for every module
+ * of the model, its name, revision, namespace, YANG file name and whether
+ * it is from another jar, so that the modules are known without reading
+ * the rest of the metadata;</li>
+ * <li>the string table, where every distinct string of the model is
+ * written once, followed by the strings which are interned when read,
+ * that is the namespaces of the model;</li>
+ * <li>the class table, with the kind of every class and, for the schema
+ * node classes, the serial version and the fields of each serializable
+ * class of their hierarchy, which the reader checks against its own
+ * classes;</li>
+ * <li>the node array, with the class of every object of the model and the
+ * value of the immutable ones, such as numbers and enum constants;</li>
+ * <li>the field values of the other objects, the elements of the arrays
+ * and collections and the entries of the maps, where strings and objects
+ * are referred to by their index in the tables;</li>
+ * <li>the reference of the model.</li>
+ * </ul>
+ * The fields of an object are the fields of java serialization, that is
+ * the fields which are neither static nor transient of its class and of
+ * its serializable super classes. The schema identifiers are written by
+ * name and namespace, as they are interned when read. Integers are written
+ * as variable-length integers. Objects of the classes the format does not
+ * support, such as classes with custom serialization or without a no-arg
+ * constructor to create them, fail the writing.
+ */
+public final class YangMetaDataWriter {
+
+    /**
+     * Magic number of the compact metadata format, "YSCH".
+     */
+    public static final int MAGIC = 0x59534348;
+
+    /**
+     * Version of the compact metadata format.
+     */
+    public static final int VERSION = 4;
+
+    /**
+     * Kind of the classes whose fields are written.
+     */
+    public static final byte OBJECT = 0;
+
+    /**
+     * Kind of the enum classes, whose constants are written by name.
+     */
+    public static final byte ENUM = 1;
+
+    /**
+     * Kind of the object array classes.
+     */
+    public static final byte ARRAY = 2;
+
+    /**
+     * Kind of the collection classes, which are lists and sets.
+     */
+    public static final byte COLLECTION = 3;
+
+    /**
+     * Kind of the map classes.
+     */
+    public static final byte MAP = 4;
+
+    /**
+     * Kind of the value classes, such as boxes, primitive arrays, numbers
+     * and schema identifiers, which are written with their class specific
+     * encoding.
+     */
+    public static final byte VALUE = 5;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String NAMESPACE = "namespace";
+
+    private static final Set<Class<?>> COLLECTIONS = new HashSet<>(
+            Arrays.asList(ArrayList.class, LinkedList.class, Vector.class,
+                          Stack.class, ArrayDeque.class, HashSet.class,
+                          LinkedHashSet.class, TreeSet.class));
+
+    private static final Set<Class<?>> MAPS = new HashSet<>(
+            Arrays.asList(HashMap.class, LinkedHashMap.class,
+                          TreeMap.class));
+
+    private static final Set<Class<?>> VALUES = new HashSet<>(
+            Arrays.asList(Boolean.class, Byte.class, Short.class,
+                          Character.class, Integer.class, Long.class,
+                          Float.class, Double.class, BigInteger.class,
+                          BigDecimal.class, Date.class, File.class,
+                          BitSet.class, boolean[].class, byte[].class,
+                          short[].class, char[].class, int[].class,
+                          long[].class, float[].class, double[].class,
+                          SchemaId.class));
+
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final List<String> stringList = new ArrayList<>();
+    private final Set<Integer> interned = new LinkedHashSet<>();
+    private final Map<Class<?>, ClassInfo> classes = new LinkedHashMap<>();
+    private final Map<Object, Integer> objects = new IdentityHashMap<>();
+    private final List<Object> objectList = new ArrayList<>();
+
+    private DataOutputStream out;
+
+    // Writers are created for one model.
+    private YangMetaDataWriter() {
+    }
+
+    /**
+     * Writes the YANG model to the output stream in the compact metadata
+     * format. The output stream is flushed but not closed.
+     *
+     * @param model YANG model
+     * @param out   output stream
+     * @throws NotSerializableException when the model holds an object of a
+     *                                  class which the format does not
+     *                                  support
+     * @throws IOException              when fails to write the model
+     */
+    public static void write(YangModel model, OutputStream out)
+            throws IOException {
+        YangMetaDataWriter writer = new YangMetaDataWriter();
+        writer.collect(model);
+        writer.out = new DataOutputStream(
+                new BufferedOutputStream(out, BUFFER_SIZE));
+        writer.writeAll(model);
+        writer.out.flush();
+    }
+
+    /**
+     * Collects the strings, classes and objects reachable from the model,
+     * breadth first.
+     *
+     * @param model YANG model
+     * @throws IOException when an object is not supported
+     */
+    private void collect(YangModel model) throws IOException {
+        addObject(model);
+        for (int i = 0; i < objectList.size(); i++) {
+            Object obj = objectList.get(i);
+            ClassInfo info = classInfo(obj);
+            switch (info.kind) {
+                case OBJECT:
+                    for (Field field : info.fields) {
+                        Object value = get(field, obj);
+                        if (!field.getType().isPrimitive()) {
+                            addRef(value);
+                            if (value instanceof String &&
+                                    field.getName().equals(NAMESPACE)) {
+                                interned.add(strings.get(value));
+                            }
+                        }
+                    }
+                    break;
+                case ENUM:
+                    addString(((Enum<?>) obj).name());
+                    break;
+                case ARRAY:
+                    for (Object value : (Object[]) obj) {
+                        addRef(value);
+                    }
+                    break;
+                case COLLECTION:
+                    checkOrder(obj);
+                    for (Object value : (Collection<?>) obj) {
+                        addRef(value);
+                    }
+                    break;
+                case MAP:
+                    checkOrder(obj);
+                    for (Map.Entry<?, ?> e : ((Map<?, ?>) obj).entrySet()) {
+                        addRef(e.getKey());
+                        addRef(e.getValue());
+                    }
+                    break;
+                default:
+                    if (obj instanceof SchemaId) {
+                        SchemaId id = (SchemaId) obj;
+                        addString(id.name());
+                        if (id.namespace() != null) {
+                            addString(id.namespace());
+                            interned.add(strings.get(id.namespace()));
+                        }
+                    } else if (obj instanceof File) {
+                        addString(((File) obj).getPath());
+                    } else if (obj instanceof BigInteger ||
+                            obj instanceof BigDecimal) {
+                        addString(obj.toString());
+                    }
+                    break;
+            }
+        }
+    }
+
+    private void addRef(Object value) {
+        if (value instanceof String) {
+            addString((String) value);
+        } else if (value != null) {
+            addObject(value);
+        }
+    }
+
+    private void addString(String str) {
+        if (!strings.containsKey(str)) {
+            strings.put(str, stringList.size());
+            stringList.add(str);
+        }
+    }
+
+    private void addObject(Object obj) {
+        if (!objects.containsKey(obj)) {
+            objects.put(obj, objectList.size());
+            objectList.add(obj);
+        }
+    }
+
+    /**
+     * Returns the class information of the object, which is added to the
+     * class table on first use.
+     *
+     * @param obj object
+     * @return class information
+     * @throws IOException when the class is not supported
+     */
+    private ClassInfo classInfo(Object obj) throws IOException {
+        Class<?> cls = obj instanceof Enum ?
+                ((Enum<?>) obj).getDeclaringClass() : obj.getClass();
+        ClassInfo info = classes.get(cls);
+        if (info == null) {
+            info = new ClassInfo(classes.size(), kind(obj, cls));
+            addString(cls.getName());
+            if (info.kind == OBJECT) {
+                for (Class<?> c : serialClasses(cls)) {
+                    addString(c.getName());
+                    for (Field field : serialFields(c)) {
+                        addString(field.getName());
+                        addString(field.getType().getName());
+                        info.fields.add(field);
+                    }
+                }
+            }
+            classes.put(cls, info);
+        }
+        return info;
+    }
+
+    private byte kind(Object obj, Class<?> cls) throws IOException {
+        if (obj instanceof Enum) {
+            return ENUM;
+        }
+        if (VALUES.contains(cls)) {
+            return VALUE;
+        }
+        if (cls.isArray() && !cls.getComponentType().isPrimitive()) {
+            return ARRAY;
+        }
+        if (COLLECTIONS.contains(cls)) {
+            return COLLECTION;
+        }
+        if (MAPS.contains(cls)) {
+            return MAP;
+        }
+        if (cls.getName().startsWith("java.") ||
+                !Serializable.class.isAssignableFrom(cls) ||
+                Externalizable.class.isAssignableFrom(cls)) {
+            throw new NotSerializableException(cls.getName());
+        }
+        for (Class<?> c = cls; Serializable.class.isAssignableFrom(c);
+             c = c.getSuperclass()) {
+            if (hasMethod(c, "writeObject") ||
+                    hasMethod(c, "writeReplace") ||
+                    hasMethod(c, "readResolve")) {
+                throw new NotSerializableException(
+                        "Custom serialization of " + c.getName());
+            }
+        }
+        try {
+            cls.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            throw new NotSerializableException(
+                    "No no-arg constructor of " + cls.getName());
+        }
+        return OBJECT;
+    }
+
+    /**
+     * Checks that the sorted collection or map is in natural order, which
+     * is the order it is read back in.
+     *
+     * @param obj object
+     * @throws IOException when the object has a comparator
+     */
+    private static void checkOrder(Object obj) throws IOException {
+        Comparator<?> comparator = null;
+        if (obj instanceof SortedSet) {
+            comparator = ((SortedSet<?>) obj).comparator();
+        } else if (obj instanceof SortedMap) {
+            comparator = ((SortedMap<?, ?>) obj).comparator();
+        }
+        if (comparator != null) {
+            throw new NotSerializableException(
+                    comparator.getClass().getName());
+        }
+    }
+
+    private static boolean hasMethod(Class<?> cls, String name) {
+        for (Method method : cls.getDeclaredMethods()) {
+            if (method.getName().equals(name) &&
+                    !Modifier.isStatic(method.getModifiers())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the serializable classes of the hierarchy of the class, from
+     * the top-most one down to the class.
+     *
+     * @param cls class
+     * @return serializable classes
+     */
+    static List<Class<?>> serialClasses(Class<?> cls) {
+        List<Class<?>> serial = new ArrayList<>();
+        for (Class<?> c = cls; Serializable.class.isAssignableFrom(c);
+             c = c.getSuperclass()) {
+            serial.add(0, c);
+        }
+        return serial;
+    }
+
+    /**
+     * Returns the serialized fields declared by the class, in name order.
+     *
+     * @param cls class
+     * @return accessible fields
+     */
+    static List<Field> serialFields(Class<?> cls) {
+        List<Field> fields = new ArrayList<>();
+        for (Field field : cls.getDeclaredFields()) {
+            int mod = field.getModifiers();
+            if (!Modifier.isStatic(mod) && !Modifier.isTransient(mod)) {
+                field.setAccessible(true);
+                fields.add(field);
+            }
+        }
+        fields.sort(Comparator.comparing(Field::getName));
+        return fields;
+    }
+
+    private static Object get(Field field, Object obj) throws IOException {
+        try {
+            return field.get(obj);
+        } catch (IllegalAccessException e) {
+            throw new IOException(e.getLocalizedMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the tables and the model reference.
+     *
+     * @param model YANG model
+     * @throws IOException when fails to write the model
+     */
+    private void writeAll(YangModel model) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        writeIndex(model);
+
+        writeVarInt(stringList.size());
+        for (String str : stringList) {
+            byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            out.write(bytes);
+        }
+        writeVarInt(interned.size());
+        for (int index : interned) {
+            writeVarInt(index);
+        }
+
+        writeVarInt(classes.size());
+        for (Map.Entry<Class<?>, ClassInfo> e : classes.entrySet()) {
+            ClassInfo info = e.getValue();
+            writeVarInt(strings.get(e.getKey().getName()));
+            out.writeByte(info.kind);
+            if (info.kind == OBJECT) {
+                writeLayout(e.getKey());
+            }
+        }
+
+        writeVarInt(objectList.size());
+        for (Object obj : objectList) {
+            ClassInfo info = classInfo(obj);
+            writeVarInt(info.index);
+            writeHead(obj, info.kind);
+        }
+        for (Object obj : objectList) {
+            writeBody(obj, classInfo(obj));
+        }
+        writeRef(model);
+    }
+
+    /**
+     * Writes the module index of the model.
+     *
+     * @param model YANG model
+     * @throws IOException when a module has no schema
+     */
+    private void writeIndex(YangModel model) throws IOException {
+        writeString(model.getYangModelId());
+        writeVarInt(model.getYangModules().size());
+        for (org.onosproject.yang.model.YangModule m :
+                model.getYangModules()) {
+            YangNode schema = m instanceof YangModuleExtendedInfo ?
+                    ((YangModuleExtendedInfo) m).getSchema() : null;
+            if (schema == null) {
+                throw new NotSerializableException(
+                        "No schema of module " + m.getYangModuleId());
+            }
+            YangModuleId id = m.getYangModuleId();
+            writeString(id.moduleName());
+            writeString(id.revision());
+            writeString(schema instanceof YangModule ?
+                                ((YangModule) schema).getModuleNamespace() :
+                                null);
+            writeString(schema.getFileName() == null ? null :
+                                new File(schema.getFileName()).getName());
+            out.writeBoolean(((YangModuleExtendedInfo) m).isInterJar());
+        }
+    }
+
+    /**
+     * Writes a string of the module index, which precedes the string
+     * table: its length plus one, zero for null, and its bytes.
+     *
+     * @param str string
+     * @throws IOException when fails to write the string
+     */
+    private void writeString(String str) throws IOException {
+        if (str == null) {
+            writeVarInt(0);
+            return;
+        }
+        byte[] bytes = str.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the serializable classes of the hierarchy of the class, each
+     * with its serial version and its fields, by name and type name.
+     *
+     * @param cls class
+     * @throws IOException when fails to write the classes
+     */
+    private void writeLayout(Class<?> cls) throws IOException {
+        List<Class<?>> serial = serialClasses(cls);
+        writeVarInt(serial.size());
+        for (Class<?> c : serial) {
+            writeVarInt(strings.get(c.getName()));
+            out.writeLong(ObjectStreamClass.lookup(c).getSerialVersionUID());
+            List<Field> fields = serialFields(c);
+            writeVarInt(fields.size());
+            for (Field field : fields) {
+                writeVarInt(strings.get(field.getName()));
+                writeVarInt(strings.get(field.getType().getName()));
+            }
+        }
+    }
+
+    /**
+     * Writes the part of the object which is read when it is created, that
+     * is the value of the immutable objects and the length of the others.
+     *
+     * @param obj  object
+     * @param kind kind of its class
+     * @throws IOException when fails to write the object
+     */
+    private void writeHead(Object obj, byte kind) throws IOException {
+        switch (kind) {
+            case ENUM:
+                writeVarInt(strings.get(((Enum<?>) obj).name()));
+                break;
+            case ARRAY:
+                writeVarInt(((Object[]) obj).length);
+                break;
+            case COLLECTION:
+                writeVarInt(((Collection<?>) obj).size());
+                break;
+            case MAP:
+                writeVarInt(((Map<?, ?>) obj).size());
+                break;
+            case VALUE:
+                writeValue(obj);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void writeValue(Object obj) throws IOException {
+        if (obj instanceof Boolean) {
+            out.writeBoolean((Boolean) obj);
+        } else if (obj instanceof Character) {
+            writeVarInt((Character) obj);
+        } else if (obj instanceof Float) {
+            out.writeFloat((Float) obj);
+        } else if (obj instanceof Double) {
+            out.writeDouble((Double) obj);
+        } else if (obj instanceof Byte || obj instanceof Short ||
+                obj instanceof Integer || obj instanceof Long) {
+            writeVarLong(((Number) obj).longValue());
+        } else if (obj instanceof BigInteger || obj instanceof BigDecimal) {
+            writeVarInt(strings.get(obj.toString()));
+        } else if (obj instanceof Date) {
+            writeVarLong(((Date) obj).getTime());
+        } else if (obj instanceof SchemaId) {
+            writeRef(((SchemaId) obj).name());
+            writeRef(((SchemaId) obj).namespace());
+        } else if (obj instanceof File) {
+            writeVarInt(strings.get(((File) obj).getPath()));
+        } else if (obj instanceof BitSet) {
+            long[] words = ((BitSet) obj).toLongArray();
+            writeVarInt(words.length);
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        } else {
+            writePrimitiveArray(obj);
+        }
+    }
+
+    private void writePrimitiveArray(Object array) throws IOException {
+        int length = Array.getLength(array);
+        writeVarInt(length);
+        if (array instanceof byte[]) {
+            out.write((byte[]) array);
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            writePrimitive(array.getClass().getComponentType(),
+                           Array.get(array, i));
+        }
+    }
+
+    private void writePrimitive(Class<?> type, Object value)
+            throws IOException {
+        if (type == boolean.class) {
+            out.writeBoolean((Boolean) value);
+        } else if (type == char.class) {
+            writeVarInt((Character) value);
+        } else if (type == float.class) {
+            out.writeFloat((Float) value);
+        } else if (type == double.class) {
+            out.writeDouble((Double) value);
+        } else {
+            writeVarLong(((Number) value).longValue());
+        }
+    }
+
+    /**
+     * Writes the field values of the object, or its elements.
+     *
+     * @param obj  object
+     * @param info information of its class
+     * @throws IOException when fails to write the object
+     */
+    private void writeBody(Object obj, ClassInfo info) throws IOException {
+        switch (info.kind) {
+            case OBJECT:
+                for (Field field : info.fields) {
+                    Object value = get(field, obj);
+                    if (field.getType().isPrimitive()) {
+                        writePrimitive(field.getType(), value);
+                    } else {
+                        writeRef(value);
+                    }
+                }
+                break;
+            case ARRAY:
+                for (Object value : (Object[]) obj) {
+                    writeRef(value);
+                }
+                break;
+            case COLLECTION:
+                for (Object value : (Collection<?>) obj) {
+                    writeRef(value);
+                }
+                break;
+            case MAP:
+                for (Map.Entry<?, ?> e : ((Map<?, ?>) obj).entrySet()) {
+                    writeRef(e.getKey());
+                    writeRef(e.getValue());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Writes the reference of a value: zero for null, the odd index of a
+     * string or the even index of an object, from one.
+     *
+     * @param value value
+     * @throws IOException when fails to write the reference
+     */
+    private void writeRef(Object value) throws IOException {
+        if (value == null) {
+            writeVarInt(0);
+        } else if (value instanceof String) {
+            writeVarInt(strings.get(value) << 1 | 1);
+        } else {
+            writeVarInt(objects.get(value) + 1 << 1);
+        }
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        long v = value << 1 ^ value >> 63;
+        while ((v & ~0x7FL) != 0) {
+            out.writeByte((int) (v & 0x7F | 0x80));
+            v >>>= 7;
+        }
+        out.writeByte((int) v);
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        int v = value;
+        while ((v & ~0x7F) != 0) {
+            out.writeByte(v & 0x7F | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    /**
+     * Represents the entry of a class in the class table.
+     */
+    private static final class ClassInfo {
+
+        private final int index;
+        private final byte kind;
+        private final List<Field> fields = new ArrayList<>();
+
+        private ClassInfo(int index, byte kind) {
+            this.index = index;
+            this.kind = kind;
+        }
+    }
+}
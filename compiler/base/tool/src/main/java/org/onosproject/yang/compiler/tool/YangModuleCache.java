@@ -0,0 +1,322 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.tool;
+
+import org.onosproject.yang.compiler.datamodel.LocationInfo;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.translator.tojava.JavaFileInfoTranslator;
+import org.slf4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Represents a cache of parsed YANG files, which is kept on disk and shared
+ * between compilations, and between the projects compiling the same YANG
+ * files.
+ * <p>
+ * An entry of the cache is the data model tree of a YANG file once parsed
+ * and linked within the file, identified by the hash of the content of the
+ * file. It records the hash and the version of the compiler which wrote
+ * it, which are checked against the file being compiled when the entry is
+ * read. The entries are kept per version of the compiler, as the
+ * serialized form of the trees depends on it. A damaged, mismatched or
+ * unreadable entry is ignored and the file is parsed again.
+ * <p>
+ * The number of entries is bounded by the "yang.compiler.moduleCacheSize"
+ * system property; the least recently used entries are removed past the
+ * bound when the cache is trimmed at the end of the parsing. An entry is
+ * used when it is written or read.
+ * <p>
+ * The state of the tree which is not serialized, while the linker and the
+ * translator need it, is kept along with the tree: the positions of the
+ * YANG constructs in the file, used in error messages, and the types of
+ * the java files to be generated for the nodes. The name of the YANG file
+ * recorded by the constructs is set to the name of the file being compiled.
+ */
+final class YangModuleCache {
+
+    /**
+     * System property of the maximum number of entries in the cache.
+     */
+    static final String SIZE_PROPERTY = "yang.compiler.moduleCacheSize";
+
+    private static final Logger log = getLogger(YangModuleCache.class);
+    private static final String SER = ".ser";
+    private static final String TMP = ".tmp";
+    private static final int DEFAULT_SIZE = 1000;
+
+    private final Path dir;
+    private final String version;
+    private final int size;
+
+    /**
+     * Creates an instance of module cache in the given directory.
+     *
+     * @param dir     cache directory
+     * @param version version of the compiler
+     * @param size    maximum number of entries
+     */
+    private YangModuleCache(Path dir, String version, int size) {
+        this.dir = dir;
+        this.version = version;
+        this.size = size;
+    }
+
+    /**
+     * Returns the module cache in the given directory, for the current
+     * version of the compiler.
+     *
+     * @param dir cache directory; null if no cache is used
+     * @return module cache; null if no cache is used
+     */
+    static YangModuleCache create(Path dir) {
+        if (dir == null) {
+            return null;
+        }
+        String version = YangBuildState.getCompilerVersion();
+        String name = YangBuildState.digest(version).substring(0, 16);
+        return new YangModuleCache(dir.resolve(name), version,
+                                   Integer.getInteger(SIZE_PROPERTY,
+                                                      DEFAULT_SIZE));
+    }
+
+    /**
+     * Returns the hash of the content of the given YANG file, which
+     * identifies its entry in the cache.
+     *
+     * @param file YANG file path
+     * @return hash of the YANG file; null if the file cannot be read
+     */
+    String getKey(Path file) {
+        try {
+            String hash = YangBuildState.hash(file);
+            return hash.isEmpty() ? null : hash;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the data model tree of the YANG file with the given hash, as
+     * parsed from the given file. The entry is valid only when it records
+     * the given hash, and was written by the current compiler version. The
+     * modification time of a valid entry is updated, as it is used.
+     *
+     * @param key  hash of the YANG file being compiled
+     * @param file YANG file name
+     * @return data model tree; null if the cache has no valid entry
+     */
+    YangNode get(String key, String file) {
+        Path entry = dir.resolve(key + SER);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        YangNode node;
+        try (InputStream in = new BufferedInputStream(
+                Files.newInputStream(entry));
+             ObjectInputStream ois = new ObjectInputStream(in)) {
+            String cached = ois.readUTF();
+            if (!key.equals(ois.readUTF()) ||
+                    !version.equals(ois.readUTF())) {
+                log.debug("Ignoring mismatched module cache entry {}", entry);
+                return null;
+            }
+            node = (YangNode) ois.readObject();
+            List<?> locations = (List<?>) ois.readObject();
+            int[] positions = (int[]) ois.readObject();
+            List<?> fileInfos = (List<?>) ois.readObject();
+            int[] fileTypes = (int[]) ois.readObject();
+            if (positions.length != 2 * locations.size() ||
+                    fileTypes.length != fileInfos.size()) {
+                return null;
+            }
+            for (int i = 0; i < locations.size(); i++) {
+                LocationInfo location = (LocationInfo) locations.get(i);
+                location.setLineNumber(positions[2 * i]);
+                location.setCharPosition(positions[2 * i + 1]);
+                if (cached.equals(location.getFileName())) {
+                    location.setFileName(file);
+                }
+            }
+            for (int i = 0; i < fileInfos.size(); i++) {
+                ((JavaFileInfoTranslator) fileInfos.get(i))
+                        .setGeneratedFileTypes(fileTypes[i]);
+            }
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            log.debug("Ignoring module cache entry {}", entry, e);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(
+                    System.currentTimeMillis()));
+        } catch (IOException e) {
+            log.debug("Failed to touch module cache entry {}", entry, e);
+        }
+        return node;
+    }
+
+    /**
+     * Adds the data model tree of the YANG file with the given hash to the
+     * cache. The entry is written to a temporary file which then replaces
+     * the entry, so that a concurrent compilation never reads a partial
+     * entry.
+     *
+     * @param key  hash of the YANG file
+     * @param file YANG file name
+     * @param node data model tree
+     */
+    void put(String key, String file, YangNode node) {
+        Path entry = dir.resolve(key + SER);
+        Path tmp = null;
+        try {
+            Files.createDirectories(dir);
+            tmp = Files.createTempFile(dir, key, TMP);
+            try (OutputStream out = new BufferedOutputStream(
+                    Files.newOutputStream(tmp));
+                 EntryOutputStream oos = new EntryOutputStream(out)) {
+                oos.writeUTF(file);
+                oos.writeUTF(key);
+                oos.writeUTF(version);
+                oos.writeObject(node);
+                oos.writeTransientState();
+            }
+            try {
+                Files.move(tmp, entry, ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmp, entry, REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException e) {
+            log.debug("Failed to add module cache entry {}", entry, e);
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException e) {
+                    log.debug("Failed to delete {}", tmp, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes the least recently used entries of the cache past its maximum
+     * number of entries.
+     */
+    void trim() {
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try {
+            List<Path> entries;
+            try (Stream<Path> files = Files.list(dir)) {
+                entries = files.filter(
+                        p -> p.getFileName().toString().endsWith(SER))
+                        .collect(Collectors.toList());
+            }
+            if (entries.size() <= size) {
+                return;
+            }
+            Map<Path, FileTime> times = new HashMap<>();
+            for (Path entry : entries) {
+                times.put(entry, Files.getLastModifiedTime(entry));
+            }
+            entries.sort(Comparator.comparing(times::get));
+            for (Path entry : entries.subList(0, entries.size() - size)) {
+                Files.deleteIfExists(entry);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to trim module cache {}", dir, e);
+        }
+    }
+
+    /**
+     * Represents the stream of a cache entry being written, which collects
+     * the objects whose state is not serialized.
+     */
+    private static final class EntryOutputStream extends ObjectOutputStream {
+
+        private final List<LocationInfo> locations = new ArrayList<>();
+        private final List<JavaFileInfoTranslator> fileInfos =
+                new ArrayList<>();
+
+        /**
+         * Creates an instance of entry output stream.
+         *
+         * @param out output stream
+         * @throws IOException when fails to write the stream header
+         */
+        private EntryOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) {
+            if (obj instanceof LocationInfo) {
+                locations.add((LocationInfo) obj);
+            } else if (obj instanceof JavaFileInfoTranslator) {
+                fileInfos.add((JavaFileInfoTranslator) obj);
+            }
+            return obj;
+        }
+
+        /**
+         * Writes the state which is not serialized of the objects written
+         * so far. The objects are written again as references, so they
+         * are restored in the same order when read.
+         *
+         * @throws IOException when fails to write the state
+         */
+        private void writeTransientState() throws IOException {
+            enableReplaceObject(false);
+            int[] positions = new int[2 * locations.size()];
+            for (int i = 0; i < locations.size(); i++) {
+                positions[2 * i] = locations.get(i).getLineNumber();
+                positions[2 * i + 1] = locations.get(i).getCharPosition();
+            }
+            int[] fileTypes = new int[fileInfos.size()];
+            for (int i = 0; i < fileInfos.size(); i++) {
+                fileTypes[i] = fileInfos.get(i).getGeneratedFileTypes();
+            }
+            writeObject(new ArrayList<>(locations));
+            writeObject(positions);
+            writeObject(new ArrayList<>(fileInfos));
+            writeObject(fileTypes);
+        }
+    }
+}
@@ -31,6 +31,13 @@ public class YangModuleExtendedInfo extends DefaultYangModule implements Seriali
     private YangNode schema;
     private boolean interJar;
 
+    /**
+     * Creates a YANG module extended info object.
+     */
+    @SuppressWarnings("unused")
+    private YangModuleExtendedInfo() {
+    }
+
     /**
      * Creates an instance of YANG module extended information.
      *
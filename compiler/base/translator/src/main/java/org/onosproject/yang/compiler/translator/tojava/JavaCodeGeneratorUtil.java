@@ -29,6 +29,7 @@ import org.onosproject.yang.compiler.datamodel.YangOutput;
 import org.onosproject.yang.compiler.datamodel.YangUses;
 import org.onosproject.yang.compiler.translator.exception.InvalidNodeForTranslatorException;
 import org.onosproject.yang.compiler.translator.exception.TranslatorException;
+import org.onosproject.yang.compiler.translator.tojava.utils.ModelBindingGenerator;
 import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
 
 import com.google.common.base.Throwables;
@@ -178,6 +179,20 @@ public final class JavaCodeGeneratorUtil {
         translate(rootNode, yangPlugin, true);
     }
 
+    /**
+     * Generates the model binding class of a module or sub-module whose
+     * java code is already generated.
+     *
+     * @param rootNode   root node of the data model tree
+     * @param yangPlugin YANG plugin config
+     * @throws IOException when fails to do IO operations
+     */
+    public static void generateModelBinding(YangNode rootNode,
+                                            YangPluginConfig yangPlugin)
+            throws IOException {
+        ModelBindingGenerator.generateModelBinding(rootNode, yangPlugin);
+    }
+
     /**
      * Generates the current nodes code snippet.
      *
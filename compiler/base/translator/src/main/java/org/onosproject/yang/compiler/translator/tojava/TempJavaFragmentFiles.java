@@ -37,6 +37,7 @@ import org.onosproject.yang.compiler.translator.tojava.javamodel.YangJavaGroupin
 import org.onosproject.yang.compiler.translator.tojava.javamodel.YangJavaLeafTranslator;
 import org.onosproject.yang.compiler.translator.tojava.utils.JavaExtendsListHolder;
 import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
+import org.onosproject.yang.compiler.utils.io.impl.FragmentStore;
 
 import java.io.File;
 import java.io.IOException;
@@ -1182,7 +1183,8 @@ public class TempJavaFragmentFiles {
     }
 
     /**
-     * Returns a temporary file handle for the specific file type.
+     * Returns a temporary file handle for the specific file type. The
+     * temporary file is kept in the fragment store, in memory.
      *
      * @param fileName file name
      * @return temporary file handle
@@ -1191,23 +1193,8 @@ public class TempJavaFragmentFiles {
     protected File getTemporaryFileHandle(String fileName)
             throws IOException {
         String path = getTempDirPath(absoluteDirPath);
-        File dir = new File(path);
-        boolean isCreated;
-        if (!dir.exists()) {
-            isCreated = dir.mkdirs();
-            if (!isCreated) {
-                throw new IOException("failed to create temporary directory " +
-                                              "for " + fileName);
-            }
-        }
         File file = new File(path + fileName + TEMP_FILE_EXTENSION);
-        if (!file.exists()) {
-            isCreated = file.createNewFile();
-            if (!isCreated) {
-                throw new IOException("failed to create temporary file for " +
-                                              fileName);
-            }
-        } else {
+        if (file.exists() || !FragmentStore.create(file, true)) {
             throw new IOException(fileName + " is reused due to YANG naming. " +
                                           "probably your previous build " +
                                           "would have failed");
@@ -1239,7 +1226,8 @@ public class TempJavaFragmentFiles {
     public String getTemporaryDataFromFileHandle(File file, String absolutePath)
             throws IOException {
         String path = getTempDirPath(absolutePath);
-        if (new File(path + file.getName()).exists()) {
+        File tempFile = new File(path + file.getName());
+        if (FragmentStore.contains(tempFile) || tempFile.exists()) {
             return readAppendFile(path + file.getName(), EMPTY_STRING);
         }
         throw new IOException("Unable to get data from the given " +
@@ -470,11 +470,13 @@ public final class AttributesJavaDataType {
     /**
      * Update the referred data model nodes java file info, this will be called,
      * when the linked node is yet to translate. Then resolve until the parent hierarchy.
+     * The referred nodes may be shared by modules translated concurrently,
+     * hence the update is synchronized.
      *
      * @param yangNode node whose java info needs to be updated
      * @param conf     yang plugin config
      */
-    public static void updateJavaFileInfo(YangNode yangNode,
+    public static synchronized void updateJavaFileInfo(YangNode yangNode,
                                           YangToJavaNamingConflictUtil conf) {
         Stack<YangNode> nodesToUpdatePackage = new Stack<>();
 
@@ -28,6 +28,7 @@ import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.List;
 
 import static org.onosproject.yang.compiler.translator.tojava.GeneratedJavaFileType.GENERATE_IDENTITY_CLASS;
@@ -74,6 +75,20 @@ public class YangJavaIdentityTranslator extends YangJavaIdentity
         importData = new JavaImportData();
     }
 
+    /**
+     * Restores the import data, which is not serialized, of a deserialized
+     * identity.
+     *
+     * @param in object input stream
+     * @throws IOException            when fails to read the stream
+     * @throws ClassNotFoundException when fails to find a serialized class
+     */
+    private void readObject(ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        importData = new JavaImportData();
+    }
+
     /**
      * Returns the generated java file information.
      *
@@ -46,6 +46,7 @@ import org.onosproject.yang.compiler.translator.tojava.TempJavaFragmentFiles;
 import org.onosproject.yang.compiler.translator.tojava.TempJavaServiceFragmentFiles;
 import org.onosproject.yang.compiler.translator.tojava.TempJavaTypeFragmentFiles;
 import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
+import org.onosproject.yang.compiler.utils.io.impl.FragmentStore;
 import org.onosproject.yang.compiler.utils.io.impl.JavaDocGen.JavaDocType;
 
 import java.io.File;
@@ -407,6 +408,7 @@ public final class JavaFileGeneratorUtils {
                 throw new IOException("Failed to create " + file.getName() +
                                               " class file.");
             }
+            FragmentStore.create(file, false);
             appendContents(file, className, genType, imports, pkg);
         } catch (IOException e) {
             throw new IOException("Failed to append contents in " + file.getName() +
@@ -441,6 +443,7 @@ public final class JavaFileGeneratorUtils {
                 throw new IOException("Failed to create " + file.getName() +
                                               " class file.");
             }
+            FragmentStore.create(file, false);
             appendContents(file, genType, imports, curNode, name);
         } catch (IOException e) {
             throw new IOException("Failed to append contents in " + file.getName() +
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.translator.tojava.utils;
+
+import org.onosproject.yang.compiler.datamodel.RpcNotificationContainer;
+import org.onosproject.yang.compiler.datamodel.YangAnydata;
+import org.onosproject.yang.compiler.datamodel.YangAugment;
+import org.onosproject.yang.compiler.datamodel.YangCase;
+import org.onosproject.yang.compiler.datamodel.YangChoice;
+import org.onosproject.yang.compiler.datamodel.YangContainer;
+import org.onosproject.yang.compiler.datamodel.YangGrouping;
+import org.onosproject.yang.compiler.datamodel.YangInput;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeafList;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
+import org.onosproject.yang.compiler.datamodel.YangList;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.datamodel.YangNotification;
+import org.onosproject.yang.compiler.datamodel.YangOutput;
+import org.onosproject.yang.compiler.datamodel.YangUses;
+import org.onosproject.yang.compiler.utils.io.YangPluginConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yang.compiler.translator.tojava.YangJavaModelUtils.isRootNodesCodeGenRequired;
+import static org.onosproject.yang.compiler.utils.UtilConstants.DEFAULT_CAPS;
+import static org.onosproject.yang.compiler.utils.UtilConstants.JAVA_FILE_EXTENSION;
+import static org.onosproject.yang.compiler.utils.UtilConstants.OP_PARAM;
+import static org.onosproject.yang.compiler.utils.UtilConstants.PERIOD;
+import static org.onosproject.yang.compiler.utils.io.impl.CopyrightHeader.parseCopyrightHeader;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.createDirectories;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCapitalCase;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getPackageDirPathFromJavaJPackage;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.insertDataIntoJavaFile;
+
+/**
+ * Represents generator of the model binding class of a module. The binding
+ * creates the generated model objects of the module and reads and writes
+ * their attributes through plain method calls, so that the YANG runtime
+ * does not need reflection for them.
+ */
+public final class ModelBindingGenerator {
+
+    /**
+     * Suffix of the model binding class name.
+     */
+    public static final String BINDING = "Binding";
+
+    private static final String I4 = "    ";
+    private static final String I8 = I4 + I4;
+    private static final String I12 = I8 + I4;
+    private static final String I16 = I12 + I4;
+    private static final String NL = "\n";
+    private static final String UNKNOWN_TYPE =
+            I16 + "throw new IllegalArgumentException(\"Unknown type \" + " +
+                    "type);" + NL;
+
+    // No instantiation.
+    private ModelBindingGenerator() {
+    }
+
+    /**
+     * Generates the model binding class of the given module or sub-module
+     * in the code generation directory. The java information of the nodes
+     * must already be updated by the translator. No binding is generated
+     * when the module has no model object class.
+     *
+     * @param rootNode module or sub-module node
+     * @param config   plugin configurations
+     * @throws IOException when fails to write the binding class
+     */
+    public static void generateModelBinding(YangNode rootNode,
+                                            YangPluginConfig config)
+            throws IOException {
+        List<BoundClass> classes = new ArrayList<>();
+        addBoundClasses(rootNode, classes);
+        if (classes.isEmpty()) {
+            return;
+        }
+
+        String pkg = rootNode.getJavaPackage();
+        String name = getCapitalCase(rootNode.getJavaClassNameOrBuiltInType()) +
+                BINDING;
+        File dir = createDirectories(config.getCodeGenDir() +
+                                             getPackageDirPathFromJavaJPackage(pkg));
+        File file = new File(dir, name + JAVA_FILE_EXTENSION);
+        if (!file.createNewFile()) {
+            throw new IOException(" file " + file.getName() +
+                                          " is already generated for " +
+                                          rootNode.getName());
+        }
+        insertDataIntoJavaFile(file, parseCopyrightHeader() +
+                getBindingClass(pkg, name, rootNode.getName(), classes));
+    }
+
+    /**
+     * Adds the model object classes generated for the node and its
+     * descendants, in depth first order. Groupings and cloned uses are
+     * skipped as their content is bound where it is used.
+     *
+     * @param node    YANG node
+     * @param classes bound classes
+     */
+    private static void addBoundClasses(YangNode node,
+                                        List<BoundClass> classes) {
+        if (isBound(node)) {
+            classes.add(new BoundClass(getQualifiedClassName(node),
+                                       getAttributes(node)));
+        }
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (!(child instanceof YangGrouping) &&
+                    !(child instanceof YangUses &&
+                            ((YangUses) child).isCloned())) {
+                addBoundClasses(child, classes);
+            }
+            child = child.getNextSibling();
+        }
+    }
+
+    /**
+     * Returns true if a default / op param class is generated for the node.
+     *
+     * @param node YANG node
+     * @return true if node has a model object class
+     */
+    private static boolean isBound(YangNode node) {
+        if (node instanceof YangAugment) {
+            return !(((YangAugment) node).getAugmentedNode()
+                    instanceof YangChoice);
+        }
+        if (node instanceof RpcNotificationContainer) {
+            return isRootNodesCodeGenRequired(node);
+        }
+        return node instanceof YangContainer || node instanceof YangList ||
+                node instanceof YangCase || node instanceof YangAnydata ||
+                node instanceof YangInput || node instanceof YangOutput ||
+                node instanceof YangNotification;
+    }
+
+    /**
+     * Returns the qualified name of the default / op param class of the
+     * node.
+     *
+     * @param node YANG node
+     * @return qualified class name
+     */
+    private static String getQualifiedClassName(YangNode node) {
+        String className = getCapitalCase(node.getJavaClassNameOrBuiltInType());
+        if (node instanceof RpcNotificationContainer) {
+            return node.getJavaPackage() + PERIOD + className + OP_PARAM;
+        }
+        return node.getJavaPackage() + PERIOD + DEFAULT_CAPS + className;
+    }
+
+    /**
+     * Returns the attributes of the node's model object class, i.e. its
+     * leaves, leaf-lists and child data nodes, with respect to their java
+     * attribute names. Lists with a compiler annotated data structure are
+     * left to reflection.
+     *
+     * @param node YANG node
+     * @return attributes, true for multi instance attributes
+     */
+    private static Map<String, Boolean> getAttributes(YangNode node) {
+        Map<String, Boolean> attrs = new LinkedHashMap<>();
+        if (node instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            for (YangLeaf leaf : holder.getListOfLeaf()) {
+                attrs.putIfAbsent(leaf.getJavaAttributeName(), false);
+            }
+            for (YangLeafList leafList : holder.getListOfLeafList()) {
+                attrs.putIfAbsent(leafList.getJavaAttributeName(), true);
+            }
+        }
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (child instanceof YangList) {
+                if (((YangList) child).getCompilerAnnotation() == null) {
+                    attrs.putIfAbsent(child.getJavaAttributeName(), true);
+                }
+            } else if (child instanceof YangContainer ||
+                    child instanceof YangChoice ||
+                    child instanceof YangAnydata) {
+                attrs.putIfAbsent(child.getJavaAttributeName(), false);
+            }
+            child = child.getNextSibling();
+        }
+        return attrs;
+    }
+
+    /**
+     * Returns the source of the model binding class.
+     *
+     * @param pkg     package of the binding class
+     * @param name    name of the binding class
+     * @param module  name of the module
+     * @param classes bound classes
+     * @return binding class source
+     */
+    private static String getBindingClass(String pkg, String name,
+                                          String module,
+                                          List<BoundClass> classes) {
+        StringBuilder b = new StringBuilder();
+        b.append("package ").append(pkg).append(";").append(NL).append(NL)
+                .append("import org.onosproject.yang.model.ModelBinding;")
+                .append(NL).append(NL)
+                .append("/**").append(NL)
+                .append(" * Represents the model binding of ").append(module)
+                .append(".").append(NL)
+                .append(" */").append(NL)
+                .append("public final class ").append(name)
+                .append(" implements ModelBinding {").append(NL).append(NL);
+
+        b.append(I4).append("private static final Class<?>[] CLASSES = {")
+                .append(NL);
+        for (BoundClass c : classes) {
+            b.append(I12).append(c.name).append(".class,").append(NL);
+        }
+        b.append(I4).append("};").append(NL).append(NL);
+
+        b.append(I4).append("private static final String[][] ATTRIBUTES = {")
+                .append(NL);
+        for (BoundClass c : classes) {
+            b.append(I12).append("{");
+            String sep = "";
+            for (String attr : c.attrs.keySet()) {
+                b.append(sep).append("\"").append(attr).append("\"");
+                sep = ", ";
+            }
+            b.append("},").append(NL);
+        }
+        b.append(I4).append("};").append(NL).append(NL);
+
+        b.append(I4).append("@Override").append(NL)
+                .append(I4).append("public Class<?>[] modelObjectClasses() {")
+                .append(NL)
+                .append(I8).append("return CLASSES.clone();").append(NL)
+                .append(I4).append("}").append(NL).append(NL)
+                .append(I4).append("@Override").append(NL)
+                .append(I4).append("public String[] attributes(int type) {")
+                .append(NL)
+                .append(I8).append("return ATTRIBUTES[type].clone();")
+                .append(NL)
+                .append(I4).append("}").append(NL).append(NL);
+
+        b.append(I4).append("@Override").append(NL)
+                .append(I4).append("public Object create(int type) {")
+                .append(NL)
+                .append(I8).append("switch (type) {").append(NL);
+        for (int i = 0; i < classes.size(); i++) {
+            b.append(I12).append("case ").append(i).append(":").append(NL)
+                    .append(I16).append("return new ")
+                    .append(classes.get(i).name).append("();").append(NL);
+        }
+        b.append(I12).append("default:").append(NL).append(UNKNOWN_TYPE)
+                .append(I8).append("}").append(NL)
+                .append(I4).append("}").append(NL).append(NL);
+
+        appendDispatch(b, classes, "Object get", "String attr", "attr");
+        appendDispatch(b, classes, "boolean set",
+                       "String attr, Object value", "attr, value");
+        appendDispatch(b, classes, "boolean addTo",
+                       "String attr, Object value", "attr, value");
+
+        for (int i = 0; i < classes.size(); i++) {
+            appendAccessors(b, classes.get(i), i);
+        }
+
+        b.append(I4).append("@SuppressWarnings(\"unchecked\")").append(NL)
+                .append(I4).append("private static <T> T value(Object value) {")
+                .append(NL)
+                .append(I8).append("return (T) value;").append(NL)
+                .append(I4).append("}").append(NL)
+                .append("}").append(NL);
+        return b.toString();
+    }
+
+    /**
+     * Appends a binding method which dispatches on the model object type
+     * to the accessor of that type.
+     *
+     * @param b      source builder
+     * @param cs     bound classes
+     * @param method return type and name of the method, which is also the
+     *               name prefix of the type accessors
+     * @param params parameters of the method following the type and object
+     * @param args   arguments passed on to the type accessors
+     */
+    private static void appendDispatch(StringBuilder b, List<BoundClass> cs,
+                                       String method, String params,
+                                       String args) {
+        String prefix = method.substring(method.indexOf(' ') + 1);
+        b.append(I4).append("@Override").append(NL)
+                .append(I4).append("public ").append(method)
+                .append("(int type, Object obj, ").append(params)
+                .append(") {").append(NL)
+                .append(I8).append("switch (type) {").append(NL);
+        for (int i = 0; i < cs.size(); i++) {
+            b.append(I12).append("case ").append(i).append(":").append(NL)
+                    .append(I16).append("return ").append(prefix).append(i)
+                    .append("((").append(cs.get(i).name).append(") obj, ")
+                    .append(args).append(");").append(NL);
+        }
+        b.append(I12).append("default:").append(NL).append(UNKNOWN_TYPE)
+                .append(I8).append("}").append(NL)
+                .append(I4).append("}").append(NL).append(NL);
+    }
+
+    /**
+     * Appends the getter, setter and add-to accessors of a bound class.
+     *
+     * @param b     source builder
+     * @param c     bound class
+     * @param index type identifier of the class
+     */
+    private static void appendAccessors(StringBuilder b, BoundClass c,
+                                        int index) {
+        b.append(I4).append("private static Object get").append(index)
+                .append("(").append(c.name).append(" obj, String attr) {")
+                .append(NL)
+                .append(I8).append("switch (attr) {").append(NL);
+        for (String attr : c.attrs.keySet()) {
+            b.append(I12).append("case \"").append(attr).append("\":")
+                    .append(NL)
+                    .append(I16).append("return obj.").append(attr)
+                    .append("();").append(NL);
+        }
+        b.append(I12).append("default:").append(NL)
+                .append(I16).append("throw new IllegalArgumentException(")
+                .append("\"Unknown attribute \" + attr);").append(NL)
+                .append(I8).append("}").append(NL)
+                .append(I4).append("}").append(NL).append(NL);
+
+        b.append(I4).append("private static boolean set").append(index)
+                .append("(").append(c.name)
+                .append(" obj, String attr, Object value) {").append(NL)
+                .append(I8).append("switch (attr) {").append(NL);
+        for (String attr : c.attrs.keySet()) {
+            b.append(I12).append("case \"").append(attr).append("\":")
+                    .append(NL)
+                    .append(I16).append("obj.").append(attr)
+                    .append("(value(value));").append(NL)
+                    .append(I16).append("return true;").append(NL);
+        }
+        b.append(I12).append("default:").append(NL)
+                .append(I16).append("return false;").append(NL)
+                .append(I8).append("}").append(NL)
+                .append(I4).append("}").append(NL).append(NL);
+
+        b.append(I4).append("private static boolean addTo").append(index)
+                .append("(").append(c.name)
+                .append(" obj, String attr, Object value) {").append(NL)
+                .append(I8).append("switch (attr) {").append(NL);
+        for (Map.Entry<String, Boolean> attr : c.attrs.entrySet()) {
+            if (attr.getValue()) {
+                b.append(I12).append("case \"").append(attr.getKey())
+                        .append("\":").append(NL)
+                        .append(I16).append("obj.addTo")
+                        .append(getCapitalCase(attr.getKey()))
+                        .append("(value(value));").append(NL)
+                        .append(I16).append("return true;").append(NL);
+            }
+        }
+        b.append(I12).append("default:").append(NL)
+                .append(I16).append("return false;").append(NL)
+                .append(I8).append("}").append(NL)
+                .append(I4).append("}").append(NL).append(NL);
+    }
+
+    /**
+     * Represents a bound model object class.
+     */
+    private static final class BoundClass {
+
+        private final String name;
+        private final Map<String, Boolean> attrs;
+
+        /**
+         * Creates a bound class.
+         *
+         * @param name  qualified class name
+         * @param attrs attributes, true for multi instance attributes
+         */
+        private BoundClass(String name, Map<String, Boolean> attrs) {
+            this.name = name;
+            this.attrs = attrs;
+        }
+    }
+}
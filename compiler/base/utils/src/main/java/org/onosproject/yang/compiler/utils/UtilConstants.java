@@ -1805,6 +1805,11 @@ public final class UtilConstants {
      */
     public static final String YANG_META_DATA = "YangMetaData.ser";
 
+    /**
+     * Compact meta data file name.
+     */
+    public static final String YANG_META_DATA_BIN = "YangMetaData.bin";
+
     /**
      * Static attribute for concurrent import package.
      */
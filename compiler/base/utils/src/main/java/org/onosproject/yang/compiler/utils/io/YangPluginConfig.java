@@ -53,6 +53,11 @@ public final class YangPluginConfig {
      */
     private String resourceGenDir;
 
+    /**
+     * Model binding classes are to be generated along with the java code.
+     */
+    private boolean generateBinding;
+
     /**
      * Creates an object for YANG plugin config.
      */
@@ -122,6 +127,25 @@ public final class YangPluginConfig {
         this.resourceGenDir = resourceGenDir;
     }
 
+    /**
+     * Returns true if model binding classes are to be generated.
+     *
+     * @return true if model binding classes are to be generated
+     */
+    public boolean isGenerateBinding() {
+        return generateBinding;
+    }
+
+    /**
+     * Sets whether model binding classes are to be generated.
+     *
+     * @param generateBinding true if model binding classes are to be
+     *                        generated
+     */
+    public void setGenerateBinding(boolean generateBinding) {
+        this.generateBinding = generateBinding;
+    }
+
     /**
      * TODO: delete me, it is not part of config, it needs to be updated for
      * test scripts
@@ -22,6 +22,8 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -67,9 +69,10 @@ public final class FileSystemUtil {
     public static String readAppendFile(String toAppend, String spaces)
             throws IOException {
 
-        FileReader fileReader = new FileReader(toAppend);
-        BufferedReader bufferReader = new BufferedReader(fileReader);
-        try {
+        String contents = FragmentStore.read(new File(toAppend));
+        Reader reader = contents == null ? new FileReader(toAppend) :
+                new StringReader(contents);
+        try (BufferedReader bufferReader = new BufferedReader(reader)) {
             StringBuilder stringBuilder = new StringBuilder();
             String line = bufferReader.readLine();
 
@@ -93,14 +96,12 @@ public final class FileSystemUtil {
                 line = bufferReader.readLine();
             }
             return stringBuilder.toString();
-        } finally {
-            fileReader.close();
-            bufferReader.close();
         }
     }
 
     /**
-     * Updates the generated file handle.
+     * Updates the generated file handle. The content of a file which is in
+     * the fragment store is appended in memory.
      *
      * @param inputFile        input file
      * @param contentTobeAdded content to be appended to the file
@@ -112,6 +113,9 @@ public final class FileSystemUtil {
                                         boolean isClose)
             throws IOException {
 
+        if (!isClose && FragmentStore.append(inputFile, contentTobeAdded)) {
+            return;
+        }
         List<FileWriter> fileWriterStore = new ArrayList<>();
 
         FileWriter fileWriter = new FileWriter(inputFile, true);
@@ -130,7 +134,9 @@ public final class FileSystemUtil {
     }
 
     /**
-     * Closes the file handle for temporary file.
+     * Closes the file handle for temporary file. The content of a file
+     * which is in the fragment store is written to disk, unless the file
+     * is to be deleted.
      *
      * @param file        file to be closed
      * @param toBeDeleted flag to indicate if file needs to be deleted
@@ -140,8 +146,11 @@ public final class FileSystemUtil {
             throws IOException {
 
         if (file != null) {
-            updateFileHandle(file, null, true);
-            if (toBeDeleted) {
+            boolean buffered = FragmentStore.release(file, !toBeDeleted);
+            if (!buffered && !toBeDeleted) {
+                updateFileHandle(file, null, true);
+            }
+            if (toBeDeleted && file.exists()) {
                 boolean deleted = file.delete();
                 if (!deleted) {
                     throw new IOException("Failed to delete temporary file " + file.getName());
@@ -157,15 +166,7 @@ public final class FileSystemUtil {
      * @throws IOException when failed to close the file handle
      */
     public static void closeFile(File file) throws IOException {
-
-        if (file != null) {
-            updateFileHandle(file, null, true);
-            boolean deleted = file.delete();
-            if (!deleted) {
-                throw new IOException("Failed to delete temporary file " +
-                                              file.getName());
-            }
-        }
+        closeFile(file, true);
     }
     // TODO follow coding guidelines in remaining of this file.
 }
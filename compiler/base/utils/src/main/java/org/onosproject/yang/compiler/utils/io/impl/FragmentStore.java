@@ -0,0 +1,313 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.utils.io.impl;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents the store of the contents of the files written by the code
+ * generation, which keeps the contents in memory until the files are
+ * closed.
+ * <p>
+ * A store is opened by a compilation for its code generation directory
+ * and covers the files under it until it is closed, which drops the
+ * contents left by a failed compilation. The files which no open store
+ * covers are handled on disk.
+ * <p>
+ * A temporary fragment file only lives in the store and is dropped when
+ * closed. A generated java file is created on disk empty, so that it is
+ * seen as generated, and its contents are written at once when closed.
+ * When the contents in the store exceed the buffer limit, which is set
+ * in characters by the "yang.compiler.fragmentBufferLimit" system
+ * property, the file being appended is spilled to disk and the following
+ * writes go to the disk.
+ */
+public final class FragmentStore implements Closeable {
+
+    /**
+     * System property of the limit of the contents kept in memory.
+     */
+    public static final String BUFFER_LIMIT_PROPERTY =
+            "yang.compiler.fragmentBufferLimit";
+
+    private static final long BUFFER_LIMIT =
+            Long.getLong(BUFFER_LIMIT_PROPERTY, 64L * 1024 * 1024);
+
+    private static final List<FragmentStore> STORES =
+            new CopyOnWriteArrayList<>();
+
+    private final String root;
+    private final Map<String, Fragment> fragments = new ConcurrentHashMap<>();
+    private final AtomicLong size = new AtomicLong();
+
+    /**
+     * Creates an instance of fragment store.
+     *
+     * @param root key of the directory covered by the store
+     */
+    private FragmentStore(String root) {
+        this.root = root;
+    }
+
+    /**
+     * Opens a store covering the files under the given directory.
+     *
+     * @param dir code generation directory
+     * @return fragment store
+     * @throws IOException when the directory is covered by a store which
+     *                     is already open
+     */
+    public static FragmentStore open(String dir) throws IOException {
+        FragmentStore store = new FragmentStore(getRoot(dir));
+        synchronized (STORES) {
+            for (FragmentStore open : STORES) {
+                if (open.root.startsWith(store.root) ||
+                        store.root.startsWith(open.root)) {
+                    throw new IOException(dir + " is in use by another " +
+                                                  "compilation");
+                }
+            }
+            STORES.add(store);
+        }
+        return store;
+    }
+
+    /**
+     * Closes the store, dropping the contents of the files left in it.
+     */
+    @Override
+    public void close() {
+        STORES.remove(this);
+        fragments.clear();
+        size.set(0);
+    }
+
+    /**
+     * Adds the given file to the store covering it with empty contents.
+     * When no store covers it, a temporary fragment file is created on
+     * disk instead.
+     *
+     * @param file      file
+     * @param temporary true if the file is a temporary fragment file, which
+     *                  is dropped when closed
+     * @return true if added; false if the file is already in the store, or
+     * is not a created temporary file when no store covers it
+     * @throws IOException when fails to create the file on disk
+     */
+    public static boolean create(File file, boolean temporary)
+            throws IOException {
+        String key = getKey(file);
+        FragmentStore store = getStore(key);
+        if (store == null) {
+            return temporary && createOnDisk(file);
+        }
+        return store.fragments.putIfAbsent(
+                key, store.new Fragment(file, temporary)) == null;
+    }
+
+    /**
+     * Returns true if the given file is in a store.
+     *
+     * @param file file
+     * @return true if the file is in a store
+     */
+    public static boolean contains(File file) {
+        return getFragment(getKey(file)) != null;
+    }
+
+    /**
+     * Appends the given data to the file in the store.
+     *
+     * @param file file
+     * @param data data to be appended
+     * @return true if appended; false if the file is not in a store
+     * @throws IOException when fails to spill the file to disk
+     */
+    static boolean append(File file, String data) throws IOException {
+        Fragment fragment = getFragment(getKey(file));
+        if (fragment == null) {
+            return false;
+        }
+        fragment.append(data);
+        return true;
+    }
+
+    /**
+     * Returns the contents of the file in the store.
+     *
+     * @param file file
+     * @return contents of the file; null if the file is not in a store or
+     * spilled to disk
+     */
+    static String read(File file) {
+        Fragment fragment = getFragment(getKey(file));
+        return fragment == null ? null : fragment.read();
+    }
+
+    /**
+     * Removes the file from the store, writing its contents to disk when
+     * asked to.
+     *
+     * @param file  file
+     * @param write true if the contents are written to disk
+     * @return true if removed; false if the file is not in a store
+     * @throws IOException when fails to write the file
+     */
+    static boolean release(File file, boolean write) throws IOException {
+        String key = getKey(file);
+        FragmentStore store = getStore(key);
+        Fragment fragment = store == null ? null :
+                store.fragments.remove(key);
+        if (fragment == null) {
+            return false;
+        }
+        fragment.release(write);
+        return true;
+    }
+
+    /**
+     * Removes the files under the given directory from the store. The
+     * contents of the generated java files are written to disk and the
+     * temporary fragment files are dropped.
+     *
+     * @param dir directory
+     * @throws IOException when fails to write a file
+     */
+    public static void releaseAll(String dir) throws IOException {
+        String root = getRoot(dir);
+        for (FragmentStore store : STORES) {
+            if (!root.startsWith(store.root) &&
+                    !store.root.startsWith(root)) {
+                continue;
+            }
+            for (Map.Entry<String, Fragment> entry :
+                    store.fragments.entrySet()) {
+                if (entry.getKey().startsWith(root) &&
+                        store.fragments.remove(entry.getKey(),
+                                               entry.getValue())) {
+                    Fragment fragment = entry.getValue();
+                    fragment.release(!fragment.temporary);
+                }
+            }
+        }
+    }
+
+    private static FragmentStore getStore(String key) {
+        for (FragmentStore store : STORES) {
+            if (key.startsWith(store.root)) {
+                return store;
+            }
+        }
+        return null;
+    }
+
+    private static Fragment getFragment(String key) {
+        FragmentStore store = getStore(key);
+        return store == null ? null : store.fragments.get(key);
+    }
+
+    private static boolean createOnDisk(File file) throws IOException {
+        File dir = file.getParentFile();
+        if (dir != null && !dir.exists() && !dir.mkdirs()) {
+            throw new IOException("failed to create temporary directory " +
+                                          dir);
+        }
+        return file.createNewFile();
+    }
+
+    private static String getRoot(String dir) {
+        return getKey(new File(dir)) + File.separator;
+    }
+
+    private static String getKey(File file) {
+        return file.toPath().toAbsolutePath().normalize().toString();
+    }
+
+    /**
+     * Represents the contents of a file in the store.
+     */
+    private final class Fragment {
+
+        private final File file;
+        private final boolean temporary;
+        private StringBuilder contents = new StringBuilder();
+
+        /**
+         * Creates an instance of fragment.
+         *
+         * @param file      file
+         * @param temporary true for a temporary fragment file
+         */
+        private Fragment(File file, boolean temporary) {
+            this.file = file;
+            this.temporary = temporary;
+        }
+
+        private synchronized void append(String data) throws IOException {
+            if (contents == null) {
+                write(data);
+                return;
+            }
+            contents.append(data);
+            if (size.addAndGet(data.length()) > BUFFER_LIMIT) {
+                spill();
+            }
+        }
+
+        private synchronized String read() {
+            return contents == null ? null : contents.toString();
+        }
+
+        private synchronized void release(boolean write) throws IOException {
+            if (contents == null) {
+                return;
+            }
+            size.addAndGet(-contents.length());
+            String data = contents.toString();
+            contents = null;
+            if (write) {
+                write(data);
+            }
+        }
+
+        private void spill() throws IOException {
+            File dir = file.getParentFile();
+            if (dir != null && !dir.exists() && !dir.mkdirs()) {
+                throw new IOException("failed to create directory " + dir);
+            }
+            size.addAndGet(-contents.length());
+            String data = contents.toString();
+            contents = null;
+            write(data);
+        }
+
+        private void write(String data) throws IOException {
+            try (Writer writer = new FileWriter(file, true)) {
+                writer.write(data);
+            }
+        }
+    }
+}
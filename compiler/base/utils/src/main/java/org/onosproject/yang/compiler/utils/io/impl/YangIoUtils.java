@@ -96,7 +96,8 @@ public final class YangIoUtils {
         File generatedDir = new File(path);
         if (!generatedDir.exists()) {
             boolean isGenerated = generatedDir.mkdirs();
-            if (!isGenerated) {
+            // Directory may be created meanwhile by a concurrent translation.
+            if (!isGenerated && !generatedDir.isDirectory()) {
                 throw new IOException("failed to generated directory " + path);
             }
         }
@@ -190,13 +191,16 @@ public final class YangIoUtils {
     }
 
     /**
-     * Searches and deletes generated temporary directories.
+     * Searches and deletes generated temporary directories. The files
+     * under the root directory which are still in the fragment store are
+     * released from it first.
      *
      * @param root root directory
      * @throws IOException when fails to do IO operations.
      */
     public static void searchAndDeleteTempDir(String root)
             throws IOException {
+        FragmentStore.releaseAll(root);
         List<File> store = new LinkedList<>();
         Stack<String> stack = new Stack<>();
         stack.push(root);
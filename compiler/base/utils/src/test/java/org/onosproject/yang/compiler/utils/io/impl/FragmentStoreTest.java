@@ -0,0 +1,167 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.utils.io.impl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.io.FileUtils.deleteDirectory;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.closeFile;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.readAppendFile;
+import static org.onosproject.yang.compiler.utils.io.impl.FileSystemUtil.updateFileHandle;
+
+/**
+ * Tests the fragment store of the generated files.
+ */
+public final class FragmentStoreTest {
+
+    private static final String BASE_PKG = "target/FragmentStoreTest/";
+    private static final String LINE_1 = "first line\n";
+    private static final String LINE_2 = "second line\n";
+
+    private FragmentStore store;
+
+    @Before
+    public void setUp() throws IOException {
+        store = FragmentStore.open(BASE_PKG);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        store.close();
+        deleteDirectory(new File(BASE_PKG));
+    }
+
+    /**
+     * Checks that a temporary fragment file is kept in memory only, and is
+     * dropped when closed.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processTemporaryFile() throws IOException {
+        File file = new File(BASE_PKG + "Node-Temp/Getter.tmp");
+        assertThat(FragmentStore.create(file, true), is(true));
+        assertThat(FragmentStore.create(file, true), is(false));
+
+        updateFileHandle(file, LINE_1, false);
+        updateFileHandle(file, LINE_2, false);
+        assertThat(readAppendFile(file.getPath(), ""), is(LINE_1 + LINE_2));
+        assertThat(file.exists(), is(false));
+
+        closeFile(file);
+        assertThat(FragmentStore.contains(file), is(false));
+        assertThat(file.exists(), is(false));
+    }
+
+    /**
+     * Checks that the contents of a generated file are written to disk
+     * when the file is closed.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processGeneratedFile() throws IOException {
+        File file = createGeneratedFile("Node.java");
+
+        updateFileHandle(file, LINE_1, false);
+        updateFileHandle(file, LINE_2, false);
+        assertThat(read(file), is(""));
+
+        closeFile(file, false);
+        assertThat(read(file), is(LINE_1 + LINE_2));
+        assertThat(FragmentStore.contains(file), is(false));
+    }
+
+    /**
+     * Checks that the generated files under a directory are written to
+     * disk and its temporary fragment files are dropped when the directory
+     * is released.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processReleaseAll() throws IOException {
+        File generated = createGeneratedFile("Node.java");
+        File temp = new File(BASE_PKG + "Node-Temp/Getter.tmp");
+        FragmentStore.create(temp, true);
+        updateFileHandle(generated, LINE_1, false);
+        updateFileHandle(temp, LINE_2, false);
+
+        FragmentStore.releaseAll(BASE_PKG);
+        assertThat(read(generated), is(LINE_1));
+        assertThat(FragmentStore.contains(temp), is(false));
+        assertThat(temp.exists(), is(false));
+    }
+
+    /**
+     * Checks that the files left in a store are dropped when it is closed,
+     * so that a compilation after a failed one can create them again, and
+     * that the files no open store covers are handled on disk.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processClose() throws IOException {
+        File temp = new File(BASE_PKG + "Node-Temp/Getter.tmp");
+        assertThat(FragmentStore.create(temp, true), is(true));
+        updateFileHandle(temp, LINE_1, false);
+        store.close();
+        assertThat(FragmentStore.contains(temp), is(false));
+
+        assertThat(FragmentStore.create(temp, true), is(true));
+        updateFileHandle(temp, LINE_2, false);
+        assertThat(read(temp), is(LINE_2));
+        closeFile(temp, true);
+        assertThat(temp.exists(), is(false));
+
+        store = FragmentStore.open(BASE_PKG);
+        assertThat(FragmentStore.create(temp, true), is(true));
+        assertThat(temp.exists(), is(false));
+    }
+
+    /**
+     * Checks that a directory covered by an open store can not be opened
+     * by another compilation.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test(expected = IOException.class)
+    public void processOpenTwice() throws IOException {
+        FragmentStore.open(BASE_PKG + "Node");
+    }
+
+    private static File createGeneratedFile(String name) throws IOException {
+        File file = new File(BASE_PKG + name);
+        file.getParentFile().mkdirs();
+        assertThat(file.createNewFile(), is(true));
+        assertThat(FragmentStore.create(file, false), is(true));
+        return file;
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), UTF_8);
+    }
+}
@@ -26,7 +26,9 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.parseDepSchemaPath;
 import static org.onosproject.yang.compiler.utils.UtilConstants.SLASH;
 import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
@@ -36,6 +38,18 @@ import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
  */
 public class YangGenerator {
 
+    /**
+     * System property giving the directory of the cache of parsed YANG
+     * files shared between builds.
+     */
+    private static final String MODULE_CACHE = "yang.module.cache";
+
+    /**
+     * System property giving the number of threads which translate the
+     * YANG files to java; zero uses one thread per available processor.
+     */
+    private static final String TRANSLATOR_THREADS = "yang.translator.threads";
+
     private final List<File> models;
     private final List<String> depJar;
     private String outputDirectory;
@@ -64,9 +78,6 @@ public class YangGenerator {
      */
     public void execute() throws YangParsingException {
         synchronized (YangGenerator.class) {
-            //Yang compiler service.
-            YangCompilerService compiler = new YangCompilerManager();
-
             //Create compiler param.
             DefaultYangCompilationParam.Builder bldr =
                     DefaultYangCompilationParam.builder();
@@ -93,11 +104,30 @@ public class YangGenerator {
 
             bldr.setModelId(modelId);
 
+            String cacheDir = System.getProperty(MODULE_CACHE);
+            if (cacheDir != null && !cacheDir.isEmpty()) {
+                bldr.setModuleCacheDir(Paths.get(cacheDir));
+            }
+
+            int threads = Integer.getInteger(TRANSLATOR_THREADS, 1);
+            ExecutorService translator = threads == 1 ? null :
+                    newFixedThreadPool(threads > 0 ? threads :
+                                               Runtime.getRuntime().availableProcessors());
+
+            //Yang compiler service.
+            YangCompilerService compiler = translator == null ?
+                    new YangCompilerManager() :
+                    new YangCompilerManager(Runnable::run, translator);
+
             //Compile yang files and generate java code.
             try {
                 output = compiler.compileYangFiles(bldr.build());
             } catch (IOException e) {
                 throw new YangParsingException(e);
+            } finally {
+                if (translator != null) {
+                    translator.shutdownNow();
+                }
             }
         }
     }
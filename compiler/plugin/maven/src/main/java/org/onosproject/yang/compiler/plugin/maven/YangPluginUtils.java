@@ -107,7 +107,7 @@ final class YangPluginUtils {
      * @param localRepository local maven repository
      * @param remoteRepos     list of remote repository
      * @param directory       directory for serialized files
-     * @return list of resolved serialized file paths
+     * @return list of paths of the jars holding the dependent schemas
      * @throws IOException when fails to do IO operations
      */
     static List<Path> resolveInterJarDependencies(MavenProject project,
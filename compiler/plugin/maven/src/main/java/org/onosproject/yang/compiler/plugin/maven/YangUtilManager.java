@@ -36,7 +36,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.apache.maven.plugins.annotations.LifecyclePhase.PROCESS_SOURCES;
 import static org.apache.maven.plugins.annotations.ResolutionScope.COMPILE;
 import static org.onosproject.yang.compiler.plugin.maven.YangPluginUtils.addToCompilationRoot;
@@ -68,6 +70,7 @@ import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getVersion
 public class YangUtilManager extends AbstractMojo {
 
     private static final int SUPPORTED_VERSION = 339;
+    private static final String BUILD_STATE = "yang-build.state";
     private String codeGenDir;
     private YangCompiledOutput output;
 
@@ -90,6 +93,42 @@ public class YangUtilManager extends AbstractMojo {
     @Parameter(property = "modelId")
     private String modelId;
 
+    /**
+     * Generates a model binding class for every module, which lets the YANG
+     * runtime convert model objects without reflection.
+     */
+    @Parameter(property = "generateBinding", defaultValue = "false")
+    private boolean generateBinding;
+
+    /**
+     * Number of threads which parse and link the YANG files; zero uses one
+     * thread per available processor.
+     */
+    @Parameter(property = "compilerThreads", defaultValue = "0")
+    private int compilerThreads;
+
+    /**
+     * Number of threads which translate the YANG files to java; one
+     * translates them in the build thread and zero uses one thread per
+     * available processor. The generated code does not depend on it.
+     */
+    @Parameter(property = "translatorThreads", defaultValue = "1")
+    private int translatorThreads;
+
+    /**
+     * Compiles only the YANG files which changed since the previous build,
+     * along with the files depending on them.
+     */
+    @Parameter(property = "incremental", defaultValue = "true")
+    private boolean incremental;
+
+    /**
+     * Directory of the cache of parsed YANG files shared between builds;
+     * the cache is not used unless it is set.
+     */
+    @Parameter(property = "yangModuleCache")
+    private String moduleCache;
+
     /**
      * Base directory for project.
      */
@@ -103,6 +142,13 @@ public class YangUtilManager extends AbstractMojo {
             defaultValue = "target/classes")
     private String outputDirectory;
 
+    /**
+     * Build directory, which keeps the state of the previous build.
+     */
+    @Parameter(property = "project.build.directory", required = true,
+            defaultValue = "target")
+    private String buildDirectory;
+
     /**
      * Current maven project.
      */
@@ -146,13 +192,25 @@ public class YangUtilManager extends AbstractMojo {
 
         String metaDataGenDir;
         String outputDir;
+        ExecutorService compilerExecutor = newFixedThreadPool(
+                compilerThreads > 0 ? compilerThreads :
+                        Runtime.getRuntime().availableProcessors());
+        ExecutorService translatorExecutor = translatorThreads == 1 ? null :
+                newFixedThreadPool(translatorThreads > 0 ? translatorThreads :
+                                           Runtime.getRuntime().availableProcessors());
         try {
             validateMavenVersion();
             /*
-             * For deleting the generated code in previous build.
+             * For deleting the generated code in previous build. The
+             * metadata of an incremental build is kept, as it is reused for
+             * the unchanged files.
              */
             outputDir = getDirectory(baseDir, outputDirectory);
-            deleteDirectory(outputDir + SLASH + TEMP);
+            Path stateFile = Paths.get(getDirectory(baseDir, buildDirectory),
+                                       BUILD_STATE);
+            if (!incremental || !stateFile.toFile().exists()) {
+                deleteDirectory(outputDir + SLASH + TEMP);
+            }
             deleteDirectory(outputDir + SLASH + YANG_RESOURCES);
             String searchDir = getDirectory(baseDir, yangFilesDir);
 
@@ -162,7 +220,11 @@ public class YangUtilManager extends AbstractMojo {
             metaDataGenDir = outputDir + SLASH + DEFAULT_JAR_RES_PATH;
 
             //Yang compiler service.
-            YangCompilerService compiler = new YangCompilerManager();
+            YangCompilerService compiler =
+                    new YangCompilerManager(compilerExecutor,
+                                            translatorExecutor == null ?
+                                                    Runnable::run :
+                                                    translatorExecutor);
 
             //Need to get dependent schema paths to give inter jar dependencies.
             List<Path> depSchemas = resolveInterJarDependencies(
@@ -174,6 +236,13 @@ public class YangUtilManager extends AbstractMojo {
 
             bldr.setCodeGenDir(Paths.get(codeGenDir));
             bldr.setMetadataGenDir(Paths.get(metaDataGenDir));
+            bldr.setGenerateBinding(generateBinding);
+            if (incremental) {
+                bldr.setBuildStateFile(stateFile);
+            }
+            if (moduleCache != null && !moduleCache.isEmpty()) {
+                bldr.setModuleCacheDir(Paths.get(moduleCache));
+            }
 
             for (Path path : depSchemas) {
                 bldr.addDependentSchema(path);
@@ -213,6 +282,11 @@ public class YangUtilManager extends AbstractMojo {
         } catch (IOException e) {
             throw new MojoExecutionException(
                     "Failed to process files");
+        } finally {
+            compilerExecutor.shutdownNow();
+            if (translatorExecutor != null) {
+                translatorExecutor.shutdownNow();
+            }
         }
     }
 
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yang.compiler.api.YangCompiledOutput;
+import org.onosproject.yang.compiler.tool.DefaultYangCompilationParam;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for the incremental compilation of YANG files.
+ */
+public class IncrementalCompilationTest {
+
+    private static final String RESOURCES =
+            "src/test/resources/incrementalCompilation/";
+    private static final String DIR = "target/incrementalCompilation/";
+    private static final String YANG_DIR = DIR + "yang/";
+    private static final String CODE_GEN_DIR = DIR + "generated/";
+    private static final String META_DATA_DIR = DIR + "metadata/";
+    private static final String BUILD_STATE = DIR + "yang-build.state";
+    private static final String BASE = "Base.java";
+    private static final String USER = "User.java";
+    private static final String OTHER = "Other.java";
+    private static final String SETTINGS = "Settings.java";
+
+    @Before
+    public void setUp() throws IOException {
+        deleteDirectory(DIR);
+        Files.createDirectories(Paths.get(YANG_DIR));
+        for (String name : new String[]{"base", "user", "other"}) {
+            Files.copy(Paths.get(RESOURCES + name + ".yang"), yangFile(name));
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks that the modules which neither changed nor depend on a changed
+     * module are not compiled again.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedModule() throws IOException {
+        compile();
+        assertThat(Files.exists(Paths.get(BUILD_STATE)), is(true));
+        Path base = generated(BASE);
+        Path user = generated(USER);
+        Files.delete(base);
+        Files.delete(user);
+
+        edit("other", "type int32;", "type int64;");
+        compile();
+        assertThat(Files.exists(base), is(false));
+        assertThat(Files.exists(user), is(false));
+        assertThat(read(generated(SETTINGS)).contains("long x()"), is(true));
+    }
+
+    /**
+     * Checks that the modules importing a changed module are compiled
+     * again.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processImportingModule() throws IOException {
+        compile();
+        Path user = generated(USER);
+        Path other = generated(OTHER);
+        Files.delete(user);
+        Files.delete(other);
+
+        edit("base", "leaf a {", "leaf c {\n            type string;\n" +
+                "        }\n        leaf a {");
+        compile();
+        assertThat(Files.exists(user), is(true));
+        assertThat(Files.exists(other), is(false));
+    }
+
+    /**
+     * Checks that the module of a base identity is compiled again when a
+     * module deriving from it changed.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processBaseIdentityModule() throws IOException {
+        compile();
+        Path base = generated(BASE);
+        Path other = generated(OTHER);
+        Files.delete(base);
+        Files.delete(other);
+
+        edit("user", "uses base:name;", "uses base:name;\n" +
+                "        leaf age {\n            type int32;\n        }");
+        compile();
+        assertThat(Files.exists(base), is(true));
+        assertThat(Files.exists(other), is(false));
+    }
+
+    /**
+     * Checks that nothing is compiled again when no file changed, and that
+     * the model of the previous compilation is returned.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processUnchangedFiles() throws IOException {
+        compile();
+        Path other = generated(OTHER);
+        Files.delete(other);
+
+        YangCompiledOutput output = compile();
+        assertThat(Files.exists(other), is(false));
+        assertThat(output.getYangModel().getYangModules().size(), is(3));
+    }
+
+    /**
+     * Checks that the generated code and the metadata of a removed module
+     * are deleted.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processRemovedModule() throws IOException {
+        compile();
+        Path other = generated(OTHER);
+        Files.delete(yangFile("other"));
+
+        YangCompiledOutput output = compile();
+        assertThat(Files.exists(other.getParent()), is(false));
+        assertThat(Files.exists(Paths.get(META_DATA_DIR + "other.yang")),
+                   is(false));
+        assertThat(output.getYangModel().getYangModules().size(), is(2));
+    }
+
+    private static YangCompiledOutput compile() throws IOException {
+        DefaultYangCompilationParam.Builder bldr =
+                DefaultYangCompilationParam.builder();
+        bldr.setCodeGenDir(Paths.get(CODE_GEN_DIR));
+        bldr.setMetadataGenDir(Paths.get(META_DATA_DIR));
+        bldr.setModelId("incremental");
+        bldr.setBuildStateFile(Paths.get(BUILD_STATE));
+        try (Stream<Path> files = Files.list(Paths.get(YANG_DIR))) {
+            files.forEach(bldr::addYangFile);
+        }
+        return new YangCompilerManager().compileYangFiles(bldr.build());
+    }
+
+    private static Path yangFile(String name) {
+        return Paths.get(YANG_DIR + name + ".yang");
+    }
+
+    private static void edit(String name, String from, String to)
+            throws IOException {
+        Path file = yangFile(name);
+        Files.write(file, read(file).replace(from, to).getBytes(UTF_8));
+    }
+
+    private static String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), UTF_8);
+    }
+
+    private static Path generated(String name) throws IOException {
+        try (Stream<Path> files = Files.walk(Paths.get(CODE_GEN_DIR))) {
+            return files.filter(p -> p.getFileName().toString().equals(name))
+                    .findFirst().orElseThrow(
+                            () -> new IOException(name + " not generated"));
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.hamcrest.core.Is;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.onosproject.yang.compiler.api.YangCompilerException;
 import org.onosproject.yang.compiler.datamodel.YangAugment;
 import org.onosproject.yang.compiler.datamodel.YangChoice;
 import org.onosproject.yang.compiler.datamodel.YangContainer;
@@ -1037,4 +1038,27 @@ public class InterFileLinkingTest {
         YangChoice choice = ((YangChoice) uses.getNextSibling());
         assertThat(choice.getName(), is("type"));
     }
+
+    /**
+     * Checks that a circular chain of imports is reported.
+     */
+    @Test
+    public void processCircularImport() throws IOException {
+        thrown.expect(YangCompilerException.class);
+        thrown.expectMessage(
+                "YANG file error: There is a circular chain of " +
+                        "imports/includes between the YANG files ");
+
+        String searchDir = "src/test/resources/circularImport";
+
+        Set<Path> paths = new HashSet<>();
+        for (String file : getYangFiles(searchDir)) {
+            paths.add(Paths.get(file));
+        }
+
+        utilManager.createYangFileInfoSet(paths);
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+    }
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.onosproject.yang.compiler.api.YangCompiledOutput;
+import org.onosproject.yang.compiler.datamodel.LocationInfo;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.tool.DefaultYangCompilationParam;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.getYangNodes;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for the cache of parsed YANG files shared between
+ * compilations.
+ */
+public class ModuleCacheTest {
+
+    private static final String RESOURCES =
+            "src/test/resources/incrementalCompilation/";
+    private static final String DIR = "target/moduleCache/";
+    private static final String CACHE_DIR = DIR + "cache/";
+    private static final String[] NAMES = {"base", "user", "other"};
+    private static final String SIZE_PROPERTY =
+            "yang.compiler.moduleCacheSize";
+    private static final FileTime OLD = FileTime.fromMillis(1000000000000L);
+
+    @Before
+    public void setUp() throws IOException {
+        deleteDirectory(DIR);
+        for (String project : new String[]{"first", "second"}) {
+            Path dir = Paths.get(DIR + project + "/yang/");
+            Files.createDirectories(dir);
+            for (String name : NAMES) {
+                Files.copy(Paths.get(RESOURCES + name + ".yang"),
+                           dir.resolve(name + ".yang"));
+            }
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        deleteDirectory(DIR);
+    }
+
+    /**
+     * Checks that the YANG files parsed by a compilation are taken from the
+     * cache by a compilation of the same files at another place, with the
+     * names of the files being compiled and their positions in the files,
+     * and that the entries read are marked as used.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processCachedModules() throws IOException {
+        compile("first");
+        List<Path> entries = entries();
+        assertThat(entries.size(), is(NAMES.length));
+        List<byte[]> contents = new ArrayList<>();
+        for (Path entry : entries) {
+            Files.setLastModifiedTime(entry, OLD);
+            contents.add(Files.readAllBytes(entry));
+        }
+
+        YangCompiledOutput output = compile("second");
+        assertThat(entries(), is(entries));
+        for (int i = 0; i < entries.size(); i++) {
+            Path entry = entries.get(i);
+            assertThat(Files.readAllBytes(entry), is(contents.get(i)));
+            assertThat(Files.getLastModifiedTime(entry).compareTo(OLD) > 0,
+                       is(true));
+        }
+        Path dir = Paths.get(DIR + "second/yang/").toAbsolutePath();
+        for (YangNode node : getYangNodes(output.getYangModel())) {
+            assertThat(Paths.get(node.getFileName()).getParent(), is(dir));
+            assertThat(node.getLineNumber() > 0, is(true));
+            checkFileNames(node, dir);
+        }
+        assertThat(read("first"), is(read("second")));
+    }
+
+    /**
+     * Checks that a changed YANG file is parsed again and added to the
+     * cache.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processChangedModule() throws IOException {
+        compile("first");
+        Path file = Paths.get(DIR + "second/yang/other.yang");
+        String content = new String(Files.readAllBytes(file), UTF_8);
+        Files.write(file, content.replace("type int32;", "type int64;")
+                .getBytes(UTF_8));
+
+        compile("second");
+        assertThat(entries().size(), is(NAMES.length + 1));
+    }
+
+    /**
+     * Checks that a damaged cache entry is ignored.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processDamagedEntry() throws IOException {
+        compile("first");
+        for (Path entry : entries()) {
+            Files.write(entry, new byte[]{1, 2, 3});
+        }
+
+        compile("second");
+        assertThat(read("first"), is(read("second")));
+    }
+
+    /**
+     * Checks that an entry which does not record the hash of the YANG file
+     * being compiled is ignored, though it has the same module.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processMismatchedEntry() throws IOException {
+        compile("first");
+        Path old = null;
+        for (Path entry : entries()) {
+            if (new String(Files.readAllBytes(entry), UTF_8)
+                    .contains("other.yang")) {
+                old = entry;
+            }
+        }
+        Path file = Paths.get(DIR + "second/yang/other.yang");
+        String content = new String(Files.readAllBytes(file), UTF_8);
+        Files.write(file, content.replace("type int32;", "type int64;")
+                .getBytes(UTF_8));
+        compile("second");
+        String code = read("second");
+
+        List<Path> entries = entries();
+        for (Path entry : entries) {
+            if (!entry.equals(old) && new String(
+                    Files.readAllBytes(entry), UTF_8).contains("other.yang")) {
+                Files.copy(old, entry, REPLACE_EXISTING);
+            }
+        }
+        deleteDirectory(DIR + "second/generated/");
+        deleteDirectory(DIR + "second/metadata/");
+        compile("second");
+        assertThat(read("second"), is(code));
+    }
+
+    /**
+     * Checks that the least recently used entries are removed past the
+     * maximum number of entries of the cache, an entry read by a
+     * compilation being used.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processLeastRecentlyUsedEntry() throws IOException {
+        compile("first");
+        Path old = null;
+        for (Path entry : entries()) {
+            Files.setLastModifiedTime(entry, OLD);
+            if (new String(Files.readAllBytes(entry), UTF_8)
+                    .contains("other.yang")) {
+                old = entry;
+            }
+        }
+        Path file = Paths.get(DIR + "second/yang/other.yang");
+        String content = new String(Files.readAllBytes(file), UTF_8);
+        Files.write(file, content.replace("type int32;", "type int64;")
+                .getBytes(UTF_8));
+
+        System.setProperty(SIZE_PROPERTY, String.valueOf(NAMES.length));
+        try {
+            compile("second");
+        } finally {
+            System.clearProperty(SIZE_PROPERTY);
+        }
+        List<Path> entries = entries();
+        assertThat(entries.size(), is(NAMES.length));
+        assertThat(entries.contains(old), is(false));
+    }
+
+    /**
+     * Checks that the oldest entries are removed past the maximum number
+     * of entries of the cache.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processBoundedCache() throws IOException {
+        System.setProperty(SIZE_PROPERTY, "2");
+        try {
+            compile("first");
+            assertThat(entries().size(), is(2));
+        } finally {
+            System.clearProperty(SIZE_PROPERTY);
+        }
+    }
+
+    private static YangCompiledOutput compile(String project)
+            throws IOException {
+        DefaultYangCompilationParam.Builder bldr =
+                DefaultYangCompilationParam.builder();
+        bldr.setCodeGenDir(Paths.get(DIR + project + "/generated/"));
+        bldr.setMetadataGenDir(Paths.get(DIR + project + "/metadata/"));
+        bldr.setModelId("cache");
+        bldr.setModuleCacheDir(Paths.get(CACHE_DIR));
+        try (Stream<Path> files = Files.list(
+                Paths.get(DIR + project + "/yang/"))) {
+            files.forEach(p -> bldr.addYangFile(p.toAbsolutePath()));
+        }
+        return new YangCompilerManager().compileYangFiles(bldr.build());
+    }
+
+    /*
+     * Checks that the given node and its descendants, with their leaves,
+     * record no YANG file but of the given directory.
+     */
+    private static void checkFileNames(YangNode node, Path dir) {
+        checkFileName(node, dir);
+        if (node instanceof YangLeavesHolder &&
+                ((YangLeavesHolder) node).getListOfLeaf() != null) {
+            for (YangLeaf leaf : ((YangLeavesHolder) node).getListOfLeaf()) {
+                checkFileName(leaf, dir);
+            }
+        }
+        for (YangNode child = node.getChild(); child != null;
+             child = child.getNextSibling()) {
+            checkFileNames(child, dir);
+        }
+    }
+
+    private static void checkFileName(LocationInfo location, Path dir) {
+        if (location.getFileName() != null) {
+            assertThat(Paths.get(location.getFileName()).getParent(),
+                       is(dir));
+        }
+    }
+
+    private static List<Path> entries() throws IOException {
+        try (Stream<Path> files = Files.walk(Paths.get(CACHE_DIR))) {
+            return files.filter(Files::isRegularFile).sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String read(String project) throws IOException {
+        Path dir = Paths.get(DIR + project + "/generated/");
+        StringBuilder code = new StringBuilder();
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted()
+                    .collect(Collectors.toList())) {
+                code.append(dir.relativize(file)).append('\n')
+                        .append(new String(Files.readAllBytes(file), UTF_8));
+            }
+        }
+        return code.toString();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.After;
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.parser.exceptions.ParserException;
+import org.onosproject.yang.compiler.tool.DefaultYangCompilationParam;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+import org.onosproject.yang.compiler.tool.YangFileInfo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getYangFiles;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for parsing, linking and translating YANG files on an
+ * executor.
+ */
+public class ParallelParseTest {
+
+    private static final String YANG_FILES_DIR =
+            "src/test/resources/ietfyang/l3vpnservice/";
+
+    private static final String TRANSLATION_YANG_DIR =
+            "src/test/resources/augmentTranslator/";
+    private static final String TRANSLATION_DIR = "target/parallelTranslation/";
+
+    private final ExecutorService executor = newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Checks that the files parsed on a multi-threaded executor give the
+     * same data model trees as the files parsed in the calling thread.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processParallelParse() throws IOException {
+        Map<String, String> expected = parse(new YangCompilerManager());
+        Map<String, String> actual = parse(new YangCompilerManager(executor));
+        assertThat(actual.size(), is(4));
+        assertThat(actual, is(expected));
+    }
+
+    /**
+     * Checks that the files linked on a multi-threaded executor give the
+     * same data model trees as the files linked in the calling thread.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processParallelLinking() throws IOException {
+        Map<String, String> expected = link(new YangCompilerManager());
+        Map<String, String> actual = link(new YangCompilerManager(executor));
+        assertThat(actual.size(), is(4));
+        assertThat(actual, is(expected));
+    }
+
+    /**
+     * Checks that the files translated on a multi-threaded executor give the
+     * same generated code as the files translated in the calling thread.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processParallelTranslation() throws IOException {
+        deleteDirectory(TRANSLATION_DIR);
+        String expected = translate(new YangCompilerManager(), "serial");
+        String actual = translate(new YangCompilerManager(executor, executor),
+                                  "parallel");
+        assertThat(actual.isEmpty(), is(false));
+        assertThat(actual, is(expected));
+        deleteDirectory(TRANSLATION_DIR);
+    }
+
+    /**
+     * Checks that a parse error of a file parsed on the executor is thrown
+     * to the caller.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test(expected = ParserException.class)
+    public void processParallelParseError() throws IOException {
+        Set<Path> paths = new HashSet<>();
+        paths.add(Paths.get("src/test/resources/NotExisting.yang"));
+        YangCompilerManager manager = new YangCompilerManager(executor);
+        manager.createYangFileInfoSet(paths);
+        manager.parseYangFileInfoSet();
+    }
+
+    private static Map<String, String> parse(YangCompilerManager manager)
+            throws IOException {
+        Set<Path> paths = new HashSet<>();
+        for (String file : getYangFiles(YANG_FILES_DIR)) {
+            paths.add(Paths.get(file));
+        }
+        manager.createYangFileInfoSet(paths);
+        manager.parseYangFileInfoSet();
+        return getTrees(manager);
+    }
+
+    private static Map<String, String> link(YangCompilerManager manager)
+            throws IOException {
+        parse(manager);
+        manager.createYangNodeSet();
+        manager.resolveDependenciesUsingLinker();
+        return getTrees(manager);
+    }
+
+    private static String translate(YangCompilerManager manager, String dir)
+            throws IOException {
+        DefaultYangCompilationParam.Builder bldr =
+                DefaultYangCompilationParam.builder();
+        bldr.setCodeGenDir(Paths.get(TRANSLATION_DIR + dir + "/generated/"));
+        bldr.setMetadataGenDir(Paths.get(TRANSLATION_DIR + dir + "/metadata/"));
+        bldr.setModelId("parallel");
+        for (String file : getYangFiles(TRANSLATION_YANG_DIR)) {
+            bldr.addYangFile(Paths.get(file));
+        }
+        manager.compileYangFiles(bldr.build());
+
+        Path root = Paths.get(TRANSLATION_DIR + dir + "/generated/");
+        StringBuilder code = new StringBuilder();
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).sorted()
+                    .collect(Collectors.toList())) {
+                code.append(root.relativize(file)).append('\n')
+                        .append(new String(Files.readAllBytes(file), UTF_8));
+            }
+        }
+        return code.toString();
+    }
+
+    private static Map<String, String> getTrees(YangCompilerManager manager) {
+        Map<String, String> nodes = new TreeMap<>();
+        for (YangFileInfo info : manager.getYangFileInfoSet()) {
+            YangNode node = info.getRootNode();
+            StringBuilder tree = new StringBuilder();
+            addTree(node.getChild(), tree);
+            nodes.put(node.getName(), tree.toString());
+        }
+        return nodes;
+    }
+
+    private static void addTree(YangNode node, StringBuilder tree) {
+        while (node != null) {
+            tree.append(node.getName()).append('(');
+            addTree(node.getChild(), tree);
+            tree.append(") ");
+            node = node.getNextSibling();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+import org.onosproject.yang.compiler.tool.YangFileInfo;
+import org.onosproject.yang.compiler.tool.YangNodeInfo;
+import org.onosproject.yang.model.YangModel;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.parseDepSchemaPath;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.deSerializeDataModel;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.getYangNodes;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.parseJarFile;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processYangModel;
+import static org.onosproject.yang.compiler.tool.YangMetaDataCodec.read;
+import static org.onosproject.yang.compiler.tool.YangMetaDataCodec.write;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
+import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getYangFiles;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for YANG metadata codec.
+ */
+public class YangMetaDataCodecTest {
+
+    private static final String YANG_FILES_DIR =
+            "src/test/resources/interJarFileLinking/yangFiles/";
+    private static final String ID = "onos-yang-runtime";
+    private static final String YANG = "test.yang";
+
+    private final YangCompilerManager utilManager = new YangCompilerManager();
+
+    /**
+     * Checks that a model read back from the metadata written by the codec
+     * and by plain java serialization is the written one, and that the
+     * codec, which writes equal strings once, writes less.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processMetaDataCodec() throws IOException {
+        YangModel model = createModel();
+
+        ByteArrayOutputStream shared = new ByteArrayOutputStream();
+        write(model, shared);
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(plain)) {
+            out.writeObject(model);
+        }
+
+        validate(model, read(new ByteArrayInputStream(shared.toByteArray())));
+        validate(model, read(new ByteArrayInputStream(plain.toByteArray())));
+        assertThat(shared.size() < plain.size(), is(true));
+    }
+
+    /**
+     * Checks that a model read back from a metadata file is the written one.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processMetaDataFile() throws IOException {
+        YangModel model = createModel();
+        Path file = Files.createTempFile("YangMetaData", ".ser");
+        try {
+            try (OutputStream out = Files.newOutputStream(file)) {
+                write(model, out);
+            }
+            validate(model, read(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * Checks that a model is read from the metadata entry of a jar without
+     * extracting it, and that the YANG files of the jar are extracted only
+     * when asked to.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processJarMetaData() throws IOException {
+        YangModel model = createModel();
+        Path dir = Files.createTempDirectory("YangMetaData");
+        Path jar = dir.resolve("model.jar");
+        try {
+            try (JarOutputStream out = new JarOutputStream(
+                    Files.newOutputStream(jar))) {
+                out.putNextEntry(new JarEntry(YANG_RESOURCES + "/" +
+                                                      YANG_META_DATA));
+                write(model, out);
+                out.putNextEntry(new JarEntry(YANG_RESOURCES + "/" + YANG));
+                out.write(Files.readAllBytes(
+                        Paths.get(YANG_FILES_DIR + YANG)));
+            }
+
+            File path = parseDepSchemaPath(jar.toString(), dir.toString());
+            assertThat(path, is(jar.toFile()));
+            validate(model, deSerializeDataModel(path.toString()));
+
+            Path out = dir.resolve("out");
+            Path yang = out.resolve(YANG_RESOURCES).resolve(YANG);
+            validate(model, parseJarFile(jar.toString(), out.toString(),
+                                         false));
+            assertThat(Files.exists(out), is(false));
+            validate(model, parseJarFile(jar.toString(), out.toString()));
+            assertThat(Files.readAllBytes(yang),
+                       is(Files.readAllBytes(Paths.get(YANG_FILES_DIR + YANG))));
+        } finally {
+            deleteDirectory(dir.toString());
+        }
+    }
+
+    /**
+     * Checks that unknown metadata is rejected.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test(expected = IOException.class)
+    public void processUnknownMetaData() throws IOException {
+        read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    private YangModel createModel() throws IOException {
+        Set<Path> paths = new HashSet<>();
+        for (String file : getYangFiles(YANG_FILES_DIR)) {
+            paths.add(Paths.get(file));
+        }
+        utilManager.createYangFileInfoSet(paths);
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        List<YangNodeInfo> nodeInfo = new ArrayList<>();
+        for (YangFileInfo info : utilManager.getYangFileInfoSet()) {
+            nodeInfo.add(new YangNodeInfo(info.getRootNode(),
+                                          info.isInterJar()));
+        }
+        return processYangModel(YANG_FILES_DIR, nodeInfo, ID, true);
+    }
+
+    private static void validate(YangModel expected, YangModel actual) {
+        assertThat(actual.getYangModelId(), is(expected.getYangModelId()));
+        assertThat(actual.getYangModulesId(), is(expected.getYangModulesId()));
+        assertThat(names(getYangNodes(actual)),
+                   is(names(getYangNodes(expected))));
+    }
+
+    private static Set<String> names(Set<YangNode> nodes) {
+        Set<String> names = new HashSet<>();
+        for (YangNode node : nodes) {
+            names.add(node.getName() + "/" + node.getChild().getName());
+        }
+        return names;
+    }
+}
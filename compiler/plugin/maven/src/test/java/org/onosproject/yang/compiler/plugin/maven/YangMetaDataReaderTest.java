@@ -0,0 +1,388 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.compiler.plugin.maven;
+
+import org.junit.Test;
+import org.onosproject.yang.compiler.datamodel.SchemaDataNode;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
+import org.onosproject.yang.compiler.datamodel.YangNamespace;
+import org.onosproject.yang.compiler.datamodel.YangNode;
+import org.onosproject.yang.compiler.tool.LazyYangModuleInfo;
+import org.onosproject.yang.compiler.tool.YangCompilerManager;
+import org.onosproject.yang.compiler.tool.YangFileInfo;
+import org.onosproject.yang.compiler.tool.YangMetaDataCodec;
+import org.onosproject.yang.compiler.tool.YangMetaDataReader;
+import org.onosproject.yang.compiler.tool.YangMetaDataWriter;
+import org.onosproject.yang.compiler.tool.YangNodeInfo;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.model.YangModel;
+import org.onosproject.yang.model.YangModule;
+import org.onosproject.yang.model.YangModuleId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.hamcrest.core.StringContains.containsString;
+import static org.junit.Assert.fail;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.deSerializeDataModel;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.getYangNodes;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.parseJarFile;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processLazyYangModel;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processYangModel;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_RESOURCES;
+import static org.onosproject.yang.compiler.utils.io.impl.YangFileScanner.getYangFiles;
+import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
+
+/**
+ * Unit test cases for the writer and reader of the compact YANG metadata.
+ */
+public class YangMetaDataReaderTest {
+
+    private static final String YANG_FILES_DIR =
+            "src/test/resources/interJarFileLinking/yangFiles/";
+    private static final String ID = "onos-yang-runtime";
+
+    private final YangCompilerManager utilManager = new YangCompilerManager();
+
+    /**
+     * Checks that the compact metadata holds the schema trees of the model,
+     * that its namespaces are interned, so shared by the models read from
+     * it, and that it is smaller than the java serialized metadata.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processCompactMetaData() throws IOException {
+        YangModel model = createModel();
+        byte[] bytes = write(model);
+
+        YangModel compact = read(bytes);
+        assertThat(compact.getYangModelId(), is(model.getYangModelId()));
+        assertThat(compact.getYangModulesId(), is(model.getYangModulesId()));
+        assertThat(trees(compact), is(trees(model)));
+        Map<String, String> namespaces = namespaces(compact);
+        Map<String, String> again = namespaces(read(bytes));
+        assertThat(namespaces.isEmpty(), is(false));
+        for (Map.Entry<String, String> e : namespaces.entrySet()) {
+            assertThat(again.get(e.getKey()), sameInstance(e.getValue()));
+        }
+
+        ByteArrayOutputStream ser = new ByteArrayOutputStream();
+        YangMetaDataCodec.write(model, ser);
+        assertThat(bytes.length < ser.size(), is(true));
+    }
+
+    /**
+     * Checks that a model written again by the writer is read back.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processRewrittenMetaData() throws IOException {
+        YangModel model = read(write(createModel()));
+        assertThat(trees(read(write(model))), is(trees(model)));
+    }
+
+    /**
+     * Checks that the schema identifiers of the schema nodes are written,
+     * and read back as the interned ones.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processSchemaIds() throws IOException {
+        YangModel model = createModel();
+        Set<String> written = new TreeSet<>();
+        for (YangNode node : getYangNodes(model)) {
+            node.setNameSpaceAndAddToParentSchemaMap();
+            for (YangNode child = node.getChild(); child != null;
+                 child = child.getNextSibling()) {
+                if (child instanceof SchemaDataNode) {
+                    child.setNameSpaceAndAddToParentSchemaMap();
+                    child.setParentContext();
+                    written.add(child.getName());
+                }
+            }
+        }
+
+        Set<String> read = new TreeSet<>();
+        for (YangNode node : getYangNodes(read(write(model)))) {
+            for (YangNode child = node.getChild(); child != null;
+                 child = child.getNextSibling()) {
+                if (!(child instanceof SchemaDataNode)) {
+                    continue;
+                }
+                SchemaId id = child.getSchemaId();
+                assertThat(id, sameInstance(SchemaId.intern(
+                        child.getName(),
+                        ((YangNamespace) node).getModuleNamespace())));
+                read.add(id.name());
+            }
+        }
+        assertThat(read.isEmpty(), is(false));
+        assertThat(read, is(written));
+    }
+
+    /**
+     * Checks that the compiler writes only the compact metadata file, which
+     * it reads back.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processSerialization() throws IOException {
+        YangModel model = createModel();
+        Path dir = Files.createTempDirectory("YangMetaData");
+        try {
+            Path ser = dir.resolve(YANG_META_DATA);
+            Files.write(ser, new byte[0]);
+            utilManager.processSerialization(dir + "/", ID);
+
+            Path bin = dir.resolve(YANG_META_DATA_BIN);
+            assertThat(Files.exists(bin), is(true));
+            assertThat(Files.exists(ser), is(false));
+            assertThat(trees(deSerializeDataModel(bin.toString())),
+                       is(trees(model)));
+        } finally {
+            deleteDirectory(dir.toString());
+        }
+    }
+
+    /**
+     * Checks that a model is read from the compact metadata entry of a jar,
+     * and from the java serialized entry of a jar without one.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processJarMetaData() throws IOException {
+        YangModel model = createModel();
+        Path dir = Files.createTempDirectory("YangMetaData");
+        Path jar = dir.resolve("model.jar");
+        Path serJar = dir.resolve("ser.jar");
+        try {
+            try (JarOutputStream out = new JarOutputStream(
+                    Files.newOutputStream(jar))) {
+                out.putNextEntry(new JarEntry(YANG_RESOURCES + "/" +
+                                                      YANG_META_DATA_BIN));
+                out.write(write(model));
+            }
+            try (JarOutputStream out = new JarOutputStream(
+                    Files.newOutputStream(serJar))) {
+                out.putNextEntry(new JarEntry(YANG_RESOURCES + "/" +
+                                                      YANG_META_DATA));
+                YangMetaDataCodec.write(model, out);
+            }
+
+            Path out = dir.resolve("out");
+            assertThat(trees(parseJarFile(jar.toString(), out.toString(),
+                                          false)), is(trees(model)));
+            assertThat(trees(deSerializeDataModel(serJar.toString())),
+                       is(trees(model)));
+        } finally {
+            deleteDirectory(dir.toString());
+        }
+    }
+
+    /**
+     * Checks that the modules of a lazy model are read from the module
+     * index of the compact metadata, and that their schemas are read, and
+     * the metadata of each module written, on first use.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processLazyMetaData() throws IOException {
+        YangModel model = createModel();
+        Path dir = Files.createTempDirectory("YangMetaData");
+        try {
+            Path bin = dir.resolve(YANG_META_DATA_BIN);
+            Files.write(bin, write(model));
+            String path = dir + "/";
+            YangModel lazy = processLazyYangModel(path, bin, false);
+            assertThat(lazy.getYangModelId(), is(ID));
+            assertThat(lazy.getYangModulesId(), is(model.getYangModulesId()));
+
+            Set<String> namespaces = new TreeSet<>();
+            for (YangModule m : lazy.getYangModules()) {
+                LazyYangModuleInfo info = (LazyYangModuleInfo) m;
+                assertThat(info.isLoaded(), is(false));
+                assertThat(Files.exists(serFile(path, m)), is(false));
+                if (info.getNameSpace() != null) {
+                    namespaces.add(info.getNameSpace());
+                }
+            }
+            assertThat(namespaces,
+                       is(new TreeSet<>(namespaces(model).keySet())));
+
+            assertThat(trees(lazy), is(trees(model)));
+            for (YangModule m : lazy.getYangModules()) {
+                assertThat(((LazyYangModuleInfo) m).isLoaded(), is(true));
+                assertThat(Files.exists(serFile(path, m)), is(true));
+            }
+        } finally {
+            deleteDirectory(dir.toString());
+        }
+    }
+
+    /**
+     * Checks that metadata whose class fields differ from the fields of the
+     * reader classes is rejected.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test
+    public void processMismatchedField() throws IOException {
+        byte[] bytes = write(createModel());
+        replace(bytes, "interJar", "interJaz");
+        try {
+            read(bytes);
+            fail("metadata of a renamed field is read");
+        } catch (IOException e) {
+            assertThat(e.getMessage(), containsString("interJaz"));
+        }
+    }
+
+    /**
+     * Checks that truncated metadata is rejected.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test(expected = IOException.class)
+    public void processTruncatedMetaData() throws IOException {
+        byte[] bytes = write(createModel());
+        read(Arrays.copyOf(bytes, bytes.length / 2));
+    }
+
+    /**
+     * Checks that the java serialized metadata is rejected.
+     *
+     * @throws IOException when fails to do IO operations
+     */
+    @Test(expected = IOException.class)
+    public void processUnknownMetaData() throws IOException {
+        ByteArrayOutputStream ser = new ByteArrayOutputStream();
+        YangMetaDataCodec.write(createModel(), ser);
+        read(ser.toByteArray());
+    }
+
+    private YangModel createModel() throws IOException {
+        Set<Path> paths = new HashSet<>();
+        for (String file : getYangFiles(YANG_FILES_DIR)) {
+            paths.add(Paths.get(file));
+        }
+        utilManager.createYangFileInfoSet(paths);
+        utilManager.parseYangFileInfoSet();
+        utilManager.createYangNodeSet();
+        utilManager.resolveDependenciesUsingLinker();
+
+        List<YangNodeInfo> nodeInfo = new ArrayList<>();
+        for (YangFileInfo info : utilManager.getYangFileInfoSet()) {
+            nodeInfo.add(new YangNodeInfo(info.getRootNode(),
+                                          info.isInterJar()));
+        }
+        return processYangModel(YANG_FILES_DIR, nodeInfo, ID, true);
+    }
+
+    private static byte[] write(YangModel model) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        YangMetaDataWriter.write(model, out);
+        return out.toByteArray();
+    }
+
+    private static YangModel read(byte[] bytes) throws IOException {
+        return YangMetaDataReader.read(new ByteArrayInputStream(bytes));
+    }
+
+    private static Path serFile(String path, YangModule module) {
+        YangModuleId id = module.getYangModuleId();
+        return Paths.get(path + id.moduleName() + id.revision() + ".ser");
+    }
+
+    private static void replace(byte[] bytes, String from, String to) {
+        byte[] f = from.getBytes(StandardCharsets.UTF_8);
+        byte[] t = to.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i + f.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + f.length), f)) {
+                System.arraycopy(t, 0, bytes, i, t.length);
+                return;
+            }
+        }
+        fail(from + " not found");
+    }
+
+    private static Map<String, String> namespaces(YangModel model) {
+        Map<String, String> namespaces = new HashMap<>();
+        for (YangNode node : getYangNodes(model)) {
+            // Sub-modules have no namespace of their own.
+            String ns = ((YangNamespace) node).getModuleNamespace();
+            if (ns != null) {
+                namespaces.put(ns, ns);
+            }
+        }
+        return namespaces;
+    }
+
+    private static TreeSet<String> trees(YangModel model) {
+        TreeSet<String> trees = new TreeSet<>();
+        for (YangNode node : getYangNodes(model)) {
+            List<String> tree = new ArrayList<>();
+            tree.add(((YangNamespace) node).getModuleNamespace());
+            walk(node, tree);
+            trees.add(tree.toString());
+        }
+        return trees;
+    }
+
+    private static void walk(YangNode node, List<String> tree) {
+        tree.add(node.getClass().getSimpleName() + " " + node.getName());
+        if (node instanceof YangLeavesHolder) {
+            List<YangLeaf> leaves = ((YangLeavesHolder) node).getListOfLeaf();
+            if (leaves != null) {
+                for (YangLeaf leaf : leaves) {
+                    tree.add(leaf.getName() + " " +
+                                     leaf.getDataType().getDataTypeName());
+                }
+            }
+        }
+        for (YangNode child = node.getChild(); child != null;
+             child = child.getNextSibling()) {
+            walk(child, tree);
+        }
+    }
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Represents the map of the child nodes of an inner node, in insertion
+ * order, as a linked hash map keeps them.
+ * <p>
+ * Most inner nodes have a few children, such as the leaves of a list
+ * entry, so the children are kept in an array of keys and values, and
+ * looked up by a scan, until there are more of them than a scan is good
+ * for. The map then moves the children to a persistent trie.
+ * <p>
+ * The map of a built inner node is frozen. The builders copied from the
+ * node copy its map on their first change, which copies the array, or
+ * shares the trie, so that the untouched children and their subtrees are
+ * shared by both versions of the node.
+ */
+final class ChildNodeMap extends AbstractMap<NodeKey, DataNode> {
+
+    /**
+     * Maximum number of children kept in the array.
+     */
+    static final int MAX_ARRAY_SIZE = 8;
+
+    private static final int INITIAL_CAPACITY = 2;
+
+    // Keys at even and values at odd indexes, in insertion order.
+    private Object[] table;
+    private int size;
+    private ChildNodeTrie trie;
+    private int modCount;
+    private boolean frozen;
+
+    private Set<Entry<NodeKey, DataNode>> entrySet;
+    private Collection<DataNode> values;
+
+    /**
+     * Creates an empty map of child nodes.
+     */
+    ChildNodeMap() {
+    }
+
+    /**
+     * Returns an unfrozen copy of this map, which shares the trie of the
+     * children with it.
+     *
+     * @return copy of the map
+     */
+    ChildNodeMap copy() {
+        ChildNodeMap copy = new ChildNodeMap();
+        if (table != null) {
+            copy.table = table.clone();
+        }
+        copy.size = size;
+        copy.trie = trie;
+        return copy;
+    }
+
+    /**
+     * Freezes this map, which can no longer be changed.
+     */
+    void freeze() {
+        frozen = true;
+    }
+
+    /**
+     * Returns true if this map is frozen.
+     *
+     * @return true if the map is frozen
+     */
+    boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public int size() {
+        return trie != null ? trie.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return trie != null ? trie.get(key) != null : indexOf(key) >= 0;
+    }
+
+    @Override
+    public DataNode get(Object key) {
+        if (trie != null) {
+            return trie.get(key);
+        }
+        int i = indexOf(key);
+        return i < 0 ? null : value(i);
+    }
+
+    @Override
+    public DataNode put(NodeKey key, DataNode value) {
+        checkNotFrozen();
+        if (trie != null) {
+            DataNode old = trie.get(key);
+            trie = trie.put(key, value);
+            return old;
+        }
+        int i = indexOf(key);
+        if (i >= 0) {
+            DataNode old = value(i);
+            table[2 * i + 1] = value;
+            return old;
+        }
+        if (size == MAX_ARRAY_SIZE) {
+            ChildNodeTrie t = ChildNodeTrie.EMPTY;
+            for (int j = 0; j < size; j++) {
+                t = t.put(key(j), value(j));
+            }
+            trie = t.put(key, value);
+            table = null;
+            size = 0;
+            modCount++;
+            return null;
+        }
+        if (table == null) {
+            table = new Object[2 * INITIAL_CAPACITY];
+        } else if (2 * size == table.length) {
+            Object[] grown = new Object[Math.min(2 * table.length,
+                                                 2 * MAX_ARRAY_SIZE)];
+            System.arraycopy(table, 0, grown, 0, table.length);
+            table = grown;
+        }
+        table[2 * size] = key;
+        table[2 * size + 1] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public DataNode remove(Object key) {
+        checkNotFrozen();
+        if (trie != null) {
+            DataNode old = trie.get(key);
+            trie = trie.remove(key);
+            return old;
+        }
+        int i = indexOf(key);
+        if (i < 0) {
+            return null;
+        }
+        DataNode old = value(i);
+        removeAt(i);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        checkNotFrozen();
+        if (trie != null) {
+            trie = ChildNodeTrie.EMPTY;
+            return;
+        }
+        table = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Set<Entry<NodeKey, DataNode>> entrySet() {
+        Set<Entry<NodeKey, DataNode>> es = entrySet;
+        if (es == null) {
+            es = new EntrySet();
+            entrySet = es;
+        }
+        return es;
+    }
+
+    @Override
+    public Collection<DataNode> values() {
+        Collection<DataNode> vs = values;
+        if (vs == null) {
+            vs = new Values();
+            values = vs;
+        }
+        return vs;
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException(
+                    "child nodes of a built node are read only");
+        }
+    }
+
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            Object k = table[2 * i];
+            if (k == key || k != null && k.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private NodeKey key(int i) {
+        return (NodeKey) table[2 * i];
+    }
+
+    private DataNode value(int i) {
+        return (DataNode) table[2 * i + 1];
+    }
+
+    private void removeAt(int i) {
+        checkNotFrozen();
+        int moved = 2 * (size - i - 1);
+        if (moved > 0) {
+            System.arraycopy(table, 2 * i + 2, table, 2 * i, moved);
+        }
+        size--;
+        table[2 * size] = null;
+        table[2 * size + 1] = null;
+        modCount++;
+    }
+
+    /**
+     * Represents an iterator over the children kept in the array.
+     */
+    private abstract class ArrayIterator<E> implements Iterator<E> {
+
+        private int next;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        /**
+         * Returns the index of the next child.
+         *
+         * @return index of the child
+         */
+        int nextIndex() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    /**
+     * Represents an iterator over the children kept in the trie. It walks
+     * the version of the trie it was created from, and removes the children
+     * from the current one.
+     */
+    private abstract class TrieIterator<E> implements Iterator<E> {
+
+        private final ChildNodeTrie.SlotIterator slots = trie.iterator();
+        private NodeKey last;
+
+        /**
+         * Value of the last returned child.
+         */
+        DataNode value;
+
+        @Override
+        public boolean hasNext() {
+            return slots.hasNext();
+        }
+
+        /**
+         * Moves to the next child, and returns its key.
+         *
+         * @return key of the child
+         */
+        NodeKey nextKey() {
+            Object[] leaf = slots.next();
+            int slot = slots.slot();
+            last = (NodeKey) leaf[ChildNodeTrie.key(slot)];
+            value = (DataNode) leaf[ChildNodeTrie.value(slot)];
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            ChildNodeMap.this.remove(last);
+            last = null;
+        }
+    }
+
+    /**
+     * Represents the entry of a child kept in the array.
+     */
+    private final class ArrayEntry implements Entry<NodeKey, DataNode> {
+
+        private final NodeKey key;
+        private DataNode value;
+
+        private ArrayEntry(int i) {
+            key = key(i);
+            value = value(i);
+        }
+
+        @Override
+        public NodeKey getKey() {
+            return key;
+        }
+
+        @Override
+        public DataNode getValue() {
+            return value;
+        }
+
+        @Override
+        public DataNode setValue(DataNode value) {
+            checkNotFrozen();
+            DataNode old = this.value;
+            int i = indexOf(key);
+            if (i < 0) {
+                throw new IllegalStateException("entry is removed");
+            }
+            table[2 * i + 1] = value;
+            this.value = value;
+            return old;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> that = (Entry<?, ?>) obj;
+            return Objects.equals(key, that.getKey()) &&
+                    Objects.equals(value, that.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+    }
+
+    /**
+     * Represents the view of the entries of the map.
+     */
+    private final class EntrySet extends AbstractSet<Entry<NodeKey, DataNode>> {
+
+        @Override
+        public Iterator<Entry<NodeKey, DataNode>> iterator() {
+            if (trie != null) {
+                return new TrieIterator<Entry<NodeKey, DataNode>>() {
+                    @Override
+                    public Entry<NodeKey, DataNode> next() {
+                        return new SimpleImmutableEntry<>(nextKey(), value);
+                    }
+                };
+            }
+            return new ArrayIterator<Entry<NodeKey, DataNode>>() {
+                @Override
+                public Entry<NodeKey, DataNode> next() {
+                    return new ArrayEntry(nextIndex());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ChildNodeMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ChildNodeMap.this.clear();
+        }
+    }
+
+    /**
+     * Represents the view of the values of the map, which iterates the
+     * array without creating the entries.
+     */
+    private final class Values extends AbstractCollection<DataNode> {
+
+        @Override
+        public Iterator<DataNode> iterator() {
+            if (trie != null) {
+                return new TrieIterator<DataNode>() {
+                    @Override
+                    public DataNode next() {
+                        nextKey();
+                        return value;
+                    }
+                };
+            }
+            return new ArrayIterator<DataNode>() {
+                @Override
+                public DataNode next() {
+                    return value(nextIndex());
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return ChildNodeMap.this.size();
+        }
+
+        @Override
+        public void clear() {
+            ChildNodeMap.this.clear();
+        }
+    }
+}
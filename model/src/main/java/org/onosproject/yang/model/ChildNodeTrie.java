@@ -0,0 +1,435 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Represents an immutable map of child nodes, in insertion order, whose
+ * updates return a new map sharing all but the updated path with this one.
+ * <p>
+ * The children are kept in slots of a persistent vector, in insertion
+ * order, and a hash array mapped trie maps their keys to the slots. Both
+ * are 32-way tries, so that an update copies a few arrays of 32 entries per
+ * level. Removed children leave empty slots, which are compacted when they
+ * outnumber the children.
+ */
+final class ChildNodeTrie {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    // Keys at even and values at odd indexes of the vector leaves.
+    private static final int LEAF_WIDTH = 2 * WIDTH;
+
+    static final ChildNodeTrie EMPTY =
+            new ChildNodeTrie(null, new Object[LEAF_WIDTH], 0, 0, 0);
+
+    // Maps the keys to the slot numbers.
+    private final Object index;
+
+    // Vector of the slots, and the shift of its root level.
+    private final Object[] slots;
+    private final int shift;
+
+    // Number of used slots, and of children.
+    private final int next;
+    private final int size;
+
+    private ChildNodeTrie(Object index, Object[] slots, int shift, int next,
+                          int size) {
+        this.index = index;
+        this.slots = slots;
+        this.shift = shift;
+        this.next = next;
+        this.size = size;
+    }
+
+    /**
+     * Returns the number of children.
+     *
+     * @return number of children
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the child of the given key.
+     *
+     * @param key node key
+     * @return child node, or null when there is none
+     */
+    DataNode get(Object key) {
+        Integer slot = index == null || key == null ? null :
+                find(index, 0, key.hashCode(), key);
+        return slot == null ? null : (DataNode) leaf(slot)[value(slot)];
+    }
+
+    /**
+     * Returns the map with the given child added, or replaced in its
+     * position.
+     *
+     * @param key   node key
+     * @param value child node
+     * @return updated map
+     */
+    ChildNodeTrie put(NodeKey key, DataNode value) {
+        int hash = key.hashCode();
+        Integer slot = index == null ? null : find(index, 0, hash, key);
+        if (slot != null) {
+            if (leaf(slot)[value(slot)] == value) {
+                return this;
+            }
+            return new ChildNodeTrie(index, set(slots, shift, slot, key, value),
+                                     shift, next, size);
+        }
+        slot = next;
+        Object[] root = slots;
+        int rootShift = shift;
+        if (next == WIDTH << shift) {
+            root = new Object[WIDTH];
+            root[0] = slots;
+            rootShift += BITS;
+        }
+        return new ChildNodeTrie(insert(index, 0, hash, key, slot),
+                                 set(root, rootShift, slot, key, value),
+                                 rootShift, next + 1, size + 1);
+    }
+
+    /**
+     * Returns the map without the child of the given key.
+     *
+     * @param key node key
+     * @return updated map
+     */
+    ChildNodeTrie remove(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        Integer slot = index == null || key == null ? null :
+                find(index, 0, hash, key);
+        if (slot == null) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        ChildNodeTrie trie = new ChildNodeTrie(
+                delete(index, 0, hash, key), set(slots, shift, slot, null, null),
+                shift, next, size - 1);
+        return trie.next > WIDTH && trie.size < trie.next / 2 ?
+                trie.compact() : trie;
+    }
+
+    /**
+     * Returns an iterator over the slots of the children, in insertion
+     * order, which reads their keys and values from the returned arrays.
+     *
+     * @return iterator of the slots
+     */
+    SlotIterator iterator() {
+        return new SlotIterator();
+    }
+
+    /**
+     * Returns the index, in its vector leaf, of the key of the given slot.
+     *
+     * @param slot slot number
+     * @return index of the key
+     */
+    static int key(int slot) {
+        return 2 * (slot & MASK);
+    }
+
+    /**
+     * Returns the index, in its vector leaf, of the value of the given slot.
+     *
+     * @param slot slot number
+     * @return index of the value
+     */
+    static int value(int slot) {
+        return 2 * (slot & MASK) + 1;
+    }
+
+    private ChildNodeTrie compact() {
+        ChildNodeTrie trie = EMPTY;
+        for (SlotIterator it = iterator(); it.hasNext();) {
+            Object[] leaf = it.next();
+            int slot = it.slot();
+            trie = trie.put((NodeKey) leaf[key(slot)],
+                            (DataNode) leaf[value(slot)]);
+        }
+        return trie;
+    }
+
+    private Object[] leaf(int slot) {
+        Object[] node = slots;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(slot >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] set(Object[] node, int level, int slot,
+                                NodeKey key, DataNode value) {
+        Object[] copy;
+        if (node != null) {
+            copy = node.clone();
+        } else {
+            copy = new Object[level == 0 ? LEAF_WIDTH : WIDTH];
+        }
+        if (level == 0) {
+            copy[key(slot)] = key;
+            copy[value(slot)] = value;
+        } else {
+            int i = (slot >>> level) & MASK;
+            copy[i] = set((Object[]) copy[i], level - BITS, slot, key, value);
+        }
+        return copy;
+    }
+
+    /*
+     * Trie nodes hold a bitmap of the used hash fragments and, per used
+     * fragment, either a key and its slot, or null and the sub-trie of the
+     * keys sharing the fragment. Keys of equal hashes end up in a
+     * collision node.
+     */
+
+    private static Integer find(Object node, int shift, int hash, Object key) {
+        while (node instanceof BitmapNode) {
+            BitmapNode n = (BitmapNode) node;
+            int bit = bit(hash, shift);
+            if ((n.bitmap & bit) == 0) {
+                return null;
+            }
+            int i = n.index(bit);
+            Object k = n.array[i];
+            if (k == null) {
+                node = n.array[i + 1];
+                shift += BITS;
+            } else {
+                return k.equals(key) ? (Integer) n.array[i + 1] : null;
+            }
+        }
+        CollisionNode c = (CollisionNode) node;
+        if (c.hash != hash) {
+            return null;
+        }
+        for (int i = 0; i < c.array.length; i += 2) {
+            if (c.array[i].equals(key)) {
+                return (Integer) c.array[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private static Object insert(Object node, int shift, int hash,
+                                 NodeKey key, Integer slot) {
+        if (node == null) {
+            return new BitmapNode(bit(hash, shift), new Object[]{key, slot});
+        }
+        if (node instanceof CollisionNode) {
+            CollisionNode c = (CollisionNode) node;
+            if (c.hash == hash) {
+                Object[] array = new Object[c.array.length + 2];
+                System.arraycopy(c.array, 0, array, 0, c.array.length);
+                array[c.array.length] = key;
+                array[c.array.length + 1] = slot;
+                return new CollisionNode(hash, array);
+            }
+            BitmapNode n = new BitmapNode(bit(c.hash, shift),
+                                          new Object[]{null, c});
+            return insert(n, shift, hash, key, slot);
+        }
+        BitmapNode n = (BitmapNode) node;
+        int bit = bit(hash, shift);
+        int i = n.index(bit);
+        if ((n.bitmap & bit) == 0) {
+            Object[] array = new Object[n.array.length + 2];
+            System.arraycopy(n.array, 0, array, 0, i);
+            array[i] = key;
+            array[i + 1] = slot;
+            System.arraycopy(n.array, i, array, i + 2, n.array.length - i);
+            return new BitmapNode(n.bitmap | bit, array);
+        }
+        Object k = n.array[i];
+        Object sub;
+        if (k == null) {
+            sub = insert(n.array[i + 1], shift + BITS, hash, key, slot);
+        } else {
+            sub = pair(shift + BITS, (NodeKey) k, (Integer) n.array[i + 1],
+                       hash, key, slot);
+        }
+        Object[] array = n.array.clone();
+        array[i] = null;
+        array[i + 1] = sub;
+        return new BitmapNode(n.bitmap, array);
+    }
+
+    private static Object pair(int shift, NodeKey key1, Integer slot1,
+                               int hash2, NodeKey key2, Integer slot2) {
+        int hash1 = key1.hashCode();
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1,
+                                     new Object[]{key1, slot1, key2, slot2});
+        }
+        int fragment1 = (hash1 >>> shift) & MASK;
+        int fragment2 = (hash2 >>> shift) & MASK;
+        if (fragment1 == fragment2) {
+            return new BitmapNode(1 << fragment1, new Object[]{
+                    null, pair(shift + BITS, key1, slot1, hash2, key2, slot2)});
+        }
+        Object[] array = fragment1 < fragment2 ?
+                new Object[]{key1, slot1, key2, slot2} :
+                new Object[]{key2, slot2, key1, slot1};
+        return new BitmapNode((1 << fragment1) | (1 << fragment2), array);
+    }
+
+    // Deletes a key known to be present; returns null for an empty trie.
+    private static Object delete(Object node, int shift, int hash,
+                                 Object key) {
+        if (node instanceof CollisionNode) {
+            CollisionNode c = (CollisionNode) node;
+            if (c.array.length == 2) {
+                return null;
+            }
+            Object[] array = new Object[c.array.length - 2];
+            for (int i = 0, j = 0; i < c.array.length; i += 2) {
+                if (!c.array[i].equals(key)) {
+                    array[j++] = c.array[i];
+                    array[j++] = c.array[i + 1];
+                }
+            }
+            return new CollisionNode(c.hash, array);
+        }
+        BitmapNode n = (BitmapNode) node;
+        int bit = bit(hash, shift);
+        int i = n.index(bit);
+        if (n.array[i] == null) {
+            Object sub = delete(n.array[i + 1], shift + BITS, hash, key);
+            if (sub != null) {
+                Object[] array = n.array.clone();
+                Object[] single = single(sub);
+                array[i] = single == null ? null : single[0];
+                array[i + 1] = single == null ? sub : single[1];
+                return new BitmapNode(n.bitmap, array);
+            }
+        }
+        if (n.array.length == 2) {
+            return null;
+        }
+        Object[] array = new Object[n.array.length - 2];
+        System.arraycopy(n.array, 0, array, 0, i);
+        System.arraycopy(n.array, i + 2, array, i, n.array.length - i - 2);
+        return new BitmapNode(n.bitmap ^ bit, array);
+    }
+
+    // Returns the key and slot of a trie holding a single key, to pull it up.
+    private static Object[] single(Object node) {
+        Object[] array = node instanceof BitmapNode ?
+                ((BitmapNode) node).array : ((CollisionNode) node).array;
+        return array.length == 2 && array[0] != null ? array : null;
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Represents a trie node indexed by a bitmap of the hash fragments.
+     */
+    private static final class BitmapNode {
+
+        private final int bitmap;
+        private final Object[] array;
+
+        private BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+    }
+
+    /**
+     * Represents a trie node of the keys of a same hash.
+     */
+    private static final class CollisionNode {
+
+        private final int hash;
+        private final Object[] array;
+
+        private CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+    }
+
+    /**
+     * Represents an iterator over the used slots, which returns the vector
+     * leaf of each slot.
+     */
+    final class SlotIterator implements Iterator<Object[]> {
+
+        private int slot = -1;
+        private int nextSlot;
+        private Object[] leaf;
+
+        private SlotIterator() {
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextSlot < next;
+        }
+
+        @Override
+        public Object[] next() {
+            if (nextSlot >= next) {
+                throw new NoSuchElementException();
+            }
+            Object[] current = leaf;
+            slot = nextSlot++;
+            advance();
+            return current;
+        }
+
+        /**
+         * Returns the slot of the last returned leaf.
+         *
+         * @return slot number
+         */
+        int slot() {
+            return slot;
+        }
+
+        private void advance() {
+            for (; nextSlot < next; nextSlot++) {
+                if (leaf == null || (nextSlot & MASK) == 0) {
+                    leaf = leaf(nextSlot);
+                }
+                if (leaf[key(nextSlot)] != null) {
+                    return;
+                }
+            }
+        }
+    }
+}
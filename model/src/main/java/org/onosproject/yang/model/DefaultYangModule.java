@@ -35,6 +35,12 @@ public class DefaultYangModule implements YangModule, Serializable {
     private File yangSrc;
     private File metadata;
 
+    /**
+     * Creates a YANG module object.
+     */
+    protected DefaultYangModule() {
+    }
+
     /**
      * Creates an instance of default YANG module.
      *
@@ -30,6 +30,13 @@ public class DefaultYangModuleId implements YangModuleId, Serializable {
     private String moduleName;
     private String revision;
 
+    /**
+     * Creates a YANG module id object.
+     */
+    @SuppressWarnings("unused")
+    private DefaultYangModuleId() {
+    }
+
     /**
      * Creates an instance of default YANG module id.
      *
@@ -16,26 +16,37 @@
 
 package org.onosproject.yang.model;
 
-import com.google.common.collect.ImmutableMap;
-
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import static org.onosproject.yang.model.ModelObject.ModelObjectType.NON_ATOMIC;
 
 /**
  * Abstraction of an entity that provides common basis for all POJOs which are
  * generated from a YANG model.
+ * <p>
+ * Few model objects carry augmentations or anydata, so their maps are only
+ * created on the first addition, and published with a compare-and-set for
+ * the objects shared between threads. The maps are returned as unmodifiable
+ * views, which reflect the later additions and removals.
  */
 public abstract class InnerModelObject extends ModelObject implements
         Augmentable, Anydata {
 
-    private final ConcurrentMap<Class<? extends InnerModelObject>, InnerModelObject> augments =
-            new ConcurrentHashMap<>();
+    private static final AtomicReferenceFieldUpdater<InnerModelObject, ConcurrentMap>
+            AUGMENTS = AtomicReferenceFieldUpdater.newUpdater(
+            InnerModelObject.class, ConcurrentMap.class, "augments");
+
+    private static final AtomicReferenceFieldUpdater<InnerModelObject, ConcurrentMap>
+            ANYDATAS = AtomicReferenceFieldUpdater.newUpdater(
+            InnerModelObject.class, ConcurrentMap.class, "anydatas");
 
-    private final ConcurrentMap<Class<? extends InnerModelObject>, InnerModelObject> anydatas =
-            new ConcurrentHashMap<>();
+    private volatile ConcurrentMap<Class<? extends InnerModelObject>, InnerModelObject> augments;
+
+    private volatile ConcurrentMap<Class<? extends InnerModelObject>, InnerModelObject> anydatas;
 
     /**
      * Creates an instance of Inner model object.
@@ -46,41 +57,72 @@ public abstract class InnerModelObject extends ModelObject implements
 
     @Override
     public void addAugmentation(InnerModelObject obj) {
-        augments.put(obj.getClass(), obj);
+        create(AUGMENTS).put(obj.getClass(), obj);
     }
 
     @Override
     public void removeAugmentation(InnerModelObject obj) {
-        augments.remove(obj.getClass());
+        Map<Class<? extends InnerModelObject>, InnerModelObject> map = augments;
+        if (map != null) {
+            map.remove(obj.getClass());
+        }
     }
 
     @Override
     public Map<Class<? extends InnerModelObject>, InnerModelObject> augmentations() {
-        return ImmutableMap.copyOf(augments);
+        return view(augments);
     }
 
     @Override
     public <T extends InnerModelObject> T augmentation(Class<T> c) {
-        return (T) augments.get(c);
+        Map<Class<? extends InnerModelObject>, InnerModelObject> map = augments;
+        return map == null ? null : (T) map.get(c);
     }
 
     @Override
     public void addAnydata(InnerModelObject obj) {
-        anydatas.put(obj.getClass(), obj);
+        create(ANYDATAS).put(obj.getClass(), obj);
     }
 
     @Override
     public void removeAnydata(InnerModelObject obj) {
-        anydatas.remove(obj.getClass());
+        Map<Class<? extends InnerModelObject>, InnerModelObject> map = anydatas;
+        if (map != null) {
+            map.remove(obj.getClass());
+        }
     }
 
     @Override
     public Map<Class<? extends InnerModelObject>, InnerModelObject> anydatas() {
-        return ImmutableMap.copyOf(anydatas);
+        return view(anydatas);
     }
 
     @Override
     public <T extends InnerModelObject> T anydata(Class<T> c) {
-        return (T) anydatas.get(c);
+        Map<Class<? extends InnerModelObject>, InnerModelObject> map = anydatas;
+        return map == null ? null : (T) map.get(c);
+    }
+
+    /*
+     * Returns the map of the given field, creating it when it is absent.
+     * When threads race to create it, all of them use the one which is set
+     * first.
+     */
+    private ConcurrentMap<Class<? extends InnerModelObject>, InnerModelObject>
+    create(AtomicReferenceFieldUpdater<InnerModelObject, ConcurrentMap> field) {
+        ConcurrentMap map = field.get(this);
+        if (map == null) {
+            map = new ConcurrentHashMap<>();
+            if (!field.compareAndSet(this, null, map)) {
+                map = field.get(this);
+            }
+        }
+        return map;
+    }
+
+    private static Map<Class<? extends InnerModelObject>, InnerModelObject>
+    view(Map<Class<? extends InnerModelObject>, InnerModelObject> map) {
+        return map == null ? Collections.emptyMap() :
+                Collections.unmodifiableMap(map);
     }
 }
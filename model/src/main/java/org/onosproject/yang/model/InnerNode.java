@@ -16,13 +16,17 @@
 
 package org.onosproject.yang.model;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
 
 /**
  * Abstraction of an entity which represents an inner node in data store.
+ * <p>
+ * Inner nodes are immutable. A copy builder of a node shares its children
+ * until it is changed, and then copies only its own map of children, so
+ * that the new version of the tree built from it shares all the untouched
+ * subtrees with the original one, which remains a snapshot of the tree.
  */
 public final class InnerNode extends DataNode {
 
@@ -30,7 +34,7 @@ public final class InnerNode extends DataNode {
      * Map containing info of all child data nodes with respect to their node
      * keys.
      */
-    private Map<NodeKey, DataNode> childNodes = new LinkedHashMap<>();
+    private final ChildNodeMap childNodes;
 
     /**
      * Returns the children nodes to the current node.
@@ -50,6 +54,7 @@ public final class InnerNode extends DataNode {
     public InnerNode(Builder builder) {
         super(builder);
         childNodes = builder.childNodes;
+        childNodes.freeze();
     }
 
     @Override
@@ -90,9 +95,11 @@ public final class InnerNode extends DataNode {
 
         /**
          * Map containing info of all child data nodes with respect to their
-         * node keys.
+         * node keys; kept in an array while there are a few of them. It is
+         * shared with the built nodes, and copied on the first change after
+         * that.
          */
-        private Map<NodeKey, DataNode> childNodes = new LinkedHashMap<>();
+        private ChildNodeMap childNodes = new ChildNodeMap();
 
         /**
          * Creates an instance of data node builder.
@@ -121,7 +128,7 @@ public final class InnerNode extends DataNode {
          * @return inner node builder
          */
         public Builder addNode(DataNode node) {
-            childNodes.put(node.key(), node);
+            mutableChildNodes().put(node.key(), node);
             return this;
         }
 
@@ -167,10 +174,17 @@ public final class InnerNode extends DataNode {
 
         @Override
         public InnerNode.Builder deleteChild(NodeKey key) {
-            childNodes.remove(key);
+            mutableChildNodes().remove(key);
             return this;
         }
 
+        private ChildNodeMap mutableChildNodes() {
+            if (childNodes.isFrozen()) {
+                childNodes = childNodes.copy();
+            }
+            return childNodes;
+        }
+
         @Override
         public Builder getChildBuilder(NodeKey nodeKey) {
             DataNode node = childNodes.get(nodeKey);
@@ -40,7 +40,7 @@ public class KeyLeaf implements Cloneable {
      * @param leafVal   value of leaf
      */
     public KeyLeaf(String name, String nameSpace, Object leafVal) {
-        leafSchema = new SchemaId(name, nameSpace);
+        leafSchema = SchemaId.intern(name, nameSpace);
         this.leafVal = leafVal;
     }
 
@@ -53,9 +53,8 @@ public class KeyLeaf implements Cloneable {
      */
     @Override
     public KeyLeaf clone() throws CloneNotSupportedException {
-        KeyLeaf clonedLeaf = (KeyLeaf) super.clone();
-        clonedLeaf.leafSchema = leafSchema.clone();
-        return clonedLeaf;
+        // The schema identifier is immutable, so it is shared.
+        return (KeyLeaf) super.clone();
     }
 
     /**
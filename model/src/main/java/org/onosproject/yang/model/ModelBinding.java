@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+/**
+ * Abstraction of an entity which binds the generated model object classes
+ * of a YANG module, so that they can be created, read and written without
+ * reflection.
+ * <p>
+ * A binding is generated by the YANG compiler, when requested, next to the
+ * module interface with the name of the module interface followed by
+ * "Binding". Each bound model object class is identified by its index in
+ * the array returned by {@link #modelObjectClasses()}; attributes are
+ * identified by their java attribute name.
+ */
+public interface ModelBinding {
+
+    /**
+     * Returns the model object classes bound by this binding. The index of
+     * a class in the returned array is its type identifier.
+     *
+     * @return bound model object classes
+     */
+    Class<?>[] modelObjectClasses();
+
+    /**
+     * Returns the java attribute names of the leaves, leaf-lists and child
+     * nodes of the given model object type.
+     *
+     * @param type model object type identifier
+     * @return java attribute names
+     */
+    String[] attributes(int type);
+
+    /**
+     * Creates a new model object of the given type.
+     *
+     * @param type model object type identifier
+     * @return new model object
+     */
+    Object create(int type);
+
+    /**
+     * Returns the value of an attribute of the model object.
+     *
+     * @param type model object type identifier
+     * @param obj  model object
+     * @param attr java attribute name
+     * @return value of the attribute
+     * @throws IllegalArgumentException if attribute is not bound
+     */
+    Object get(int type, Object obj, String attr);
+
+    /**
+     * Sets the value of an attribute of the model object.
+     *
+     * @param type  model object type identifier
+     * @param obj   model object
+     * @param attr  java attribute name
+     * @param value value of the attribute
+     * @return true if attribute is bound; false otherwise
+     */
+    boolean set(int type, Object obj, String attr, Object value);
+
+    /**
+     * Adds the value to a multi instance attribute of the model object.
+     *
+     * @param type  model object type identifier
+     * @param obj   model object
+     * @param attr  java attribute name
+     * @param value value to be added
+     * @return true if multi instance attribute is bound; false otherwise
+     */
+    boolean addTo(int type, Object obj, String attr, Object value);
+}
@@ -20,7 +20,6 @@ import java.util.Objects;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkNotNull;
-import static java.util.Objects.hash;
 import static org.onosproject.yang.model.ModelConstants.INCOMPLETE_SCHEMA_INFO;
 
 /**
@@ -67,7 +66,8 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
 
     @Override
     public int hashCode() {
-        return hash(schemaId);
+        // Same as Objects.hash(schemaId), without the varargs array.
+        return 31 + Objects.hashCode(schemaId);
     }
 
     @Override
@@ -99,9 +99,8 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
      *                                    support the {@code Cloneable} interface
      */
     public NodeKey clone() throws CloneNotSupportedException {
-        NodeKey clonedKey = (NodeKey) super.clone();
-        clonedKey.schemaId = schemaId.clone();
-        return clonedKey;
+        // The schema identifier is immutable, so it is shared.
+        return (NodeKey) super.clone();
     }
 
     /**
@@ -147,7 +146,7 @@ public class NodeKey<E extends NodeKey> implements Comparable<E>, Cloneable {
          * @return current builder
          */
         public B schemaId(String name, String nameSpace) {
-            schemaId = new SchemaId(name, nameSpace);
+            schemaId = SchemaId.intern(name, nameSpace);
             return (B) this;
         }
 
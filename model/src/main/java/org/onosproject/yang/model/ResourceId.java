@@ -18,11 +18,10 @@ package org.onosproject.yang.model;
 
 import com.google.common.collect.ImmutableList;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
-import static java.util.Objects.hash;
 import static org.onosproject.yang.model.ModelConstants.LEAF_IS_TERMINAL;
 import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
 
@@ -30,14 +29,39 @@ import static org.onosproject.yang.model.ModelConstants.NON_KEY_LEAF;
  * Representation of an entity which identifies a resource in the logical tree
  * data store. It is a list of node keys to identify the branch point
  * hierarchy to reach a resource in the instance tree.
+ * <p>
+ * Resource identifiers are immutable. Each of them holds its last node key
+ * and the identifier of its parent, so that the identifiers built from
+ * one another share their common prefix, and its hash, which is the hash of
+ * the list of its node keys.
  */
 
 public final class ResourceId {
 
     /**
-     * List of node keys.
+     * Identifier of the parent resource, null for the empty identifier.
      */
-    private final List<NodeKey> nodeKeyList;
+    private final ResourceId parent;
+
+    /**
+     * Last node key, null for the empty identifier.
+     */
+    private final NodeKey key;
+
+    /**
+     * Number of node keys.
+     */
+    private final int size;
+
+    /**
+     * Hash of the list of node keys.
+     */
+    private final int hash;
+
+    /**
+     * List of node keys, created on the first request.
+     */
+    private transient volatile List<NodeKey> nodeKeyList;
 
     /**
      * Create object from builder.
@@ -45,7 +69,49 @@ public final class ResourceId {
      * @param builder initialized builder
      */
     public ResourceId(Builder builder) {
-        nodeKeyList = ImmutableList.copyOf(builder.nodeKeyList);
+        NodeKey[] keys = builder.nodeKeyList.toArray(
+                new NodeKey[builder.nodeKeyList.size()]);
+        if (keys.length == 0) {
+            parent = null;
+            key = null;
+            size = 0;
+            hash = 1;
+            return;
+        }
+        ResourceId id = sharedPrefix(builder.base, keys, keys.length - 1);
+        for (int i = id == null ? 0 : id.size; i < keys.length - 1; i++) {
+            id = new ResourceId(id, keys[i]);
+        }
+        parent = id;
+        key = keys[keys.length - 1];
+        size = keys.length;
+        hash = 31 * (id == null ? 1 : id.hash) + key.hashCode();
+    }
+
+    private ResourceId(ResourceId parent, NodeKey key) {
+        this.parent = parent;
+        this.key = key;
+        size = parent == null ? 1 : parent.size + 1;
+        hash = 31 * (parent == null ? 1 : parent.hash) + key.hashCode();
+    }
+
+    /*
+     * Returns the longest ancestor of the given identifier, of at most the
+     * given size, whose node keys are the first ones of the given keys, or
+     * null when there is none.
+     */
+    private static ResourceId sharedPrefix(ResourceId base, NodeKey[] keys,
+                                           int max) {
+        ResourceId prefix = base;
+        while (prefix != null && prefix.size > max) {
+            prefix = prefix.parent;
+        }
+        for (ResourceId id = prefix; id != null; id = id.parent) {
+            if (id.key != keys[id.size - 1]) {
+                prefix = id.parent;
+            }
+        }
+        return prefix;
     }
 
     /**
@@ -64,13 +130,24 @@ public final class ResourceId {
      * @return node key uniquely identifying the branch
      */
     public List<NodeKey> nodeKeys() {
-        return nodeKeyList;
+        List<NodeKey> list = nodeKeyList;
+        if (list == null) {
+            NodeKey[] keys = new NodeKey[size];
+            for (ResourceId id = this; id != null && id.size > 0;
+                 id = id.parent) {
+                keys[id.size - 1] = id.key;
+            }
+            list = ImmutableList.copyOf(keys);
+            nodeKeyList = list;
+        }
+        return list;
     }
 
     /**
      * Returns resource identifier builder for a given resource identifier.
      * It contains all the attributes from the resource identifier. It is to
-     * provide mutability of resource identifier using builder pattern.
+     * provide mutability of resource identifier using builder pattern. The
+     * node keys are immutable, so they are shared with the builder.
      *
      * @return data node builder
      * @throws CloneNotSupportedException when clone is not supported
@@ -81,7 +158,7 @@ public final class ResourceId {
 
     @Override
     public int hashCode() {
-        return hash(nodeKeyList);
+        return hash;
     }
 
     @Override
@@ -93,15 +170,29 @@ public final class ResourceId {
             return false;
         }
         ResourceId that = (ResourceId) obj;
-        List<NodeKey> thatList = that.nodeKeyList;
-        return nodeKeyList.size() == thatList.size() &&
-                nodeKeyList.containsAll(thatList);
+        if (size != that.size || hash != that.hash) {
+            return false;
+        }
+        if (size == 0) {
+            return true;
+        }
+        ResourceId a = this;
+        ResourceId b = that;
+        // Stops at the prefix shared by both identifiers.
+        while (a != b) {
+            if (!a.key.equals(b.key)) {
+                return false;
+            }
+            a = a.parent;
+            b = b.parent;
+        }
+        return true;
     }
 
     @Override
     public String toString() {
         return toStringHelper(getClass())
-                .add("nodeKeyList", nodeKeyList)
+                .add("nodeKeyList", nodeKeys())
                 .toString();
     }
 
@@ -119,11 +210,18 @@ public final class ResourceId {
         protected List<NodeKey> nodeKeyList;
         protected NodeKey.NodeKeyBuilder curKeyBuilder;
 
+        /**
+         * Resource identifier the keys are copied from, whose ancestors are
+         * shared with the built identifier as long as they hold its first
+         * keys.
+         */
+        private ResourceId base;
+
         /**
          * Creates an instance of resource identifier builder.
          */
         public Builder() {
-            nodeKeyList = new LinkedList<>();
+            nodeKeyList = new ArrayList<>();
         }
 
         /**
@@ -135,10 +233,8 @@ public final class ResourceId {
          * @throws CloneNotSupportedException when clone is not supported
          */
         public Builder(ResourceId id) throws CloneNotSupportedException {
-            nodeKeyList = new LinkedList<>();
-            for (NodeKey key : id.nodeKeyList) {
-                nodeKeyList.add(key.clone());
-            }
+            nodeKeyList = new ArrayList<>(id.nodeKeys());
+            base = id;
         }
 
         /**
@@ -151,8 +247,10 @@ public final class ResourceId {
         public Builder append(ResourceId id) throws CloneNotSupportedException {
             processCurKey();
             curKeyBuilder = null;
-            Builder ob = id.copyBuilder();
-            nodeKeyList.addAll(ob.nodeKeyList);
+            if (nodeKeyList.isEmpty()) {
+                base = id;
+            }
+            nodeKeyList.addAll(id.nodeKeys());
             return this;
         }
 
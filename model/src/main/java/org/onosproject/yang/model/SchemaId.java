@@ -17,7 +17,11 @@
 package org.onosproject.yang.model;
 
 import java.io.Serializable;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.ComparisonChain;
 
@@ -28,9 +32,30 @@ import static org.onosproject.yang.model.ModelConstants.INCOMPLETE_SCHEMA_INFO;
 /**
  * Representation of an entity which identifies a schema node in the schema /
  * data tree.
+ * <p>
+ * Schema identifiers are immutable. The node keys of the data tree share
+ * one interned instance per schema node, which is also the instance of the
+ * registered schema node, instead of holding a copy of the name and
+ * namespace per data node.
  */
 public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
 
+    /*
+     * Interned instances by namespace and name, so that they are looked up
+     * without allocating a schema identifier or taking a lock. They are
+     * weakly held so that the identifiers of unloaded schemas are collected,
+     * and their entries are removed once collected. The guava interner is
+     * not used, as the compiler plugin runs against older guava builds on
+     * the maven class path.
+     */
+    private static final ConcurrentMap<Object, ConcurrentMap<String, Ref>>
+            INTERNED = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<SchemaId> COLLECTED =
+            new ReferenceQueue<>();
+
+    // Key of the null namespace, which concurrent maps do not take.
+    private static final Object NO_NAMESPACE = new Object();
+
     private String name;
     private String nameSpace;
 
@@ -43,6 +68,90 @@ public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
         this.nameSpace = nameSpace;
     }
 
+    /**
+     * Returns the interned schema identifier of the given name and
+     * namespace.
+     *
+     * @param name      node name
+     * @param nameSpace node namespace
+     * @return interned schema identifier
+     */
+    public static SchemaId intern(String name, String nameSpace) {
+        checkNotNull(name, INCOMPLETE_SCHEMA_INFO);
+        ConcurrentMap<String, Ref> names = names(nameSpace);
+        Ref ref = names.get(name);
+        SchemaId interned = ref == null ? null : ref.get();
+        if (interned != null) {
+            return interned;
+        }
+        return intern(names, new SchemaId(name, nameSpace));
+    }
+
+    /**
+     * Returns the interned instance of this schema identifier.
+     *
+     * @return interned schema identifier
+     */
+    public SchemaId intern() {
+        ConcurrentMap<String, Ref> names = names(nameSpace);
+        Ref ref = names.get(name);
+        SchemaId interned = ref == null ? null : ref.get();
+        if (interned != null) {
+            return interned;
+        }
+        return intern(names, this);
+    }
+
+    private static ConcurrentMap<String, Ref> names(String nameSpace) {
+        Object key = nameSpace == null ? NO_NAMESPACE : nameSpace;
+        ConcurrentMap<String, Ref> names = INTERNED.get(key);
+        if (names == null) {
+            ConcurrentMap<String, Ref> created = new ConcurrentHashMap<>();
+            names = INTERNED.putIfAbsent(key, created);
+            if (names == null) {
+                names = created;
+            }
+        }
+        return names;
+    }
+
+    /*
+     * Registers the given schema identifier, unless an equal one is
+     * registered first, and returns the registered one.
+     */
+    private static SchemaId intern(ConcurrentMap<String, Ref> names,
+                                   SchemaId id) {
+        removeCollected();
+        Ref ref = new Ref(id, names);
+        while (true) {
+            Ref old = names.putIfAbsent(id.name, ref);
+            if (old == null) {
+                return id;
+            }
+            SchemaId interned = old.get();
+            if (interned != null) {
+                return interned;
+            }
+            if (names.replace(id.name, old, ref)) {
+                return id;
+            }
+        }
+    }
+
+    private static void removeCollected() {
+        Ref ref;
+        while ((ref = (Ref) COLLECTED.poll()) != null) {
+            ref.names.remove(ref.name, ref);
+        }
+    }
+
+    /*
+     * Interns the schema identifiers of the deserialized schema nodes.
+     */
+    private Object readResolve() {
+        return intern();
+    }
+
     /**
      * Returns node schema name. This is mandatory to identify node according
      * to schema.
@@ -77,7 +186,8 @@ public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, nameSpace);
+        // Same as Objects.hash(name, nameSpace), without the varargs array.
+        return 31 * (31 + name.hashCode()) + Objects.hashCode(nameSpace);
     }
 
     @Override
@@ -108,4 +218,20 @@ public class SchemaId implements Comparable<SchemaId>, Cloneable, Serializable {
                 .add("nameSpace", nameSpace)
                 .toString();
     }
+
+    /**
+     * Weak reference to an interned schema identifier, which removes its
+     * entry once the identifier is collected.
+     */
+    private static final class Ref extends WeakReference<SchemaId> {
+
+        private final String name;
+        private final ConcurrentMap<String, Ref> names;
+
+        private Ref(SchemaId id, ConcurrentMap<String, Ref> names) {
+            super(id, COLLECTED);
+            name = id.name;
+            this.names = names;
+        }
+    }
 }
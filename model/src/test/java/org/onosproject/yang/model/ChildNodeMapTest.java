@@ -0,0 +1,236 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+
+/**
+ * Unit tests for the map of the child nodes of an inner node, which has to
+ * behave as the linked hash map it replaces.
+ */
+public class ChildNodeMapTest {
+
+    private static final String NS = "ns";
+
+    /**
+     * Checks the map against a linked hash map over random updates, across
+     * the move of the children from the array to the hash map.
+     */
+    @Test
+    public void processRandomUpdates() {
+        Random random = new Random(42);
+        for (int run = 0; run < 100; run++) {
+            Map<NodeKey, DataNode> map = new ChildNodeMap();
+            Map<NodeKey, DataNode> expected = new LinkedHashMap<>();
+            for (int op = 0; op < 40; op++) {
+                int k = random.nextInt(2 * ChildNodeMap.MAX_ARRAY_SIZE);
+                NodeKey key = key(k);
+                if (random.nextInt(3) == 0) {
+                    assertThat(map.remove(key), is(expected.remove(key)));
+                } else {
+                    DataNode leaf = leaf(k, op);
+                    assertThat(map.put(key, leaf), is(expected.put(key, leaf)));
+                }
+                assertThat(map.get(key), is(expected.get(key)));
+                assertThat(map.containsKey(key), is(expected.containsKey(key)));
+                checkEquals(map, expected);
+            }
+        }
+    }
+
+    /**
+     * Checks the map against a linked hash map over random updates of many
+     * children, of which pairs have equal hashes, and checks that the copies
+     * of the map are not changed by the later updates.
+     */
+    @Test
+    public void processTrieUpdates() {
+        Random random = new Random(7);
+        ChildNodeMap map = new ChildNodeMap();
+        Map<NodeKey, DataNode> expected = new LinkedHashMap<>();
+        List<ChildNodeMap> copies = new ArrayList<>();
+        List<Map<NodeKey, DataNode>> expectedCopies = new ArrayList<>();
+        for (int op = 0; op < 20000; op++) {
+            int k = random.nextInt(op < 10000 ? 1000 : 100);
+            NodeKey key = collidingKey(k);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key), is(expected.remove(key)));
+            } else {
+                DataNode leaf = leaf(k, op);
+                assertThat(map.put(key, leaf), is(expected.put(key, leaf)));
+            }
+            assertThat(map.get(key), is(expected.get(key)));
+            assertThat(map.size(), is(expected.size()));
+            if (op % 1000 == 0) {
+                copies.add(map.copy());
+                expectedCopies.add(new LinkedHashMap<>(expected));
+            }
+        }
+        checkEquals(map, expected);
+        for (int i = 0; i < copies.size(); i++) {
+            checkEquals(copies.get(i), expectedCopies.get(i));
+        }
+    }
+
+    /**
+     * Checks that a tree changed through the copy builders shares the
+     * untouched subtrees with the original tree, which is left unchanged.
+     */
+    @Test
+    public void processSnapshots() {
+        InnerNode.Builder builder = InnerNode.builder("parent", NS)
+                .type(DataNode.Type.SINGLE_INSTANCE_NODE);
+        for (int k = 0; k < 100; k++) {
+            builder = builder.createChildBuilder("child" + k, NS)
+                    .type(DataNode.Type.SINGLE_INSTANCE_NODE)
+                    .addNode(leaf(k, k))
+                    .exitNode();
+        }
+        InnerNode original = builder.build();
+        NodeKey changed = NodeKey.builder().schemaId("child50", NS).build();
+
+        InnerNode updated = original.copyBuilder()
+                .getChildBuilder(changed)
+                .addNode(leaf(0, 1))
+                .exitNode()
+                .build();
+
+        assertThat(original.childNodes().size(), is(100));
+        assertThat(updated.childNodes().size(), is(100));
+        assertThat(((InnerNode) original.childNodes().get(changed))
+                           .childNodes().size(), is(1));
+        assertThat(((InnerNode) updated.childNodes().get(changed))
+                           .childNodes().size(), is(2));
+        for (NodeKey key : original.childNodes().keySet()) {
+            DataNode child = updated.childNodes().get(key);
+            if (key.equals(changed)) {
+                assertThat(child, not(sameInstance(
+                        original.childNodes().get(key))));
+            } else {
+                assertThat(child, sameInstance(original.childNodes().get(key)));
+            }
+        }
+        assertThat(new ArrayList<>(updated.childNodes().keySet()),
+                   is(new ArrayList<>(original.childNodes().keySet())));
+    }
+
+    /**
+     * Checks that the children of a built node cannot be changed.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void processFrozenChildren() {
+        InnerNode node = InnerNode.builder("parent", NS)
+                .type(DataNode.Type.SINGLE_INSTANCE_NODE)
+                .addNode(leaf(0, 0))
+                .build();
+        node.childNodes().remove(key(0));
+    }
+
+    /**
+     * Checks the removal of the children through the iterators.
+     */
+    @Test
+    public void processIteratorRemove() {
+        Map<NodeKey, DataNode> map = new ChildNodeMap();
+        Map<NodeKey, DataNode> expected = new LinkedHashMap<>();
+        for (int k = 0; k < 5; k++) {
+            DataNode leaf = leaf(k, 0);
+            map.put(key(k), leaf);
+            expected.put(key(k), leaf);
+        }
+        Iterator<DataNode> it = map.values().iterator();
+        Iterator<DataNode> expectedIt = expected.values().iterator();
+        while (it.hasNext()) {
+            assertThat(it.next(), is(expectedIt.next()));
+            if (map.size() % 2 == 1) {
+                it.remove();
+                expectedIt.remove();
+            }
+        }
+        checkEquals(map, expected);
+
+        Iterator<Map.Entry<NodeKey, DataNode>> entries =
+                map.entrySet().iterator();
+        DataNode changed = leaf(1, 1);
+        entries.next().setValue(changed);
+        expected.put(key(1), changed);
+        checkEquals(map, expected);
+    }
+
+    /**
+     * Checks that the inner nodes keep their children in insertion order.
+     */
+    @Test
+    public void processInnerNodeChildren() {
+        InnerNode.Builder builder = InnerNode.builder("parent", NS)
+                .type(DataNode.Type.SINGLE_INSTANCE_NODE);
+        List<NodeKey> keys = new ArrayList<>();
+        List<DataNode> leaves = new ArrayList<>();
+        for (int k = 2 * ChildNodeMap.MAX_ARRAY_SIZE; k > 0; k--) {
+            DataNode leaf = leaf(k, 0);
+            builder.addNode(leaf);
+            keys.add(key(k));
+            leaves.add(leaf);
+        }
+        InnerNode node = builder.build();
+        assertThat(new ArrayList<>(node.childNodes().keySet()), is(keys));
+        assertThat(new ArrayList<>(node.childNodes().values()), is(leaves));
+    }
+
+    private static NodeKey key(int k) {
+        return NodeKey.builder().schemaId("leaf" + k, NS).build();
+    }
+
+    // Keys of a same pair have equal hashes, as "Aa" and "BB" have.
+    private static NodeKey collidingKey(int k) {
+        String name = "leaf" + k / 2 + (k % 2 == 0 ? "Aa" : "BB");
+        return NodeKey.builder().schemaId(name, NS).build();
+    }
+
+    private static DataNode leaf(int k, int value) {
+        return LeafNode.builder("leaf" + k, NS)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                .value(value)
+                .build();
+    }
+
+    private static void checkEquals(Map<NodeKey, DataNode> map,
+                                    Map<NodeKey, DataNode> expected) {
+        assertThat(map.size(), is(expected.size()));
+        assertThat(map.isEmpty(), is(expected.isEmpty()));
+        assertThat(new ArrayList<>(map.keySet()),
+                   is(new ArrayList<>(expected.keySet())));
+        assertThat(new ArrayList<>(map.values()),
+                   is(new ArrayList<>(expected.values())));
+        assertThat(map.equals(expected), is(true));
+        assertThat(map.hashCode(), is(expected.hashCode()));
+        assertThat(map.toString(), is(expected.toString()));
+    }
+}
@@ -198,7 +198,8 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        DataNode original = node;
+        node = node.copyBuilder()
 
                 //Reach to c1 by fetching it from the map.
                 .getChildBuilder(keys.get(1))
@@ -210,6 +211,9 @@ public class DataTreeOperationTest {
                 //add c4 in c3.
                 .createChildBuilder(C4, C4_NAMESPACE).type(SINGLE_INSTANCE_NODE)
 
+                //build c4 and return to c3.
+                .exitNode()
+
                 //build c3 and return to c1.
                 .exitNode()
 
@@ -219,6 +223,9 @@ public class DataTreeOperationTest {
                 //build parent node.
                 .build();
 
+        //the original tree is left unchanged.
+        assertThat(original.toString(), is(createDataTree().toString()));
+
         //validate parent.
         validateNode(node, PARENT, PARENT_NAMESPACE, 2);
 
@@ -276,7 +283,8 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        DataNode original = node;
+        node = node.copyBuilder()
 
                 //Reach to c2 by fetching it from the map.
                 .getChildBuilder(keys.get(1))
@@ -294,6 +302,9 @@ public class DataTreeOperationTest {
                 //build parent node.
                 .build();
 
+        //the original tree is left unchanged.
+        assertThat(original.toString(), is(createDataTree().toString()));
+
         //validate parent.
         validateNode(node, PARENT, PARENT_NAMESPACE, 2);
 
@@ -353,7 +364,8 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        DataNode original = node;
+        node = node.copyBuilder()
 
                 //Reach to c1 by fetching it from the map.
                 .getChildBuilder(keys.get(1))
@@ -383,6 +395,9 @@ public class DataTreeOperationTest {
                 //build parent node.
                 .build();
 
+        //the original tree is left unchanged.
+        assertThat(original.toString(), is(createDataTree().toString()));
+
         //validate parent.
         validateNode(node, PARENT, PARENT_NAMESPACE, 2);
 
@@ -435,7 +450,8 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        DataNode original = node;
+        node = node.copyBuilder()
 
                 // copy c1
                 .getChildBuilder(keys.get(1))
@@ -449,6 +465,9 @@ public class DataTreeOperationTest {
                 //build parent node
                 .build();
 
+        //the original tree is left unchanged.
+        assertThat(original.toString(), is(createDataTree().toString()));
+
         //validate parent.
         validateNode(node, PARENT, PARENT_NAMESPACE, 2);
 
@@ -487,7 +506,8 @@ public class DataTreeOperationTest {
 
         List<NodeKey> keys = id.nodeKeys();
 
-        node.copyBuilder()
+        DataNode original = node;
+        node = node.copyBuilder()
 
                 //delete l1 from c1
                 .deleteChild(keys.get(1))
@@ -495,6 +515,9 @@ public class DataTreeOperationTest {
                 //build parent node
                 .build();
 
+        //the original tree is left unchanged.
+        assertThat(original.toString(), is(createDataTree().toString()));
+
         //validate parent.
         validateNode(node, PARENT, PARENT_NAMESPACE, 1);
 
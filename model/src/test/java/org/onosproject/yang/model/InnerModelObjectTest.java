@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.model;
+
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNull.nullValue;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
+/**
+ * Unit tests for the augmentations and anydata of the inner model objects.
+ */
+public class InnerModelObjectTest {
+
+    private static class Target extends InnerModelObject {
+    }
+
+    private static class Augment extends InnerModelObject {
+    }
+
+    /**
+     * Checks the maps of an object before and after the additions.
+     */
+    @Test
+    public void processAugmentations() {
+        Target target = new Target();
+        assertThat(target.augmentations().isEmpty(), is(true));
+        assertThat(target.anydatas().isEmpty(), is(true));
+        assertThat(target.augmentation(Augment.class), nullValue());
+        target.removeAugmentation(new Augment());
+
+        Augment augment = new Augment();
+        target.addAugmentation(augment);
+        Map<Class<? extends InnerModelObject>, InnerModelObject> augments =
+                target.augmentations();
+        assertThat(augments.size(), is(1));
+        assertThat(target.augmentation(Augment.class), sameInstance(augment));
+        assertThat(target.anydatas().isEmpty(), is(true));
+
+        Augment anydata = new Augment();
+        target.addAnydata(anydata);
+        assertThat(target.anydata(Augment.class), sameInstance(anydata));
+
+        target.removeAugmentation(augment);
+        assertThat(augments.isEmpty(), is(true));
+        assertThat(target.anydatas().size(), is(1));
+    }
+
+    /**
+     * Checks that the returned maps cannot be changed.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void processUnmodifiableView() {
+        Target target = new Target();
+        target.addAugmentation(new Augment());
+        target.augmentations().clear();
+    }
+}
@@ -15,6 +15,8 @@ import com.google.common.testing.EqualsTester;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
 
 /**
  * Test resource ID.
@@ -59,6 +61,32 @@ public class ResourceIdTest {
         assertEquals("onos", devices.nodeKeys().get(0).schemaId().namespace());
     }
 
+    @Test
+    public void orderAndSharing() throws CloneNotSupportedException {
+        ResourceId ab = ResourceId.builder()
+                .addBranchPointSchema("a", "onos")
+                .addBranchPointSchema("b", "onos")
+                .build();
+        ResourceId ba = ResourceId.builder()
+                .addBranchPointSchema("b", "onos")
+                .addBranchPointSchema("a", "onos")
+                .build();
+        assertNotEquals(ab, ba);
+        assertEquals(ab.nodeKeys().hashCode(), ab.hashCode());
+
+        ResourceId child = ridA.copyBuilder()
+                .addBranchPointSchema("name", "onos")
+                .build();
+        List<NodeKey> keys = child.nodeKeys();
+        assertEquals(ridA.nodeKeys(), keys.subList(0, keys.size() - 1));
+        for (int i = 0; i < ridA.nodeKeys().size(); i++) {
+            assertSame(ridA.nodeKeys().get(i), keys.get(i));
+        }
+        assertEquals(child, ridA.copyBuilder()
+                .addBranchPointSchema("name", "onos").build());
+        assertEquals(ridA, child.copyBuilder().removeLastKey().build());
+    }
+
     @Test
     public void resourceIdConstruction() {
         String sampleResId = "/card=8/port=5,eth/stats";
@@ -19,6 +19,21 @@ import org.junit.Test;
 
 import com.google.common.testing.EqualsTester;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.junit.Assert.assertThat;
+
 public class SchemaIdTest {
 
     @Test
@@ -32,4 +47,71 @@ public class SchemaIdTest {
             .testEquals();
     }
 
+    /**
+     * Checks that the node keys, the key leaves and the deserialized schema
+     * identifiers share the interned schema identifier.
+     *
+     * @throws Exception when fails to serialize the schema identifier
+     */
+    @Test
+    public void testIntern() throws Exception {
+        SchemaId id = SchemaId.intern("a1", "a1");
+        assertThat(SchemaId.intern("a" + 1, "a1"), sameInstance(id));
+        assertThat(new SchemaId("a1", "a1").intern(), sameInstance(id));
+        assertThat(NodeKey.builder().schemaId("a1", "a1").build().schemaId(),
+                   sameInstance(id));
+        assertThat(new KeyLeaf("a1", "a1", 1).leafSchema(), sameInstance(id));
+        assertThat(deserialize(new SchemaId("a1", "a1")), sameInstance(id));
+    }
+
+    /**
+     * Checks that the threads interning equal schema identifiers at the
+     * same time get the same instance, and that the null namespace is
+     * interned apart from the empty one.
+     *
+     * @throws Exception when an interning thread fails
+     */
+    @Test
+    public void testConcurrentIntern() throws Exception {
+        int threads = 4;
+        int names = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<SchemaId[]>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    SchemaId[] ids = new SchemaId[names];
+                    for (int i = 0; i < names; i++) {
+                        ids[i] = SchemaId.intern("c" + i, "concurrent");
+                    }
+                    return ids;
+                }));
+            }
+            SchemaId[] first = results.get(0).get();
+            for (Future<SchemaId[]> result : results) {
+                SchemaId[] ids = result.get();
+                for (int i = 0; i < names; i++) {
+                    assertThat(ids[i], sameInstance(first[i]));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        SchemaId id = SchemaId.intern("n", null);
+        assertThat(SchemaId.intern("n", null), sameInstance(id));
+        assertThat(SchemaId.intern("n", ""), not(sameInstance(id)));
+    }
+
+    private static Object deserialize(Object object)
+            throws IOException, ClassNotFoundException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream objOut = new ObjectOutputStream(out)) {
+            objOut.writeObject(object);
+        }
+        try (ObjectInputStream objIn = new ObjectInputStream(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            return objIn.readObject();
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.ResourceId;
+
+import java.util.Objects;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Representation of a change between two data trees, which is computed and
+ * applied by the data node diff.
+ */
+public final class DataNodeChange {
+
+    /**
+     * Represents the type of a change.
+     */
+    public enum Type {
+
+        /**
+         * The node is created, with its subtree.
+         */
+        CREATE,
+
+        /**
+         * The node is deleted, with its subtree.
+         */
+        DELETE,
+
+        /**
+         * The node is replaced, with its subtree. Leaves are replaced when
+         * their value changes, and nodes when their type or the order of
+         * their list or leaf-list entries changes.
+         */
+        REPLACE,
+
+        /**
+         * The node is in both trees, and the changes of its descendants
+         * follow. It is created when it is missing.
+         */
+        MERGE
+    }
+
+    private final Type type;
+    private final ResourceId resourceId;
+    private final DataNode node;
+
+    /**
+     * Creates a change of the given type of the node of the given
+     * identifier.
+     *
+     * @param type       type of the change
+     * @param resourceId identifier of the changed node
+     * @param node       new node, or null for a deletion
+     */
+    public DataNodeChange(Type type, ResourceId resourceId, DataNode node) {
+        this.type = checkNotNull(type);
+        this.resourceId = checkNotNull(resourceId);
+        if (type != Type.DELETE) {
+            checkNotNull(node);
+        }
+        this.node = node;
+    }
+
+    /**
+     * Returns the type of the change.
+     *
+     * @return type of the change
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the identifier of the changed node.
+     *
+     * @return resource identifier
+     */
+    public ResourceId resourceId() {
+        return resourceId;
+    }
+
+    /**
+     * Returns the node of the target tree, which is null for a deletion.
+     *
+     * @return data node
+     */
+    public DataNode node() {
+        return node;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, resourceId, node);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DataNodeChange)) {
+            return false;
+        }
+        DataNodeChange that = (DataNodeChange) obj;
+        return type == that.type &&
+                Objects.equals(resourceId, that.resourceId) &&
+                Objects.equals(node, that.node);
+    }
+
+    @Override
+    public String toString() {
+        return toStringHelper(getClass())
+                .add("type", type)
+                .add("resourceId", resourceId)
+                .add("node", node)
+                .toString();
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.NodeKey;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.model.SchemaId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.CREATE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.DELETE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.MERGE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.REPLACE;
+
+/**
+ * Represents the difference of two data trees, as the list of changes which
+ * turns one into the other, and the application of such changes to a tree.
+ * <p>
+ * The subtrees which are the same instance in both trees are skipped, so
+ * that the cost of diffing two versions of a tree built from one another
+ * through the copy builders, which share their untouched subtrees, is
+ * proportional to the changes.
+ * <p>
+ * The order of the entries of a list or leaf-list is kept: a patch appends
+ * the created children to their parent, and the data nodes do not tell the
+ * lists ordered by user apart, so a node whose entries are reordered, or
+ * have entries created before existing ones, is replaced as a whole.
+ */
+public final class DataNodeDiff {
+
+    private static final int CREATED = -1;
+
+    // Forbid construction.
+    private DataNodeDiff() {
+    }
+
+    /**
+     * Returns the changes which turn the source tree into the target tree.
+     * Both nodes are identified by the given resource identifier, and their
+     * descendants are compared, in the order of the children of the target
+     * node.
+     * <p>
+     * For each child of the target node, a creation is returned when the
+     * source node has no child of its key, and a replacement when the
+     * children differ in type or in leaf value. Inner children which are
+     * in both trees, and whose descendants differ, are returned as a merge
+     * followed by the changes of their descendants. The deletions of the
+     * children missing from the target node follow.
+     * <p>
+     * A node whose list or leaf-list entries are in another order in the
+     * target tree, once the created entries are appended to the existing
+     * ones, is returned as a replacement instead, with its subtree. This
+     * includes the given node, whose replacement is then the only change.
+     *
+     * @param id     identifier of the compared nodes
+     * @param source source node
+     * @param target target node
+     * @return list of changes
+     */
+    public static List<DataNodeChange> diff(ResourceId id, InnerNode source,
+                                            InnerNode target) {
+        List<DataNodeChange> changes = new ArrayList<>();
+        if (source == target) {
+            return changes;
+        }
+        if (!isOrderKept(source, target)) {
+            changes.add(new DataNodeChange(REPLACE, id, target));
+            return changes;
+        }
+        diffChildren(id, source, target, changes);
+        return changes;
+    }
+
+    /**
+     * Returns the tree resulting from the application of the given changes
+     * to the given node, which is identified by the given resource
+     * identifier. The given node is left unchanged, and shares the subtrees
+     * which are not changed with the returned one.
+     *
+     * @param id      identifier of the node
+     * @param node    node to be changed
+     * @param changes changes of the node or of its descendants
+     * @return changed node
+     * @throws YangRuntimeException when a change is not of the node or of a
+     *                              descendant of it, or its parent is missing
+     */
+    public static InnerNode patch(ResourceId id, InnerNode node,
+                                  List<DataNodeChange> changes) {
+        int depth = id.nodeKeys().size();
+        InnerNode result = node;
+        for (DataNodeChange change : changes) {
+            List<NodeKey> keys = change.resourceId().nodeKeys();
+            if (change.type() == REPLACE &&
+                    change.node() instanceof InnerNode &&
+                    keys.equals(id.nodeKeys())) {
+                result = (InnerNode) change.node();
+                continue;
+            }
+            if (keys.size() <= depth ||
+                    !keys.subList(0, depth).equals(id.nodeKeys())) {
+                throw new YangRuntimeException(
+                        "Change is not of a descendant of " + id + ": " +
+                                change);
+            }
+            result = patch(result, keys, depth, change);
+        }
+        return result;
+    }
+
+    private static void diffChildren(ResourceId id, InnerNode source,
+                                     InnerNode target,
+                                     List<DataNodeChange> changes) {
+        Map<NodeKey, DataNode> sourceChildren = source.childNodes();
+        Map<NodeKey, DataNode> targetChildren = target.childNodes();
+        int created = 0;
+        for (DataNode t : targetChildren.values()) {
+            DataNode s = sourceChildren.get(t.key());
+            if (s == t) {
+                continue;
+            }
+            if (s == null) {
+                changes.add(new DataNodeChange(CREATE, childId(id, t.key()),
+                                               t));
+                created++;
+            } else if (s.type() != t.type() ||
+                    (s instanceof InnerNode) != (t instanceof InnerNode)) {
+                changes.add(new DataNodeChange(REPLACE, childId(id, t.key()),
+                                               t));
+            } else if (t instanceof InnerNode &&
+                    !isOrderKept((InnerNode) s, (InnerNode) t)) {
+                changes.add(new DataNodeChange(REPLACE, childId(id, t.key()),
+                                               t));
+            } else if (t instanceof InnerNode) {
+                ResourceId childId = childId(id, t.key());
+                // Placeholder of the merge, dropped when nothing follows.
+                int mark = changes.size();
+                changes.add(null);
+                diffChildren(childId, (InnerNode) s, (InnerNode) t, changes);
+                if (changes.size() == mark + 1) {
+                    changes.remove(mark);
+                } else {
+                    changes.set(mark, new DataNodeChange(MERGE, childId, t));
+                }
+            } else if (!Objects.equals(((LeafNode) s).value(),
+                                       ((LeafNode) t).value())) {
+                changes.add(new DataNodeChange(REPLACE, childId(id, t.key()),
+                                               t));
+            }
+        }
+        // Every source child is in the target node, unless some are left.
+        if (sourceChildren.size() + created != targetChildren.size()) {
+            for (NodeKey key : sourceChildren.keySet()) {
+                if (!targetChildren.containsKey(key)) {
+                    changes.add(new DataNodeChange(DELETE, childId(id, key),
+                                                   null));
+                }
+            }
+        }
+    }
+
+    /*
+     * Returns true if appending the list and leaf-list entries of the
+     * target node which are missing from the source node to the ones of the
+     * source node gives the order of the entries of the target node: the
+     * entries of each list or leaf-list which are in both nodes are in the
+     * same order, and followed by the created ones.
+     */
+    private static boolean isOrderKept(InnerNode source, InnerNode target) {
+        Map<NodeKey, Integer> positions = null;
+        int position = 0;
+        for (DataNode s : source.childNodes().values()) {
+            if (isEntry(s)) {
+                if (positions == null) {
+                    positions = new HashMap<>();
+                }
+                positions.put(s.key(), position);
+            }
+            position++;
+        }
+        if (positions == null) {
+            return true;
+        }
+        // Position of the last entry of each list; CREATED once one is new.
+        Map<SchemaId, Integer> last = new HashMap<>();
+        for (DataNode t : target.childNodes().values()) {
+            if (!isEntry(t)) {
+                continue;
+            }
+            SchemaId schemaId = t.key().schemaId();
+            Integer previous = last.get(schemaId);
+            Integer current = positions.get(t.key());
+            if (current == null) {
+                last.put(schemaId, CREATED);
+            } else if (previous != null && (previous == CREATED ||
+                    previous > current)) {
+                return false;
+            } else {
+                last.put(schemaId, current);
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEntry(DataNode node) {
+        return node.type() == MULTI_INSTANCE_NODE ||
+                node.type() == MULTI_INSTANCE_LEAF_VALUE_NODE;
+    }
+
+    private static InnerNode patch(InnerNode node, List<NodeKey> keys, int i,
+                                   DataNodeChange change) {
+        NodeKey key = keys.get(i);
+        InnerNode.Builder builder = node.copyBuilder();
+        if (i == keys.size() - 1) {
+            switch (change.type()) {
+                case DELETE:
+                    builder.deleteChild(key);
+                    break;
+                case MERGE:
+                    if (node.childNodes().containsKey(key)) {
+                        return node;
+                    }
+                    builder.addNode(emptyCopy(change.node()));
+                    break;
+                default:
+                    builder.addNode(change.node());
+                    break;
+            }
+            return builder.build();
+        }
+        DataNode child = node.childNodes().get(key);
+        if (!(child instanceof InnerNode)) {
+            throw new YangRuntimeException(
+                    "No inner node of " + key + " for change: " + change);
+        }
+        return builder.addNode(patch((InnerNode) child, keys, i + 1, change))
+                .build();
+    }
+
+    private static DataNode emptyCopy(DataNode node) {
+        SchemaId schemaId = node.key().schemaId();
+        return InnerNode.builder(schemaId.name(), schemaId.namespace())
+                .key(node.key())
+                .type(node.type())
+                .build();
+    }
+
+    private static ResourceId childId(ResourceId id, NodeKey key) {
+        try {
+            return id.copyBuilder()
+                    .append(Collections.singletonList(key))
+                    .build();
+        } catch (CloneNotSupportedException e) {
+            throw new YangRuntimeException(e);
+        }
+    }
+}
@@ -389,7 +389,7 @@ public final class SerializerHelper {
         LeafSchemaContext schema;
         try {
             schema = (LeafSchemaContext) ctx;
-            ((YangLeafList) schema).getDataType().isValidValue(val);
+            ((YangLeafList) schema).getValueValidator().validate(val);
         } catch (DataModelException e) {
             throw new IllegalArgumentException(e.getMessage());
         }
@@ -409,7 +409,7 @@ public final class SerializerHelper {
         LeafSchemaContext schema;
         try {
             schema = (LeafSchemaContext) ctx;
-            ((YangLeaf) schema).getDataType().isValidValue(val);
+            ((YangLeaf) schema).getValueValidator().validate(val);
         } catch (DataModelException e) {
             throw new IllegalArgumentException(e.getMessage());
         }
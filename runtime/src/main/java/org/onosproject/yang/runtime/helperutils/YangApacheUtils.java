@@ -16,7 +16,10 @@
 
 package org.onosproject.yang.runtime.helperutils;
 
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.extractMetaData;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.extractYangFiles;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.parseJarFile;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processLazyYangModel;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.processYangModel;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.setNodeInfo;
 import static org.osgi.framework.FrameworkUtil.getBundle;
@@ -24,6 +27,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -53,7 +57,9 @@ public final class YangApacheUtils {
     }
 
     /**
-     * Returns YANG model for generated module class.
+     * Returns YANG model for generated module class. The schemas of the
+     * modules of a jar with compact metadata are read when first asked
+     * for.
      *
      * @param modClass generated module class
      * @return YANG model
@@ -68,7 +74,11 @@ public final class YangApacheUtils {
             jarPath = getJarPathFromBundleLocation(
                     bundle.getLocation(), context.getProperty(USER_DIRECTORY));
             metaPath = jarPath + SLASH + YANG_RESOURCES + SLASH;
-            YangModel model = processJarParsingOperations(jarPath);
+            YangModel model = processLazyJarOperations(jarPath, metaPath);
+            if (model != null) {
+                return model;
+            }
+            model = processJarParsingOperations(jarPath);
             if (model != null) {
                 setNodeInfo(model, nodeInfo);
                 // process model creations.
@@ -118,7 +128,37 @@ public final class YangApacheUtils {
     }
 
     /**
-     * Process jar file for fetching YANG model.
+     * Process jar file for fetching YANG model whose schemas are read from
+     * the compact metadata of the jar when first asked for. The metadata is
+     * extracted with the YANG files of the jar.
+     *
+     * @param path     jar file path
+     * @param metaPath path of the YANG files and metadata of the jar
+     * @return YANG model; null if the jar has no compact metadata
+     */
+    private static YangModel processLazyJarOperations(String path,
+                                                      String metaPath) {
+        String jar = path + JAR;
+        try {
+            File file = new File(jar);
+            if (file.exists()) {
+                extractYangFiles(jar, path);
+                Path metaData = extractMetaData(jar, path);
+                if (metaData != null) {
+                    return processLazyYangModel(metaPath, metaData, false);
+                }
+            }
+        } catch (IOException e) {
+            log.error(" failed to read the metadata of jar file in path " +
+                              "{} : {} ", path, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Process jar file for fetching YANG model. The model is read from the
+     * compact metadata of the jar, or from its java serialized metadata
+     * when the jar has none.
      *
      * @param path jar file path
      * @return YANG model
@@ -129,7 +169,8 @@ public final class YangApacheUtils {
         try {
             File file = new File(jar);
             if (file.exists()) {
-                return parseJarFile(path + JAR, path);
+                extractYangFiles(jar, path);
+                return parseJarFile(jar, path, false);
             }
         } catch (IOException e) {
             log.error(" failed to parse the jar file in path {} : {} ", path,
@@ -441,7 +441,8 @@ public class DataTreeBuilderHelper {
                 Object obj;
                 try {
                     obj = getAttributeOfObject(
-                            parentNodeInfo.getYangObject(), name);
+                            parentNodeInfo.getYangObject(), name,
+                            reg.accessorCache());
                 } catch (NoSuchMethodException e) {
                     throw new ModelConverterException(
                             "Not processable case node with augment in " +
@@ -646,7 +647,8 @@ public class DataTreeBuilderHelper {
             String name = augmented.getJavaAttributeName();
             try {
                 return getAttributeOfObject(
-                        parentNodeInfo.getYangObject(), name);
+                        parentNodeInfo.getYangObject(), name,
+                        reg.accessorCache());
             } catch (NoSuchMethodException e) {
                 throw new ModelConverterException(
                         "Not processable case node with augment in " +
@@ -657,7 +659,8 @@ public class DataTreeBuilderHelper {
         Map augmentMap;
         try {
             augmentMap = (Map) getAugmentObject(parentObj,
-                                                AUGMENTATIONS);
+                                                AUGMENTATIONS,
+                                                reg.accessorCache());
             if (augmentMap != null && !augmentMap.isEmpty()) {
             /*
              * Gets the registered module class. Loads the class and gets the
@@ -720,7 +723,8 @@ public class DataTreeBuilderHelper {
         Object parentObj = getParentObjectOfNode(parentNodeInfo,
                                                  curNode.getParent());
         try {
-            return getAttributeOfObject(parentObj, nodeJavaName);
+            return getAttributeOfObject(parentObj, nodeJavaName,
+                                        reg.accessorCache());
         } catch (NoSuchMethodException e) {
             throw new ModelConverterException(e);
         }
@@ -810,12 +814,14 @@ public class DataTreeBuilderHelper {
                     Object leafType;
                     try {
                         leafType = getAttributeOfObject(parentObj,
-                                                        getJavaName(yangLeaf));
+                                                        getJavaName(yangLeaf),
+                                                        reg.accessorCache());
                     } catch (NoSuchMethodException e) {
                         throw new ModelConverterException(e);
                     }
                     Object obj = getLeafObject(yangNode, yangLeaf, parentObj,
-                                               leafType, false);
+                                               leafType, false,
+                                               reg.accessorCache());
                     if (obj != null) {
                         if (isTypeEmpty(yangLeaf.getDataType())) {
                             String empty = String.valueOf(obj);
@@ -875,13 +881,15 @@ public class DataTreeBuilderHelper {
         List<Object> obj;
         try {
             obj = (List<Object>) getAttributeOfObject(parentObj,
-                                                      getJavaName(leafList));
+                                                      getJavaName(leafList),
+                                                      reg.accessorCache());
         } catch (NoSuchMethodException e) {
             throw new ModelConverterException(e);
         }
         if (obj != null) {
             Set<Object> objects = getLeafListObject(yangNode, leafList,
-                                                    parentObj, obj);
+                                                    parentObj, obj,
+                                                    reg.accessorCache());
             if (!objects.isEmpty()) {
                 Object o = objects.iterator().next();
                 if (isTypeEmpty(leafList.getDataType())) {
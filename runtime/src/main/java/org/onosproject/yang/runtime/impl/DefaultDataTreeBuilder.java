@@ -465,7 +465,8 @@ class DefaultDataTreeBuilder {
         for (YangLeafList leafList : leafLists) {
             if (name.equals(leafList.getJavaAttributeName().toLowerCase())) {
                 Set<Object> objects = getLeafListObject(holder, leafList,
-                                                        lObj, values);
+                                                        lObj, values,
+                                                        reg.accessorCache());
                 if (!objects.isEmpty()) {
                     Object o = objects.iterator().next();
                     if (isTypeEmpty(leafList.getDataType())) {
@@ -506,7 +507,7 @@ class DefaultDataTreeBuilder {
         for (YangLeaf leaf : leaves) {
             if (lName.equals(leaf.getJavaAttributeName().toLowerCase())) {
                 Object obj = getLeafObject(rootNode, leaf, lObj,
-                                           val, true);
+                                           val, true, reg.accessorCache());
                 if (obj != null) {
                     if (isTypeEmpty(leaf.getDataType())) {
                         String empty = String.valueOf(obj);
@@ -622,10 +623,11 @@ class DefaultDataTreeBuilder {
         for (YangLeafList leafList : leafLists) {
             try {
                 obj = (List<Object>) getAttributeOfObject(
-                        hObj, getJavaName(leafList));
+                        hObj, getJavaName(leafList), reg.accessorCache());
                 if (obj != null) {
                     Set<Object> objects = getLeafListObject(holder, leafList,
-                                                            hObj, obj);
+                                                            hObj, obj,
+                                                            reg.accessorCache());
                     if (!objects.isEmpty()) {
                         Object o = objects.iterator().next();
                         if (isTypeEmpty(leafList.getDataType())) {
@@ -666,9 +668,9 @@ class DefaultDataTreeBuilder {
         for (YangLeaf leaf : leaves) {
             try {
                 Object leafObj = getAttributeOfObject(
-                        hObj, leaf.getJavaAttributeName());
+                        hObj, leaf.getJavaAttributeName(), reg.accessorCache());
                 Object obj = getLeafObject(holder, leaf, hObj, leafObj,
-                                           false);
+                                           false, reg.accessorCache());
 
                 if (obj != null) {
                     if (isTypeEmpty(leaf.getDataType())) {
@@ -18,7 +18,11 @@ package org.onosproject.yang.runtime.impl;
 
 import org.onosproject.yang.compiler.datamodel.SchemaDataNode;
 import org.onosproject.yang.compiler.datamodel.YangChoice;
+import org.onosproject.yang.compiler.datamodel.YangGrouping;
 import org.onosproject.yang.compiler.datamodel.YangInclude;
+import org.onosproject.yang.compiler.datamodel.YangLeaf;
+import org.onosproject.yang.compiler.datamodel.YangLeafList;
+import org.onosproject.yang.compiler.datamodel.YangLeavesHolder;
 import org.onosproject.yang.compiler.datamodel.YangModule;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
@@ -26,6 +30,7 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNodeContextInfo;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNodeIdentifier;
 import org.onosproject.yang.compiler.datamodel.YangSubModule;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.compiler.tool.LazyYangModuleInfo;
 import org.onosproject.yang.compiler.tool.YangModuleExtendedInfo;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.SchemaContext;
@@ -112,6 +117,30 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      */
     private final ConcurrentMap<String, YangModel> modelIdStore;
 
+    /**
+     * Map for storing the registered YANG models whose schemas are not read
+     * yet, with respect to model identifier. Their nodes are registered
+     * when a lookup first asks for one of their modules.
+     */
+    private final ConcurrentMap<String, YangModel> pendingModelStore;
+
+    /**
+     * Store of compiler generated model bindings of the registered modules.
+     */
+    private final ModelBindingStore bindingStore;
+
+    /**
+     * Cache of classes and method handles resolved by YOB while building
+     * model objects. It is cleared whenever a model is unregistered.
+     */
+    private final YobBindingCache bindingCache;
+
+    /**
+     * Cache of accessors resolved by data tree builder while reading model
+     * objects. It is cleared whenever a model is unregistered.
+     */
+    private final ModelAccessorCache accessorCache;
+
     /**
      * Creates an instance of default YANG schema registry.
      */
@@ -122,13 +151,19 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         nameSpaceSchemaStore = new ConcurrentHashMap<>();
         qNameKeyStore = new ConcurrentHashMap<>();
         modelIdStore = new ConcurrentHashMap<>();
+        pendingModelStore = new ConcurrentHashMap<>();
+        bindingStore = new ModelBindingStore();
+        bindingCache = new YobBindingCache(bindingStore);
+        accessorCache = new ModelAccessorCache(bindingStore);
     }
 
     @Override
     public void registerModel(ModelRegistrationParam param) throws
             IllegalArgumentException {
         YangModel model = checkNotNull(param.getYangModel(), E_NULL);
-        Set<YangNode> curNodes = getNodes(model);
+        boolean lazy = isLazy(model) &&
+                !pendingModelStore.containsKey(model.getYangModelId());
+        Set<YangNode> curNodes = lazy ? null : getNodes(model);
 
         //adding class info if added by application.
         AppModuleInfo info = null;
@@ -155,7 +190,22 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
             throw new IllegalArgumentException(E_MEXIST);
         }
 
-        //Register all the YANG nodes, excluding nodes from dependent jar.
+        //Defer the nodes of a model whose schemas are not read yet.
+        if (lazy) {
+            pendingModelStore.put(id, model);
+            return;
+        }
+        registerNodes(model, curNodes);
+    }
+
+    /**
+     * Registers the YANG nodes of the model, excluding nodes from
+     * dependent jar.
+     *
+     * @param model    YANG model
+     * @param curNodes YANG nodes of the model
+     */
+    private void registerNodes(YangModel model, Set<YangNode> curNodes) {
         if (curNodes != null && !curNodes.isEmpty()) {
             for (YangNode node : curNodes) {
                 YangModuleId mid = processModuleId(node);
@@ -169,6 +219,86 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
 
         //update child context
         updateChildContext(curNodes);
+
+        //compile the validators of the leaf values used in decoding
+        compileValueValidators(curNodes);
+    }
+
+    /**
+     * Returns true if the schemas of the model are not read yet.
+     *
+     * @param model YANG model
+     * @return true if the schemas are not read, false otherwise
+     */
+    private static boolean isLazy(YangModel model) {
+        for (org.onosproject.yang.model.YangModule m :
+                model.getYangModules()) {
+            if (m instanceof LazyYangModuleInfo &&
+                    !((LazyYangModuleInfo) m).isLoaded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registers the nodes of the pending models which have a module of
+     * given namespace or name, reading their schemas.
+     *
+     * @param nameSpace namespace of the module; null to match by name
+     * @param name      name of the module; null to match by namespace
+     */
+    private void loadModels(String nameSpace, String name) {
+        for (YangModel model : pendingModelStore.values()) {
+            for (org.onosproject.yang.model.YangModule m :
+                    model.getYangModules()) {
+                if (isModule(m, nameSpace, name)) {
+                    loadModel(model);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean isModule(org.onosproject.yang.model.YangModule m,
+                                    String nameSpace, String name) {
+        if (!(m instanceof LazyYangModuleInfo) ||
+                ((LazyYangModuleInfo) m).isInterJar()) {
+            return false;
+        }
+        if (nameSpace != null) {
+            return nameSpace.equals(((LazyYangModuleInfo) m).getNameSpace());
+        }
+        return name.equals(m.getYangModuleId().moduleName());
+    }
+
+    /**
+     * Registers the nodes of all the pending models, reading their schemas.
+     */
+    private void loadModels() {
+        for (YangModel model : pendingModelStore.values()) {
+            loadModel(model);
+        }
+    }
+
+    /**
+     * Registers the nodes of the pending model, reading its schemas, unless
+     * it was registered or unregistered meanwhile.
+     *
+     * @param model YANG model
+     */
+    private void loadModel(YangModel model) {
+        synchronized (DefaultYangModelRegistry.class) {
+            String id = model.getYangModelId();
+            if (pendingModelStore.get(id) != model) {
+                return;
+            }
+            try {
+                registerNodes(model, getNodes(model));
+            } finally {
+                pendingModelStore.remove(id);
+            }
+        }
     }
 
     @Override
@@ -241,6 +371,13 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         synchronized (DefaultYangModelRegistry.class) {
             YangModel model = checkNotNull(param.getYangModel(), E_NULL);
             modelIdStore.remove(model.getYangModelId());
+            //A pending model has only its classes registered.
+            if (pendingModelStore.remove(model.getYangModelId()) != null) {
+                removeRegClass(param);
+                bindingCache.clear();
+                accessorCache.clear();
+                return;
+            }
             //Unregister all yang files, excluding nodes from dependent jar.
             Set<YangNode> curNodes = getNodes(model);
             if (curNodes != null && !curNodes.isEmpty()) {
@@ -253,6 +390,8 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
                     }
                 }
             }
+            bindingCache.clear();
+            accessorCache.clear();
         }
     }
 
@@ -266,6 +405,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
             nameSpaceSchemaStore.remove(
                     curNode.getNameSpace().getModuleNamespace());
             registerClassStore.remove(serviceName);
+            bindingStore.unregister(serviceName);
             log.info(" service class {} of model is " +
                              "unregistered.", serviceName);
         } else {
@@ -322,6 +462,10 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      */
     YangSchemaNode getForRegClassName(String name) {
         YangSchemaNode node = regClassNameKeyStore.get(name);
+        if (node == null && !pendingModelStore.isEmpty()) {
+            loadModels();
+            node = regClassNameKeyStore.get(name);
+        }
         if (node == null) {
             log.error("{} not found.", name);
         }
@@ -340,6 +484,10 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
      */
     YangSchemaNode getForRegClassQualifiedName(String pkg, boolean isFromDnb) {
         YangSchemaNode node = qNameKeyStore.get(pkg);
+        if (node == null && !pendingModelStore.isEmpty()) {
+            loadModels();
+            node = qNameKeyStore.get(pkg);
+        }
         if (node == null && !isFromDnb) {
             log.error("{} not found.", pkg);
         }
@@ -358,12 +506,46 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
                                           boolean isForChildContext) {
 
         YangSchemaNode node = nameSpaceSchemaStore.get(nameSpace);
+        if (node == null && !pendingModelStore.isEmpty()) {
+            loadModels(nameSpace, null);
+            node = nameSpaceSchemaStore.get(nameSpace);
+        }
         if (node == null && !isForChildContext) {
             log.error(E_NEXIST, nameSpace);
         }
         return node;
     }
 
+    /**
+     * Returns the YOB binding cache of this registry.
+     *
+     * @return YOB binding cache
+     */
+    YobBindingCache bindingCache() {
+        return bindingCache;
+    }
+
+    /**
+     * Returns the model accessor cache of this registry.
+     *
+     * @return model accessor cache
+     */
+    ModelAccessorCache accessorCache() {
+        return accessorCache;
+    }
+
+    /**
+     * Sets whether the data tree builder reads the attributes of model
+     * objects through plain reflection instead of the cached accessor
+     * tables. Reflective access is disabled by default and is meant for
+     * comparing the two paths.
+     *
+     * @param reflective true to enable reflective access
+     */
+    public void reflectiveAccess(boolean reflective) {
+        accessorCache.reflective(reflective);
+    }
+
     /**
      * Returns registered service for given schema node.
      *
@@ -427,6 +609,9 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     private YangSchemaNode getForNameWithRev(String name) {
         ConcurrentMap<String, YangSchemaNode> revMap;
         YangSchemaNode schemaNode;
+        if (!pendingModelStore.isEmpty()) {
+            loadModels(null, name.split(AT)[0]);
+        }
         if (name.contains(AT)) {
             String[] revArray = name.split(AT);
             revMap = yangSchemaStore.get(revArray[0]);
@@ -579,6 +764,25 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         }
     }
 
+    /**
+     * Removes the registered classes of the model.
+     *
+     * @param param model registrations param
+     */
+    private void removeRegClass(ModelRegistrationParam param) {
+        AppModuleInfo info;
+        for (YangModuleId id : param.getYangModel().getYangModulesId()) {
+            YangModuleExtendedInfo i = (YangModuleExtendedInfo) param
+                    .getYangModel().getYangModule(id);
+            info = param.getAppModuleInfo(id);
+            if (!i.isInterJar() && info != null) {
+                String name = info.getModuleClass().getName();
+                registerClassStore.remove(name);
+                bindingStore.unregister(name);
+            }
+        }
+    }
+
     /**
      * Adds the registered class.
      *
@@ -588,6 +792,7 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
     void addRegClass(String name, Class<?> service) {
         if (!registerClassStore.containsKey(name)) {
             registerClassStore.put(name, service);
+            bindingStore.register(name, service);
         }
     }
 
@@ -613,6 +818,49 @@ public class DefaultYangModelRegistry implements YangModelRegistry,
         }
     }
 
+    /**
+     * Compiles the validators of the values of the leaves and leaf-lists
+     * of the given nodes, so that the data being decoded is validated
+     * without preparing the restrictions of their types again.
+     *
+     * @param nodes YANG nodes
+     */
+    private void compileValueValidators(Set<YangNode> nodes) {
+        for (YangNode node : nodes) {
+            compileValueValidators(node);
+        }
+    }
+
+    /**
+     * Compiles the validators of the values of the leaves and leaf-lists
+     * of the given node and of its sub tree, except groupings which are
+     * only templates of the data.
+     *
+     * @param node YANG node
+     */
+    private void compileValueValidators(YangNode node) {
+        if (node instanceof YangLeavesHolder) {
+            YangLeavesHolder holder = (YangLeavesHolder) node;
+            if (holder.getListOfLeaf() != null) {
+                for (YangLeaf leaf : holder.getListOfLeaf()) {
+                    leaf.getValueValidator();
+                }
+            }
+            if (holder.getListOfLeafList() != null) {
+                for (YangLeafList leafList : holder.getListOfLeafList()) {
+                    leafList.getValueValidator();
+                }
+            }
+        }
+        YangNode child = node.getChild();
+        while (child != null) {
+            if (!(child instanceof YangGrouping)) {
+                compileValueValidators(child);
+            }
+            child = child.getNextSibling();
+        }
+    }
+
     /**
      * Updates the parent context for given choice-case node child's.
      *
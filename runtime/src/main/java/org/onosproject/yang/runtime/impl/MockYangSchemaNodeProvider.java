@@ -18,21 +18,25 @@ package org.onosproject.yang.runtime.impl;
 
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.compiler.tool.YangMetaDataReader;
 import org.onosproject.yang.compiler.tool.YangNodeInfo;
 import org.onosproject.yang.model.YangModel;
 import org.onosproject.yang.runtime.ModelRegistrationParam;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
-import static org.onosproject.yang.compiler.tool.YangCompilerManager.deSerializeDataModel;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.getYangNodes;
+import static org.onosproject.yang.compiler.tool.YangCompilerManager.processLazyYangModel;
 import static org.onosproject.yang.compiler.tool.YangCompilerManager.processYangModel;
 import static org.onosproject.yang.compiler.utils.UtilConstants.TEMP;
+import static org.onosproject.yang.compiler.utils.UtilConstants.YANG_META_DATA_BIN;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.deleteDirectory;
 import static org.onosproject.yang.runtime.DefaultModelRegistrationParam.builder;
 import static org.onosproject.yang.runtime.RuntimeHelper.getInterfaceClassName;
@@ -48,6 +52,10 @@ public final class MockYangSchemaNodeProvider {
     private static final String SER_FILE_PATH = "yang" + FS + "resources" +
             FS + "YangMetaData.ser";
     private static final String META_PATH = PATH + SER_FILE_PATH;
+    private static final String RESOURCES_PATH = PATH + "yang" + FS +
+            "resources" + FS;
+    private static final Path BIN_PATH = Paths.get(
+            RESOURCES_PATH + YANG_META_DATA_BIN);
     private static final String TEMP_FOLDER_PATH = PATH + TEMP;
     private static DefaultYangModelRegistry reg;
     private static List<YangNode> nodes = new ArrayList<>();
@@ -65,8 +73,8 @@ public final class MockYangSchemaNodeProvider {
     public static void processSchemaRegistry() {
         try {
             reg = new DefaultYangModelRegistry();
-            //Need to deserialize generated meta data file for unit tests.
-            YangModel model = deSerializeDataModel(META_PATH);
+            //Need to read generated meta data file for unit tests.
+            YangModel model = YangMetaDataReader.read(BIN_PATH);
             Set<YangNode> appNode = getYangNodes(model);
             nodes.addAll(appNode);
             id = model.getYangModelId();
@@ -118,7 +126,7 @@ public final class MockYangSchemaNodeProvider {
     static YangModel processModelTest() {
         YangModel model = null;
         try {
-            model = deSerializeDataModel(META_PATH);
+            model = YangMetaDataReader.read(BIN_PATH);
             Set<YangNode> appNode = getYangNodes(model);
             List<YangNode> nodes = new ArrayList<>();
             nodes.addAll(appNode);
@@ -131,6 +139,17 @@ public final class MockYangSchemaNodeProvider {
         return model;
     }
 
+    /**
+     * Returns the YANG model of the generated metadata file, whose schemas
+     * are read on first use.
+     *
+     * @return YANG model
+     * @throws IOException when fails to read the metadata file
+     */
+    static YangModel processLazyModelTest() throws IOException {
+        return processLazyYangModel(RESOURCES_PATH, BIN_PATH, true);
+    }
+
     /**
      * Prepares model registration parameter.
      *
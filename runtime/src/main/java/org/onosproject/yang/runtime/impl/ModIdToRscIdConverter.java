@@ -298,7 +298,8 @@ class ModIdToRscIdConverter {
             // schema with its value added to it.
             YangType<?> type = ((YangLeafList) curNode).getDataType();
             Object val = ((MultiInstanceLeaf) path).value();
-            val = getObjFromType(preNode, path, curNode, "value", val, type);
+            val = getObjFromType(preNode, path, curNode, "value", val, type,
+                                 reg.accessorCache());
             builder.addLeafListBranchPoint(curNode.getName(), curNode
                     .getNameSpace().getModuleNamespace(), val);
         }
@@ -347,7 +348,8 @@ class ModIdToRscIdConverter {
      */
     private Object getKeyValue(Object keys, String keyName) {
         try {
-            return getAttributeOfObject(keys, getCamelCase(keyName, null));
+            return getAttributeOfObject(keys, getCamelCase(keyName, null),
+                                        reg.accessorCache());
         } catch (NoSuchMethodException e) {
             throw new ModelConverterException("invalid key value in model id for list" +
                                                       "." + keys.getClass().getName());
@@ -486,6 +488,7 @@ class ModIdToRscIdConverter {
         } else {
             type = ((YangLeafList) leaf).getDataType();
         }
-        return getObjFromType(list, keysObj, leaf, key, keyObj, type);
+        return getObjFromType(list, keysObj, leaf, key, keyObj, type,
+                              reg.accessorCache());
     }
 }
@@ -0,0 +1,330 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.runtime.impl.ModelBindingStore.BoundType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.insertArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+
+/**
+ * Represents the accessor table cache used by the data tree builder.
+ * <p>
+ * Getters, leaf value set checks, bits and identity string conversions of
+ * the generated model classes are resolved once per class and kept as
+ * method handles, so that converting model objects to data nodes does not
+ * perform a reflective lookup for every attribute. Attributes of classes
+ * bound by a compiler generated model binding are read through the binding
+ * instead. The cache is owned by the YANG model registry and is invalidated
+ * whenever a model is unregistered. When reflective access is enabled, the
+ * cache is bypassed and every attribute is read through plain reflection.
+ */
+final class ModelAccessorCache {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE =
+            methodType(Object.class, Object.class);
+    private static final MethodType CHECK_TYPE =
+            methodType(boolean.class, Object.class);
+    private static final String IS_VAL_SET = "isLeafValueSet";
+    private static final String TO_STRING = "toString";
+    private static final String SEP = "#";
+
+    /*
+     * Map of getter methods declared in a class with respect to the class
+     * and attribute name.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>>
+            getterStore = new ConcurrentHashMap<>();
+
+    /*
+     * Map of getter methods declared in the super class of a class with
+     * respect to the class and attribute name.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>>
+            inheritedStore = new ConcurrentHashMap<>();
+
+    /*
+     * Map of leaf value set checks, bound to their leaf identifier, with
+     * respect to the class and leaf identifier.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>>
+            valueSetStore = new ConcurrentHashMap<>();
+
+    /*
+     * Map of bits and identity string conversions with respect to the class
+     * of the holder object and the qualified method name.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>>
+            converterStore = new ConcurrentHashMap<>();
+
+    private final ModelBindingStore bindings;
+
+    private volatile boolean reflective;
+
+    /**
+     * Creates a model accessor cache without model bindings.
+     */
+    ModelAccessorCache() {
+        this(new ModelBindingStore());
+    }
+
+    /**
+     * Creates a model accessor cache using the given model bindings.
+     *
+     * @param bindings model binding store
+     */
+    ModelAccessorCache(ModelBindingStore bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * Returns true if attributes are read through plain reflection.
+     *
+     * @return true if reflective access is enabled; false otherwise
+     */
+    boolean reflective() {
+        return reflective;
+    }
+
+    /**
+     * Sets whether attributes are read through plain reflection instead of
+     * the cached accessor tables.
+     *
+     * @param reflective true to enable reflective access
+     */
+    void reflective(boolean reflective) {
+        this.reflective = reflective;
+    }
+
+    /**
+     * Returns the value of the attribute whose getter is declared in the
+     * class of the given object.
+     *
+     * @param obj  model object
+     * @param attr java attribute name
+     * @return value of the attribute
+     * @throws NoSuchMethodException if getter method is missing
+     */
+    Object attribute(Object obj, String attr) throws NoSuchMethodException {
+        Class<?> cls = obj.getClass();
+        if (reflective) {
+            return invoke(cls.getDeclaredMethod(attr), obj);
+        }
+        BoundType bound = bindings.type(cls);
+        if (bound != null && bound.isBound(attr)) {
+            return bound.get(obj, attr);
+        }
+        ConcurrentMap<String, MethodHandle> handles = getterStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle getter = handles.get(attr);
+        if (getter == null) {
+            getter = getter(cls.getDeclaredMethod(attr));
+            handles.put(attr, getter);
+        }
+        return get(getter, obj);
+    }
+
+    /**
+     * Returns the value of the attribute whose getter is declared in the
+     * super class of the given object.
+     *
+     * @param obj  model object
+     * @param attr java attribute name
+     * @return value of the attribute
+     * @throws NoSuchMethodException if getter method is missing
+     */
+    Object inheritedAttribute(Object obj, String attr)
+            throws NoSuchMethodException {
+        Class<?> cls = obj.getClass();
+        if (reflective) {
+            return invoke(cls.getSuperclass().getDeclaredMethod(attr), obj);
+        }
+        ConcurrentMap<String, MethodHandle> handles = inheritedStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle getter = handles.get(attr);
+        if (getter == null) {
+            getter = getter(cls.getSuperclass().getDeclaredMethod(attr));
+            handles.put(attr, getter);
+        }
+        return get(getter, obj);
+    }
+
+    /**
+     * Returns true if the value of the given leaf is set in the object.
+     *
+     * @param obj      model object
+     * @param enumName qualified name of the leaf identifier enum
+     * @param javaName java name of the leaf
+     * @return status of the value set flag
+     * @throws ReflectiveOperationException if the check could not be resolved
+     */
+    boolean isLeafValueSet(Object obj, String enumName, String javaName)
+            throws ReflectiveOperationException {
+        Class<?> cls = obj.getClass();
+        if (reflective) {
+            Class leafEnum = cls.getClassLoader().loadClass(enumName);
+            Method method = cls.getMethod(IS_VAL_SET, leafEnum);
+            return (boolean) method.invoke(
+                    obj, Enum.valueOf(leafEnum, javaName.toUpperCase()));
+        }
+        String key = enumName + SEP + javaName;
+        ConcurrentMap<String, MethodHandle> handles = valueSetStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle check = handles.get(key);
+        if (check == null) {
+            Class leafEnum = cls.getClassLoader().loadClass(enumName);
+            Method method = cls.getMethod(IS_VAL_SET, leafEnum);
+            Enum<?> id = Enum.valueOf(leafEnum, javaName.toUpperCase());
+            check = insertArguments(LOOKUP.unreflect(method), 1, id)
+                    .asType(CHECK_TYPE);
+            handles.put(key, check);
+        }
+        try {
+            return (boolean) check.invokeExact(obj);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Returns the string value of the given bits object, converted by the
+     * static to-string method of the generated bits class.
+     *
+     * @param holderObj leaf holder object
+     * @param bitsName  qualified name of the bits class
+     * @param bits      bits object
+     * @return string value of bits
+     * @throws ReflectiveOperationException if the conversion could not be
+     *                                      resolved
+     */
+    String bitsToString(Object holderObj, String bitsName, Object bits)
+            throws ReflectiveOperationException {
+        Class<?> cls = holderObj.getClass();
+        if (reflective) {
+            Class<?> bitClass = cls.getClassLoader().loadClass(bitsName);
+            Method method = bitClass.getDeclaredMethod(TO_STRING,
+                                                       bits.getClass());
+            return String.valueOf(method.invoke(null, bits));
+        }
+        ConcurrentMap<String, MethodHandle> handles = converterStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle conv = handles.get(bitsName);
+        if (conv == null) {
+            Class<?> bitClass = cls.getClassLoader().loadClass(bitsName);
+            conv = getter(bitClass.getDeclaredMethod(TO_STRING,
+                                                     bits.getClass()));
+            handles.put(bitsName, conv);
+        }
+        return String.valueOf(get(conv, bits));
+    }
+
+    /**
+     * Returns the string value of the given identity object, converted by
+     * the to-string method of the generated identity class.
+     *
+     * @param holderObj  leaf holder object
+     * @param idName     qualified name of the identity class
+     * @param methodName name of the to-string method
+     * @param id         identity object
+     * @return string value of identity
+     * @throws ReflectiveOperationException if the conversion could not be
+     *                                      resolved
+     */
+    String identityToString(Object holderObj, String idName,
+                            String methodName, Object id)
+            throws ReflectiveOperationException {
+        Class<?> cls = holderObj.getClass();
+        if (reflective) {
+            Class<?> idClass = cls.getClassLoader().loadClass(idName);
+            return String.valueOf(idClass.getDeclaredMethod(methodName)
+                                          .invoke(id));
+        }
+        String key = idName + SEP + methodName;
+        ConcurrentMap<String, MethodHandle> handles = converterStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle conv = handles.get(key);
+        if (conv == null) {
+            Class<?> idClass = cls.getClassLoader().loadClass(idName);
+            conv = getter(idClass.getDeclaredMethod(methodName));
+            handles.put(key, conv);
+        }
+        return String.valueOf(get(conv, id));
+    }
+
+    /**
+     * Removes all the resolved accessors.
+     */
+    void clear() {
+        getterStore.clear();
+        inheritedStore.clear();
+        valueSetStore.clear();
+        converterStore.clear();
+    }
+
+    /**
+     * Returns the method handle, of type (Object)Object, of the given
+     * getter. A static method taking a single argument is converted the
+     * same way, whereas the argument is ignored for a static method taking
+     * none.
+     *
+     * @param method getter method
+     * @return getter method handle
+     */
+    private static MethodHandle getter(Method method) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            if (isStatic(method.getModifiers()) &&
+                    method.getParameterCount() == 0) {
+                handle = dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new ModelConverterException(e);
+        }
+    }
+
+    private static Object get(MethodHandle getter, Object obj) {
+        try {
+            return (Object) getter.invokeExact(obj);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ModelConverterException(e);
+        }
+    }
+
+    private static Object invoke(Method method, Object obj) {
+        try {
+            return method.invoke(obj);
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            throw new ModelConverterException(e);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.model.ModelBinding;
+import org.slf4j.Logger;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * Represents the store of compiler generated model bindings. Bindings are
+ * discovered, next to the registered module classes, when the models are
+ * registered and are dropped when the models are unregistered.
+ */
+final class ModelBindingStore {
+
+    private static final Logger log = getLogger(ModelBindingStore.class);
+    private static final String BINDING = "Binding";
+
+    /*
+     * Map of model bindings with respect to the qualified name of their
+     * module class.
+     */
+    private final ConcurrentMap<String, ModelBinding> moduleStore =
+            new ConcurrentHashMap<>();
+
+    /*
+     * Map of bound model object types with respect to their class.
+     */
+    private final ConcurrentMap<Class<?>, BoundType> typeStore =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Registers the model binding generated for the given module class, if
+     * there is one.
+     *
+     * @param name   qualified name of the module class
+     * @param module module class
+     */
+    void register(String name, Class<?> module) {
+        Class<?> cls;
+        try {
+            cls = module.getClassLoader().loadClass(name + BINDING);
+        } catch (ClassNotFoundException e) {
+            // Model was compiled without bindings.
+            return;
+        }
+        if (!ModelBinding.class.isAssignableFrom(cls)) {
+            return;
+        }
+        ModelBinding binding;
+        try {
+            binding = (ModelBinding) cls.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            log.error("Failed to create model binding {}", cls.getName(), e);
+            return;
+        }
+        if (moduleStore.putIfAbsent(name, binding) == null) {
+            Class<?>[] classes = binding.modelObjectClasses();
+            for (int i = 0; i < classes.length; i++) {
+                typeStore.put(classes[i], new BoundType(binding, i));
+            }
+        }
+    }
+
+    /**
+     * Unregisters the model binding of the given module class.
+     *
+     * @param name qualified name of the module class
+     */
+    void unregister(String name) {
+        ModelBinding binding = moduleStore.remove(name);
+        if (binding != null) {
+            for (Class<?> cls : binding.modelObjectClasses()) {
+                typeStore.remove(cls);
+            }
+        }
+    }
+
+    /**
+     * Returns the bound type of the given model object class.
+     *
+     * @param cls model object class
+     * @return bound type; null if class is not bound
+     */
+    BoundType type(Class<?> cls) {
+        return typeStore.get(cls);
+    }
+
+    /**
+     * Represents a model object type bound by a model binding.
+     */
+    static final class BoundType {
+
+        private final ModelBinding binding;
+        private final int type;
+        private final Set<String> attributes;
+
+        /**
+         * Creates a bound type.
+         *
+         * @param binding model binding
+         * @param type    type identifier in the binding
+         */
+        private BoundType(ModelBinding binding, int type) {
+            this.binding = binding;
+            this.type = type;
+            attributes = new HashSet<>(Arrays.asList(
+                    binding.attributes(type)));
+        }
+
+        /**
+         * Returns true if the attribute is bound.
+         *
+         * @param attr java attribute name
+         * @return true if attribute is bound; false otherwise
+         */
+        boolean isBound(String attr) {
+            return attributes.contains(attr);
+        }
+
+        /**
+         * Creates a new model object.
+         *
+         * @return new model object
+         */
+        Object create() {
+            return binding.create(type);
+        }
+
+        /**
+         * Returns the value of a bound attribute of the model object.
+         *
+         * @param obj  model object
+         * @param attr java attribute name
+         * @return value of the attribute
+         */
+        Object get(Object obj, String attr) {
+            return binding.get(type, obj, attr);
+        }
+
+        /**
+         * Sets the value of a bound attribute of the model object.
+         *
+         * @param obj   model object
+         * @param attr  java attribute name
+         * @param value value of the attribute
+         */
+        void set(Object obj, String attr, Object value) {
+            if (!binding.set(type, obj, attr, value)) {
+                throw new IllegalArgumentException(
+                        "Unbound attribute " + attr);
+            }
+        }
+
+        /**
+         * Adds the value to a bound multi instance attribute of the model
+         * object.
+         *
+         * @param obj   model object
+         * @param attr  java attribute name
+         * @param value value to be added
+         */
+        void addTo(Object obj, String attr, Object value) {
+            if (!binding.addTo(type, obj, attr, value)) {
+                throw new IllegalArgumentException(
+                        "Unbound attribute " + attr);
+            }
+        }
+    }
+}
@@ -84,7 +84,6 @@ final class ModelConverterUtil {
             new HashSet<>(Arrays.asList(INT8, INT16, INT32, INT64, UINT8,
                                         UINT16, UINT32, BOOLEAN, EMPTY));
     private static final String TO_STRING = "toString";
-    private static final String IS_VAL_SET = "isLeafValueSet";
     private static final Base64.Encoder BASE64_BASIC_ENCODER = Base64.getEncoder();
 
     // No instantiation.
@@ -118,19 +117,14 @@ final class ModelConverterUtil {
      *
      * @param nodeObj   object of the node
      * @param fieldName name of the attribute
+     * @param cache     model accessor cache
      * @return object of the attribute
      * @throws NoSuchMethodException method not found exception
      */
-    static Object getAttributeOfObject(Object nodeObj, String fieldName)
+    static Object getAttributeOfObject(Object nodeObj, String fieldName,
+                                       ModelAccessorCache cache)
             throws NoSuchMethodException {
-        Class<?> nodeClass = nodeObj.getClass();
-        Method getterMethod;
-        try {
-            getterMethod = nodeClass.getDeclaredMethod(fieldName);
-            return getterMethod.invoke(nodeObj);
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            throw new ModelConverterException(e);
-        }
+        return cache.attribute(nodeObj, fieldName);
     }
 
     /**
@@ -139,19 +133,14 @@ final class ModelConverterUtil {
      *
      * @param nodeObj   object of the node
      * @param fieldName name of the attribute
+     * @param cache     model accessor cache
      * @return object of the attribute
      * @throws NoSuchMethodException method not found exception
      */
-    static Object getAugmentObject(Object nodeObj, String fieldName)
+    static Object getAugmentObject(Object nodeObj, String fieldName,
+                                   ModelAccessorCache cache)
             throws NoSuchMethodException {
-        Class<?> nodeClass = nodeObj.getClass().getSuperclass();
-        Method getterMethod;
-        try {
-            getterMethod = nodeClass.getDeclaredMethod(fieldName);
-            return getterMethod.invoke(nodeObj);
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            throw new ModelConverterException(e);
-        }
+        return cache.inheritedAttribute(nodeObj, fieldName);
     }
 
     /**
@@ -227,29 +216,19 @@ final class ModelConverterUtil {
      * @param holder   leaf holder
      * @param nodeObj  object if the node
      * @param javaName java name of the leaf
+     * @param cache    model accessor cache
      * @return status of the value set flag
      */
     static boolean isLeafValueSet(YangSchemaNode holder, Object nodeObj,
-                                  String javaName) {
-
-        Class<?> nodeClass = nodeObj.getClass();
+                                  String javaName, ModelAccessorCache cache) {
 
         // Appends the enum inner package to the interface class package.
         String enumPackage = holder.getJavaPackage() + PERIOD +
                 getCapitalCase(holder.getJavaClassNameOrBuiltInType()) +
                 ENUM_LEAF_IDENTIFIER;
-
-        ClassLoader classLoader = nodeClass.getClassLoader();
-        Class leafEnum;
         try {
-            leafEnum = classLoader.loadClass(enumPackage);
-            Method getterMethod = nodeClass.getMethod(IS_VAL_SET, leafEnum);
-            // Gets the value of the enum.
-            Enum<?> value = Enum.valueOf(leafEnum, javaName.toUpperCase());
-            // Invokes the method with the value of enum as param.
-            return (boolean) getterMethod.invoke(nodeObj, value);
-        } catch (IllegalAccessException | InvocationTargetException |
-                ClassNotFoundException | NoSuchMethodException e) {
+            return cache.isLeafValueSet(nodeObj, enumPackage, javaName);
+        } catch (ReflectiveOperationException e) {
             throw new ModelConverterException(e);
         }
     }
@@ -263,11 +242,12 @@ final class ModelConverterUtil {
      * @param name      leaf/leaf-list name
      * @param fieldObj  object of the leaf/leaf-list field
      * @param dataType  type of the leaf/leaf-list
+     * @param cache     model accessor cache
      * @return finalized object
      */
     static Object getObjFromType(YangSchemaNode holder, Object holderObj,
                                  Object leaf, String name, Object fieldObj,
-                                 YangType dataType) {
+                                 YangType dataType, ModelAccessorCache cache) {
 
         if (fieldObj == null) {
             throw new ModelConverterException("Value of " + holder.getName()
@@ -298,7 +278,8 @@ final class ModelConverterUtil {
                 return BASE64_BASIC_ENCODER.encodeToString((byte[]) fieldObj);
 
             case BITS:
-                return getBitsValue(holder, holderObj, name, fieldObj).trim();
+                return getBitsValue(holder, holderObj, name, fieldObj,
+                                    cache).trim();
 
             case IDENTITYREF:
                 YangIdentityRef ir = (YangIdentityRef) dataType
@@ -306,13 +287,13 @@ final class ModelConverterUtil {
                 if (ir.isInGrouping()) {
                     return String.valueOf(fieldObj).trim();
                 }
-                return getIdentityRefValue(fieldObj, ir, holderObj);
+                return getIdentityRefValue(fieldObj, ir, holderObj, cache);
 
             case LEAFREF:
                 YangLeafRef leafRef = (YangLeafRef) dataType
                         .getDataTypeExtendedInfo();
                 return getObjFromType(holder, holderObj, leaf, name, fieldObj,
-                                      leafRef.getEffectiveDataType());
+                                      leafRef.getEffectiveDataType(), cache);
 
             case DERIVED:
             case UNION:
@@ -332,26 +313,20 @@ final class ModelConverterUtil {
      * @param holderObj leaf/leaf-list holder object
      * @param name      leaf/leaf-list name
      * @param fieldObj  object of the leaf/leaf-list field
+     * @param cache     model accessor cache
      * @return string value for bits type
      */
     private static String getBitsValue(YangSchemaNode holder, Object holderObj,
-                                       String name, Object fieldObj) {
+                                       String name, Object fieldObj,
+                                       ModelAccessorCache cache) {
 
-        Class<?> holderClass = holderObj.getClass();
         String interfaceName = holder.getJavaClassNameOrBuiltInType();
         String className = interfaceName.toLowerCase() + PERIOD +
                 getCapitalCase(name);
         String pkgName = holder.getJavaPackage() + PERIOD + className;
-        ClassLoader classLoader = holderClass.getClassLoader();
-
-        Class<?> bitClass;
         try {
-            bitClass = classLoader.loadClass(pkgName);
-            Method getterMethod = bitClass.getDeclaredMethod(
-                    TO_STRING, fieldObj.getClass());
-            return String.valueOf(getterMethod.invoke(null, fieldObj));
-        } catch (ClassNotFoundException | NoSuchMethodException |
-                InvocationTargetException | IllegalAccessException e) {
+            return cache.bitsToString(holderObj, pkgName, fieldObj);
+        } catch (ReflectiveOperationException e) {
             throw new ModelConverterException(e);
         }
     }
@@ -362,10 +337,12 @@ final class ModelConverterUtil {
      * @param fieldObj  object of the leaf/leaf-list field
      * @param ir        YANG identity ref
      * @param holderObj leaf/leaf-list holder object
+     * @param cache     model accessor cache
      * @return string value for identity ref type
      */
     private static String getIdentityRefValue(Object fieldObj, YangIdentityRef ir,
-                                              Object holderObj) {
+                                              Object holderObj,
+                                              ModelAccessorCache cache) {
 
         YangIdentity id = getDerivedIdentity(fieldObj, ir);
         if (id == null) {
@@ -374,16 +351,10 @@ final class ModelConverterUtil {
         String idName = id.getJavaClassNameOrBuiltInType();
         String idPkg = id.getJavaPackage() + PERIOD + getCapitalCase(idName);
         String methodName = idName + getCapitalCase(TO_STRING);
-
-        Class<?> holderClass = holderObj.getClass();
-        ClassLoader classLoader = holderClass.getClassLoader();
-        Class<?> idClass;
         try {
-            idClass = classLoader.loadClass(idPkg);
-            Method method = idClass.getDeclaredMethod(methodName);
-            return String.valueOf(method.invoke(fieldObj)).trim();
-        } catch (ClassNotFoundException | NoSuchMethodException |
-                InvocationTargetException | IllegalAccessException e) {
+            return cache.identityToString(holderObj, idPkg, methodName,
+                                          fieldObj).trim();
+        } catch (ReflectiveOperationException e) {
             throw new ModelConverterException(e);
         }
     }
@@ -554,15 +525,16 @@ final class ModelConverterUtil {
      * @param parentObj leaf holder object
      * @param leafObj   object of leaf type
      * @param isRoot    if it is root leaf object
+     * @param cache     model accessor cache
      * @return processed leaf object
      */
     static Object getLeafObject(YangSchemaNode holder, YangLeaf leaf,
                                 Object parentObj, Object leafObj,
-                                boolean isRoot) {
+                                boolean isRoot, ModelAccessorCache cache) {
         String jLeaf = getJavaName(leaf);
         YangType<?> type = leaf.getDataType();
         if (!isRoot && isTypePrimitive(type)) {
-            if (!isLeafValueSet(holder, parentObj, jLeaf)) {
+            if (!isLeafValueSet(holder, parentObj, jLeaf, cache)) {
                 return null;
             }
         }
@@ -571,7 +543,7 @@ final class ModelConverterUtil {
             return null;
         }
         return getObjFromType(holder, parentObj, leaf, jLeaf,
-                              leafObj, type);
+                              leafObj, type, cache);
     }
 
     /**
@@ -581,17 +553,20 @@ final class ModelConverterUtil {
      * @param leafList  YANG leaf-list
      * @param parentObj leaf-list holder object
      * @param objects   leaf-list objects
+     * @param cache     model accessor cache
      * @return processed leaf-list objects
      */
     static Set<Object> getLeafListObject(YangSchemaNode holder,
                                          YangLeafList leafList,
                                          Object parentObj,
-                                         List<Object> objects) {
+                                         List<Object> objects,
+                                         ModelAccessorCache cache) {
         Set<Object> leafListVal = new LinkedHashSet<>();
         YangType<?> type = leafList.getDataType();
         for (Object object : objects) {
             Object obj = getObjFromType(holder, parentObj, leafList,
-                                        getJavaName(leafList), object, type);
+                                        getJavaName(leafList), object, type,
+                                        cache);
             leafListVal.add(obj);
         }
         return leafListVal;
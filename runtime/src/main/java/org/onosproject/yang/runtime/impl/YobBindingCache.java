@@ -0,0 +1,402 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.model.LeafIdentifier;
+import org.onosproject.yang.runtime.impl.ModelBindingStore.BoundType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.lang.invoke.MethodHandles.insertArguments;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Locale.ROOT;
+import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
+import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
+
+/**
+ * Represents the binding plan cache of YANG object builder.
+ * <p>
+ * Classes, constructors, setters, list adders, value factories and leaf
+ * identifiers of the generated model classes are resolved only once, on the
+ * first conversion which requires them, and kept as method handles so that
+ * subsequent conversions do not perform any reflective lookup. Classes
+ * which are bound by a compiler generated model binding are created and
+ * populated through the binding instead. The cache is owned by the YANG
+ * model registry and is invalidated whenever a model is unregistered.
+ */
+final class YobBindingCache {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE =
+            methodType(void.class, Object.class, Object.class);
+    private static final MethodType FACTORY_TYPE =
+            methodType(Object.class, String.class);
+    private static final MethodType CONSTRUCTOR_TYPE =
+            methodType(Object.class);
+    private static final MethodType BOUND_SETTER_TYPE =
+            methodType(void.class, Object.class, String.class, Object.class);
+    private static final MethodHandle BOUND_SET;
+    private static final MethodHandle BOUND_ADD_TO;
+
+    static {
+        try {
+            BOUND_SET = LOOKUP.findVirtual(BoundType.class, "set",
+                                           BOUND_SETTER_TYPE);
+            BOUND_ADD_TO = LOOKUP.findVirtual(BoundType.class, "addTo",
+                                              BOUND_SETTER_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final ModelBindingStore bindings;
+
+    /*
+     * Map of loaded classes with respect to their class loader and
+     * qualified name.
+     */
+    private final ConcurrentMap<ClassLoader, ConcurrentMap<String, Class<?>>>
+            classStore = new ConcurrentHashMap<>();
+
+    /*
+     * Map of generated default / op param class with respect to the schema
+     * node for which it was generated.
+     */
+    private final ConcurrentMap<YangSchemaNode, Class<?>> schemaClassStore =
+            new ConcurrentHashMap<>();
+
+    /*
+     * Map of no argument constructors.
+     */
+    private final ConcurrentMap<Class<?>, MethodHandle> constructorStore =
+            new ConcurrentHashMap<>();
+
+    /*
+     * Map of setter and adder methods with respect to their class and
+     * method name.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>>
+            setterStore = new ConcurrentHashMap<>();
+
+    /*
+     * Map of value factory methods, i.e. fromString and of, with respect to
+     * their class and method name.
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, MethodHandle>>
+            factoryStore = new ConcurrentHashMap<>();
+
+    /*
+     * Map of leaf identifier enum constants with respect to their enum class
+     * and lower cased name.
+     */
+    private final ConcurrentMap<Class<?>, Map<String, LeafIdentifier>>
+            leafIdStore = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a YOB binding cache without model bindings.
+     */
+    YobBindingCache() {
+        this(new ModelBindingStore());
+    }
+
+    /**
+     * Creates a YOB binding cache using the given model bindings.
+     *
+     * @param bindings model binding store
+     */
+    YobBindingCache(ModelBindingStore bindings) {
+        this.bindings = bindings;
+    }
+
+    /**
+     * Returns the class for the given name, loading it with the given
+     * class loader on first use.
+     *
+     * @param loader class loader
+     * @param name   qualified class name
+     * @return class
+     * @throws ClassNotFoundException if class could not be loaded
+     */
+    Class<?> loadClass(ClassLoader loader, String name)
+            throws ClassNotFoundException {
+        ConcurrentMap<String, Class<?>> classes = classStore.computeIfAbsent(
+                loader, k -> new ConcurrentHashMap<>());
+        Class<?> cls = classes.get(name);
+        if (cls == null) {
+            cls = loader.loadClass(name);
+            classes.put(name, cls);
+        }
+        return cls;
+    }
+
+    /**
+     * Returns the class previously bound to the given schema node.
+     *
+     * @param node schema node
+     * @return class bound to schema node; null if not yet bound
+     */
+    Class<?> schemaClass(YangSchemaNode node) {
+        return schemaClassStore.get(node);
+    }
+
+    /**
+     * Binds the given class to the schema node.
+     *
+     * @param node schema node
+     * @param cls  generated class
+     */
+    void schemaClass(YangSchemaNode node, Class<?> cls) {
+        schemaClassStore.put(node, cls);
+    }
+
+    /**
+     * Creates a new instance of the given class using its no argument
+     * constructor.
+     *
+     * @param cls class to be instantiated
+     * @return new instance
+     * @throws IllegalAccessException    if constructor is not accessible
+     * @throws NoSuchMethodException     if no argument constructor is missing
+     * @throws InvocationTargetException if constructor throws an exception
+     */
+    Object newInstance(Class<?> cls) throws IllegalAccessException,
+            NoSuchMethodException, InvocationTargetException {
+        BoundType bound = bindings.type(cls);
+        if (bound != null) {
+            return bound.create();
+        }
+        MethodHandle ctor = constructorStore.get(cls);
+        if (ctor == null) {
+            ctor = LOOKUP.findConstructor(cls, methodType(void.class))
+                    .asType(CONSTRUCTOR_TYPE);
+            constructorStore.put(cls, ctor);
+        }
+        try {
+            return (Object) ctor.invokeExact();
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        } catch (Throwable e) {
+            throw (Error) e;
+        }
+    }
+
+    /**
+     * Returns the setter of a single instance attribute. The parameter type
+     * of the setter is derived from the attribute's field type.
+     *
+     * @param cls  class holding the attribute
+     * @param attr java attribute name
+     * @return setter method handle of type (Object, Object)void
+     * @throws NoSuchFieldException   if attribute field is missing
+     * @throws NoSuchMethodException  if setter method is missing
+     * @throws IllegalAccessException if setter method is not accessible
+     */
+    MethodHandle setter(Class<?> cls, String attr)
+            throws NoSuchFieldException, NoSuchMethodException,
+            IllegalAccessException {
+        ConcurrentMap<String, MethodHandle> setters = setterStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle setter = setters.get(attr);
+        if (setter == null) {
+            BoundType bound = bindings.type(cls);
+            if (bound != null && bound.isBound(attr)) {
+                setter = bind(BOUND_SET, bound, attr);
+                setters.put(attr, setter);
+                return setter;
+            }
+            Field field = cls.getDeclaredField(attr);
+            Method method = cls.getDeclaredMethod(attr, field.getType());
+            setter = LOOKUP.unreflect(method).asType(SETTER_TYPE);
+            setters.put(attr, setter);
+        }
+        return setter;
+    }
+
+    /**
+     * Returns the add-to method of a multi instance attribute. The parameter
+     * type of the method is derived from the generic type of the attribute's
+     * list field.
+     *
+     * @param cls  class holding the attribute
+     * @param attr java attribute name
+     * @return adder method handle of type (Object, Object)void
+     * @throws NoSuchFieldException   if attribute field is missing
+     * @throws NoSuchMethodException  if add-to method is missing
+     * @throws IllegalAccessException if add-to method is not accessible
+     */
+    MethodHandle adder(Class<?> cls, String attr)
+            throws NoSuchFieldException, NoSuchMethodException,
+            IllegalAccessException {
+        ConcurrentMap<String, MethodHandle> setters = setterStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        String name = ADD_TO + getCapitalCase(attr);
+        MethodHandle adder = setters.get(name);
+        if (adder == null) {
+            BoundType bound = bindings.type(cls);
+            if (bound != null && bound.isBound(attr)) {
+                adder = bind(BOUND_ADD_TO, bound, attr);
+                setters.put(name, adder);
+                return adder;
+            }
+            Field field = cls.getDeclaredField(attr);
+            Type type = ((ParameterizedType) field.getGenericType())
+                    .getActualTypeArguments()[0];
+            if (type instanceof ParameterizedType) {
+                // e.g. identity ref lists are of type List<Class<? extends T>>
+                type = ((ParameterizedType) type).getRawType();
+            }
+            Method method = cls.getDeclaredMethod(name, (Class<?>) type);
+            adder = LOOKUP.unreflect(method).asType(SETTER_TYPE);
+            setters.put(name, adder);
+        }
+        return adder;
+    }
+
+    /**
+     * Returns the value factory method, taking the lexical value as string,
+     * of the given class. Instance factories are bound to an instance
+     * created once for the class.
+     *
+     * @param cls  class holding the factory method
+     * @param name factory method name
+     * @return factory method handle of type (String)Object
+     * @throws NoSuchMethodException     if factory method is missing
+     * @throws IllegalAccessException    if factory method is not accessible
+     * @throws InvocationTargetException if instance could not be created
+     */
+    MethodHandle factory(Class<?> cls, String name)
+            throws NoSuchMethodException, IllegalAccessException,
+            InvocationTargetException {
+        ConcurrentMap<String, MethodHandle> factories = factoryStore
+                .computeIfAbsent(cls, k -> new ConcurrentHashMap<>());
+        MethodHandle factory = factories.get(name);
+        if (factory == null) {
+            Method method = cls.getDeclaredMethod(name, String.class);
+            factory = LOOKUP.unreflect(method);
+            if (!isStatic(method.getModifiers())) {
+                Constructor<?> ctor = cls.getDeclaredConstructor();
+                ctor.setAccessible(true);
+                try {
+                    factory = factory.bindTo(ctor.newInstance());
+                } catch (InstantiationException e) {
+                    throw new InvocationTargetException(e);
+                }
+            }
+            factory = factory.asType(FACTORY_TYPE);
+            factories.put(name, factory);
+        }
+        return factory;
+    }
+
+    /**
+     * Returns the constant of the given leaf identifier enum whose name
+     * matches the given leaf name, ignoring case.
+     *
+     * @param enumClass leaf identifier enum class
+     * @param leafName  leaf name
+     * @return leaf identifier; null if no constant matches
+     */
+    LeafIdentifier leafIdentifier(Class<?> enumClass, String leafName) {
+        Map<String, LeafIdentifier> ids = leafIdStore.computeIfAbsent(
+                enumClass, k -> {
+                    Map<String, LeafIdentifier> map = new HashMap<>();
+                    for (Object e : k.getEnumConstants()) {
+                        map.put(((Enum<?>) e).name().toLowerCase(ROOT),
+                                (LeafIdentifier) e);
+                    }
+                    return map;
+                });
+        return ids.get(leafName.toLowerCase(ROOT));
+    }
+
+    /**
+     * Returns the given bound type accessor bound to the type and attribute.
+     *
+     * @param accessor bound type set or add-to accessor
+     * @param bound    bound type
+     * @param attr     java attribute name
+     * @return setter method handle of type (Object, Object)void
+     */
+    private static MethodHandle bind(MethodHandle accessor, BoundType bound,
+                                     String attr) {
+        return insertArguments(accessor.bindTo(bound), 1, attr);
+    }
+
+    /**
+     * Invokes the given setter or adder on the object.
+     *
+     * @param setter setter method handle of type (Object, Object)void
+     * @param obj    object on which the setter is invoked
+     * @param value  value to be set
+     * @throws InvocationTargetException if the setter throws an exception
+     */
+    static void invokeSetter(MethodHandle setter, Object obj, Object value)
+            throws InvocationTargetException {
+        try {
+            setter.invokeExact(obj, value);
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        } catch (Throwable e) {
+            throw (Error) e;
+        }
+    }
+
+    /**
+     * Invokes the given value factory with the lexical value.
+     *
+     * @param factory factory method handle of type (String)Object
+     * @param value   lexical value
+     * @return created value
+     * @throws InvocationTargetException if the factory throws an exception
+     */
+    static Object invokeFactory(MethodHandle factory, String value)
+            throws InvocationTargetException {
+        try {
+            return (Object) factory.invokeExact(value);
+        } catch (Exception e) {
+            throw new InvocationTargetException(e);
+        } catch (Throwable e) {
+            throw (Error) e;
+        }
+    }
+
+    /**
+     * Removes all the resolved bindings.
+     */
+    void clear() {
+        classStore.clear();
+        schemaClassStore.clear();
+        constructorStore.clear();
+        setterStore.clear();
+        factoryStore.clear();
+        leafIdStore.clear();
+    }
+}
@@ -19,12 +19,10 @@ package org.onosproject.yang.runtime.impl;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.model.DataNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
 
 import static org.onosproject.yang.runtime.impl.YobUtils.ANYDATA_SETTER;
-import static org.onosproject.yang.runtime.impl.YobUtils.getClassLoader;
+import static org.onosproject.yang.runtime.impl.YobUtils.getDefaultClass;
 import static org.onosproject.yang.runtime.impl.YobUtils.getInstanceOfClass;
-import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedDefaultClass;
 
 /**
  * Represents a YANG object builder handler to process the data node content and
@@ -46,16 +44,16 @@ abstract class YobHandler {
             node = node.getReferredSchema();
         }
         String setterName;
-        String qualName = getQualifiedDefaultClass(node);
-        ClassLoader classLoader = getClassLoader(node, reg);
+        Class<?> defaultClass = getDefaultClass(node, reg);
         if (((YangNode) node).isAnydataParent) {
             setterName = ANYDATA_SETTER;
         } else {
             setterName = schemaNode.getJavaAttributeName();
         }
-        Object builtObject = getInstanceOfClass(classLoader, qualName);
-        return new YobWorkBench(classLoader, builtObject, setterName,
-                                schemaNode);
+        Object builtObject = getInstanceOfClass(reg.bindingCache(),
+                                                defaultClass);
+        return new YobWorkBench(defaultClass.getClassLoader(), builtObject,
+                                setterName, schemaNode);
     }
 
 
@@ -81,7 +79,7 @@ abstract class YobHandler {
      * @param reg          YANG model registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                     YangModelRegistry reg) {
+                     DefaultYangModelRegistry reg) {
         curWorkbench.buildObject(reg);
     }
 }
@@ -22,20 +22,14 @@ import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.javadatamodel.JavaQualifiedTypeInfoContainer;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.LeafNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 
-import static org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes.IDENTITYREF;
-import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_INVOKE_METHOD;
-import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
 import static org.onosproject.yang.runtime.impl.YobUtils.getChildSchemaNode;
 import static org.onosproject.yang.runtime.impl.YobUtils.setDataFromStringValue;
 
@@ -60,7 +54,7 @@ class YobLeafListNodeHandler extends YobHandler {
      * @param registry YANG schema registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                            YangModelRegistry registry) {
+                            DefaultYangModelRegistry registry) {
         // For multi instance leaf no need to build an object.
     }
 
@@ -82,22 +76,9 @@ class YobLeafListNodeHandler extends YobHandler {
             Object parentObj = curWb.getParentObject(reg, schemaNode);
             parentClass = parentObj.getClass();
 
-            Field leafName = parentClass
-                    .getDeclaredField(setterInParent);
-            ParameterizedType genericListType =
-                    (ParameterizedType) leafName.getGenericType();
-            Class<?> genericListClass;
-            if (((YangLeafList) referredSchema)
-                    .getDataType().getDataType() == IDENTITYREF) {
-                ParameterizedType type = (ParameterizedType)
-                        genericListType.getActualTypeArguments()[0];
-                genericListClass = type.getClass().getClass();
-            } else {
-                genericListClass = (Class<?>) genericListType.getActualTypeArguments()[0];
-            }
-
-            Method setterMethod = parentClass.getDeclaredMethod(
-                    ADD_TO + getCapitalCase(setterInParent), genericListClass);
+            YobBindingCache cache = reg.bindingCache();
+            MethodHandle setterMethod = cache.adder(parentClass,
+                                                    setterInParent);
 
             JavaQualifiedTypeInfoContainer javaQualifiedType =
                     (JavaQualifiedTypeInfoContainer) referredSchema;
@@ -106,7 +87,7 @@ class YobLeafListNodeHandler extends YobHandler {
             setDataFromStringValue(yangType.getDataType(),
                                    ((LeafNode) leafNode).value(), setterMethod,
                                    parentObj, referredSchema,
-                                   curWb.schemaNode());
+                                   curWb.schemaNode(), cache);
         } catch (NoSuchMethodException | InvocationTargetException |
                 IllegalAccessException | NoSuchFieldException e) {
             log.error(L_FAIL_TO_INVOKE_METHOD, parentClass.getName());
@@ -22,13 +22,11 @@ import org.onosproject.yang.compiler.datamodel.YangType;
 import org.onosproject.yang.compiler.datamodel.utils.builtindatatype.YangDataTypes;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.LeafNode;
-import org.onosproject.yang.runtime.YangModelRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 
 import static org.onosproject.yang.runtime.impl.ModelConverterUtil.isTypeEmpty;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
@@ -57,7 +55,7 @@ class YobLeafNodeHandler extends YobHandler {
      * @param registry YANG schema registry
      */
     void buildObject(YobWorkBench curWorkbench,
-                            YangModelRegistry registry) {
+                            DefaultYangModelRegistry registry) {
         // For single instance leaf no need to build an object.
     }
 
@@ -81,12 +79,12 @@ class YobLeafNodeHandler extends YobHandler {
             YangType<?> type = ((YangLeaf) referredSchema).getDataType();
             YangDataTypes dataType = type.getDataType();
             if (((LeafNode) leafNode).value() != null || isTypeEmpty(type)) {
-                Field leafName = parentClass.getDeclaredField(setterInParent);
-                Method setterMethod = parentClass.getDeclaredMethod(
-                        setterInParent, leafName.getType());
+                YobBindingCache cache = registry.bindingCache();
+                MethodHandle setterMethod = cache.setter(parentClass,
+                                                         setterInParent);
                 setDataFromStringValue(dataType, ((LeafNode) leafNode).value(),
                                        setterMethod, parentObj, referredSchema,
-                                       curWb.schemaNode());
+                                       curWb.schemaNode(), cache);
             }
         } catch (NoSuchMethodException | InvocationTargetException |
                 IllegalAccessException | NoSuchFieldException e) {
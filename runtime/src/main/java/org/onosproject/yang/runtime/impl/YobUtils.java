@@ -47,10 +47,8 @@ import org.onosproject.yang.model.SchemaId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Base64;
 import java.util.Iterator;
 import java.util.List;
@@ -59,11 +57,12 @@ import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_AU
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.nonEmpty;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.getCamelCase;
 import static org.onosproject.yang.runtime.SerializerHelper.getChildSchemaContext;
+import static org.onosproject.yang.runtime.impl.YobBindingCache.invokeFactory;
+import static org.onosproject.yang.runtime.impl.YobBindingCache.invokeSetter;
 import static org.onosproject.yang.runtime.impl.YobConstants.DEFAULT;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_DATA_TYPE_NOT_SUPPORT;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_CREATE_OBJ;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CLASS;
-import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_CONSTRUCTOR;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_INVALID_IDENTITY_DATA;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_REFLECTION_FAIL_TO_CREATE_OBJ;
@@ -99,16 +98,18 @@ final class YobUtils {
      * @param parentObj    the parentObject is to invoke the underlying method
      * @param schemaNode   schema information
      * @param parentSchema schema information of parent
+     * @param cache        YOB binding cache
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if method is not found
      */
     static void setDataFromStringValue(YangDataTypes type,
                                        Object value,
-                                       Method parentSetter,
+                                       MethodHandle parentSetter,
                                        Object parentObj,
                                        YangSchemaNode schemaNode,
-                                       YangSchemaNode parentSchema)
+                                       YangSchemaNode parentSchema,
+                                       YobBindingCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         switch (type) {
@@ -124,47 +125,47 @@ final class YobUtils {
             case STRING:
             case DECIMAL64:
             case INSTANCE_IDENTIFIER:
-                parentSetter.invoke(parentObj, value);
+                invokeSetter(parentSetter, parentObj, value);
                 break;
 
             case BINARY:
                 byte[] data = Base64.getDecoder().decode((String) value);
-                parentSetter.invoke(parentObj, data);
+                invokeSetter(parentSetter, parentObj, data);
                 break;
 
             case BITS:
                 parseBitSetTypeInfo(parentSetter, parentObj, value,
-                                    schemaNode, parentSchema);
+                                    schemaNode, parentSchema, cache);
                 break;
 
             case DERIVED:
                 parseDerivedTypeInfo(parentSetter, parentObj, value,
-                                     false, schemaNode);
+                                     false, schemaNode, cache);
                 break;
 
             case IDENTITYREF:
                 parseIdentityRefInfo(parentSetter, parentObj, value,
-                                     schemaNode);
+                                     schemaNode, cache);
                 break;
 
             case UNION:
                 parseDerivedTypeInfo(parentSetter, parentObj, value,
-                                     false, schemaNode);
+                                     false, schemaNode, cache);
                 break;
 
             case LEAFREF:
                 parseLeafRefTypeInfo(parentSetter, parentObj, value,
-                                     schemaNode);
+                                     schemaNode, cache);
                 break;
 
             case ENUMERATION:
                 parseDerivedTypeInfo(parentSetter, parentObj, value.toString(),
-                                     true, schemaNode);
+                                     true, schemaNode, cache);
                 break;
 
             case EMPTY:
                 if (value == null) {
-                    parentSetter.invoke(parentObj, true);
+                    invokeSetter(parentSetter, parentObj, true);
                 }
                 break;
 
@@ -182,15 +183,17 @@ final class YobUtils {
      * @param value        value to be set in method
      * @param isEnum       flag to check whether type is enum or derived
      * @param leaf         schema node
+     * @param cache        YOB binding cache
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if the required method is not found
      */
-    static void parseDerivedTypeInfo(Method parentSetter,
+    static void parseDerivedTypeInfo(MethodHandle parentSetter,
                                      Object parentObj,
                                      Object value,
                                      boolean isEnum,
-                                     YangSchemaNode leaf)
+                                     YangSchemaNode leaf,
+                                     YobBindingCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         String val;
@@ -200,10 +203,7 @@ final class YobUtils {
             val = value.toString();
         }
         Class<?> childSetClass = null;
-        Constructor<?> childConstructor = null;
         Object childValue = null;
-        Object childObject = null;
-        Method childMethod = null;
         while (leaf.getReferredSchema() != null) {
             leaf = leaf.getReferredSchema();
         }
@@ -213,40 +213,17 @@ final class YobUtils {
 
         ClassLoader classLoader = parentObj.getClass().getClassLoader();
         try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
+            childSetClass = cache.loadClass(classLoader, qualifiedClassName);
         } catch (ClassNotFoundException e) {
             log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
         }
 
-        if (!isEnum) {
-            if (childSetClass != null) {
-                childConstructor = childSetClass.getDeclaredConstructor();
-            }
-
-            if (childConstructor != null) {
-                childConstructor.setAccessible(true);
-            }
-
-            try {
-                if (childConstructor != null) {
-                    childObject = childConstructor.newInstance();
-                }
-            } catch (InstantiationException e) {
-                log.error(E_FAIL_TO_LOAD_CONSTRUCTOR, qualifiedClassName);
-            }
-            if (childSetClass != null) {
-                childMethod = childSetClass
-                        .getDeclaredMethod(FROM_STRING, String.class);
-            }
-        } else {
-            if (childSetClass != null) {
-                childMethod = childSetClass.getDeclaredMethod(OF, String.class);
-            }
-        }
-        if (childMethod != null) {
-            childValue = childMethod.invoke(childObject, val);
+        if (childSetClass != null) {
+            MethodHandle childMethod = cache.factory(
+                    childSetClass, isEnum ? OF : FROM_STRING);
+            childValue = invokeFactory(childMethod, val);
         }
-        parentSetter.invoke(parentObj, childValue);
+        invokeSetter(parentSetter, parentObj, childValue);
     }
 
     /**
@@ -258,21 +235,21 @@ final class YobUtils {
      * @param leafValue          value to be set in method
      * @param leaf               schema information
      * @param parentSchema       schema information of parent
+     * @param cache              YOB binding cache
      * @throws InvocationTargetException if failed to invoke method
      * @throws IllegalAccessException    if member cannot be accessed
      * @throws NoSuchMethodException     if the required method is not found
      */
-    static void parseBitSetTypeInfo(Method parentSetterMethod,
+    static void parseBitSetTypeInfo(MethodHandle parentSetterMethod,
                                     Object parentObject,
                                     Object leafValue,
                                     YangSchemaNode leaf,
-                                    YangSchemaNode parentSchema)
+                                    YangSchemaNode parentSchema,
+                                    YobBindingCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         Class<?> childSetClass = null;
         Object childValue = null;
-        Object childObject = null;
-        Method childMethod = null;
 
         while (leaf.getReferredSchema() != null) {
             leaf = leaf.getReferredSchema();
@@ -287,19 +264,18 @@ final class YobUtils {
         ClassLoader classLoader = parentObject.getClass().getClassLoader();
 
         try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
+            childSetClass = cache.loadClass(classLoader, qualifiedClassName);
         } catch (ClassNotFoundException e) {
             log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
         }
 
         if (childSetClass != null) {
-            childMethod = childSetClass.getDeclaredMethod(FROM_STRING, String.class);
-        }
-        if (childMethod != null) {
-            childValue = childMethod.invoke(childObject, leafValue);
+            MethodHandle childMethod = cache.factory(childSetClass,
+                                                     FROM_STRING);
+            childValue = invokeFactory(childMethod, (String) leafValue);
         }
 
-        parentSetterMethod.invoke(parentObject, childValue);
+        invokeSetter(parentSetterMethod, parentObject, childValue);
     }
 
     /**
@@ -310,13 +286,16 @@ final class YobUtils {
      *                     the method
      * @param leafValue    leaf value to be set
      * @param schemaNode   schema information
+     * @param cache        YOB binding cache
      * @throws InvocationTargetException if method could not be invoked
      * @throws IllegalAccessException    if method could not be accessed
      * @throws NoSuchMethodException     if method does not exist
      */
-    static void parseLeafRefTypeInfo(Method parentSetter, Object parentObject,
+    static void parseLeafRefTypeInfo(MethodHandle parentSetter,
+                                     Object parentObject,
                                      Object leafValue,
-                                     YangSchemaNode schemaNode)
+                                     YangSchemaNode schemaNode,
+                                     YobBindingCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         while (schemaNode.getReferredSchema() != null) {
@@ -342,7 +321,7 @@ final class YobUtils {
         }
         setDataFromStringValue(type.getDataType(), leafValue, parentSetter,
                                parentObject, (YangSchemaNode) refLeaf,
-                               (YangSchemaNode) parent);
+                               (YangSchemaNode) parent, cache);
     }
 
     /**
@@ -364,6 +343,28 @@ final class YobUtils {
         return regClass.getClassLoader();
     }
 
+    /**
+     * Returns the generated default / op param class of the schema node.
+     * The class is resolved once per schema node and then served from the
+     * registry's YOB binding cache.
+     *
+     * @param schemaNode schema information
+     * @param reg        YANG model registry
+     * @return default / op param class
+     */
+    static Class<?> getDefaultClass(YangSchemaNode schemaNode,
+                                    DefaultYangModelRegistry reg) {
+        YobBindingCache cache = reg.bindingCache();
+        Class<?> cls = cache.schemaClass(schemaNode);
+        if (cls == null) {
+            String qualName = getQualifiedDefaultClass(schemaNode);
+            cls = fetchClassForNode(cache, getClassLoader(schemaNode, reg),
+                                    qualName);
+            cache.schemaClass(schemaNode, cls);
+        }
+        return cls;
+    }
+
     /**
      * Returns the class loader to be used for the switched context schema node.
      *
@@ -456,19 +457,20 @@ final class YobUtils {
      *                           the method
      * @param leafValue          leaf value to be set
      * @param schemaNode         schema information
+     * @param cache              YOB binding cache
      * @throws InvocationTargetException if method could not be invoked
      * @throws IllegalAccessException    if method could not be accessed
      * @throws NoSuchMethodException     if method does not exist
      */
-    static void parseIdentityRefInfo(Method parentSetterMethod,
+    static void parseIdentityRefInfo(MethodHandle parentSetterMethod,
                                      Object parentObject,
                                      Object leafValue,
-                                     YangSchemaNode schemaNode)
+                                     YangSchemaNode schemaNode,
+                                     YobBindingCache cache)
             throws InvocationTargetException, IllegalAccessException,
             NoSuchMethodException {
         Class<?> childSetClass = null;
         Object childValue = null;
-        Method childMethod = null;
 
         while (schemaNode.getReferredSchema() != null) {
             schemaNode = schemaNode.getReferredSchema();
@@ -506,21 +508,18 @@ final class YobUtils {
                 getCapitalCase(derivedId.getJavaClassNameOrBuiltInType());
         ClassLoader classLoader = parentObject.getClass().getClassLoader();
         try {
-            childSetClass = classLoader.loadClass(qualifiedClassName);
+            childSetClass = cache.loadClass(classLoader, qualifiedClassName);
         } catch (ClassNotFoundException e) {
             log.error(L_FAIL_TO_LOAD_CLASS, qualifiedClassName);
         }
 
         if (childSetClass != null) {
-            childMethod = childSetClass
-                    .getDeclaredMethod(FROM_STRING, String.class);
+            MethodHandle childMethod = cache.factory(childSetClass,
+                                                     FROM_STRING);
+            childValue = invokeFactory(childMethod, (String) leafValue);
         }
 
-        if (childMethod != null) {
-            childValue = childMethod.invoke(null, leafValue);
-        }
-
-        parentSetterMethod.invoke(parentObject, childValue);
+        invokeSetter(parentSetterMethod, parentObject, childValue);
     }
 
     /**
@@ -580,11 +579,9 @@ final class YobUtils {
     static LeafIdentifier getLeafIdentifier(SchemaId id,
                                             YangSchemaNode leafHolder,
                                             DefaultYangModelRegistry reg) {
-        String qualName = getQualifiedDefaultClass(leafHolder);
-        ClassLoader classLoader = getClassLoader(leafHolder, reg);
+        YobBindingCache cache = reg.bindingCache();
         try {
-            Class<InnerModelObject> cls = (Class<InnerModelObject>) classLoader
-                    .loadClass(qualName);
+            Class<?> cls = getDefaultClass(leafHolder, reg);
             Class<?>[] intfs = cls.getInterfaces();
             Class<?> intf = null;
             for (Class<?> in : intfs) {
@@ -601,30 +598,26 @@ final class YobUtils {
                 throw new ModelConverterException(E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS);
             }
 
-            Class<Enum> leafIdentifier =
-                    (Class<Enum>) cls.getClassLoader().loadClass(leafId);
-            Enum[] enumConst = leafIdentifier.getEnumConstants();
-            for (Enum e : enumConst) {
-                if (e.name().equalsIgnoreCase(id.name())) {
-                    return ((LeafIdentifier) e);
-                }
-            }
+            Class<?> leafIdentifier = cache.loadClass(cls.getClassLoader(),
+                                                      leafId);
+            return cache.leafIdentifier(leafIdentifier, id.name());
         } catch (ClassNotFoundException e) {
             throw new ModelConverterException(E_FAIL_TO_LOAD_CLASS);
         }
-        return null;
     }
 
     /**
      * Returns class.
      *
+     * @param cache  YOB binding cache
      * @param loader class loader
      * @param name   class name
      * @return java class
      */
-    static Class<?> fetchClassForNode(ClassLoader loader, String name) {
+    static Class<?> fetchClassForNode(YobBindingCache cache,
+                                      ClassLoader loader, String name) {
         try {
-            return loader.loadClass(name);
+            return cache.loadClass(loader, name);
         } catch (ClassNotFoundException e) {
             throw new ModelConverterException(E_FAIL_TO_LOAD_CLASS + name);
         }
@@ -633,24 +626,40 @@ final class YobUtils {
     /**
      * Returns instance of class.
      *
+     * @param cache  YOB binding cache
      * @param loader class loader
      * @param name   class name
      * @return instance of class
      */
-    static Object getInstanceOfClass(ClassLoader loader, String name) {
+    static Object getInstanceOfClass(YobBindingCache cache,
+                                     ClassLoader loader, String name) {
         try {
-            Class<?> defaultClass = loader.loadClass(name);
-            return defaultClass.newInstance();
+            return getInstanceOfClass(cache, cache.loadClass(loader, name));
         } catch (ClassNotFoundException e) {
             log.error(L_FAIL_TO_LOAD_CLASS, name);
             throw new ModelConverterException(E_FAIL_TO_LOAD_CLASS + name);
+        }
+    }
+
+    /**
+     * Returns instance of class.
+     *
+     * @param cache YOB binding cache
+     * @param cls   class to be instantiated
+     * @return instance of class
+     */
+    static Object getInstanceOfClass(YobBindingCache cache, Class<?> cls) {
+        try {
+            return cache.newInstance(cls);
         } catch (NullPointerException e) {
-            log.error(L_REFLECTION_FAIL_TO_CREATE_OBJ, name);
+            log.error(L_REFLECTION_FAIL_TO_CREATE_OBJ, cls.getName());
             throw new ModelConverterException(E_REFLECTION_FAIL_TO_CREATE_OBJ +
-                                                      name);
-        } catch (InstantiationException | IllegalAccessException e) {
-            log.error(L_FAIL_TO_CREATE_OBJ, name);
-            throw new ModelConverterException(E_FAIL_TO_CREATE_OBJ + name);
+                                                      cls.getName());
+        } catch (NoSuchMethodException | InvocationTargetException |
+                IllegalAccessException e) {
+            log.error(L_FAIL_TO_CREATE_OBJ, cls.getName());
+            throw new ModelConverterException(E_FAIL_TO_CREATE_OBJ +
+                                                      cls.getName());
         }
     }
 
@@ -718,34 +727,30 @@ final class YobUtils {
         ListKey listKey = (ListKey) key;
         List<KeyLeaf> keyLeaves = listKey.keyLeafs();
         String keyClassName;
-        Class<KeyInfo> keyClass;
+        Class<?> keyClass;
         Object value;
         String javaName = null;
-        Method setter;
+        MethodHandle setter;
         if (nonEmpty(keyLeaves)) {
-            String qualName = getQualifiedDefaultClass(node);
-            ClassLoader classLoader = getClassLoader(node, reg);
-            Class<T> listClass = ((Class<T>) fetchClassForNode(classLoader,
-                                                               qualName));
+            YobBindingCache cache = reg.bindingCache();
+            Class<T> listClass = ((Class<T>) getDefaultClass(node, reg));
             K keyObj;
             if (listClass != null) {
                 keyClassName = getKeyClassName(node);
                 try {
-                    keyClass = (Class<KeyInfo>) listClass.getClassLoader()
-                            .loadClass(keyClassName);
-                    keyObj = (K) keyClass.newInstance();
+                    keyClass = cache.loadClass(listClass.getClassLoader(),
+                                               keyClassName);
+                    keyObj = (K) cache.newInstance(keyClass);
                     for (KeyLeaf leaf : keyLeaves) {
                         YangLeaf leafSchema = getKeyLeafSchema(leaf, node);
                         YangDataTypes datatype = leafSchema.getDataType()
                                 .getDataType();
                         javaName = getCamelCase(leaf.leafSchema().name(), null);
-                        Field leafName = keyClass.getDeclaredField(javaName);
-                        setter = keyClass.getDeclaredMethod(javaName,
-                                                            leafName.getType());
+                        setter = cache.setter(keyClass, javaName);
                         value = leaf.leafValue();
                         setDataFromStringValue(datatype,
                                                value, setter, keyObj,
-                                               leafSchema, node);
+                                               leafSchema, node, cache);
                         midb = midb.addChild(listClass, keyObj);
                     }
                 } catch (NoSuchMethodException e) {
@@ -761,7 +766,7 @@ final class YobUtils {
                 } catch (ClassNotFoundException e) {
                     throw new ModelConverterException("Failed to load key class"
                                                               + keyClassName);
-                } catch (IllegalAccessException | InstantiationException e) {
+                } catch (IllegalAccessException e) {
                     throw new ModelConverterException("Failed Instantiation of key class"
                                                               + keyClassName);
                 } catch (NoSuchFieldException e) {
@@ -787,9 +792,8 @@ final class YobUtils {
         Class<?> intf = null;
         YangSchemaNode parentSchema = ((YangSchemaNode) ((YangLeafList)
                 schemaNode).getContainedIn());
-        String qualName = getQualifiedDefaultClass(parentSchema);
-        ClassLoader classLoader = getClassLoader(parentSchema, reg);
-        Class<?> parentClass = fetchClassForNode(classLoader, qualName);
+        YobBindingCache cache = reg.bindingCache();
+        Class<?> parentClass = getDefaultClass(parentSchema, reg);
         Class<?>[] interfaces = parentClass.getInterfaces();
         for (Class<?> in : interfaces) {
             if (in.getName().equals(getJavaQualifiedInterFaceName(parentSchema))) {
@@ -801,15 +805,13 @@ final class YobUtils {
         if (intf != null) {
             leafName = intf.getName() + ENUM_LEAF_IDENTIFIER;
             try {
-                Class<Enum> leafId =
-                        (Class<Enum>) parentClass.getClassLoader()
-                                .loadClass(leafName);
-                Enum[] enumConst = leafId.getEnumConstants();
-                for (Enum e : enumConst) {
-                    if (e.name().equalsIgnoreCase(key.schemaId().name())) {
-                        midb = midb.addChild(((LeafIdentifier) e), key.value());
-                        return midb;
-                    }
+                Class<?> leafId = cache.loadClass(
+                        parentClass.getClassLoader(), leafName);
+                LeafIdentifier id = cache.leafIdentifier(
+                        leafId, key.schemaId().name());
+                if (id != null) {
+                    midb = midb.addChild(id, key.value());
+                    return midb;
                 }
             } catch (ClassNotFoundException e) {
                 throw new ModelConverterException("Failed to load leaf identifier class." +
@@ -835,10 +837,8 @@ final class YobUtils {
             YangSchemaNode node, NodeKey key) {
         if (node != null) {
             if (!(node instanceof YangLeaf)) {
-                String qualName = getQualifiedDefaultClass(node);
-                ClassLoader classLoader = getClassLoader(node, reg);
                 Class<InnerModelObject> nodeClass = (Class<InnerModelObject>)
-                        fetchClassForNode(classLoader, qualName);
+                        getDefaultClass(node, reg);
                 if (nodeClass != null) {
                     midb = midb.addChild(nodeClass);
                 }
@@ -863,23 +863,19 @@ final class YobUtils {
             NodeKey key, YangSchemaNode schemaNode) {
         YangSchemaNode parentSchema = ((YangSchemaNode) ((YangLeaf) schemaNode)
                 .getContainedIn());
-        String qualName = getQualifiedDefaultClass(parentSchema);
-        ClassLoader classLoader = getClassLoader(parentSchema, reg);
-        Class<InnerModelObject> nodeClass = (Class<InnerModelObject>)
-                fetchClassForNode(classLoader, qualName);
+        YobBindingCache cache = reg.bindingCache();
+        Class<?> nodeClass = getDefaultClass(parentSchema, reg);
         Class<?>[] interfaces = nodeClass.getInterfaces();
         for (Class<?> intf : interfaces) {
             String leafId = intf.getName() + ENUM_LEAF_IDENTIFIER;
             try {
-                Class<Enum> leafIdentifier =
-                        (Class<Enum>) nodeClass.getClassLoader()
-                                .loadClass(leafId);
-                Enum[] enumConst = leafIdentifier.getEnumConstants();
-                for (Enum e : enumConst) {
-                    if (e.name().equalsIgnoreCase(key.schemaId().name())) {
-                        midb = midb.addChild(((LeafIdentifier) e));
-                        return midb;
-                    }
+                Class<?> leafIdentifier = cache.loadClass(
+                        nodeClass.getClassLoader(), leafId);
+                LeafIdentifier id = cache.leafIdentifier(
+                        leafIdentifier, key.schemaId().name());
+                if (id != null) {
+                    midb = midb.addChild(id);
+                    return midb;
                 }
             } catch (ClassNotFoundException e) {
                 throw new ModelConverterException(E_FAIL_TO_LOAD_LEAF_IDENTIFIER_CLASS, e);
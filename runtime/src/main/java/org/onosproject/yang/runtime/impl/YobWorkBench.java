@@ -20,16 +20,15 @@ import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNodeContextInfo;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNodeIdentifier;
 import org.onosproject.yang.compiler.datamodel.exceptions.DataModelException;
+import org.onosproject.yang.model.Anydata;
+import org.onosproject.yang.model.Augmentable;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.InnerModelObject;
-import org.onosproject.yang.runtime.YangModelRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,8 +36,6 @@ import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_AU
 import static org.onosproject.yang.compiler.datamodel.YangSchemaNodeType.YANG_CHOICE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
 import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
-import static org.onosproject.yang.runtime.impl.YobConstants.ADD_AUGMENT_METHOD;
-import static org.onosproject.yang.runtime.impl.YobConstants.ADD_TO;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_GET_FIELD;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_GET_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.E_FAIL_TO_INVOKE_METHOD;
@@ -46,8 +43,8 @@ import static org.onosproject.yang.runtime.impl.YobConstants.E_HAS_NO_CHILD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_GET_FIELD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_GET_METHOD;
 import static org.onosproject.yang.runtime.impl.YobConstants.L_FAIL_TO_INVOKE_METHOD;
+import static org.onosproject.yang.runtime.impl.YobBindingCache.invokeSetter;
 import static org.onosproject.yang.runtime.impl.YobUtils.ANYDATA_SETTER;
-import static org.onosproject.yang.runtime.impl.YobUtils.getCapitalCase;
 import static org.onosproject.yang.runtime.impl.YobUtils.getInstanceOfClass;
 import static org.onosproject.yang.runtime.impl.YobUtils.getQualifiedDefaultClass;
 
@@ -205,7 +202,8 @@ class YobWorkBench {
                    DefaultYangModelRegistry reg) {
         Object parentObj = getParentObject(reg, curWb.schemaNode());
         setObjectInParent(parentObj, curWb.setterInParent(),
-                          curWb.getBuiltObject(), dataNode.type());
+                          curWb.getBuiltObject(), dataNode.type(),
+                          reg.bindingCache());
     }
 
     /**
@@ -215,38 +213,27 @@ class YobWorkBench {
      * @param setter    setter method name
      * @param curObj    current object
      * @param type      data node type
+     * @param cache     YOB binding cache
      */
     private static void setObjectInParent(Object parentObj, String setter,
-                                          Object curObj, DataNode.Type type) {
+                                          Object curObj, DataNode.Type type,
+                                          YobBindingCache cache) {
         Class<?> parentClass = parentObj.getClass();
         String parentClassName = parentClass.getName();
         try {
-            Class<?> classType = null;
             if (setter.equals(ANYDATA_SETTER)) {
-                Method method = parentClass.getSuperclass()
-                        .getDeclaredMethod(setter, InnerModelObject.class);
-                method.invoke(parentObj, curObj);
+                ((Anydata) parentObj).addAnydata((InnerModelObject) curObj);
                 return;
             }
-            Field fieldName = parentClass.getDeclaredField(setter);
-            if (fieldName != null) {
-                classType = fieldName.getType();
-            }
 
-            Method method;
+            MethodHandle method;
             if (type == MULTI_INSTANCE_NODE) {
-                if (fieldName != null) {
-                    ParameterizedType genericTypes =
-                            (ParameterizedType) fieldName.getGenericType();
-                    classType = (Class<?>) genericTypes.getActualTypeArguments()[0];
-                }
-                method = parentClass
-                        .getDeclaredMethod(ADD_TO + getCapitalCase(setter), classType);
+                method = cache.adder(parentClass, setter);
             } else {
-                method = parentClass.getDeclaredMethod(setter, classType);
+                method = cache.setter(parentClass, setter);
             }
 
-            method.invoke(parentObj, curObj);
+            invokeSetter(method, parentObj, curObj);
         } catch (NoSuchFieldException e) {
             log.error(L_FAIL_TO_GET_FIELD, parentClassName);
             throw new ModelConverterException(E_FAIL_TO_GET_FIELD + parentClassName);
@@ -363,26 +350,15 @@ class YobWorkBench {
         ClassLoader newClassesLoader = YobUtils.getTargetClassLoader(
                 curWorkBench.classLoader, childContext, registry);
 
-        Object obj = getInstanceOfClass(newClassesLoader, name);
+        Object obj = getInstanceOfClass(registry.bindingCache(),
+                                        newClassesLoader, name);
         return new YobWorkBench(newClassesLoader, obj, setterInParent,
                                 ctxSwitchedNode);
     }
 
     static void addInAugmentation(Object builder,
                                   Object instance) {
-        Class<?> builderClass = builder.getClass();
-        Class<?> baseClass = builderClass.getSuperclass();
-        try {
-            Method method = baseClass.getDeclaredMethod(ADD_AUGMENT_METHOD,
-                                                        InnerModelObject.class);
-            method.invoke(builder, instance);
-        } catch (NoSuchMethodException e) {
-            log.error(L_FAIL_TO_GET_METHOD, ADD_AUGMENT_METHOD);
-            throw new ModelConverterException(E_FAIL_TO_GET_METHOD + ADD_AUGMENT_METHOD);
-        } catch (InvocationTargetException | IllegalAccessException e) {
-            log.error(L_FAIL_TO_INVOKE_METHOD, ADD_AUGMENT_METHOD);
-            throw new ModelConverterException(E_FAIL_TO_INVOKE_METHOD + ADD_AUGMENT_METHOD);
-        }
+        ((Augmentable) builder).addAugmentation((InnerModelObject) instance);
     }
 
     /**
@@ -391,7 +367,7 @@ class YobWorkBench {
      *
      * @param reg YANG model registry
      */
-    void buildNonSchemaAttributes(YangModelRegistry reg) {
+    void buildNonSchemaAttributes(DefaultYangModelRegistry reg) {
 
         for (Map.Entry<YangSchemaNodeIdentifier, YobWorkBench> entry :
                 attributeMap.entrySet()) {
@@ -405,7 +381,8 @@ class YobWorkBench {
                 continue;
             }
             setObjectInParent(builtObject, childWorkBench.setterInParent,
-                              childWorkBench.getBuiltObject(), SINGLE_INSTANCE_NODE);
+                              childWorkBench.getBuiltObject(),
+                              SINGLE_INSTANCE_NODE, reg.bindingCache());
         }
     }
 
@@ -415,7 +392,7 @@ class YobWorkBench {
      *
      * @param reg YANG model registry
      */
-    void buildObject(YangModelRegistry reg) {
+    void buildObject(DefaultYangModelRegistry reg) {
         buildNonSchemaAttributes(reg);
     }
 }
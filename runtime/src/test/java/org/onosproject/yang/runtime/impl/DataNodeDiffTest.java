@@ -0,0 +1,276 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.NodeKey;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.runtime.DataNodeChange;
+import org.onosproject.yang.runtime.DataNodeDiff;
+import org.onosproject.yang.runtime.YangRuntimeException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.CREATE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.DELETE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.MERGE;
+import static org.onosproject.yang.runtime.DataNodeChange.Type.REPLACE;
+
+/**
+ * Unit tests for the diff and patch of data trees.
+ */
+public class DataNodeDiffTest {
+
+    private static final String NS = "urn:diff";
+    private static final ResourceId ROOT_ID = ResourceId.builder()
+            .addBranchPointSchema("/", null).build();
+
+    /**
+     * Checks the changes between two trees built separately, and that
+     * patching the source tree with them gives the target tree.
+     */
+    @Test
+    public void processDiffAndPatch() {
+        /*
+         * source                    target
+         * /                         /
+         * |-- c1                    |-- c1
+         * |   |-- l1 = 1            |   |-- l1 = 2
+         * |   |-- l2 = a            |   |-- l2 = a
+         * |-- e[k=1]                |-- e[k=1]
+         * |   |-- l3 = x            |   |-- l3 = x
+         * |-- e[k=2]                |-- e[k=3]
+         * |-- c2                    |-- c2 (list entry)
+         *                           |-- l4 = new
+         */
+        InnerNode source = root()
+                .createChildBuilder("c1", NS).type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("l1", NS, 1)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .createChildBuilder("l2", NS, "a")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .exitNode()
+                .addNode(entry(1, true))
+                .addNode(entry(2, false))
+                .createChildBuilder("c2", NS).type(SINGLE_INSTANCE_NODE)
+                .exitNode()
+                .build();
+        InnerNode target = root()
+                .createChildBuilder("c1", NS).type(SINGLE_INSTANCE_NODE)
+                .createChildBuilder("l1", NS, 2)
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .createChildBuilder("l2", NS, "a")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .exitNode()
+                .addNode(entry(1, true))
+                .addNode(entry(3, false))
+                .createChildBuilder("c2", NS).type(MULTI_INSTANCE_NODE)
+                .exitNode()
+                .createChildBuilder("l4", NS, "new")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .build();
+
+        List<DataNodeChange> changes =
+                DataNodeDiff.diff(ROOT_ID, source, target);
+        List<String> summary = new ArrayList<>();
+        for (DataNodeChange change : changes) {
+            summary.add(change.type() + " " + path(change.resourceId()));
+        }
+        assertThat(summary.toString(), is("[MERGE c1, REPLACE c1/l1, " +
+                "CREATE e, REPLACE c2, CREATE l4, DELETE e]"));
+        assertThat(changes.get(2).type(), is(CREATE));
+        assertThat(changes.get(2).node(), is((DataNode) target.childNodes()
+                .get(entry(3, false).key())));
+        assertThat(changes.get(5).resourceId().nodeKeys().get(1),
+                   is(entry(2, false).key()));
+
+        InnerNode patched = DataNodeDiff.patch(ROOT_ID, source, changes);
+        assertThat(DataNodeDiff.diff(ROOT_ID, patched, target).isEmpty(),
+                   is(true));
+        assertThat(DataNodeDiff.diff(ROOT_ID, source, patched).size(),
+                   is(changes.size()));
+        NodeKey e1 = entry(1, true).key();
+        assertThat(patched.childNodes().get(e1),
+                   sameInstance(source.childNodes().get(e1)));
+    }
+
+    /**
+     * Checks that the shared subtrees of two versions of a tree are
+     * skipped, and that merges create their missing nodes.
+     */
+    @Test
+    public void processSharedSubtrees() {
+        InnerNode.Builder builder = root();
+        for (int k = 0; k < 100; k++) {
+            builder.addNode(entry(k, true));
+        }
+        InnerNode source = builder.build();
+        NodeKey e50 = entry(50, true).key();
+        InnerNode target = source.copyBuilder()
+                .getChildBuilder(e50)
+                .createChildBuilder("l3", NS, "y")
+                .type(SINGLE_INSTANCE_LEAF_VALUE_NODE).exitNode()
+                .exitNode()
+                .build();
+
+        List<DataNodeChange> changes =
+                DataNodeDiff.diff(ROOT_ID, source, target);
+        assertThat(changes.size(), is(2));
+        assertThat(changes.get(0).type(), is(MERGE));
+        assertThat(changes.get(1).type(), is(REPLACE));
+        assertThat(DataNodeDiff.diff(ROOT_ID, source, source).isEmpty(),
+                   is(true));
+
+        InnerNode empty = root().build();
+        InnerNode patched = DataNodeDiff.patch(ROOT_ID, empty, changes);
+        InnerNode entry = (InnerNode) patched.childNodes().get(e50);
+        assertThat(patched.childNodes().size(), is(1));
+        assertThat(entry.childNodes().size(), is(1));
+        assertThat(entry.type(), is(MULTI_INSTANCE_NODE));
+        assertThat(empty.childNodes().isEmpty(), is(true));
+    }
+
+    /**
+     * Checks that the order of the list and leaf-list entries of the target
+     * tree is kept by the patch, once they are reordered or created before
+     * the existing ones, and that entries appended after the existing ones
+     * are still created.
+     */
+    @Test
+    public void processEntryOrder() {
+        InnerNode source = root()
+                .createChildBuilder("c1", NS).type(SINGLE_INSTANCE_NODE)
+                .addNode(entry(1, false))
+                .addNode(entry(2, false))
+                .addNode(leafListEntry("a"))
+                .addNode(leafListEntry("b"))
+                .exitNode()
+                .addNode(entry(1, false))
+                .addNode(entry(2, false))
+                .build();
+        NodeKey c1 = source.childNodes().keySet().iterator().next();
+
+        InnerNode reordered = source.copyBuilder()
+                .getChildBuilder(c1)
+                .deleteChild(leafListEntry("a").key())
+                .addNode(leafListEntry("a"))
+                .exitNode()
+                .build();
+        List<DataNodeChange> changes =
+                DataNodeDiff.diff(ROOT_ID, source, reordered);
+        assertThat(changes.size(), is(1));
+        assertThat(changes.get(0).type(), is(REPLACE));
+        assertThat(path(changes.get(0).resourceId()), is("c1"));
+        checkOrder(DataNodeDiff.patch(ROOT_ID, source, changes), reordered);
+
+        InnerNode prepended = root()
+                .createChildBuilder("c1", NS).type(SINGLE_INSTANCE_NODE)
+                .exitNode()
+                .addNode(entry(0, false))
+                .addNode(entry(1, false))
+                .addNode(entry(2, false))
+                .build();
+        changes = DataNodeDiff.diff(ROOT_ID, source, prepended);
+        assertThat(changes.size(), is(1));
+        assertThat(changes.get(0).resourceId(), is(ROOT_ID));
+        checkOrder(DataNodeDiff.patch(ROOT_ID, source, changes), prepended);
+
+        InnerNode appended = source.copyBuilder()
+                .addNode(entry(3, false))
+                .build();
+        changes = DataNodeDiff.diff(ROOT_ID, source, appended);
+        assertThat(changes.size(), is(1));
+        assertThat(changes.get(0).type(), is(CREATE));
+        checkOrder(DataNodeDiff.patch(ROOT_ID, source, changes), appended);
+    }
+
+    /**
+     * Checks that the changes of nodes outside the patched tree are
+     * rejected.
+     */
+    @Test(expected = YangRuntimeException.class)
+    public void processInvalidPatch() {
+        ResourceId other = ResourceId.builder()
+                .addBranchPointSchema("other", NS).build();
+        DataNodeChange change = new DataNodeChange(DELETE, other, null);
+        DataNodeDiff.patch(ROOT_ID, root().build(),
+                           Collections.singletonList(change));
+    }
+
+    private static InnerNode.Builder root() {
+        return InnerNode.builder("/", null).type(SINGLE_INSTANCE_NODE);
+    }
+
+    private static DataNode entry(int k, boolean leaf) {
+        InnerNode.Builder builder = InnerNode.builder("e", NS)
+                .type(MULTI_INSTANCE_NODE)
+                .addKeyLeaf("k", NS, k);
+        if (leaf) {
+            builder.createChildBuilder("l3", NS, "x")
+                    .type(SINGLE_INSTANCE_LEAF_VALUE_NODE)
+                    .exitNode();
+        }
+        return builder.build();
+    }
+
+    private static DataNode leafListEntry(String value) {
+        return LeafNode.builder("ll", NS)
+                .type(MULTI_INSTANCE_LEAF_VALUE_NODE)
+                .value(value)
+                .addLeafListValue(value)
+                .build();
+    }
+
+    /*
+     * Checks that the given nodes have the same children, in the same
+     * order, down to their leaves.
+     */
+    private static void checkOrder(DataNode actual, DataNode expected) {
+        assertThat(actual.key(), is(expected.key()));
+        if (expected instanceof InnerNode) {
+            List<DataNode> actualChildren = new ArrayList<>(
+                    ((InnerNode) actual).childNodes().values());
+            List<DataNode> expectedChildren = new ArrayList<>(
+                    ((InnerNode) expected).childNodes().values());
+            assertThat(actualChildren.size(), is(expectedChildren.size()));
+            for (int i = 0; i < expectedChildren.size(); i++) {
+                checkOrder(actualChildren.get(i), expectedChildren.get(i));
+            }
+        }
+    }
+
+    private static String path(ResourceId id) {
+        StringBuilder path = new StringBuilder();
+        List<NodeKey> keys = id.nodeKeys();
+        for (int i = 1; i < keys.size(); i++) {
+            path.append(i > 1 ? "/" : "").append(keys.get(i).schemaId().name());
+        }
+        return path.toString();
+    }
+}
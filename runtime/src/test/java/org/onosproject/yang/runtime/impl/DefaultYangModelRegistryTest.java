@@ -21,10 +21,13 @@ import org.junit.Test;
 import org.onosproject.yang.compiler.datamodel.YangNode;
 import org.onosproject.yang.compiler.datamodel.YangRevision;
 import org.onosproject.yang.compiler.datamodel.YangSchemaNode;
+import org.onosproject.yang.compiler.tool.LazyYangModuleInfo;
 import org.onosproject.yang.model.DefaultYangModuleId;
+import org.onosproject.yang.model.SchemaId;
 import org.onosproject.yang.model.YangModel;
 import org.onosproject.yang.model.YangModule;
 import org.onosproject.yang.model.YangModuleId;
+import org.onosproject.yang.runtime.ModelRegistrationParam;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -37,10 +40,15 @@ import java.util.Set;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.onosproject.yang.compiler.datamodel.utils.DataModelUtils.getDateInStringFormat;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.runtime.DefaultModelRegistrationParam.builder;
+import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processLazyModelTest;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processModelTest;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.processSchemaRegistry;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.registry;
 import static org.onosproject.yang.runtime.impl.MockYangSchemaNodeProvider.unRegister;
+import static org.onosproject.yang.runtime.impl.TestUtils.IETFNS;
+import static org.onosproject.yang.runtime.impl.TestUtils.checkSchemaContext;
 
 /**
  * Unit test for model registry.
@@ -484,4 +492,59 @@ public class DefaultYangModelRegistryTest {
         String date = getDateInStringFormat((YangNode) yangNode);
         assertThat(true, is(DATE_NAMESPACE.equals(date)));
     }
+
+    /**
+     * Unit test case in which the schemas of a registered model are read
+     * when a lookup first asks for one of its modules.
+     *
+     * @throws IOException when fails to do IO operation
+     */
+    @Test
+    public void testLazyModelRegistration() throws IOException {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        YangModel model = processLazyModelTest();
+        registry.registerModel(builder().setYangModel(model).build());
+        assertThat(registry.getModel(MODEL_ID), is(model));
+        assertThat(isLoaded(model), is(false));
+
+        SchemaId id = new SchemaId("networks", IETFNS);
+        YangNode child = (YangNode) registry.getChildContext(id);
+        assertThat(isLoaded(model), is(true));
+        checkSchemaContext("networks", IETFNS, "/", null,
+                           SINGLE_INSTANCE_NODE, child);
+
+        YangSchemaNode yangNode = registry.getForSchemaName(SCHEMA_NAME_3);
+        assertThat(yangNode.getName(), is(SCHEMA_NAME_3));
+        yangNode = registry.getForNameSpace(NAMESPACE, false);
+        assertThat(yangNode.getName(), is(CHECK));
+    }
+
+    /**
+     * Unit test case in which a model is unregistered before its schemas
+     * are read.
+     *
+     * @throws IOException when fails to do IO operation
+     */
+    @Test
+    public void testLazyModelUnregistration() throws IOException {
+        DefaultYangModelRegistry registry = new DefaultYangModelRegistry();
+        YangModel model = processLazyModelTest();
+        ModelRegistrationParam param = builder().setYangModel(model).build();
+        registry.registerModel(param);
+        registry.unregisterModel(param);
+
+        assertThat(registry.getModel(MODEL_ID) == null, is(true));
+        assertThat(registry.getForSchemaName(SCHEMA_NAME_3) == null,
+                   is(true));
+        assertThat(isLoaded(model), is(false));
+    }
+
+    private static boolean isLoaded(YangModel model) {
+        for (YangModule module : model.getYangModules()) {
+            if (!((LazyYangModuleInfo) module).isLoaded()) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.ymstopology.rev20140101.ymstopology.DefaultNode;
+import org.onosproject.yang.gen.v1.ymstopology.rev20140101.ymstopology.Node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+/**
+ * Tests the model accessor cache.
+ */
+public class ModelAccessorCacheTest {
+
+    private static final String ENUM = Node.LeafIdentifier.class.getName();
+
+    private final ModelAccessorCache cache = new ModelAccessorCache();
+
+    /**
+     * Checks that cached and reflective accessors read the same values.
+     *
+     * @throws Exception when accessor could not be resolved
+     */
+    @Test
+    public void cachedMatchesReflective() throws Exception {
+        DefaultNode node = new DefaultNode();
+        node.nodeId("node1");
+        node.addToNodeProp("prop1");
+
+        for (boolean reflective : new boolean[]{false, true, false}) {
+            cache.reflective(reflective);
+            assertThat(cache.attribute(node, "nodeId"), is("node1"));
+            assertThat(cache.attribute(node, "nodeProp").toString(),
+                       is("[prop1]"));
+            assertThat(cache.isLeafValueSet(node, ENUM, "nodeId"), is(true));
+        }
+    }
+
+    /**
+     * Checks that unknown attributes are reported.
+     *
+     * @throws Exception when accessor could not be resolved
+     */
+    @Test(expected = NoSuchMethodException.class)
+    public void missingAttribute() throws Exception {
+        cache.attribute(new DefaultNode(), "unknown");
+    }
+}
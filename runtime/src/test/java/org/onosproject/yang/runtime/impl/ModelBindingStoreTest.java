@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.ymstopology.rev20140101.YmsTopology;
+import org.onosproject.yang.gen.v1.ymstopology.rev20140101.ymstopology.DefaultNode;
+import org.onosproject.yang.runtime.impl.ModelBindingStore.BoundType;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.hamcrest.core.IsNull.nullValue;
+
+/**
+ * Tests the model binding store.
+ */
+public class ModelBindingStoreTest {
+
+    private final ModelBindingStore store = new ModelBindingStore();
+
+    /**
+     * Checks that the generated binding of a module is registered and used
+     * for creating and populating its model objects.
+     *
+     * @throws Exception when model object could not be built
+     */
+    @Test
+    public void registeredBinding() throws Exception {
+        store.register(YmsTopology.class.getName(), YmsTopology.class);
+        BoundType type = store.type(DefaultNode.class);
+        assertThat(type.isBound("nodeId"), is(true));
+        assertThat(type.isBound("unknown"), is(false));
+
+        YobBindingCache cache = new YobBindingCache(store);
+        Object node = cache.newInstance(DefaultNode.class);
+        assertThat(node, instanceOf(DefaultNode.class));
+        YobBindingCache.invokeSetter(cache.setter(DefaultNode.class, "nodeId"),
+                                     node, "node1");
+        YobBindingCache.invokeSetter(cache.adder(DefaultNode.class, "nodeProp"),
+                                     node, "prop1");
+
+        ModelAccessorCache accessors = new ModelAccessorCache(store);
+        assertThat(accessors.attribute(node, "nodeId"), is("node1"));
+        assertThat(((DefaultNode) node).nodeProp().toString(), is("[prop1]"));
+
+        store.unregister(YmsTopology.class.getName());
+        assertThat(store.type(DefaultNode.class), nullValue());
+    }
+}
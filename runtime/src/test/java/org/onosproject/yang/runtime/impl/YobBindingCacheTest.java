@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.runtime.impl;
+
+import org.junit.Test;
+import org.onosproject.yang.gen.v1.ymstopology.rev20140101.ymstopology.DefaultNode;
+import org.onosproject.yang.gen.v1.ymstopology.rev20140101.ymstopology.Node;
+
+import java.lang.invoke.MethodHandle;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsNot.not;
+import static org.hamcrest.core.IsSame.sameInstance;
+import static org.onosproject.yang.runtime.impl.YobBindingCache.invokeSetter;
+
+/**
+ * Tests the YOB binding cache.
+ */
+public class YobBindingCacheTest {
+
+    private final YobBindingCache cache = new YobBindingCache();
+
+    /**
+     * Checks that resolved bindings are reused and can set values.
+     *
+     * @throws Exception when binding fails
+     */
+    @Test
+    public void bindingsAreResolvedOnce() throws Exception {
+        ClassLoader loader = getClass().getClassLoader();
+        Class<?> cls = cache.loadClass(loader, DefaultNode.class.getName());
+        assertThat(cache.loadClass(loader, DefaultNode.class.getName()),
+                   sameInstance(cls));
+
+        MethodHandle setter = cache.setter(cls, "nodeId");
+        assertThat(cache.setter(cls, "nodeId"), sameInstance(setter));
+        MethodHandle adder = cache.adder(cls, "nodeProp");
+        assertThat(cache.adder(cls, "nodeProp"), sameInstance(adder));
+
+        DefaultNode node = (DefaultNode) cache.newInstance(cls);
+        invokeSetter(setter, node, "node1");
+        invokeSetter(adder, node, "prop1");
+        invokeSetter(adder, node, "prop2");
+        assertThat(node.nodeId(), is("node1"));
+        assertThat(node.nodeProp().size(), is(2));
+        assertThat(node.nodeProp().get(1), is("prop2"));
+
+        assertThat(cache.leafIdentifier(Node.LeafIdentifier.class, "node-prop"),
+                   is((Object) null));
+        assertThat(cache.leafIdentifier(Node.LeafIdentifier.class, "nodeid"),
+                   is(Node.LeafIdentifier.NODEID));
+    }
+
+    /**
+     * Checks that cleared cache resolves bindings again.
+     *
+     * @throws Exception when binding fails
+     */
+    @Test
+    public void clearDropsBindings() throws Exception {
+        MethodHandle setter = cache.setter(DefaultNode.class, "nodeId");
+        cache.clear();
+        assertThat(cache.setter(DefaultNode.class, "nodeId"),
+                   not(sameInstance(setter)));
+    }
+}
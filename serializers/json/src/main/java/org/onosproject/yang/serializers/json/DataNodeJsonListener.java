@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.runtime.DataNodeListener;
+import org.onosproject.yang.runtime.YangSerializerContext;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.runtime.SerializerHelper.getModuleNameFromNameSpace;
+
+/**
+ * Represents implementation of data node listener, which writes the JSON
+ * encoding of the walked data tree to a JSON generator as the nodes are
+ * entered and exited.
+ * <p>
+ * Multi instance siblings are written as one JSON array. As the walker does
+ * not tell whether a node is the last instance, an array is closed when a
+ * sibling with a different name is entered or when the parent is exited.
+ */
+public class DataNodeJsonListener implements DataNodeListener {
+
+    private static final String COLON = ":";
+    private static final String ROOT_MODULE_NAME = "ROOT";
+    private static final String ERROR_INFO = "JSON serializer encode failure";
+
+    private final JsonGenerator generator;
+    private final YangSerializerContext context;
+    private final Deque<Level> levels = new ArrayDeque<>();
+
+    /**
+     * Creates an instance of data node JSON listener. The JSON object
+     * enclosing the walked data tree is started on creation.
+     *
+     * @param generator JSON generator
+     * @param context   yang serializer context
+     */
+    public DataNodeJsonListener(JsonGenerator generator,
+                                YangSerializerContext context) {
+        this.generator = generator;
+        this.context = context;
+        levels.push(new Level(ROOT_MODULE_NAME));
+        try {
+            generator.writeStartObject();
+        } catch (IOException e) {
+            throw new SerializerException(ERROR_INFO, e);
+        }
+    }
+
+    @Override
+    public void enterDataNode(DataNode node) {
+        Level parent = levels.peek();
+        String moduleName = getModuleName(node);
+        String nodeName = getNodeName(node, moduleName, parent.moduleName);
+        DataNode.Type type = node.type();
+        boolean multi = type == MULTI_INSTANCE_NODE ||
+                type == MULTI_INSTANCE_LEAF_VALUE_NODE;
+        try {
+            if (parent.arrayName != null &&
+                    (!multi || !parent.arrayName.equals(nodeName))) {
+                parent.closeArray();
+            }
+            if (multi && parent.arrayName == null) {
+                generator.writeArrayFieldStart(nodeName);
+                parent.arrayName = nodeName;
+            }
+            switch (type) {
+                case SINGLE_INSTANCE_NODE:
+                    generator.writeObjectFieldStart(nodeName);
+                    break;
+                case MULTI_INSTANCE_NODE:
+                    generator.writeStartObject();
+                    break;
+                case SINGLE_INSTANCE_LEAF_VALUE_NODE:
+                    generator.writeStringField(
+                            nodeName, ((LeafNode) node).asString());
+                    break;
+                case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                    String value = ((LeafNode) node).asString();
+                    if (!isNullOrEmpty(value)) {
+                        generator.writeString(value);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            throw new SerializerException(ERROR_INFO, e);
+        }
+        levels.push(new Level(moduleName));
+    }
+
+    @Override
+    public void exitDataNode(DataNode node) {
+        try {
+            levels.pop().closeArray();
+            switch (node.type()) {
+                case SINGLE_INSTANCE_NODE:
+                case MULTI_INSTANCE_NODE:
+                    generator.writeEndObject();
+                    break;
+                default:
+                    break;
+            }
+        } catch (IOException e) {
+            throw new SerializerException(ERROR_INFO, e);
+        }
+    }
+
+    /**
+     * Ends the JSON object enclosing the walked data tree and flushes the
+     * generator.
+     */
+    public void finish() {
+        try {
+            levels.peek().closeArray();
+            generator.writeEndObject();
+            generator.flush();
+        } catch (IOException e) {
+            throw new SerializerException(ERROR_INFO, e);
+        }
+    }
+
+    private String getModuleName(DataNode node) {
+        String nameSpace = node.key().schemaId().namespace();
+        return getModuleNameFromNameSpace(context, nameSpace);
+    }
+
+    private static String getNodeName(DataNode node, String moduleName,
+                                      String parentModuleName) {
+        String nodeName = node.key().schemaId().name();
+        if (moduleName != null && !moduleName.equals(parentModuleName)) {
+            return moduleName + COLON + nodeName;
+        }
+        return nodeName;
+    }
+
+    /**
+     * Represents a level of the walked data tree.
+     */
+    private final class Level {
+
+        private final String moduleName;
+        private String arrayName;
+
+        private Level(String moduleName) {
+            this.moduleName = moduleName;
+        }
+
+        private void closeArray() throws IOException {
+            if (arrayName != null) {
+                generator.writeEndArray();
+                arrayName = null;
+            }
+        }
+    }
+}
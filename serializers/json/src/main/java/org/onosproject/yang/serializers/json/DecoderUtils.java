@@ -16,12 +16,13 @@
 
 package org.onosproject.yang.serializers.json;
 
-import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.core.JsonParser;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.ResourceId;
 import org.onosproject.yang.runtime.SerializerHelper;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
+import java.io.IOException;
 
 /**
  * Utilities for parsing URI and JSON strings.
@@ -33,56 +34,54 @@ public final class DecoderUtils {
     }
 
     /**
-     * Converts JSON data to a data node. This method should be used when
-     * the URI corresponding to the JSON body is null (Thus the caller can
-     * only provide a serializer context rather than a resource ID).
+     * Converts the JSON data read by the parser to a data node, building
+     * the data tree from the parser events. This method should be used when
+     * the URI corresponding to the JSON body is null.
      *
-     * @param rootNode given JSON data
-     * @param context  YANG serializer context corresponding
-     *                 to the target data node
-     * @return data node
+     * @param parser  JSON parser
+     * @param context YANG serializer context corresponding
+     *                to the target data node
+     * @return data node; null if there is no JSON data
+     * @throws IOException if the JSON data could not be read
      */
-    public static DataNode convertJsonToDataNode(ObjectNode rootNode,
-                                                 YangSerializerContext context) {
-        if (rootNode == null || context == null) {
+    public static DataNode convertJsonToDataNode(JsonParser parser,
+                                                 YangSerializerContext context)
+            throws IOException {
+        if (parser == null || context == null) {
             return null;
         }
-
-        DataNode.Builder dataNodeBuilder = SerializerHelper.
-                initializeDataNode(context);
-
-        DefaultJsonWalker jsonWalker = new DefaultJsonWalker(dataNodeBuilder);
-        // FIXME: Handle scenario wherein there are multiple data nodes are
-        // there at root level.
-        jsonWalker.walkJsonNode(null, rootNode);
-        // returning the updated data node builder
-        return jsonWalker.rootBuilder().build();
+        return walkJson(parser, SerializerHelper.initializeDataNode(context));
     }
 
     /**
-     * Converts JSON data to a data node. This method should be used when
-     * the JSON body has a valid URI associated with it (so that the caller
-     * can convert the URI to a resource ID).
+     * Converts the JSON data read by the parser to a data node, building
+     * the data tree from the parser events. This method should be used when
+     * the JSON body has a valid URI associated with it.
      *
-     * @param rootNode   given JSON data
+     * @param parser     JSON parser
      * @param ridBuilder resource ID builder corresponding
      *                   to the target data node
-     * @return data node
+     * @return data node; null if there is no JSON data
+     * @throws IOException if the JSON data could not be read
      */
-    public static DataNode convertJsonToDataNode(ObjectNode rootNode,
-                                                 ResourceId.Builder ridBuilder) {
-        if (rootNode == null || ridBuilder == null) {
+    public static DataNode convertJsonToDataNode(JsonParser parser,
+                                                 ResourceId.Builder ridBuilder)
+            throws IOException {
+        if (parser == null || ridBuilder == null) {
             return null;
         }
+        return walkJson(parser, SerializerHelper.initializeDataNode(ridBuilder));
+    }
 
-        DataNode.Builder dataNodeBuilder = SerializerHelper.
-                initializeDataNode(ridBuilder);
-
-        DefaultJsonWalker jsonWalker = new DefaultJsonWalker(dataNodeBuilder);
+    private static DataNode walkJson(JsonParser parser,
+                                     DataNode.Builder dataNodeBuilder)
+            throws IOException {
+        JsonParserWalker jsonWalker = new JsonParserWalker(dataNodeBuilder);
         // FIXME: Handle scenario wherein there are multiple data nodes are
         // there at root level.
-        jsonWalker.walkJsonNode(null, rootNode);
-        // returning the updated data node builder
+        if (!jsonWalker.walk(parser)) {
+            return null;
+        }
         return jsonWalker.rootBuilder().build();
     }
 }
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.InnerNode;
+import org.onosproject.yang.runtime.YangSerializerContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Represents an input stream of the JSON encoding of a data tree. The data
+ * tree is walked lazily, as the stream is read, and only a chunk of the
+ * encoding is held in memory at any time.
+ */
+final class JsonEncoderStream extends InputStream {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final DataNode root;
+    private final YangSerializerContext context;
+    private final JsonFactory factory;
+    private final Chunk chunk = new Chunk();
+    private final Deque<DataNode> nodes = new ArrayDeque<>();
+    private final Deque<Iterator<DataNode>> children = new ArrayDeque<>();
+
+    private JsonGenerator generator;
+    private DataNodeJsonListener listener;
+    private boolean done;
+    private int pos;
+
+    /**
+     * Creates an input stream of the JSON encoding of the data tree.
+     *
+     * @param root    root node of the data tree
+     * @param context yang serializer context
+     * @param factory JSON factory
+     */
+    JsonEncoderStream(DataNode root, YangSerializerContext context,
+                      JsonFactory factory) {
+        this.root = root;
+        this.context = context;
+        this.factory = factory;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk.byteAt(pos++);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(len, chunk.size() - pos);
+        chunk.copyTo(pos, b, off, n);
+        pos += n;
+        return n;
+    }
+
+    @Override
+    public int available() {
+        return chunk.size() - pos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        done = true;
+        nodes.clear();
+        children.clear();
+        if (generator != null) {
+            generator.close();
+        }
+    }
+
+    /**
+     * Makes sure unread bytes are available, walking the data tree further
+     * when the current chunk is consumed.
+     *
+     * @return false if the encoding is completely read; true otherwise
+     * @throws IOException if the encoding fails
+     */
+    private boolean fill() throws IOException {
+        while (pos >= chunk.size()) {
+            if (done) {
+                return false;
+            }
+            chunk.reset();
+            pos = 0;
+            while (!done && chunk.size() < CHUNK_SIZE) {
+                step();
+                generator.flush();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Walks the data tree by one node entry or exit, in the same order as
+     * the default data node walker.
+     *
+     * @throws IOException if the encoding fails
+     */
+    private void step() throws IOException {
+        if (generator == null) {
+            generator = factory.createGenerator(chunk);
+            listener = new DataNodeJsonListener(generator, context);
+            enter(root);
+            return;
+        }
+        Iterator<DataNode> it = children.peek();
+        if (it.hasNext()) {
+            enter(it.next());
+            return;
+        }
+        children.pop();
+        listener.exitDataNode(nodes.pop());
+        if (nodes.isEmpty()) {
+            listener.finish();
+            generator.close();
+            done = true;
+        }
+    }
+
+    private void enter(DataNode node) {
+        listener.enterDataNode(node);
+        nodes.push(node);
+        if (node instanceof InnerNode) {
+            children.push(((InnerNode) node).childNodes().values().iterator());
+        } else {
+            children.push(Collections.emptyIterator());
+        }
+    }
+
+    /**
+     * Represents the reusable buffer of the current chunk of the encoding.
+     */
+    private static final class Chunk extends ByteArrayOutputStream {
+
+        private Chunk() {
+            super(CHUNK_SIZE);
+        }
+
+        private int byteAt(int index) {
+            return buf[index] & 0xff;
+        }
+
+        private void copyTo(int index, byte[] b, int off, int len) {
+            System.arraycopy(buf, index, b, off, len);
+        }
+    }
+}
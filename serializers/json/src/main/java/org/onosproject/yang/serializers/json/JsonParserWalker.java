@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.runtime.SerializerHelper;
+
+import java.io.IOException;
+
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_NODE;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.getLatterSegment;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.getPreSegment;
+
+/**
+ * Represents implementation of JSON walk, which walks the tokens of a JSON
+ * parser and builds the data tree from the parser events, without reading
+ * the JSON into a tree first.
+ * <p>
+ * Objects are added as single instance nodes, scalar values as leaves and
+ * arrays as multi instance nodes or leaf-lists, depending on whether their
+ * elements are objects or scalar values.
+ */
+public class JsonParserWalker {
+    private static final String COLON = ":";
+    private static final String ERROR_INFO = "Expected JSON object but found ";
+
+    private DataNode.Builder dataNodeBuilder;
+
+    /**
+     * Creates an instance of JSON parser walker.
+     *
+     * @param db data node builder
+     */
+    public JsonParserWalker(DataNode.Builder db) {
+        dataNodeBuilder = db;
+    }
+
+    /**
+     * Returns the root data node builder.
+     *
+     * @return data node builder
+     */
+    public DataNode.Builder rootBuilder() {
+        return dataNodeBuilder;
+    }
+
+    /**
+     * Walks the JSON object read by the parser and adds its fields to the
+     * current node of the data tree.
+     *
+     * @param parser JSON parser
+     * @return false if the parser has no content; true otherwise
+     * @throws IOException if the JSON could not be read
+     */
+    public boolean walk(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return false;
+        }
+        if (token != START_OBJECT) {
+            throw new SerializerException(ERROR_INFO + token);
+        }
+        walkFields(parser);
+        return true;
+    }
+
+    private void walkFields(JsonParser parser) throws IOException {
+        while (parser.nextToken() == FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            walkValue(fieldName, parser.nextToken(), parser);
+        }
+    }
+
+    private void walkValue(String fieldName, JsonToken token,
+                           JsonParser parser) throws IOException {
+        if (token == START_ARRAY) {
+            walkArray(fieldName, parser);
+            return;
+        }
+        if (token == START_OBJECT) {
+            addDataNode(fieldName, null, SINGLE_INSTANCE_NODE);
+            walkFields(parser);
+        } else {
+            addDataNode(fieldName, parser.getText(),
+                        SINGLE_INSTANCE_LEAF_VALUE_NODE);
+        }
+        exitDataNode();
+    }
+
+    private void walkArray(String fieldName, JsonParser parser)
+            throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != END_ARRAY) {
+            if (token == START_OBJECT) {
+                addDataNode(fieldName, null, MULTI_INSTANCE_NODE);
+                walkFields(parser);
+                exitDataNode();
+            } else if (token == START_ARRAY) {
+                // Nested arrays have no counterpart in the data tree.
+                parser.skipChildren();
+            } else {
+                addDataNode(fieldName, parser.getText(),
+                            MULTI_INSTANCE_LEAF_VALUE_NODE);
+                dataNodeBuilder = SerializerHelper.exitDataNode(dataNodeBuilder);
+            }
+        }
+    }
+
+    private void addDataNode(String fieldName, String value,
+                             DataNode.Type nodeType) {
+        String nodeName = getLatterSegment(fieldName, COLON);
+        String namespace = getPreSegment(fieldName, COLON);
+        dataNodeBuilder = SerializerHelper.addDataNode(dataNodeBuilder,
+                                                       nodeName, namespace,
+                                                       value, nodeType);
+    }
+
+    private void exitDataNode() {
+        // this is to avoid exit node for top level node
+        if (dataNodeBuilder.parent() != null) {
+            dataNodeBuilder = SerializerHelper.exitDataNode(dataNodeBuilder);
+        }
+    }
+}
@@ -16,10 +16,10 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.apache.commons.io.IOUtils;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.ResourceData;
@@ -34,10 +34,11 @@ import org.slf4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.onosproject.yang.serializers.json.DecoderUtils.convertJsonToDataNode;
-import static org.onosproject.yang.serializers.json.EncoderUtils.convertDataNodeToJson;
+import static org.onosproject.yang.serializers.json.EncoderUtils.writeDataNodeToJson;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -48,6 +49,8 @@ import static org.slf4j.LoggerFactory.getLogger;
 public class JsonSerializer implements YangSerializer {
     private static final String JSON_FORMAT = "JSON";
     private static final String ERROR_INFO = "JSON serializer decode failure";
+    private static final String ENCODE_ERROR_INFO =
+            "JSON serializer encode failure";
 
     private final Logger log = getLogger(getClass());
     private final ObjectMapper mapper = new ObjectMapper();
@@ -68,11 +71,11 @@ public class JsonSerializer implements YangSerializer {
             ResourceId.Builder rIdBuilder = convertUriToRid(
                     compositeStream.resourceId(), yangSerializerContext);
 
-            ObjectNode rootNode = null;
+            JsonParser parser = null;
 
             if (compositeStream.resourceData() != null) {
-                rootNode = (ObjectNode) mapper().
-                        readTree(compositeStream.resourceData());
+                parser = mapper().getFactory()
+                        .createParser(compositeStream.resourceData());
             }
 
             DataNode dataNode;
@@ -84,13 +87,19 @@ public class JsonSerializer implements YangSerializer {
              * and in this case the resourceId builder which was constructed
              * for a URL, needs to be given as an Input parameter.
              */
-            if (rIdBuilder != null) {
-                dataNode = convertJsonToDataNode(rootNode,
-                                                 rIdBuilder);
-
-            } else {
-                dataNode = convertJsonToDataNode(rootNode,
-                                                 yangSerializerContext);
+            try {
+                if (rIdBuilder != null) {
+                    dataNode = convertJsonToDataNode(parser,
+                                                     rIdBuilder);
+
+                } else {
+                    dataNode = convertJsonToDataNode(parser,
+                                                     yangSerializerContext);
+                }
+            } finally {
+                if (parser != null) {
+                    parser.close();
+                }
             }
 
             ResourceData resourceData = DefaultResourceData.builder()
@@ -110,6 +119,12 @@ public class JsonSerializer implements YangSerializer {
     }
 
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The resource data of the returned composite stream is encoded lazily,
+     * while it is read.
+     */
     @Override
     public CompositeStream encode(CompositeData compositeData,
                                   YangSerializerContext yangSerializerContext) {
@@ -118,17 +133,55 @@ public class JsonSerializer implements YangSerializer {
         String uriString = convertRidToUri(compositeData.resourceData().
                 resourceId(), yangSerializerContext);
         InputStream inputStream = null;
-        ObjectNode rootNode = null;
-
-        if (compositeData.resourceData().dataNodes() != null) {
-            rootNode = convertDataNodeToJson(compositeData.
-                    resourceData().dataNodes().get(0), yangSerializerContext);
-        }
 
-        if (rootNode != null) {
-            inputStream = IOUtils.toInputStream(rootNode.toString());
+        DataNode dataNode = rootDataNode(compositeData);
+        if (dataNode != null) {
+            inputStream = new JsonEncoderStream(dataNode, yangSerializerContext,
+                                                mapper().getFactory());
         }
         // return a CompositeStream
         return new DefaultCompositeStream(uriString, inputStream);
     }
+
+    /**
+     * Encodes the resource data of the composite data and writes it to the
+     * output stream, as the data tree is walked. The output stream is not
+     * closed.
+     *
+     * @param compositeData         composite data
+     * @param yangSerializerContext yang serializer context
+     * @param out                   output stream
+     * @return uri of the resource identifier as per RFC 3986
+     */
+    public String encode(CompositeData compositeData,
+                         YangSerializerContext yangSerializerContext,
+                         OutputStream out) {
+        checkNotNull(compositeData, "compositeData cannot be null");
+        checkNotNull(out, "output stream cannot be null");
+
+        String uriString = convertRidToUri(compositeData.resourceData().
+                resourceId(), yangSerializerContext);
+
+        DataNode dataNode = rootDataNode(compositeData);
+        if (dataNode != null) {
+            try (JsonGenerator generator = mapper().getFactory()
+                    .createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                writeDataNodeToJson(dataNode, yangSerializerContext,
+                                    generator);
+            } catch (IOException e) {
+                log.error("ERROR: encode ", e);
+                throw new SerializerException(ENCODE_ERROR_INFO, e);
+            }
+        }
+        return uriString;
+    }
+
+    private static DataNode rootDataNode(CompositeData compositeData) {
+        if (compositeData.resourceData().dataNodes() == null ||
+                compositeData.resourceData().dataNodes().isEmpty()) {
+            return null;
+        }
+        return compositeData.resourceData().dataNodes().get(0);
+    }
 }
@@ -16,6 +16,8 @@
 
 package org.onosproject.yang.serializers.json;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.io.IOUtils;
@@ -37,6 +39,7 @@ import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -50,13 +53,19 @@ import java.util.Set;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
+import static org.onosproject.yang.serializers.json.DecoderUtils.convertJsonToDataNode;
+import static org.onosproject.yang.serializers.json.EncoderUtils.writeDataNodeToJson;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
 
 /**
  * Unit Test for Json Serializer.
  */
 public class JsonSerializerTest {
 
+    private static final String ENCODED_PATH =
+            "src/test/resources/test-encoded.json";
+
     private static YangSerializerContext context;
     private static YangSerializer jsonSerializer;
 
@@ -96,6 +105,61 @@ public class JsonSerializerTest {
         }
     }
 
+    /**
+     * Checks that the streamed encodings match the expected encoding.
+     *
+     * @throws IOException when JSON could not be read
+     */
+    @Test
+    public void streamingEncodeTest() throws IOException {
+        String path = "src/test/resources/test.json";
+        DefaultCompositeStream external =
+                new DefaultCompositeStream("demo1:device", parseInput(path));
+        ResourceData resourceData = jsonSerializer.decode(external, context)
+                .resourceData();
+        DataNode rootNode = resourceData.dataNodes().get(0);
+        CompositeData compositeData = DefaultCompositeData.builder()
+                .resourceData(DefaultResourceData.builder()
+                                      .addDataNode(rootNode)
+                                      .resourceId(resourceData.resourceId())
+                                      .build())
+                .build();
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode expected = mapper.readTree(parseInput(ENCODED_PATH));
+
+        CompositeStream stream = jsonSerializer.encode(compositeData, context);
+        assertThat(mapper.readTree(stream.resourceData()), is(expected));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String uri = ((JsonSerializer) jsonSerializer)
+                .encode(compositeData, context, out);
+        assertThat(uri, is(stream.resourceId()));
+        assertThat(mapper.readTree(out.toByteArray()), is(expected));
+    }
+
+    /**
+     * Checks that the streamed decoding builds the data tree of the
+     * expected encoding.
+     *
+     * @throws IOException when JSON could not be read
+     */
+    @Test
+    public void streamingDecodeTest() throws IOException {
+        String path = "src/test/resources/test.json";
+        ObjectMapper mapper = new ObjectMapper();
+        DataNode node = convertJsonToDataNode(
+                mapper.getFactory().createParser(parseInput(path)),
+                convertUriToRid("demo1:device", context));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = mapper.getFactory()
+                .createGenerator(out)) {
+            writeDataNodeToJson(node, context, generator);
+        }
+        assertThat(mapper.readTree(out.toByteArray()),
+                   is(mapper.readTree(parseInput(ENCODED_PATH))));
+    }
+
     @Test
     public void testContainerInResourceIdToUri() {
         ResourceId rid = ResourceId.builder().addBranchPointSchema("/", null)
@@ -34,17 +34,22 @@ import org.onosproject.yang.runtime.SerializerHelper;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.onosproject.yang.compiler.utils.io.impl.YangIoUtils.trimAtLast;
 import static org.onosproject.yang.runtime.SerializerHelper.getModuleNameFromNameSpace;
 
@@ -65,6 +70,7 @@ public final class SerializersUtil {
     private static final String COMMA = ",";
     private static final String COLON = ":";
     private static final String SLASH = "/";
+    private static final String SPACE = " ";
     private static final String URI_ENCODED_SLASH = "%2F";
     private static final String URI_ENCODED_COLON = "%3A";
 
@@ -131,6 +137,36 @@ public final class SerializersUtil {
         return rootElement.toString();
     }
 
+    /**
+     * Wraps the XML data with the root element, carrying the protocol
+     * annotations. Unlike {@link #addRootElementWithAnnotation}, the XML
+     * data is neither read nor copied; the root element is streamed around
+     * the given input stream as it is read.
+     *
+     * @param inputStream        XML data
+     * @param protocolAnnotation list of annotations for root element
+     * @return XML with root element
+     */
+    public static InputStream wrapWithRootElement(InputStream inputStream,
+                                                  List<Annotation>
+                                                          protocolAnnotation) {
+        StringBuilder rootElement = new StringBuilder(ROOT_ELEMENT_START);
+        if (protocolAnnotation != null) {
+            for (Annotation annotation : protocolAnnotation) {
+                rootElement.append(annotation.name()).append(EQUAL)
+                        .append(QUOTES).append(annotation.value())
+                        .append(QUOTES).append(SPACE);
+            }
+        }
+        rootElement.append(">");
+        List<InputStream> streams = Arrays.asList(
+                new ByteArrayInputStream(rootElement.toString()
+                                                 .getBytes(UTF_8)),
+                new NewlineFilterInputStream(inputStream),
+                new ByteArrayInputStream(ROOT_ELEMENT_END.getBytes(UTF_8)));
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
     /**
      * Converts a URI string to resource identifier.
      *
@@ -413,4 +449,58 @@ public final class SerializersUtil {
 
         return newNameSpace;
     }
+
+    /**
+     * Represents an input stream which drops the line terminators of the
+     * underlying stream, the way the XML data used to be joined line by
+     * line before parsing.
+     */
+    private static final class NewlineFilterInputStream
+            extends FilterInputStream {
+
+        private NewlineFilterInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b;
+            do {
+                b = super.read();
+            } while (b == '\n' || b == '\r');
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buf, int off, int len) throws IOException {
+            int n;
+            do {
+                n = super.read(buf, off, len);
+                int j = off;
+                for (int i = off; i < off + n; i++) {
+                    if (buf[i] != '\n' && buf[i] != '\r') {
+                        buf[j++] = buf[i];
+                    }
+                }
+                if (n > 0) {
+                    n = j - off;
+                }
+            } while (n == 0 && len > 0);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = 0;
+            while (skipped < n && read() != -1) {
+                skipped++;
+            }
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+    }
 }
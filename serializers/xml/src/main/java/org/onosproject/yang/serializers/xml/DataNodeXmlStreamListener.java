@@ -0,0 +1,255 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.KeyLeaf;
+import org.onosproject.yang.model.LeafNode;
+import org.onosproject.yang.model.ListKey;
+import org.onosproject.yang.model.NodeKey;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.model.SchemaId;
+import org.onosproject.yang.runtime.Annotation;
+import org.onosproject.yang.runtime.DataNodeListener;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import static org.onosproject.yang.model.DataNode.Type.MULTI_INSTANCE_LEAF_VALUE_NODE;
+import static org.onosproject.yang.model.DataNode.Type.SINGLE_INSTANCE_LEAF_VALUE_NODE;
+
+/**
+ * Represents implementation of data node listener, which writes the XML
+ * encoding of the walked data tree to an XML stream writer as the nodes are
+ * entered and exited.
+ * <p>
+ * The start tag of an element is written once its first child or value is
+ * known, so that elements without content are written as empty elements,
+ * the way they used to be written from the dom4j element tree.
+ * The namespace of an element is declared as default namespace when it
+ * differs from the one of its parent.
+ */
+class DataNodeXmlStreamListener implements DataNodeListener {
+
+    private static final String FORWARD_SLASH = "/";
+    private static final String EMPTY_STRING = "";
+
+    /**
+     * XML stream writer.
+     */
+    private final XMLStreamWriter writer;
+
+    /**
+     * Annotation map used to search list of annotations associated with
+     * resource id.
+     */
+    private final Map<ResourceId, List<Annotation>> annotationMap;
+
+    /**
+     * Stack of the default namespaces in scope of the open elements.
+     */
+    private final Deque<String> namespaceStack = new ArrayDeque<>();
+
+    /**
+     * Resource id builder.
+     */
+    private ResourceId.Builder rIdBuilder;
+
+    /**
+     * Element whose start tag is not written yet.
+     */
+    private PendingElement pending;
+
+    /**
+     * Creates a new data node XML stream listener.
+     *
+     * @param writer      XML stream writer
+     * @param annotations annotation map with resource id as key
+     * @param ridBuilder  resource id builder
+     */
+    DataNodeXmlStreamListener(XMLStreamWriter writer,
+                              Map<ResourceId, List<Annotation>> annotations,
+                              ResourceId.Builder ridBuilder) {
+        this.writer = writer;
+        annotationMap = annotations;
+        rIdBuilder = ridBuilder;
+    }
+
+    @Override
+    public void enterDataNode(DataNode node) {
+        if (isRootDataNode(node)) {
+            return;
+        }
+        try {
+            writePending(false);
+
+            SchemaId schemaId = node.key().schemaId();
+            String nameSpace = schemaId.namespace();
+            String scope = namespaceStack.isEmpty() ?
+                    EMPTY_STRING : namespaceStack.peek();
+            String declared = nameSpace != null &&
+                    !nameSpace.equals(scope) ? nameSpace : null;
+            namespaceStack.push(nameSpace != null ? nameSpace : scope);
+
+            // search in map whether there is entry for this resource id
+            List<Annotation> annotations = annotationMap.get(
+                    getResourceId(node));
+            pending = new PendingElement(schemaId.name(), declared,
+                                         annotations);
+
+            if (node.type() == SINGLE_INSTANCE_LEAF_VALUE_NODE ||
+                    node.type() == MULTI_INSTANCE_LEAF_VALUE_NODE) {
+                Object value = ((LeafNode) node).value();
+                if (value != null) {
+                    writePending(false);
+                    writer.writeCharacters(value.toString());
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void exitDataNode(DataNode node) {
+        if (isRootDataNode(node)) {
+            return;
+        }
+        try {
+            /*
+             * A first level element carries its namespace declaration as
+             * content, so it is never written as an empty element.
+             */
+            if (pending != null && (pending.nameSpace == null ||
+                    namespaceStack.size() > 1)) {
+                writePending(true);
+            } else {
+                writePending(false);
+                writer.writeEndElement();
+            }
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        }
+        namespaceStack.pop();
+        rIdBuilder.removeLastKey();
+    }
+
+    /**
+     * Writes the start tag of the pending element, if any.
+     *
+     * @param empty true if element has no content
+     * @throws XMLStreamException if the element could not be written
+     */
+    private void writePending(boolean empty) throws XMLStreamException {
+        if (pending == null) {
+            return;
+        }
+        if (empty) {
+            writer.writeEmptyElement(pending.name);
+        } else {
+            writer.writeStartElement(pending.name);
+        }
+        if (pending.nameSpace != null) {
+            writer.writeDefaultNamespace(pending.nameSpace);
+        }
+
+        /*
+         * If there is annotations for given resource id then get list of
+         * annotations and add as attribute
+         */
+        if (pending.annotations != null) {
+            for (Annotation annotation : pending.annotations) {
+                writer.writeAttribute(annotation.name(), annotation.value());
+            }
+        }
+        pending = null;
+    }
+
+    /**
+     * Returns resource id for the data node.
+     *
+     * @param dataNode data node
+     * @return resource id for the data node
+     */
+    private ResourceId getResourceId(DataNode dataNode) {
+        SchemaId schemaId = dataNode.key().schemaId();
+        switch (dataNode.type()) {
+            case MULTI_INSTANCE_LEAF_VALUE_NODE:
+                Object valObject = ((LeafNode) dataNode).value();
+                rIdBuilder = rIdBuilder.addLeafListBranchPoint(schemaId.name(),
+                                                               schemaId.namespace(),
+                                                               valObject);
+                break;
+            case MULTI_INSTANCE_NODE:
+                rIdBuilder = rIdBuilder.addBranchPointSchema(schemaId.name(),
+                                                             schemaId.namespace());
+                NodeKey key = dataNode.key();
+                if (key instanceof ListKey) {
+                    List<KeyLeaf> keyLeaves = ((ListKey) key).keyLeafs();
+                    if (keyLeaves != null) {
+                        for (KeyLeaf keyLeaf : keyLeaves) {
+                            SchemaId leafSchema = keyLeaf.leafSchema();
+                            rIdBuilder = rIdBuilder.addKeyLeaf(leafSchema.name(),
+                                                               leafSchema.namespace(),
+                                                               keyLeaf.leafValue());
+                        }
+                    }
+                }
+                break;
+            case SINGLE_INSTANCE_LEAF_VALUE_NODE:
+            case SINGLE_INSTANCE_NODE:
+                rIdBuilder = rIdBuilder.addBranchPointSchema(schemaId.name(),
+                                                             schemaId.namespace());
+                break;
+            default:
+                throw new XmlSerializerException("Unsupported type" +
+                                                         dataNode.type());
+        }
+        return rIdBuilder.build();
+    }
+
+    /**
+     * Returns true if it is root data node.
+     *
+     * @param node data node
+     * @return true if it is root data node, false otherwise
+     */
+    private static boolean isRootDataNode(DataNode node) {
+        return node.key().schemaId().name().equals(FORWARD_SLASH);
+    }
+
+    /**
+     * Represents an element whose start tag is not written yet.
+     */
+    private static final class PendingElement {
+
+        private final String name;
+        private final String nameSpace;
+        private final List<Annotation> annotations;
+
+        private PendingElement(String name, String nameSpace,
+                               List<Annotation> annotations) {
+            this.name = name;
+            this.nameSpace = nameSpace;
+            this.annotations = annotations;
+        }
+    }
+}
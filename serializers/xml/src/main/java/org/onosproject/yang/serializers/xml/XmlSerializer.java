@@ -16,11 +16,6 @@
 
 package org.onosproject.yang.serializers.xml;
 
-import org.apache.commons.io.IOUtils;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.DocumentHelper;
-import org.dom4j.Element;
 import org.onosproject.yang.model.DataNode;
 import org.onosproject.yang.model.DefaultResourceData;
 import org.onosproject.yang.model.ResourceData;
@@ -33,25 +28,50 @@ import org.onosproject.yang.runtime.DefaultCompositeData;
 import org.onosproject.yang.runtime.DefaultCompositeStream;
 import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
+import org.slf4j.Logger;
 
-import java.io.IOException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
 import static org.onosproject.yang.runtime.DefaultDataNodeWalker.walk;
 import static org.onosproject.yang.runtime.SerializerHelper.initializeDataNode;
-import static org.onosproject.yang.serializers.utils.SerializersUtil.addRootElementWithAnnotation;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertRidToUri;
 import static org.onosproject.yang.serializers.utils.SerializersUtil.convertUriToRid;
+import static org.onosproject.yang.serializers.utils.SerializersUtil.wrapWithRootElement;
+import static org.slf4j.LoggerFactory.getLogger;
 
 /**
  * Represents an implementation of XML serializer.
  */
 public class XmlSerializer implements YangSerializer {
     private static final String XML = "xml";
+    private static final String UTF_8 = "UTF-8";
+    private static final String EMPTY_STRING = "";
+    private static final XMLInputFactory XML_INPUT_FACTORY = createFactory();
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY =
+            XMLOutputFactory.newInstance();
+
+    private final Logger log = getLogger(getClass());
+
+    private static XMLInputFactory createFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(
+                XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
 
     @Override
     public String supportsFormat() {
@@ -61,26 +81,26 @@ public class XmlSerializer implements YangSerializer {
     @Override
     public CompositeData decode(CompositeStream external,
                                 YangSerializerContext context) {
-
+        XMLStreamReader reader = null;
         try {
             //parse XML input
-            String xmlInput = addRootElementWithAnnotation(
+            InputStream xmlInput = wrapWithRootElement(
                     external.resourceData(), context.getProtocolAnnotations());
-            Document document = DocumentHelper.parseText(xmlInput);
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(xmlInput);
+            reader.nextTag();
 
             // initialize all the required builders
             CompositeData.Builder cBuilder = DefaultCompositeData.builder();
             ResourceData.Builder rdBuilder = DefaultResourceData.builder();
-            XmlWalker walker = new DefaultXmlWalker();
-            XmlSerializerListener listener = new XmlSerializerListener();
-            listener.cBuilder(cBuilder);
+            XmlStreamWalker walker = new XmlStreamWalker(reader, cBuilder);
 
             String uri = external.resourceId();
             if (uri == null) {
-                listener.dnBuilder(initializeDataNode(context));
-                walker.walk(listener, document.getRootElement(),
-                            document.getRootElement());
-                rdBuilder = rdBuilder.addDataNode(listener.dnBuilder().build());
+                walker.dnBuilder(initializeDataNode(context));
+                while (walker.nextElement()) {
+                    walker.walk();
+                }
+                rdBuilder = rdBuilder.addDataNode(walker.dnBuilder().build());
             } else {
                 /*
                  * If URI is not null, then each first level elements is
@@ -88,30 +108,53 @@ public class XmlSerializer implements YangSerializer {
                  * resource data
                  */
                 ResourceId.Builder rIdBuilder = convertUriToRid(uri, context);
-                Element rootElement = document.getRootElement();
-                if (rootElement.hasContent() && !rootElement.isTextOnly()) {
-                    Iterator i = rootElement.elementIterator();
-                    while (i.hasNext()) {
-                        Element childElement = (Element) i.next();
-                        listener.dnBuilder(initializeDataNode(rIdBuilder));
-                        walker.walk(listener, childElement, rootElement);
-                        rdBuilder = rdBuilder.addDataNode(listener.dnBuilder()
-                                                                  .build());
-                    }
+                while (walker.nextElement()) {
+                    walker.dnBuilder(initializeDataNode(rIdBuilder));
+                    walker.walk();
+                    rdBuilder = rdBuilder.addDataNode(walker.dnBuilder()
+                                                              .build());
                 }
                 rdBuilder.resourceId(rIdBuilder.build());
             }
             return cBuilder.resourceData(rdBuilder.build()).build();
-        } catch (DocumentException e) {
-            throw new XmlSerializerException(e.getMessage());
-        } catch (IOException e) {
+        } catch (XmlSerializerException e) {
+            throw e;
+        } catch (Exception e) {
             throw new XmlSerializerException(e.getMessage());
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    log.debug("Failed to close XML reader", e);
+                }
+            }
         }
     }
 
     @Override
     public CompositeStream encode(CompositeData internal,
                                   YangSerializerContext context) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        String uriString = encode(internal, context, out);
+
+        // convert XML to input stream and build composite stream
+        InputStream inputStream = new ByteArrayInputStream(out.toByteArray());
+        return new DefaultCompositeStream(uriString, inputStream);
+    }
+
+    /**
+     * Encodes the resource data of the composite data and writes the XML
+     * to the output stream, as the data tree is walked. The output stream
+     * is not closed.
+     *
+     * @param internal composite data
+     * @param context  yang serializer context
+     * @param out      output stream
+     * @return uri of the resource identifier as per RFC 3986
+     */
+    public String encode(CompositeData internal,
+                         YangSerializerContext context, OutputStream out) {
         String uriString = null;
         ResourceId.Builder builder;
 
@@ -144,18 +187,30 @@ public class XmlSerializer implements YangSerializer {
             }
         }
 
-        // Walk through data node and build the XML
-        List<DataNode> dataNodes = internal.resourceData().dataNodes();
-        StringBuilder sb = new StringBuilder();
-        for (DataNode dataNode : dataNodes) {
-            DataNodeXmlListener listener = new DataNodeXmlListener(annotations,
-                                                                   builder);
-            walk(listener, dataNode);
-            sb.append(listener.xmlData());
+        // Walk through data node and write the XML
+        XMLStreamWriter writer = null;
+        try {
+            writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(out, UTF_8);
+            for (DataNode dataNode : internal.resourceData().dataNodes()) {
+                DataNodeXmlStreamListener listener =
+                        new DataNodeXmlStreamListener(writer, annotations,
+                                                      builder);
+                walk(listener, dataNode);
+            }
+            // Terminates the start tag of a trailing empty element.
+            writer.writeCharacters(EMPTY_STRING);
+            writer.flush();
+        } catch (XMLStreamException e) {
+            throw new XmlSerializerException(e.getMessage());
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (XMLStreamException e) {
+                    log.debug("Failed to close XML writer", e);
+                }
+            }
         }
-
-        // convert XML to input stream and build composite stream
-        InputStream inputStream = IOUtils.toInputStream(sb.toString());
-        return new DefaultCompositeStream(uriString, inputStream);
+        return uriString;
     }
 }
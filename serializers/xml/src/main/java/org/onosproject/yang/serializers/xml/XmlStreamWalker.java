@@ -0,0 +1,194 @@
+/*
+ * Copyright 2017-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.onosproject.yang.serializers.xml;
+
+import org.onosproject.yang.model.DataNode;
+import org.onosproject.yang.model.ResourceId;
+import org.onosproject.yang.runtime.AnnotatedNodeInfo;
+import org.onosproject.yang.runtime.CompositeData;
+import org.onosproject.yang.runtime.DefaultAnnotatedNodeInfo;
+import org.onosproject.yang.runtime.DefaultAnnotation;
+import org.onosproject.yang.runtime.HelperContext;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import static javax.xml.stream.XMLStreamConstants.CDATA;
+import static javax.xml.stream.XMLStreamConstants.CHARACTERS;
+import static javax.xml.stream.XMLStreamConstants.END_DOCUMENT;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.SPACE;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+import static org.onosproject.yang.runtime.SerializerHelper.addDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.exitDataNode;
+import static org.onosproject.yang.runtime.SerializerHelper.getResourceId;
+
+/**
+ * Represents implementation of XML walker over the events of a StAX stream
+ * reader. The data tree is built while the XML is read, without building an
+ * XML document first.
+ * <p>
+ * An element with text content only is added as a leaf, any other element
+ * as an inner node. As the kind of an element is known only when its first
+ * child element or its end is read, the element is added to the data tree
+ * at that point.
+ */
+final class XmlStreamWalker {
+
+    private static final String COLON = ":";
+    private static final String EMPTY = "";
+
+    private final XMLStreamReader reader;
+    private final CompositeData.Builder cBuilder;
+    private DataNode.Builder dnBuilder;
+
+    /**
+     * Creates an instance of XML stream walker. The reader is expected to
+     * be positioned on the root element, which is not added to the data
+     * tree.
+     *
+     * @param reader   XML stream reader
+     * @param cBuilder composite data builder
+     */
+    XmlStreamWalker(XMLStreamReader reader, CompositeData.Builder cBuilder) {
+        this.reader = reader;
+        this.cBuilder = cBuilder;
+    }
+
+    /**
+     * Sets the data node builder.
+     *
+     * @param builder data node builder
+     */
+    void dnBuilder(DataNode.Builder builder) {
+        dnBuilder = builder;
+    }
+
+    /**
+     * Returns data node builder.
+     *
+     * @return data node builder
+     */
+    DataNode.Builder dnBuilder() {
+        return dnBuilder;
+    }
+
+    /**
+     * Moves the reader to the next first level element.
+     *
+     * @return false if there are no more first level elements; true
+     * otherwise
+     * @throws XMLStreamException if the XML could not be read
+     */
+    boolean nextElement() throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == START_ELEMENT) {
+                return true;
+            }
+            if (event == END_ELEMENT || event == END_DOCUMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Walks the element the reader is positioned on, adding it and its
+     * descendants to the data tree.
+     *
+     * @throws XMLStreamException if the XML could not be read
+     */
+    void walk() throws XMLStreamException {
+        String name = reader.getLocalName();
+        String namespace = reader.getNamespaceURI();
+        if (namespace == null) {
+            namespace = EMPTY;
+        }
+        AnnotatedNodeInfo.Builder annotations = getAnnotations();
+
+        StringBuilder text = new StringBuilder();
+        boolean added = false;
+        int event = reader.next();
+        while (event != END_ELEMENT) {
+            switch (event) {
+                case CHARACTERS:
+                case CDATA:
+                case SPACE:
+                    if (!added) {
+                        text.append(reader.getText());
+                    }
+                    break;
+                case START_ELEMENT:
+                    if (!added) {
+                        dnBuilder = addDataNode(dnBuilder, name, namespace,
+                                                null, null);
+                        added = true;
+                    }
+                    walk();
+                    break;
+                default:
+                    break;
+            }
+            event = reader.next();
+        }
+        if (!added) {
+            String value = text.length() == 0 ? null : text.toString();
+            dnBuilder = addDataNode(dnBuilder, name, namespace, value, null);
+        }
+
+        // Build resource Id for annotations
+        if (annotations != null) {
+            ResourceId id = getResourceId(dnBuilder);
+            cBuilder.addAnnotatedNodeInfo(annotations.resourceId(id).build());
+        }
+
+        /*
+         * Since we need to build data node from top node, we should not
+         * traverse back to parent for top node.
+         */
+        HelperContext info = (HelperContext) dnBuilder.appInfo();
+        if (info.getParentResourceIdBldr() == null) {
+            dnBuilder = exitDataNode(dnBuilder);
+        }
+    }
+
+    /**
+     * Returns the annotations of the current element, converted from its
+     * XML attributes.
+     *
+     * @return annotated node info builder; null if element has no
+     * attributes
+     */
+    private AnnotatedNodeInfo.Builder getAnnotations() {
+        int count = reader.getAttributeCount();
+        if (count == 0) {
+            return null;
+        }
+        AnnotatedNodeInfo.Builder builder = DefaultAnnotatedNodeInfo.builder();
+        for (int i = 0; i < count; i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name = reader.getAttributeLocalName(i);
+            if (prefix != null && !prefix.isEmpty()) {
+                name = prefix + COLON + name;
+            }
+            builder = builder.addAnnotation(
+                    new DefaultAnnotation(name, reader.getAttributeValue(i)));
+        }
+        return builder;
+    }
+}
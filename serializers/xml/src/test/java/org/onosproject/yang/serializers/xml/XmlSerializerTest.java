@@ -40,6 +40,7 @@ import org.onosproject.yang.runtime.YangSerializer;
 import org.onosproject.yang.runtime.YangSerializerContext;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStream;
@@ -48,6 +49,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
@@ -285,6 +287,11 @@ public class XmlSerializerTest {
                                                                context);
         InputStream inputStream = compositeStream.resourceData();
         assertThat(convertInputStreamToString(inputStream), is(parseXml(path)));
+
+        // encode to output stream test
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((XmlSerializer) xmlSerializer).encode(compositeData, context, out);
+        assertThat(new String(out.toByteArray(), UTF_8), is(parseXml(path)));
     }
 
     /**
@@ -479,6 +486,70 @@ public class XmlSerializerTest {
         assertThat(convertInputStreamToString(inputStream), is(parseXml(path)));
     }
 
+    /**
+     * Validates that the XML attributes of nested elements are converted
+     * to the annotations of their data nodes, in the order the elements
+     * end.
+     */
+    @Test
+    public void testNestedXmlAttributes() {
+        String namespace = "http://example.com/schema/1.2/config";
+        String xml = "<top xmlns=\"" + namespace + "\">" +
+                "<interface xc:operation=\"merge\"><name>Ethernet0/0</name>" +
+                "<address xc:operation=\"delete\" xc:insert=\"first\">" +
+                "<name>192.0.2.4</name></address></interface></top>";
+
+        DefaultCompositeStream external = new DefaultCompositeStream(
+                null, IOUtils.toInputStream(xml));
+        CompositeData compositeData = xmlSerializer.decode(external, context);
+        List<AnnotatedNodeInfo> infos = compositeData.annotatedNodesInfo();
+        assertThat(infos.size(), is(2));
+
+        List<NodeKey> keys = infos.get(0).resourceId().nodeKeys();
+        assertThat(keys.get(keys.size() - 1).schemaId().name(),
+                   is("address"));
+        assertThat(keys.get(keys.size() - 2).schemaId().name(),
+                   is("interface"));
+        List<Annotation> annotations = infos.get(0).annotations();
+        assertThat(annotations.size(), is(2));
+        assertThat(annotations.get(0).name(), is("xc:operation"));
+        assertThat(annotations.get(0).value(), is("delete"));
+        assertThat(annotations.get(1).name(), is("xc:insert"));
+        assertThat(annotations.get(1).value(), is("first"));
+
+        keys = infos.get(1).resourceId().nodeKeys();
+        assertThat(keys.get(keys.size() - 1).schemaId().name(),
+                   is("interface"));
+        annotations = infos.get(1).annotations();
+        assertThat(annotations.size(), is(1));
+        assertThat(annotations.get(0).name(), is("xc:operation"));
+        assertThat(annotations.get(0).value(), is("merge"));
+    }
+
+    /**
+     * Validates that an input which is not well-formed XML is rejected
+     * with a serializer exception.
+     */
+    @Test(expected = XmlSerializerException.class)
+    public void testMalformedXml() {
+        String xml = "<top xmlns=\"http://example.com/schema/1.2/config\">" +
+                "<interface><name>Ethernet0/0</name></top>";
+        xmlSerializer.decode(new DefaultCompositeStream(
+                null, IOUtils.toInputStream(xml)), context);
+    }
+
+    /**
+     * Validates that an element which is not in the schema is rejected
+     * with a serializer exception.
+     */
+    @Test(expected = XmlSerializerException.class)
+    public void testUnknownElement() {
+        String xml = "<top xmlns=\"http://example.com/schema/1.2/config\">" +
+                "<unknown>value</unknown></top>";
+        xmlSerializer.decode(new DefaultCompositeStream(
+                null, IOUtils.toInputStream(xml)), context);
+    }
+
     private CompositeData getNewCompositeData(CompositeData data) {
         List<AnnotatedNodeInfo> annotatedNodeInfos = data
                 .annotatedNodesInfo();